@@ -0,0 +1,59 @@
+package com.comp2042;
+
+import com.comp2042.diagnostics.Log;
+
+import javafx.scene.text.Font;
+
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Registers the application's bundled fonts once, for every scene.
+ *
+ * <p>Fonts are registered by family name, so loading them once (at startup, on a
+ * background thread) is enough for any stylesheet or controller that refers to
+ * them. Later calls return immediately. Missing fonts are skipped and the system
+ * fonts are used instead.</p>
+ */
+public final class AppFonts {
+
+    private static final Log LOG = Log.forClass(AppFonts.class);
+
+    /** Arcade fonts that may be bundled, in order of preference. */
+    private static final String[] FONT_RESOURCES = {
+            "/fonts/PressStart2P.ttf",
+            "/fonts/press-start-2p.ttf",
+            "/fonts/VT323.ttf",
+            "/fonts/vt323.ttf",
+            "/fonts/ArcadeClassic.ttf",
+            "/fonts/arcade-classic.ttf",
+            "/digital.ttf"
+    };
+
+    private static final AtomicBoolean loaded = new AtomicBoolean();
+
+    private AppFonts() {
+    }
+
+    /**
+     * Loads every bundled font the first time it is called. Safe to call from any thread.
+     */
+    public static void loadAll() {
+        if (!loaded.compareAndSet(false, true)) {
+            return;
+        }
+        for (String resource : FONT_RESOURCES) {
+            try (InputStream in = AppFonts.class.getResourceAsStream(resource)) {
+                if (in == null) {
+                    continue;
+                }
+                Font font = Font.loadFont(in, 16);
+                if (font != null) {
+                    LOG.debug("Loaded font " + font.getFamily() + " from " + resource);
+                }
+            } catch (Exception e) {
+                LOG.debug("Could not load font " + resource + ": " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.comp2042;
+
+import com.comp2042.diagnostics.Log;
+import com.comp2042.logic.ai.BeamSearchBot;
+import com.comp2042.logic.ai.BotMove;
+import com.comp2042.logic.ai.EvaluationWeights;
+import javafx.animation.AnimationTimer;
+import javafx.animation.PauseTransition;
+import javafx.scene.canvas.Canvas;
+import javafx.util.Duration;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Attract (demo) mode for the main menu: after a period without input, a
+ * bot-driven game plays behind the menu buttons.
+ *
+ * <p>The game runs on a headless {@link SimpleBoard} driven by a
+ * {@link BeamSearchBot} on a single background thread. After every step the
+ * engine publishes an immutable frame; the JavaFX thread only draws the latest
+ * frame with a {@link BoardCanvasRenderer}, capped at {@value #MAX_FPS} fps.
+ * Neither the engine nor the bot ever runs on the FX thread, so the menu's
+ * hover and press animations stay smooth.</p>
+ *
+ * <p>Any mouse or key input stops the demo and restarts the idle countdown.</p>
+ */
+public final class AttractMode {
+
+    private static final Log LOG = Log.forClass(AttractMode.class);
+
+    private static final Duration IDLE_TIMEOUT = Duration.seconds(10);
+    private static final long STEP_INTERVAL_MS = 60;
+    private static final int MAX_FPS = 30;
+    private static final long FRAME_INTERVAL_NANOS = 1_000_000_000L / MAX_FPS;
+
+    // Board dimensions (official Tetris, same as GameController)
+    private static final int BOARD_COLS = 10;
+    private static final int VISIBLE_ROWS = 20;
+    private static final int HIDDEN_ROWS = 2;
+    private static final int TOTAL_ROWS = VISIBLE_ROWS + HIDDEN_ROWS;
+
+    /** Small beam: the demo does not need strong play and should stay light on CPU. */
+    private static final int DEMO_BEAM_WIDTH = 12;
+
+    private final Canvas canvas;
+    private final BoardCanvasRenderer renderer;
+    private final PauseTransition idleTimer;
+    private final AnimationTimer frameTimer;
+
+    private ScheduledExecutorService engineThread;
+    private volatile int[] latestFrame;
+    private int[] drawnFrame;
+    private long lastDrawNanos;
+
+    /**
+     * @param canvas the canvas behind the menu to play the demo on
+     */
+    public AttractMode(Canvas canvas) {
+        this.canvas = canvas;
+        this.renderer = new BoardCanvasRenderer(canvas, BOARD_COLS, VISIBLE_ROWS, HIDDEN_ROWS);
+
+        canvas.setVisible(false);
+        canvas.setMouseTransparent(true);
+
+        idleTimer = new PauseTransition(IDLE_TIMEOUT);
+        idleTimer.setOnFinished(e -> start());
+
+        frameTimer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                drawLatestFrame(now);
+            }
+        };
+    }
+
+    /**
+     * Called on user input: stops a running demo and restarts the idle countdown.
+     */
+    public void resetIdleTimer() {
+        stop();
+        idleTimer.playFromStart();
+    }
+
+    /**
+     * Stops the demo and the idle countdown (e.g. when leaving the menu).
+     */
+    public void disarm() {
+        idleTimer.stop();
+        stop();
+    }
+
+    /** @return true while the demo is playing */
+    public boolean isRunning() {
+        return engineThread != null;
+    }
+
+    private void start() {
+        if (engineThread != null) {
+            return;
+        }
+        latestFrame = null;
+        drawnFrame = null;
+
+        engineThread = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "attract-mode-engine");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+        DemoGame game = new DemoGame();
+        engineThread.scheduleAtFixedRate(() -> {
+            try {
+                game.step();
+                latestFrame = game.snapshot();
+            } catch (Exception e) {
+                LOG.error("Error in attract mode engine: " + e.getMessage());
+                game.restart();
+            }
+        }, 0, STEP_INTERVAL_MS, TimeUnit.MILLISECONDS);
+
+        canvas.setVisible(true);
+        frameTimer.start();
+    }
+
+    private void stop() {
+        if (engineThread == null) {
+            return;
+        }
+        engineThread.shutdownNow();
+        engineThread = null;
+        frameTimer.stop();
+        canvas.setVisible(false);
+    }
+
+    private void drawLatestFrame(long now) {
+        if (now - lastDrawNanos < FRAME_INTERVAL_NANOS) {
+            return;
+        }
+        int[] frame = latestFrame;
+        if (frame == null || frame == drawnFrame) {
+            return;
+        }
+        renderer.render(frame, SettingsManager.getInstance().getSkin());
+        drawnFrame = frame;
+        lastDrawNanos = now;
+    }
+
+    /**
+     * Bot-driven game state, only touched by the engine thread. The bot picks a
+     * placement for each new piece, then the piece is rotated, shifted and
+     * dropped one step per tick so the demo looks like real play.
+     */
+    private static final class DemoGame {
+
+        private final SimpleBoard board = new SimpleBoard(BOARD_COLS, TOTAL_ROWS);
+        private final BeamSearchBot bot = new BeamSearchBot(
+                BOARD_COLS, TOTAL_ROWS, EvaluationWeights.DEFAULT, DEMO_BEAM_WIDTH, ForkJoinPool.commonPool());
+        private BotMove plan;
+        private boolean dropping;
+
+        DemoGame() {
+            board.newGame();
+        }
+
+        void restart() {
+            board.newGame();
+            plan = null;
+            dropping = false;
+        }
+
+        void step() {
+            if (plan == null && !dropping) {
+                plan = bot.findBestMove(board.getBoardMatrix(), board.getActiveBrickType(), board.getPreviewBrickTypes());
+                dropping = plan == null;
+            }
+            if (!dropping) {
+                // Blocked rotations or shifts abandon the plan and drop in place
+                if (board.getActiveBrickRotation() != plan.getRotation()) {
+                    dropping = !board.rotateLeftBrick();
+                    return;
+                }
+                int x = board.getActiveBrickX();
+                if (x != plan.getX()) {
+                    dropping = !(x < plan.getX() ? board.moveBrickRight() : board.moveBrickLeft());
+                    return;
+                }
+                dropping = true;
+            }
+            if (!board.moveBrickDown()) {
+                board.mergeBrickToBackground();
+                board.clearRows();
+                plan = null;
+                dropping = false;
+                if (board.createNewBrick()) {
+                    restart();
+                }
+            }
+        }
+
+        /** @return a new flat frame of the board with the active brick drawn in */
+        int[] snapshot() {
+            int[] frame = new int[TOTAL_ROWS * BOARD_COLS];
+            board.copyCellsTo(frame);
+            return frame;
+        }
+    }
+}
@@ -8,7 +8,7 @@ package com.comp2042;
  * - Merge bricks into the background matrix
  * - Clear completed rows
  * - Provide view-related data for rendering
- * - Manage overall game state (new game, scoring)
+ * - Manage overall game state (new game, score)
  *
  * Implementations of this interface (e.g., {@link SimpleBoard})
  * contain the actual game logic and matrix manipulation.
@@ -74,14 +74,43 @@ public interface Board {
      */
     void mergeBrickToBackground();
 
+    /**
+     * Returns the T-spin made by the brick merged last: a T whose last move was
+     * a rotation, locked with three of the four corners around its centre filled.
+     *
+     * @return the T-spin, or {@link TSpin#NONE}
+     */
+    TSpin getLockedTSpin();
+
     /**
      * Checks the board for any completed rows, clears them,
-     * and returns the results (rows cleared, updated matrix, score bonus).
+     * and returns the results (rows cleared and cleared row indices).
      *
      * @return a RowClearResult describing the outcome of the row-clearing operation
      */
     RowClearResult clearRows();
 
+    /**
+     * Returns whether no cell of the board is filled; checked after a clear,
+     * this is a perfect clear.
+     *
+     * @return true if the board is empty
+     */
+    boolean isEmpty();
+
+    /**
+     * Pushes garbage rows in from the bottom of the board (versus mode).
+     * Every garbage row is full except for one hole column; the existing
+     * stack moves up by {@code count} rows.
+     *
+     * @param count      number of garbage rows to add
+     * @param holeColumn the empty column in every garbage row
+     * @return true if filled cells were pushed off the top (indicating game over)
+     * @throws IndexOutOfBoundsException if {@code holeColumn} is off the board;
+     *         the board is left unchanged
+     */
+    boolean addGarbageRows(int count, int holeColumn);
+
     /**
      * Returns the score manager for the game.
      *
@@ -0,0 +1,79 @@
+package com.comp2042;
+
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+
+/**
+ * Draws a board onto a single {@link Canvas} instead of a grid of Rectangle nodes.
+ *
+ * <p>Frames are passed as flat cell arrays ({@code cells[row * cols + col]},
+ * including the hidden spawn rows) with brick values 1-7, so a producer on
+ * another thread can hand over a finished frame without sharing the board.
+ * Only visible rows are drawn. Must be used on the JavaFX application thread.</p>
+ */
+public final class BoardCanvasRenderer {
+
+    private static final Color EMPTY_CELL = Color.web("#111111");
+    private static final double GAP = 1.0;
+
+    private final Canvas canvas;
+    private final int cols;
+    private final int visibleRows;
+    private final int hiddenRows;
+
+    /**
+     * @param canvas      the canvas to draw on
+     * @param cols        board columns
+     * @param visibleRows rows shown on screen
+     * @param hiddenRows  spawn rows above the visible area (not drawn)
+     */
+    public BoardCanvasRenderer(Canvas canvas, int cols, int visibleRows, int hiddenRows) {
+        this.canvas = canvas;
+        this.cols = cols;
+        this.visibleRows = visibleRows;
+        this.hiddenRows = hiddenRows;
+    }
+
+    /**
+     * Draws a full frame at the canvas origin.
+     *
+     * @param cells flat board cells including hidden rows
+     * @param skin  colour scheme for brick values
+     */
+    public void render(int[] cells, Skin skin) {
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        render(cells, skin, 0, 0, tileSizeFor(canvas.getWidth(), canvas.getHeight()));
+    }
+
+    /**
+     * Draws a frame into a region of the canvas (used to draw several boards per frame).
+     *
+     * @param cells    flat board cells including hidden rows
+     * @param skin     colour scheme for brick values
+     * @param originX  left edge of the board on the canvas
+     * @param originY  top edge of the board on the canvas
+     * @param tileSize size of one cell in pixels
+     */
+    public void render(int[] cells, Skin skin, double originX, double originY, double tileSize) {
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        double cell = tileSize - GAP;
+        for (int r = 0; r < visibleRows; r++) {
+            int rowStart = (r + hiddenRows) * cols;
+            double y = originY + r * tileSize;
+            for (int c = 0; c < cols; c++) {
+                int value = cells[rowStart + c];
+                gc.setFill(value == 0 ? EMPTY_CELL : skin.getColor(value));
+                gc.fillRect(originX + c * tileSize, y, cell, cell);
+            }
+        }
+    }
+
+    /**
+     * @return the largest whole tile size that fits the board in the given area
+     */
+    public double tileSizeFor(double width, double height) {
+        return Math.floor(Math.min(width / cols, height / visibleRows));
+    }
+}
@@ -3,6 +3,10 @@ package com.comp2042;
 
 import com.comp2042.logic.bricks.Brick;
 
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Handles rotation of the current brick by tracking which shape index
  * (rotation state) is active and providing access to the next rotation.
@@ -12,20 +16,40 @@ import com.comp2042.logic.bricks.Brick;
  */
 public class BrickRotator {
 
+    /**
+     * Rotation states of each brick, copied once and shared by every board:
+     * the generators hand out one instance per brick type, and the shapes are
+     * only read.
+     */
+    private static final Map<Brick, List<int[][]>> SHAPES = new ConcurrentHashMap<>();
+
     /** The current brick being rotated. */
     Brick brick; // Package-private for state saving
 
     /** The index representing the current rotation state of the brick. */
     int currentRotationIndex = 0; // Package-private for state saving
 
+    /** The brick's rotation states, from {@link #shapesOf(Brick)}. */
+    private List<int[][]> shapes;
+
+    /**
+     * Bricks hand out a fresh deep copy of their shapes on every call, which
+     * made each spawn copy twelve matrices; this copies each brick's once.
+     *
+     * @return the brick's rotation states; must not be modified
+     */
+    static List<int[][]> shapesOf(Brick brick) {
+        return SHAPES.computeIfAbsent(brick, Brick::getShapeMatrix);
+    }
+
     /**
      * Returns the next rotation state of the brick without changing the current one.
      *
      * @return information about the next rotation (shape matrix + index)
      */
     public NextShapeInfo getNextShape() {
-        int nextIndex = (currentRotationIndex + 1) % brick.getShapeMatrix().size();
-        return new NextShapeInfo(brick.getShapeMatrix().get(nextIndex), nextIndex);
+        int nextIndex = (currentRotationIndex + 1) % shapes.size();
+        return new NextShapeInfo(shapes.get(nextIndex), nextIndex);
     }
 
     /**
@@ -34,7 +58,7 @@ public class BrickRotator {
      * @return 2D matrix representing the brick's current rotation
      */
     public int[][] getCurrentShape() {
-        return brick.getShapeMatrix().get(currentRotationIndex);
+        return shapes.get(currentRotationIndex);
     }
 
     /**
@@ -53,6 +77,7 @@ public class BrickRotator {
      */
     public void setBrick(Brick brick) {
         this.brick = brick;
+        this.shapes = shapesOf(brick);
         this.currentRotationIndex = 0; // Reset rotation when a new brick appears
     }
 }
@@ -1,7 +1,22 @@
 package com.comp2042;
 
+import com.comp2042.diagnostics.GameStateEvent;
+import com.comp2042.diagnostics.LineClearEvent;
+import com.comp2042.diagnostics.Log;
+import com.comp2042.diagnostics.PieceLockEvent;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.metrics.GameMetrics;
+import com.comp2042.net.GameClient;
+import com.comp2042.scores.HighScoreEntry;
+import com.comp2042.scores.HighScoreStore;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.SplittableRandom;
+
 /**
  * Main game controller that coordinates between the game logic (Board) and the UI (GuiController).
+ * State that outlives one game (high score, saved game) lives in its {@link GameSession}.
  * 
  * <p>This class implements the {@link InputEventListener} interface to handle all user input events
  * from the GUI, such as movement, rotation, and hard drop. It manages the game state, including
@@ -22,17 +37,31 @@ package com.comp2042;
  */
 public class GameController implements InputEventListener {
 
+    private static final Log LOG = Log.forClass(GameController.class);
+
     private final Board board;
-    private final GuiController gui;
+    private final GameView gui;
+    
+    // High score, saved game and in-progress flag, shared by the session's games
+    private final GameSession session;
     
-    // High score persists during app session (static field)
-    private static int highScore = 0;
+    /** Garbage rows sent per lines cleared at once in online versus (index = lines cleared). */
+    private static final int[] GARBAGE_TABLE = {0, 0, 1, 2, 4};
     
-    // Saved game state for resume functionality
-    private static GameState savedGameState = null;
+    // Online versus (null/unused in single player)
+    private final GameClient networkClient;
+    private final SplittableRandom garbageHoles;
+    // Received garbage not yet added, oldest first: {rows, holeColumn} per packet
+    private final ArrayDeque<int[]> pendingGarbage = new ArrayDeque<>();
     
-    // Global game state flag: true when game is in progress, false after Game Over
-    private static boolean gameInProgress = false;
+    // Start of the current game, for the leaderboard entry
+    private long gameStartMillis = System.currentTimeMillis();
+    
+    // Scores each lock; carries the combo and back-to-back chain between locks
+    private final ScoringEngine scoring = new ScoringEngine(ScoringRules.guideline());
+    
+    // Practice mode (local single player only): recent placements to rewind to, else null
+    private RewindBuffer rewindBuffer;
 
     /**
      * Creates a new GameController, either starting a fresh game or resuming from a saved state.
@@ -42,15 +71,49 @@ public class GameController implements InputEventListener {
      * 
      * @param gui the GuiController instance that manages the game UI
      */
-    public GameController(GuiController gui) {
-        this.gui = gui;
+    public GameController(GameView gui) {
         // Official Tetris: 10 columns × 22 rows (20 visible + 2 hidden spawn rows)
-        this.board = new SimpleBoard(10, 22);
+        this(gui, GameSession.local(), new SimpleBoard(10, 22), null, 0);
+    }
+    
+    /**
+     * Creates a GameController for a game in its own session, e.g. one of many
+     * headless games hosted by a server. Bricks are dealt from the seed.
+     * 
+     * @param view    the view of the game, typically a {@link HeadlessGameView}
+     * @param session the session the game belongs to
+     * @param seed    brick seed
+     */
+    public GameController(GameView view, GameSession session, long seed) {
+        this(view, session, new SimpleBoard(10, 22, new RandomBrickGenerator(seed)), null, seed);
+    }
+    
+    /**
+     * Creates a GameController for an online versus match.
+     * 
+     * <p>Bricks are dealt from the seed shared with the opponent. Line clears are sent
+     * to the opponent as garbage through the client, and a saved single-player game is
+     * never resumed (or overwritten) by an online match.</p>
+     * 
+     * @param gui    the GuiController instance that manages the game UI
+     * @param client the connected client of the match
+     * @param seed   brick seed announced by the server
+     */
+    public GameController(GameView gui, GameClient client, long seed) {
+        this(gui, GameSession.local(), new SimpleBoard(10, 22, new RandomBrickGenerator(seed)), client, seed);
+    }
+    
+    private GameController(GameView gui, GameSession session, Board board, GameClient networkClient, long seed) {
+        this.gui = gui;
+        this.session = session;
+        this.board = board;
+        this.networkClient = networkClient;
+        this.garbageHoles = new SplittableRandom(seed);
 
         gui.setEventListener(this);
         
         // Check if we should resume from saved state
-        if (savedGameState != null) {
+        if (session.hasSavedState() && networkClient == null) {
             resumeFromSavedState();
         } else {
             // Start fresh game
@@ -59,12 +122,26 @@ public class GameController implements InputEventListener {
         }
         
         // Mark game as in progress (either new game or resumed)
-        gameInProgress = true;
+        session.setGameInProgress(true);
+        startRewind();
         
         gui.bindScore(board.getScore().scoreProperty());
         
-        // Initialize high score display
-        gui.updateHighScore(highScore);
+        // Initialize high score display; refresh once the leaderboard has loaded in the background
+        if (session.isLocal()) {
+            refreshHighScore();
+            HighScoreStore.getInstance().loadAsync()
+                    .thenRun(() -> javafx.application.Platform.runLater(this::refreshHighScore));
+        }
+    }
+    
+    /**
+     * Raises the session high score to the leaderboard's best for the current difficulty.
+     */
+    private void refreshHighScore() {
+        String difficulty = SettingsManager.getInstance().getDifficulty().name();
+        session.offerHighScore(HighScoreStore.getInstance().getBestScore(difficulty));
+        gui.updateHighScore(session.getHighScore());
     }
     
     /**
@@ -74,7 +151,10 @@ public class GameController implements InputEventListener {
      * and all game settings (difficulty, ghost piece, hard drop) from the saved state.</p>
      */
     private void resumeFromSavedState() {
+        GameStateEvent event = new GameStateEvent();
+        event.begin();
         SimpleBoard simpleBoard = (SimpleBoard) board;
+        GameState savedGameState = session.getSavedState();
         
         // Restore board state
         simpleBoard.restoreState(savedGameState);
@@ -83,8 +163,11 @@ public class GameController implements InputEventListener {
         gui.restoreGameState(savedGameState);
         
         // Restore difficulty speed - must be done BEFORE initGameView so timeline uses correct speed
-        SettingsManager settingsManager = SettingsManager.getInstance();
-        settingsManager.setDifficulty(SettingsManager.Difficulty.valueOf(savedGameState.getDifficulty()));
+        // (the settings are the desktop player's; other sessions leave them alone)
+        if (session.isLocal()) {
+            SettingsManager settingsManager = SettingsManager.getInstance();
+            settingsManager.setDifficulty(SettingsManager.Difficulty.valueOf(savedGameState.getDifficulty()));
+        }
         
         // Initialize game view with restored state
         gui.initGameView(board.getBoardMatrix(), board.getViewData());
@@ -92,7 +175,9 @@ public class GameController implements InputEventListener {
         // Update game speed after view is initialized (timeline is created in initGameView)
         gui.updateDifficultySpeed();
         
-        System.out.println("Game resumed from saved state!");
+        event.operation = GameStateEvent.RESTORE;
+        event.commit();
+        LOG.debug("Game resumed from saved state!");
     }
     
     /**
@@ -106,6 +191,8 @@ public class GameController implements InputEventListener {
      */
     public void saveGameState() {
         if (board instanceof SimpleBoard) {
+            GameStateEvent event = new GameStateEvent();
+            event.begin();
             SimpleBoard simpleBoard = (SimpleBoard) board;
             
             // Get current UI state
@@ -118,63 +205,28 @@ public class GameController implements InputEventListener {
             boolean hardDropEnabled = settingsManager.isHardDropEnabled();
             String difficulty = settingsManager.getDifficulty().name();
             
-            // Save state
-            savedGameState = simpleBoard.saveState(
+            // Save state; this also marks the game as in progress, so the
+            // resume button appears even after clearing lines
+            session.saveState(simpleBoard.saveState(
                 totalLinesCleared,
                 currentLevel,
                 ghostPieceEnabled,
                 hardDropEnabled,
                 difficulty
-            );
+            ));
             
-            // Explicitly mark game as in progress when saving state
-            // This ensures the resume button appears even after clearing lines
-            gameInProgress = true;
-            
-            System.out.println("Game state saved! gameInProgress=" + gameInProgress + ", hasSavedState=" + (savedGameState != null));
+            event.operation = GameStateEvent.SAVE;
+            event.commit();
+            LOG.debug("Game state saved! gameInProgress=" + session.isGameInProgress()
+                    + ", hasSavedState=" + session.hasSavedState());
         }
     }
     
     /**
-     * Clears the saved game state.
-     * 
-     * <p>This method removes any saved game state and marks the game as no longer in progress.
-     * Called when starting a new game or restarting the current game.</p>
-     */
-    public static void clearSavedState() {
-        savedGameState = null;
-        gameInProgress = false; // Game is no longer in progress after clearing state
-    }
-    
-    /**
-     * Checks if there is a saved game state available for resumption.
-     * 
-     * @return true if a saved game state exists, false otherwise
-     */
-    public static boolean hasSavedState() {
-        return savedGameState != null;
-    }
-    
-    /**
-     * Checks if a game is currently in progress (not Game Over).
-     * 
-     * <p>This flag is used to determine if the "Resume Game" button should be visible
-     * in the main menu. The button only appears when a game is actively paused, not
-     * after a game over.</p>
-     * 
-     * @return true if a game is in progress, false if the game has ended
-     */
-    public static boolean isGameInProgress() {
-        return gameInProgress;
-    }
-    
-    /**
-     * Sets the game in progress flag.
-     * 
-     * @param inProgress true to mark game as in progress, false to mark as ended
+     * @return the session this game belongs to
      */
-    public static void setGameInProgress(boolean inProgress) {
-        gameInProgress = inProgress;
+    public GameSession getSession() {
+        return session;
     }
     
     /**
@@ -184,10 +236,13 @@ public class GameController implements InputEventListener {
      * to ensure the high score updates immediately during gameplay, not just after game over.</p>
      */
     private void checkAndUpdateHighScore() {
+        // Practice games can be rewound, so they never set a high score
+        if (rewindBuffer != null) {
+            return;
+        }
         int currentScore = board.getScore().scoreProperty().get();
-        if (currentScore > highScore) {
-            highScore = currentScore;
-            gui.updateHighScore(highScore);
+        if (session.offerHighScore(currentScore)) {
+            gui.updateHighScore(currentScore);
         }
     }
 
@@ -203,29 +258,29 @@ public class GameController implements InputEventListener {
      */
     @Override
     public DownData onDownEvent(MoveEvent event) {
+        long start = System.nanoTime();
         boolean canMove = board.moveBrickDown();
         RowClearResult rowClearResult = null;
 
         if (!canMove) {
+            PieceLockEvent lockEvent = new PieceLockEvent();
+            lockEvent.begin();
             board.mergeBrickToBackground();
-            rowClearResult = board.clearRows();
+            rowClearResult = clearRows();
+            scoreLock(rowClearResult);
 
-            if (rowClearResult.getRowsCleared() > 0) {
-                // Add official Tetris Guideline base score (100/300/500/800)
-                board.getScore().add(rowClearResult.getPointsEarned());
-                gui.updateLinesCleared(rowClearResult.getRowsCleared());
-                // Show floating score popup at the cleared row location
-                int clearedRowIndex = rowClearResult.getFirstClearedRowIndex();
-                gui.showScorePopup(rowClearResult.getRowsCleared(), clearedRowIndex);
-                // Check and update high score in real-time after line clear
-                checkAndUpdateHighScore();
-            }
-
-            if (board.createNewBrick()) {
+            boolean buriedByGarbage = exchangeGarbage(rowClearResult.getRowsCleared());
+            if (buriedByGarbage || board.createNewBrick()) {
                 // Final check when game ends (safety net, but should already be updated)
                 checkAndUpdateHighScore();
-                gui.gameOver();
+                endGame();
+                lockEvent.gameOver = true;
+            } else {
+                capturePlacement();
             }
+            lockEvent.rowsCleared = rowClearResult.getRowsCleared();
+            lockEvent.commit();
+            GameMetrics.PIECES_LOCKED.increment();
         } else {
             if (event.getEventSource() == EventSource.USER) {
                 board.getScore().add(1);
@@ -234,7 +289,9 @@ public class GameController implements InputEventListener {
             }
         }
 
-        return new DownData(rowClearResult, board.getViewData());
+        DownData result = new DownData(rowClearResult, board.getViewData());
+        GameMetrics.LOGIC_STEP.record(System.nanoTime() - start);
+        return result;
     }
 
     /**
@@ -245,8 +302,11 @@ public class GameController implements InputEventListener {
      */
     @Override
     public ViewData onLeftEvent(MoveEvent event) {
+        long start = System.nanoTime();
         board.moveBrickLeft();
-        return board.getViewData();
+        ViewData view = board.getViewData();
+        GameMetrics.LOGIC_STEP.record(System.nanoTime() - start);
+        return view;
     }
 
     /**
@@ -257,8 +317,11 @@ public class GameController implements InputEventListener {
      */
     @Override
     public ViewData onRightEvent(MoveEvent event) {
+        long start = System.nanoTime();
         board.moveBrickRight();
-        return board.getViewData();
+        ViewData view = board.getViewData();
+        GameMetrics.LOGIC_STEP.record(System.nanoTime() - start);
+        return view;
     }
 
     /**
@@ -269,8 +332,11 @@ public class GameController implements InputEventListener {
      */
     @Override
     public ViewData onRotateEvent(MoveEvent event) {
+        long start = System.nanoTime();
         board.rotateLeftBrick();
-        return board.getViewData();
+        ViewData view = board.getViewData();
+        GameMetrics.LOGIC_STEP.record(System.nanoTime() - start);
+        return view;
     }
 
     /**
@@ -284,6 +350,9 @@ public class GameController implements InputEventListener {
      */
     @Override
     public DownData onHardDrop() {
+        long start = System.nanoTime();
+        PieceLockEvent lockEvent = new PieceLockEvent();
+        lockEvent.begin();
         int dropDistance = 0;
 
         while (board.moveBrickDown()) {
@@ -296,27 +365,212 @@ public class GameController implements InputEventListener {
         
         board.mergeBrickToBackground();
 
-        RowClearResult result = board.clearRows();
-        if (result.getRowsCleared() > 0) {
-            // Add official Tetris Guideline base score (100/300/500/800)
-            board.getScore().add(result.getPointsEarned());
-            gui.updateLinesCleared(result.getRowsCleared());
-            // Show floating score popup at the cleared row location
-            int clearedRowIndex = result.getFirstClearedRowIndex();
-            gui.showScorePopup(result.getRowsCleared(), clearedRowIndex);
-            // Check and update high score in real-time after line clear from hard drop
-            checkAndUpdateHighScore();
-        }
+        RowClearResult result = clearRows();
+        scoreLock(result);
 
-        if (board.createNewBrick()) {
+        boolean buriedByGarbage = exchangeGarbage(result.getRowsCleared());
+        if (buriedByGarbage || board.createNewBrick()) {
             // Final check when game ends (safety net, but should already be updated)
             checkAndUpdateHighScore();
-            gui.gameOver();
+            endGame();
+            lockEvent.gameOver = true;
+        } else {
+            capturePlacement();
         }
+        lockEvent.hardDrop = true;
+        lockEvent.dropDistance = dropDistance;
+        lockEvent.rowsCleared = result.getRowsCleared();
+        lockEvent.commit();
+        GameMetrics.PIECES_LOCKED.increment();
+        GameMetrics.HARD_DROPS.increment();
 
-        return new DownData(result, board.getViewData());
+        DownData downData = new DownData(result, board.getViewData());
+        GameMetrics.LOGIC_STEP.record(System.nanoTime() - start);
+        return downData;
     }
 
+    /**
+     * Practice mode: takes back the last placement, restoring the board, queue,
+     * score, lines, combo and back-to-back chain to when the previous brick spawned.
+     * 
+     * @return ViewData after the rewind, or null outside practice mode
+     */
+    @Override
+    public ViewData onRewindEvent() {
+        if (rewindBuffer == null) {
+            return null;
+        }
+        int linesCleared = rewindBuffer.rewind((SimpleBoard) board, scoring);
+        if (linesCleared < 0) {
+            return null;
+        }
+        gui.restoreLinesCleared(linesCleared);
+        return board.getViewData();
+    }
+    
+    /**
+     * Sets up rewinding for a game that is starting, if practice mode is on.
+     * The setting is read once per game, so toggling it takes effect on the next one.
+     */
+    private void startRewind() {
+        boolean practice = session.isLocal() && networkClient == null
+                && SettingsManager.getInstance().isPracticeModeEnabled();
+        if (!practice) {
+            rewindBuffer = null;
+            return;
+        }
+        if (rewindBuffer == null) {
+            rewindBuffer = new RewindBuffer((SimpleBoard) board, RewindBuffer.DEFAULT_CAPACITY);
+        } else {
+            rewindBuffer.clear();
+        }
+        capturePlacement();
+    }
+    
+    /**
+     * Practice mode: remembers the placement the new brick starts from.
+     */
+    private void capturePlacement() {
+        if (rewindBuffer != null) {
+            rewindBuffer.capture((SimpleBoard) board, gui.getTotalLinesCleared(), scoring);
+        }
+    }
+    
+    /**
+     * Queues garbage rows received from the online opponent.
+     * They are added when the next brick locks without clearing a line.
+     * Must be called on the JavaFX application thread.
+     * 
+     * @param rows       number of garbage rows
+     * @param holeColumn the empty column of the garbage rows
+     */
+    public void receiveGarbage(int rows, int holeColumn) {
+        pendingGarbage.add(new int[]{rows, holeColumn});
+    }
+    
+    /**
+     * Clears completed rows, recording a {@link LineClearEvent} when any were cleared.
+     */
+    private RowClearResult clearRows() {
+        LineClearEvent event = new LineClearEvent();
+        event.begin();
+        RowClearResult result = board.clearRows();
+        event.end();
+        GameMetrics.LINES_CLEARED.add(result.getRowsCleared());
+        if (result.getRowsCleared() > 0 && event.shouldCommit()) {
+            event.rows = result.getRowsCleared();
+            event.commit();
+        }
+        return result;
+    }
+
+    /**
+     * Scores the brick that just locked, whether or not it cleared lines (a
+     * T-spin scores without), and shows the points above the cleared rows.
+     * The level is read before the lines are added, so the clear that levels
+     * up is still scored at the old level.
+     */
+    private void scoreLock(RowClearResult result) {
+        int rows = result.getRowsCleared();
+        LockScore lockScore = scoring.lock(rows, board.getLockedTSpin(),
+                rows > 0 && board.isEmpty(), gui.getCurrentLevel());
+        if (rows > 0) {
+            gui.updateLinesCleared(rows);
+        }
+        if (lockScore.getPoints() > 0) {
+            board.getScore().add(lockScore.getPoints());
+            // Show floating score popup at the cleared row location
+            gui.showScorePopup(lockScore, result.getFirstClearedRowIndex());
+            // Check and update high score in real-time after scoring
+            checkAndUpdateHighScore();
+        }
+    }
+
+    /**
+     * Online versus only: after a brick locks, cancels pending garbage with the
+     * lines just cleared (oldest first) and sends the rest to the opponent, or
+     * adds the pending garbage to the board if no line was cleared, each packet
+     * with its own hole column.
+     * 
+     * @param rowsCleared lines cleared by the brick that just locked
+     * @return true if the garbage pushed the stack out of the board
+     */
+    private boolean exchangeGarbage(int rowsCleared) {
+        if (networkClient == null) {
+            return false;
+        }
+        if (rowsCleared == 0) {
+            boolean toppedOut = false;
+            int[] garbage;
+            while (!toppedOut && (garbage = pendingGarbage.poll()) != null) {
+                toppedOut = board.addGarbageRows(garbage[0], garbage[1]);
+            }
+            pendingGarbage.clear();
+            return toppedOut;
+        }
+        
+        int attack = GARBAGE_TABLE[Math.min(rowsCleared, GARBAGE_TABLE.length - 1)];
+        while (attack > 0 && !pendingGarbage.isEmpty()) {
+            int[] oldest = pendingGarbage.peek();
+            int cancelled = Math.min(attack, oldest[0]);
+            oldest[0] -= cancelled;
+            attack -= cancelled;
+            if (oldest[0] == 0) {
+                pendingGarbage.poll();
+            }
+        }
+        if (attack > 0) {
+            try {
+                networkClient.sendGarbage(attack, garbageHoles.nextInt(board.getBoardMatrix()[0].length));
+            } catch (IOException e) {
+                LOG.warn("Could not send garbage: " + e.getMessage());
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Ends the game; online, also tells the server that this player lost.
+     */
+    private void endGame() {
+        GameMetrics.GAMES_ENDED.increment();
+        if (networkClient != null) {
+            try {
+                networkClient.sendToppedOut();
+            } catch (IOException e) {
+                LOG.warn("Could not report game over: " + e.getMessage());
+            }
+        } else {
+            // No Resume after Game Over
+            session.setGameInProgress(false);
+            session.clearSavedState();
+            if (session.isLocal()) {
+                if (rewindBuffer == null) {
+                    recordHighScore();
+                }
+            } else {
+                session.recordResult(board.getScore().scoreProperty().get());
+            }
+        }
+        gui.gameOver();
+    }
+    
+    /**
+     * Adds the finished game to the persistent leaderboard (written in the background).
+     */
+    private void recordHighScore() {
+        long now = System.currentTimeMillis();
+        HighScoreStore.getInstance().record(new HighScoreEntry(
+                SettingsManager.getInstance().getDifficulty().name(),
+                System.getProperty("user.name", "PLAYER"),
+                board.getScore().scoreProperty().get(),
+                gui.getTotalLinesCleared(),
+                gui.getCurrentLevel(),
+                now - gameStartMillis,
+                now
+        ));
+    }
+    
     /**
      * Creates a new game by resetting the board and clearing saved state.
      * 
@@ -326,10 +580,13 @@ public class GameController implements InputEventListener {
     @Override
     public void createNewGame() {
         // Clear saved state when restarting
-        clearSavedState();
+        session.clearSavedState();
         board.newGame();
+        scoring.reset();
+        gameStartMillis = System.currentTimeMillis();
         gui.refreshView(board.getViewData());
         // Mark game as in progress after restart
-        gameInProgress = true;
+        session.setGameInProgress(true);
+        startRewind();
     }
 }
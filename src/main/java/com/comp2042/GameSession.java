@@ -0,0 +1,152 @@
+package com.comp2042;
+
+import com.comp2042.scores.Leaderboard;
+
+/**
+ * State that outlives a single {@link GameController}: the session's best score,
+ * the game saved for Resume, and whether a game is in progress.
+ *
+ * <p>The desktop application plays in the {@link #local()} session, which also
+ * reads and writes the persistent leaderboard. A server hosting many games gives
+ * each one its own {@link #headless()} session, so games never share state;
+ * a {@link #shared} session additionally ranks its games on a
+ * {@link Leaderboard} shared with the server's other sessions. A session is a
+ * handful of fields; it is not thread-safe, and is used by one thread at a time
+ * (the JavaFX thread for the local session).</p>
+ */
+public final class GameSession {
+
+    private static final GameSession LOCAL = new GameSession(true);
+
+    private final boolean local;
+    private final Leaderboard leaderboard;
+    private final String playerName;
+
+    // Best score of the current difficulty, seeded from the persistent leaderboard in the
+    // local session and from the shared leaderboard's top in a shared one (a plain field
+    // so the per-point check never touches disk or the shared board)
+    private int highScore;
+
+    // Saved game state for resume functionality
+    private GameState savedGameState;
+
+    // True when a game is in progress, false after Game Over
+    private boolean gameInProgress;
+
+    private GameSession(boolean local) {
+        this(local, null, null);
+    }
+
+    private GameSession(boolean local, Leaderboard leaderboard, String playerName) {
+        this.local = local;
+        this.leaderboard = leaderboard;
+        this.playerName = playerName;
+        if (leaderboard != null) {
+            highScore = leaderboard.getTopScore();
+        }
+    }
+
+    /**
+     * @return the session of the desktop application's player
+     */
+    public static GameSession local() {
+        return LOCAL;
+    }
+
+    /**
+     * @return a new, isolated session that never touches the leaderboard or settings files
+     */
+    public static GameSession headless() {
+        return new GameSession(false);
+    }
+
+    /**
+     * @param leaderboard leaderboard shared by the server's sessions
+     * @param playerName  name the player's games are ranked under
+     * @return a new headless session whose high score is the leaderboard's best
+     *         and whose finished games are submitted to it
+     */
+    public static GameSession shared(Leaderboard leaderboard, String playerName) {
+        return new GameSession(false, leaderboard, playerName);
+    }
+
+    /**
+     * @return true for the desktop session, whose games are recorded in the leaderboard
+     */
+    public boolean isLocal() {
+        return local;
+    }
+
+    public int getHighScore() {
+        return highScore;
+    }
+
+    /**
+     * Raises the high score if {@code score} beats it.
+     *
+     * @return true if the high score changed
+     */
+    public boolean offerHighScore(int score) {
+        if (score > getHighScore()) {
+            highScore = score;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Submits a finished game to the shared leaderboard, if the session has one,
+     * and takes up the best score other sessions have set meanwhile.
+     */
+    public void recordResult(int score) {
+        if (leaderboard != null) {
+            leaderboard.submit(playerName, score);
+            highScore = Math.max(highScore, leaderboard.getTopScore());
+        }
+    }
+
+    /**
+     * @return the game saved for Resume, or null
+     */
+    public GameState getSavedState() {
+        return savedGameState;
+    }
+
+    /**
+     * Saves a game for Resume; the game stays in progress.
+     */
+    public void saveState(GameState state) {
+        savedGameState = state;
+        gameInProgress = true;
+    }
+
+    /**
+     * Clears the saved game state and marks the game as no longer in progress.
+     * Called when starting a new game or restarting the current game.
+     */
+    public void clearSavedState() {
+        savedGameState = null;
+        gameInProgress = false;
+    }
+
+    /**
+     * @return true if a saved game state exists
+     */
+    public boolean hasSavedState() {
+        return savedGameState != null;
+    }
+
+    /**
+     * The "Resume Game" button only appears when a game is paused in progress,
+     * not after a game over.
+     *
+     * @return true if a game is in progress, false if the game has ended
+     */
+    public boolean isGameInProgress() {
+        return gameInProgress;
+    }
+
+    public void setGameInProgress(boolean inProgress) {
+        gameInProgress = inProgress;
+    }
+}
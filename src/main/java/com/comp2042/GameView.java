@@ -0,0 +1,39 @@
+package com.comp2042;
+
+import javafx.beans.property.IntegerProperty;
+
+/**
+ * What a {@link GameController} needs from the view of its game.
+ * {@link GuiController} implements this for the JavaFX game scene;
+ * {@link HeadlessGameView} for sessions without a UI.
+ */
+public interface GameView {
+
+    void setEventListener(InputEventListener listener);
+
+    void initGameView(int[][] boardMatrix, ViewData viewData);
+
+    void refreshView(ViewData viewData);
+
+    void bindScore(IntegerProperty property);
+
+    void updateHighScore(int highScore);
+
+    void updateLinesCleared(int linesJustCleared);
+
+    /** Shows the points of a lock; {@code clearedRowIndex} is -1 if it cleared no line. */
+    void showScorePopup(LockScore lockScore, int clearedRowIndex);
+
+    void gameOver();
+
+    void restoreGameState(GameState state);
+
+    /** Sets the lines cleared (and so the level) after a practice rewind. */
+    void restoreLinesCleared(int totalLinesCleared);
+
+    void updateDifficultySpeed();
+
+    int getTotalLinesCleared();
+
+    int getCurrentLevel();
+}
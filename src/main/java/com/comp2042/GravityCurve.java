@@ -0,0 +1,26 @@
+package com.comp2042;
+
+/**
+ * How fast pieces fall: the difficulty's base interval, 25 ms shorter per
+ * level, never below 50 ms. Shared by the game scene's timeline and the
+ * server-side scheduler so both play at the same speed.
+ */
+public final class GravityCurve {
+
+    /** Gravity interval shortening per level, in milliseconds. */
+    static final int STEP_PER_LEVEL_MS = 25;
+    /** Fastest gravity interval, in milliseconds. */
+    static final int MIN_INTERVAL_MS = 50;
+
+    private GravityCurve() {
+    }
+
+    /**
+     * @param baseIntervalMs interval at level 1, from the difficulty
+     * @param level          current level, starting at 1
+     * @return milliseconds between gravity steps
+     */
+    public static int intervalMillis(int baseIntervalMs, int level) {
+        return Math.max(MIN_INTERVAL_MS, baseIntervalMs - (level - 1) * STEP_PER_LEVEL_MS);
+    }
+}
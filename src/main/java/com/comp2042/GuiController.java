@@ -38,6 +38,16 @@ import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
 
+import com.comp2042.diagnostics.GravityTickEvent;
+import com.comp2042.diagnostics.Log;
+import com.comp2042.diagnostics.PerfStats;
+import com.comp2042.diagnostics.RefreshViewEvent;
+import com.comp2042.metrics.GameMetrics;
+import com.comp2042.net.GameClient;
+import com.comp2042.net.Protocol;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
 import java.net.URL;
 import java.util.ResourceBundle;
 
@@ -61,7 +71,9 @@ import java.util.ResourceBundle;
  * @author Tetris Game Team
  * @version 1.0
  */
-public class GuiController implements Initializable {
+public class GuiController implements Initializable, GameView {
+
+    private static final Log LOG = Log.forClass(GuiController.class);
 
     // Board dimensions (official Tetris)
     private static final int BOARD_COLS = 10;
@@ -119,6 +131,8 @@ public class GuiController implements Initializable {
 
     private InputEventListener eventListener;
     private Timeline timeline;
+    private long gravityIntervalNanos = 400_000_000L;
+    private long lastGravityNanos;  // When the timeline last started or stepped, for jitter events
     
     // Pause animations
     private FadeTransition pauseFadeIn;
@@ -133,17 +147,23 @@ public class GuiController implements Initializable {
     // Game stats
     private int totalLinesCleared = 0;
     private int currentLevel = 1;
-    private static final int LINES_PER_LEVEL = 10;
     
-    // Static reference to current GuiController instance (for difficulty updates)
-    private static GuiController currentInstance = null;
+    // Online versus client mode (null in single player)
+    private GameClient networkClient;
+    private GameController networkGame;
+    
+    // Pause overlay text from the FXML; the overlay is reused for online status messages
+    private String pauseText;
+    
+    // Performance overlay (F3)
+    private final PerfStats perfStats = new PerfStats();
+    private PerfHud perfHud;
+    
 
     @Override
     public void initialize(URL location, ResourceBundle resources) {
-        FontLoader.loadDigitalFont();
-        
-        // Register this instance as the current GuiController
-        currentInstance = this;
+        // Fonts are normally registered by the startup preloader already
+        AppFonts.loadAll();
         
         // Set up key handling on root pane
         rootPane.setFocusTraversable(true);
@@ -161,6 +181,9 @@ public class GuiController implements Initializable {
         
         // Initialize pause animations
         initializePauseAnimations();
+        if (pauseLabel != null) {
+            pauseText = pauseLabel.getText();
+        }
         
         // Initialize button animations
         initializeButtonAnimations();
@@ -170,6 +193,9 @@ public class GuiController implements Initializable {
         // Update Hard Drop label visibility based on settings
         updateHardDropLabelVisibility();
         
+        // Performance overlay, toggled with F3
+        perfHud = new PerfHud(rootPane, perfStats);
+        
         // Add resize listener for scaling
         rootPane.widthProperty().addListener((obs, oldVal, newVal) -> handleResize());
         rootPane.heightProperty().addListener((obs, oldVal, newVal) -> handleResize());
@@ -365,6 +391,17 @@ public class GuiController implements Initializable {
     private void handleKeyPress(KeyEvent event) {
         KeyCode code = event.getCode();
         
+        if (code == KeyCode.F3) {
+            perfHud.toggle();
+            return;
+        }
+        
+        // Client mode: no game until the server has matched us with an opponent
+        if (eventListener == null) return;
+        
+        // Online matches cannot be paused or restarted locally
+        if (networkClient != null && (code == KeyCode.P || code == KeyCode.R)) return;
+        
         // P key always works (to toggle pause)
         if (code == KeyCode.P && !isGameOver.get()) {
             togglePause();
@@ -379,6 +416,8 @@ public class GuiController implements Initializable {
         
         // All other keys blocked when paused or game over
         if (isPause.get() || isGameOver.get()) return;
+        
+        perfStats.recordInput(System.nanoTime());
 
         switch (code) {
             case LEFT, A -> refreshView(eventListener.onLeftEvent(new MoveEvent(EventType.LEFT, EventSource.USER)));
@@ -391,22 +430,141 @@ public class GuiController implements Initializable {
                     handleHardDrop();
                 }
             }
+            case U, BACK_SPACE -> {
+                // Practice mode only: take back the last placement
+                ViewData rewound = eventListener.onRewindEvent();
+                if (rewound != null) {
+                    refreshView(rewound);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Starts client mode: connects to a versus server, joins matchmaking and
+     * starts the game once an opponent is found. Garbage from the opponent is
+     * handed to the GameController; the match result is shown on the overlay.
+     * 
+     * @param server address of the game server
+     * @throws IOException if the server cannot be reached
+     */
+    public void startClientMode(InetSocketAddress server) throws IOException {
+        networkClient = GameClient.connect(server, new NetworkListener());
+        showStatusOverlay("WAITING FOR OPPONENT");
+        networkClient.join();
+        
+        // Pausing and restarting are not available online
+        if (pauseButton != null) {
+            pauseButton.setVisible(false);
+            pauseButton.setManaged(false);
+        }
+        if (restartButton != null) {
+            restartButton.setVisible(false);
+            restartButton.setManaged(false);
+        }
+    }
+    
+    /**
+     * Shows a message on the (otherwise pause) overlay without pausing.
+     */
+    private void showStatusOverlay(String text) {
+        if (pauseOverlay == null || pauseLabel == null) return;
+        pauseLabel.setText(text);
+        pauseOverlay.setVisible(true);
+        pauseOverlay.setOpacity(1.0);
+    }
+    
+    private void hideStatusOverlay() {
+        if (pauseOverlay == null) return;
+        pauseOverlay.setVisible(false);
+        pauseOverlay.setOpacity(0.0);
+    }
+    
+    /**
+     * Closes the client-mode connection, if any.
+     */
+    private void closeNetworkClient() {
+        if (networkClient == null) return;
+        try {
+            networkClient.close();
+        } catch (IOException ignored) {
+            // Already disconnected
+        }
+        networkClient = null;
+        networkGame = null;
+    }
+    
+    /**
+     * Receives server messages on the client's reader thread and hands them to the FX thread.
+     */
+    private final class NetworkListener implements GameClient.Listener {
+        
+        private int playerIndex;
+        
+        @Override
+        public void onMatchStart(long seed, int playerIndex) {
+            this.playerIndex = playerIndex;
+            javafx.application.Platform.runLater(() -> {
+                if (networkClient == null) return;
+                hideStatusOverlay();
+                resetStats();
+                networkGame = new GameController(GuiController.this, networkClient, seed);
+                rootPane.requestFocus();
+            });
+        }
+        
+        @Override
+        public void onGarbage(int rows, int holeColumn) {
+            javafx.application.Platform.runLater(() -> {
+                if (networkGame != null) {
+                    networkGame.receiveGarbage(rows, holeColumn);
+                }
+            });
+        }
+        
+        @Override
+        public void onMatchEnd(int winner) {
+            javafx.application.Platform.runLater(() -> {
+                if (networkClient == null) return;
+                if (!isGameOver.get()) {
+                    gameOver();
+                }
+                if (winner == Protocol.OPPONENT_LEFT) {
+                    showStatusOverlay("OPPONENT LEFT");
+                } else {
+                    showStatusOverlay(winner == playerIndex ? "YOU WIN" : "YOU LOSE");
+                }
+            });
+        }
+        
+        @Override
+        public void onDisconnected(IOException cause) {
+            if (cause == null) return;
+            javafx.application.Platform.runLater(() -> {
+                if (networkClient == null) return;
+                if (eventListener != null && !isGameOver.get()) {
+                    gameOver();
+                }
+                showStatusOverlay("CONNECTION LOST");
+            });
         }
     }
 
     public void initGameView(int[][] boardMatrix, ViewData viewData) {
         try {
-            System.out.println("initGameView called with boardMatrix: " + (boardMatrix != null ? boardMatrix.length + "x" + (boardMatrix.length > 0 ? boardMatrix[0].length : 0) : "null"));
-            System.out.println("viewData: " + (viewData != null ? "not null" : "null"));
-            System.out.println("gamePanel: " + (gamePanel != null ? "not null" : "null"));
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("initGameView called with boardMatrix: " + (boardMatrix != null ? boardMatrix.length + "x" + (boardMatrix.length > 0 ? boardMatrix[0].length : 0) : "null"));
+                LOG.debug("viewData: " + (viewData != null ? "not null" : "null"));
+                LOG.debug("gamePanel: " + (gamePanel != null ? "not null" : "null"));
+            }
             
             if (gamePanel == null) {
-                System.err.println("ERROR: gamePanel is null in initGameView!");
+                LOG.error("gamePanel is null in initGameView!");
                 return;
             }
             
             if (boardMatrix == null || boardMatrix.length == 0) {
-                System.err.println("ERROR: boardMatrix is null or empty in initGameView!");
+                LOG.error("boardMatrix is null or empty in initGameView!");
                 return;
             }
             
@@ -416,8 +574,43 @@ public class GuiController implements Initializable {
             gamePanel.setVisible(true);
             gamePanel.setManaged(true);
             
-            // Clear existing tiles
-            gamePanel.getChildren().clear();
+            // The scene is reused between games: build the tile grids only once,
+            // after that refreshView() repaints every tile from the new game's state
+            if (boardTiles == null || boardTiles[0].length != boardMatrix[0].length) {
+                createTiles(boardMatrix, viewData);
+            }
+            
+        // No animations - boxes remain static
+
+        LOG.debug("initGameView: Calling refreshView...");
+        refreshView(viewData);
+        LOG.debug("initGameView: refreshView completed");
+        
+        // Request focus for keyboard input
+        if (rootPane != null) {
+            rootPane.requestFocus();
+        }
+
+        // Start game loop
+        LOG.debug("initGameView: Starting game timeline...");
+        setGravityInterval(400);
+        lastGravityNanos = System.nanoTime();
+        timeline.play();
+        LOG.debug("initGameView: Timeline started!");
+        LOG.debug("initGameView: COMPLETED SUCCESSFULLY!");
+        
+        } catch (Exception e) {
+            LOG.error("Unexpected error in initGameView()", e);
+        }
+    }
+
+    /**
+     * Creates the board, ghost, active and preview tiles.
+     * Called for the first game shown in this scene.
+     */
+    private void createTiles(int[][] boardMatrix, ViewData viewData) {
+        // Clear existing tiles
+        gamePanel.getChildren().clear();
         brickPanel.getChildren().clear();
         if (brickPanel2 != null) {
             brickPanel2.getChildren().clear();
@@ -491,7 +684,7 @@ public class GuiController implements Initializable {
         // Both preview frames use fixed identical size from CSS (90x90)
         // No dynamic sizing needed - boxes remain identical
         
-        System.out.println("initGameView: First preview created, creating second preview...");
+        LOG.debug("createTiles: First preview created, creating second preview...");
         
         // Create second next brick tiles (NEXT 2)
         if (brickPanel2 != null) {
@@ -517,46 +710,18 @@ public class GuiController implements Initializable {
             // Both preview frames use fixed identical size from CSS (90x90)
             // No dynamic sizing needed - boxes remain identical
         }
-        
-        // No animations - boxes remain static
-
-        System.out.println("initGameView: Calling refreshView...");
-        refreshView(viewData);
-        System.out.println("initGameView: refreshView completed");
-        
-        // Request focus for keyboard input
-        if (rootPane != null) {
-            rootPane.requestFocus();
-        }
-
-        // Start game loop
-        System.out.println("initGameView: Starting game timeline...");
-        timeline = new Timeline(new KeyFrame(
-                Duration.millis(400),
-                e -> handleDown(new MoveEvent(EventType.DOWN, EventSource.THREAD))
-        ));
-        timeline.setCycleCount(Timeline.INDEFINITE);
-        timeline.play();
-        System.out.println("initGameView: Timeline started!");
-        System.out.println("initGameView: COMPLETED SUCCESSFULLY!");
-        
-        } catch (Exception e) {
-            System.err.println("========================================");
-            System.err.println("CRITICAL ERROR in initGameView():");
-            System.err.println("========================================");
-            System.err.println("Exception type: " + e.getClass().getName());
-            System.err.println("Message: " + e.getMessage());
-            e.printStackTrace();
-            System.err.println("========================================");
-        }
     }
 
     public void refreshView(ViewData viewData) {
+        long start = System.nanoTime();
+        RefreshViewEvent event = new RefreshViewEvent();
+        event.begin();
         lastViewData = viewData;
         drawBoard(viewData);
         
         // Draw ghost piece only if enabled in settings
-        if (SettingsManager.getInstance().isGhostPieceEnabled()) {
+        boolean ghostEnabled = SettingsManager.getInstance().isGhostPieceEnabled();
+        if (ghostEnabled) {
             drawGhostBrick(viewData);  // Draw ghost first (behind active)
         } else {
             // Hide ghost piece by making all tiles transparent
@@ -566,6 +731,9 @@ public class GuiController implements Initializable {
         drawActiveBrick(viewData);
         drawNextBrick(viewData);
         drawNextBrick2(viewData);
+        event.ghostDrawn = ghostEnabled;
+        event.commit();
+        GameMetrics.REFRESH_VIEW.record(System.nanoTime() - start);
     }
 
     private void drawBoard(ViewData viewData) {
@@ -797,19 +965,11 @@ public class GuiController implements Initializable {
      * @return The color paint for that brick type
      */
     private Paint getFill(int v) {
-        SettingsManager settingsManager = SettingsManager.getInstance();
-        if (settingsManager == null) {
-            System.err.println("ERROR: SettingsManager is null in getFill!");
-            return Color.TRANSPARENT;
-        }
-        Skin currentSkin = settingsManager.getSkin();
-        if (currentSkin == null) {
-            System.err.println("ERROR: Current skin is null in getFill!");
-            return Color.TRANSPARENT;
-        }
+        // A volatile read of the settings snapshot: cheap enough to do per cell
+        Skin currentSkin = SettingsManager.getInstance().getSkin();
         Paint color = currentSkin.getColor(v);
         if (color == null) {
-            System.err.println("ERROR: Color is null for brick value " + v + " with skin " + currentSkin);
+            LOG.error("Color is null for brick value " + v + " with skin " + currentSkin);
             return Color.TRANSPARENT;
         }
         return color;
@@ -823,6 +983,24 @@ public class GuiController implements Initializable {
         return currentSkin.getGhostColor(v);
     }
 
+    /**
+     * Gravity step from the timeline. Records how late it fired as a {@link GravityTickEvent}.
+     */
+    private void onGravityTick() {
+        long now = System.nanoTime();
+        GameMetrics.GRAVITY_TICKS.increment();
+        GameMetrics.GRAVITY_LATENESS.record(now - lastGravityNanos - gravityIntervalNanos);
+        GravityTickEvent tick = new GravityTickEvent();
+        if (tick.shouldCommit()) {
+            tick.expectedInterval = gravityIntervalNanos;
+            tick.actualInterval = now - lastGravityNanos;
+            tick.jitter = tick.actualInterval - gravityIntervalNanos;
+            tick.commit();
+        }
+        lastGravityNanos = now;
+        handleDown(new MoveEvent(EventType.DOWN, EventSource.THREAD));
+    }
+
     private void handleDown(MoveEvent event) {
         DownData result = eventListener.onDownEvent(event);
         refreshView(result.getViewData());
@@ -838,6 +1016,7 @@ public class GuiController implements Initializable {
             // Resume game - fade out animation
             isPause.set(false);
             fadeOutPauseOverlay();
+            lastGravityNanos = System.nanoTime();
             timeline.play();
         } else {
             // Pause game - fade in animation
@@ -907,7 +1086,7 @@ public class GuiController implements Initializable {
     public void updateLinesCleared(int linesJustCleared) {
         if (linesJustCleared > 0) {
             totalLinesCleared += linesJustCleared;
-            currentLevel = 1 + (totalLinesCleared / LINES_PER_LEVEL);
+            currentLevel = ScoringEngine.levelFor(totalLinesCleared);
             
             if (linesLabel != null) {
                 linesLabel.setText(String.valueOf(totalLinesCleared));
@@ -931,20 +1110,33 @@ public class GuiController implements Initializable {
             int baseSpeed = settingsManager.getDropSpeedMs();
             
             // Adjust speed based on level (decrease by 25ms per level, minimum 50ms)
-            int speed = Math.max(50, baseSpeed - (currentLevel - 1) * 25);
+            int speed = GravityCurve.intervalMillis(baseSpeed, currentLevel);
             
-            timeline.stop();
-            timeline.getKeyFrames().clear();
-            timeline.getKeyFrames().add(new KeyFrame(
-                    Duration.millis(speed),
-                    e -> handleDown(new MoveEvent(EventType.DOWN, EventSource.THREAD))
-            ));
-            if (!isPause.get() && !isGameOver.get()) {
+            setGravityInterval(speed);
+            if (!isPause.get() && !isGameOver.get() && eventListener != null) {
+                lastGravityNanos = System.nanoTime();
                 timeline.play();
             }
         }
     }
     
+    /**
+     * Stops the gravity timeline (creating it on first use) and sets its period.
+     * The single timeline is reused for every game shown in this scene.
+     */
+    private void setGravityInterval(int millis) {
+        if (timeline == null) {
+            timeline = new Timeline();
+            timeline.setCycleCount(Timeline.INDEFINITE);
+        }
+        timeline.stop();
+        timeline.getKeyFrames().setAll(new KeyFrame(
+                Duration.millis(millis),
+                e -> onGravityTick()
+        ));
+        gravityIntervalNanos = millis * 1_000_000L;
+    }
+    
     /**
      * Updates the timeline speed based on current difficulty setting.
      * Called when difficulty changes in settings.
@@ -954,53 +1146,61 @@ public class GuiController implements Initializable {
     }
     
     /**
-     * Static method to update difficulty speed on the current GuiController instance.
+     * Updates the difficulty speed of the game scene, if it has been loaded.
      * Called from SettingsController when difficulty changes.
      */
     public static void updateDifficultySpeedIfActive() {
-        if (currentInstance != null) {
-            currentInstance.updateDifficultySpeed();
+        GuiController gui = loadedInstance();
+        if (gui != null) {
+            gui.updateDifficultySpeed();
         }
     }
     
-    /**
-     * Static method to refresh the view on the current GuiController instance.
-     * Called from SettingsController when skin changes to apply new colors.
-     */
     /**
      * Refreshes the game view if a game is currently active.
      * This is called when settings change (like skin selection) to immediately update colors.
      */
     public static void refreshViewIfActive() {
-        System.out.println("=== refreshViewIfActive() called ===");
-        if (currentInstance == null) {
-            System.err.println("ERROR: currentInstance is null - no active game!");
+        LOG.debug("refreshViewIfActive() called");
+        GuiController gui = loadedInstance();
+        if (gui == null) {
+            LOG.debug("Game scene not loaded yet - nothing to refresh");
             return;
         }
-        if (currentInstance.lastViewData == null) {
-            System.err.println("ERROR: lastViewData is null - game not initialized!");
+        if (gui.lastViewData == null) {
+            LOG.debug("lastViewData is null - game not initialized");
             return;
         }
         
         SettingsManager settingsManager = SettingsManager.getInstance();
         if (settingsManager == null) {
-            System.err.println("ERROR: SettingsManager is null!");
+            LOG.error("SettingsManager is null!");
             return;
         }
         
-        Skin currentSkin = settingsManager.getSkin();
-        System.out.println("Current skin: " + (currentSkin != null ? currentSkin.getDisplayName() : "NULL"));
-        System.out.println("Refreshing view with " + currentInstance.lastViewData + "...");
+        if (LOG.isDebugEnabled()) {
+            Skin currentSkin = settingsManager.getSkin();
+            LOG.debug("Current skin: " + (currentSkin != null ? currentSkin.getDisplayName() : "NULL"));
+            LOG.debug("Refreshing view with " + gui.lastViewData + "...");
+        }
         
         try {
-            currentInstance.refreshView(currentInstance.lastViewData);
-            System.out.println("View refreshed successfully!");
+            gui.refreshView(gui.lastViewData);
+            LOG.debug("View refreshed successfully!");
         } catch (Exception e) {
-            System.err.println("ERROR refreshing view: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error refreshing view", e);
         }
     }
     
+    /**
+     * The game scene is loaded once and reused (see {@link SceneManager#getGameScene()}),
+     * so its controller is the only GuiController.
+     */
+    private static GuiController loadedInstance() {
+        SceneManager.GameScene game = SceneManager.getLoadedGameScene();
+        return game == null ? null : game.getController();
+    }
+    
     /**
      * Resets game statistics for a new game.
      * High score is NOT reset - it persists during the app session.
@@ -1052,6 +1252,23 @@ public class GuiController implements Initializable {
         updateGameSpeed();
     }
     
+    /**
+     * Sets the lines cleared after a practice rewind; the level follows from them.
+     */
+    public void restoreLinesCleared(int linesCleared) {
+        totalLinesCleared = linesCleared;
+        currentLevel = ScoringEngine.levelFor(totalLinesCleared);
+        
+        if (linesLabel != null) {
+            linesLabel.setText(String.valueOf(totalLinesCleared));
+        }
+        if (levelLabel != null) {
+            levelLabel.setText(String.valueOf(currentLevel));
+        }
+        
+        updateGameSpeed();
+    }
+    
     /**
      * Updates the high score display.
      * Called when a new high score is achieved.
@@ -1065,46 +1282,43 @@ public class GuiController implements Initializable {
     }
     
     /**
-     * Shows a floating score popup animation when lines are cleared.
-     * Uses official Tetris scoring system and positions popup directly above the cleared row.
+     * Shows a floating score popup animation when a lock scores.
+     * Shows the points worked out by the scoring engine, with what earned them
+     * (T-spin, back-to-back, combo, perfect clear) underneath, directly above the cleared row.
      * The popup appears in an overlay Pane above the gameplay grid, so it never affects layout.
      * 
-     * @param linesCleared Number of lines cleared (1-4)
-     * @param clearedRowIndex The row index where the line was cleared (0-based from top of entire board including hidden rows)
+     * @param lockScore the scored lock
+     * @param clearedRowIndex The row index where the line was cleared (0-based from top of entire board including hidden rows), or -1
      */
-    public void showScorePopup(int linesCleared, int clearedRowIndex) {
+    public void showScorePopup(LockScore lockScore, int clearedRowIndex) {
         if (gamePanel == null || scoreOverlay == null) {
-            System.err.println("WARNING: Cannot show score popup - gamePanel or scoreOverlay is null");
+            LOG.warn("Cannot show score popup - gamePanel or scoreOverlay is null");
             return;
         }
         
-        // Convert lines cleared to official Tetris Guideline base score
-        // Uses fixed point values: 100/300/500/800 (not formulas)
-        int score = switch (linesCleared) {
-            case 1 -> 100;  // Single (1 line): 100 points
-            case 2 -> 300;  // Double (2 lines): 300 points
-            case 3 -> 500;  // Triple (3 lines): 500 points
-            case 4 -> 800;  // Tetris (4 lines): 800 points
-            default -> 0;   // Should not happen
-        };
-        
-        if (score == 0) {
-            return; // Don't show popup for invalid line counts
+        if (lockScore.getPoints() <= 0) {
+            return;
         }
         
         // Create the popup text with neon styling and black outline
-        Text popupText = new Text("+" + score);
+        Text popupText = new Text("+" + lockScore.getPoints());
         popupText.setFont(Font.font("Press Start 2P", FontWeight.BOLD, 30));
         popupText.setBoundsType(TextBoundsType.VISUAL);
         
-        // Set bright neon color based on line count
-        Color textColor = switch (linesCleared) {
+        // Set bright neon color based on line count; T-spins and perfect clears stand out
+        Color textColor = switch (lockScore.getLines()) {
             case 1 -> Color.web("#00ffff");  // Cyan for single
             case 2 -> Color.web("#00ff88");  // Lime green for double
             case 3 -> Color.web("#ffff00");  // Yellow for triple
             case 4 -> Color.web("#ff00ff");  // Magenta for Tetris
             default -> Color.web("#00ffff");
         };
+        if (lockScore.getSpin() != TSpin.NONE) {
+            textColor = Color.web("#cc66ff");  // Purple for T-spin
+        }
+        if (lockScore.isPerfectClear()) {
+            textColor = Color.WHITE;           // White for perfect clear
+        }
         popupText.setFill(textColor);
         
         // Add black outline stroke for visibility
@@ -1118,15 +1332,29 @@ public class GuiController implements Initializable {
         glow.setSpread(0.5);
         popupText.setEffect(glow);
         
+        // What earned the points, in smaller text under them
+        VBox popup = new VBox(4, popupText);
+        popup.setAlignment(javafx.geometry.Pos.CENTER);
+        String label = lockScore.getLabel();
+        if (!label.isEmpty()) {
+            Text labelText = new Text(label);
+            labelText.setFont(Font.font("Press Start 2P", FontWeight.BOLD, 11));
+            labelText.setFill(textColor);
+            labelText.setStroke(Color.BLACK);
+            labelText.setStrokeWidth(1.0);
+            popup.getChildren().add(labelText);
+        }
+        
         // Make text non-interactive (doesn't block input)
-        popupText.setMouseTransparent(true);
-        popupText.setPickOnBounds(false);
+        popup.setMouseTransparent(true);
+        popup.setPickOnBounds(false);
         
         // Add to score overlay Pane (NOT gamePanel to avoid layout shifts)
-        scoreOverlay.getChildren().add(popupText);
+        scoreOverlay.getChildren().add(popup);
         
         // Force layout to get actual text bounds
-        popupText.applyCss();
+        popup.applyCss();
+        popup.layout();
         
         // Calculate position using pixel coordinates relative to gamePanel
         // Get gamePanel's position in the scene
@@ -1134,7 +1362,7 @@ public class GuiController implements Initializable {
         javafx.geometry.Bounds overlayBounds = scoreOverlay.localToScene(scoreOverlay.getBoundsInLocal());
         
         // X position: center of gamePanel, adjusted for overlay coordinate space
-        double textWidth = popupText.getBoundsInLocal().getWidth();
+        double textWidth = popup.prefWidth(-1);
         double boardCenterX = gamePanelBounds.getMinX() + (gamePanelBounds.getWidth() / 2.0) - overlayBounds.getMinX();
         double popupX = boardCenterX - (textWidth / 2);
         
@@ -1168,18 +1396,19 @@ public class GuiController implements Initializable {
         }
         
         // Set position
-        popupText.setLayoutX(popupX);
-        popupText.setLayoutY(popupY);
+        popup.setLayoutX(popupX);
+        // popupY is where the points' baseline goes; the box is placed by its top
+        popup.setLayoutY(popupY - popupText.getBoundsInLocal().getHeight());
         
         // Create initial delay (300ms) before animation starts
         Timeline delay = new Timeline(new KeyFrame(Duration.millis(300), e -> {
             // Create fade out animation (1.0 -> 0.0 over 1200ms - longer duration)
-            FadeTransition fadeOut = new FadeTransition(Duration.millis(1200), popupText);
+            FadeTransition fadeOut = new FadeTransition(Duration.millis(1200), popup);
             fadeOut.setFromValue(1.0);
             fadeOut.setToValue(0.0);
             
             // Create upward translation animation (move up by 10px - small rise, stays inside)
-            TranslateTransition translateUp = new TranslateTransition(Duration.millis(1200), popupText);
+            TranslateTransition translateUp = new TranslateTransition(Duration.millis(1200), popup);
             translateUp.setFromY(0);
             translateUp.setToY(-10);
             
@@ -1188,7 +1417,7 @@ public class GuiController implements Initializable {
             
             // Remove the text from the scene graph when animation finishes
             parallelTransition.setOnFinished(ev -> {
-                scoreOverlay.getChildren().remove(popupText);
+                scoreOverlay.getChildren().remove(popup);
             });
             
             // Start the animation
@@ -1199,7 +1428,9 @@ public class GuiController implements Initializable {
 
     public void gameOver() {
         isGameOver.set(true);
-        timeline.stop();
+        if (timeline != null) {
+            timeline.stop();
+        }
         gameOverPanel.setVisible(true);
         
         // Hide and collapse the Pause button when game is over
@@ -1207,14 +1438,46 @@ public class GuiController implements Initializable {
             pauseButton.setVisible(false);
             pauseButton.setManaged(false);
         }
-        
-        // Mark game as no longer in progress and clear saved state
-        // This prevents Resume button from appearing after Game Over
-        GameController.setGameInProgress(false);
-        GameController.clearSavedState();
     }
 
     public void newGame(ActionEvent event) {
+        resetOverlaysAndStats();
+        
+        // Reset game speed based on current difficulty
+        updateGameSpeed();
+        
+        eventListener.createNewGame();
+        
+        rootPane.requestFocus();
+    }
+    
+    /**
+     * Returns this (reused) game scene to its initial state before another game is
+     * attached to it: stops gravity, ends a previous online session and clears
+     * overlays and stats. The tile grids are kept and repainted by {@link #initGameView}.
+     */
+    public void resetForNewGame() {
+        if (timeline != null) {
+            timeline.stop();
+        }
+        closeNetworkClient();
+        eventListener = null;
+        resetOverlaysAndStats();
+        
+        // Restart and pause are hidden during online matches
+        if (restartButton != null) {
+            restartButton.setVisible(true);
+            restartButton.setManaged(true);
+        }
+        if (pauseLabel != null && pauseText != null) {
+            pauseLabel.setText(pauseText);
+        }
+        if (scoreOverlay != null) {
+            scoreOverlay.getChildren().clear();
+        }
+    }
+    
+    private void resetOverlaysAndStats() {
         isGameOver.set(false);
         isPause.set(false);
         gameOverPanel.setVisible(false);
@@ -1223,6 +1486,12 @@ public class GuiController implements Initializable {
         if (pausePulseAnimation != null) {
             pausePulseAnimation.stop();
         }
+        if (pauseFadeIn != null) {
+            pauseFadeIn.stop();
+        }
+        if (pauseFadeOut != null) {
+            pauseFadeOut.stop();
+        }
         if (pauseOverlay != null) {
             pauseOverlay.setVisible(false);
             pauseOverlay.setOpacity(0.0);
@@ -1236,13 +1505,6 @@ public class GuiController implements Initializable {
         
         updatePauseButtonText();
         resetStats();
-        
-        // Reset game speed based on current difficulty
-        updateGameSpeed();
-        
-        eventListener.createNewGame();
-        
-        rootPane.requestFocus();
     }
     
     /**
@@ -1287,13 +1549,15 @@ public class GuiController implements Initializable {
         
         // Only save game state if game is NOT over
         // After Game Over, we should NOT save state (resume button shouldn't appear)
-        if (!isGameOver.get() && eventListener instanceof GameController) {
+        // Online matches are never saved
+        if (networkClient != null) {
+            closeNetworkClient();
+        } else if (!isGameOver.get() && eventListener instanceof GameController) {
             ((GameController) eventListener).saveGameState();
         } else if (isGameOver.get()) {
             // Ensure game state is cleared and gameInProgress is false after Game Over
-            GameController.setGameInProgress(false);
-            GameController.clearSavedState();
-            System.out.println("Game Over detected - cleared saved state and set gameInProgress=false");
+            GameSession.local().clearSavedState();
+            LOG.debug("Game Over detected - cleared saved state and set gameInProgress=false");
         }
         
         // Unpause complete
@@ -1310,12 +1574,17 @@ public class GuiController implements Initializable {
         if (timeline != null) {
             timeline.stop();
         }
+        closeNetworkClient();
+        
+        // Detach the game (its state was saved above if it is resumable), so that a
+        // difficulty change in the menu cannot restart gravity on it in the background
+        eventListener = null;
         
         // Use preloaded main menu root for instant switching (root swap, not scene replacement)
         javafx.application.Platform.runLater(() -> {
             Parent mainMenuRoot = SceneManager.getPreloadedRoot("mainMenu");
             if (mainMenuRoot == null) {
-                System.err.println("ERROR: Main menu root not preloaded!");
+                LOG.error("Main menu root not preloaded!");
                 return;
             }
             
@@ -1336,7 +1605,7 @@ public class GuiController implements Initializable {
                     });
                 });
             } else {
-                System.err.println("ERROR: MainMenuController is null when returning to main menu!");
+                LOG.error("MainMenuController is null when returning to main menu!");
             }
         });
     }
@@ -1349,16 +1618,4 @@ public class GuiController implements Initializable {
             pauseButton.setText(isPause.get() ? "▶ RESUME" : "⏸ PAUSE");
         }
     }
-
-    static class FontLoader {
-        public static void loadDigitalFont() {
-            try {
-                Font.loadFont(
-                        FontLoader.class.getClassLoader()
-                                .getResource("digital.ttf").toExternalForm(),
-                        38
-                );
-            } catch (Exception ignored) {}
-        }
-    }
 }
@@ -0,0 +1,87 @@
+package com.comp2042;
+
+import javafx.beans.property.IntegerProperty;
+
+/**
+ * View for a game without a UI, e.g. one of many sessions hosted by a server.
+ *
+ * <p>Only keeps the score, the lines cleared and the level (the same rule as
+ * the game scene); everything else is ignored, so an idle session stays small.</p>
+ */
+public final class HeadlessGameView implements GameView {
+
+    private IntegerProperty score;
+    private int totalLinesCleared;
+    private boolean gameOver;
+
+    @Override
+    public void setEventListener(InputEventListener listener) {
+        // Inputs are sent to the controller directly
+    }
+
+    @Override
+    public void initGameView(int[][] boardMatrix, ViewData viewData) {
+        gameOver = false;
+    }
+
+    @Override
+    public void refreshView(ViewData viewData) {
+    }
+
+    @Override
+    public void bindScore(IntegerProperty property) {
+        score = property;
+    }
+
+    @Override
+    public void updateHighScore(int highScore) {
+    }
+
+    @Override
+    public void updateLinesCleared(int linesJustCleared) {
+        totalLinesCleared += linesJustCleared;
+    }
+
+    @Override
+    public void showScorePopup(LockScore lockScore, int clearedRowIndex) {
+    }
+
+    @Override
+    public void gameOver() {
+        gameOver = true;
+    }
+
+    @Override
+    public void restoreGameState(GameState state) {
+        totalLinesCleared = state.getTotalLinesCleared();
+    }
+
+    @Override
+    public void restoreLinesCleared(int totalLinesCleared) {
+        this.totalLinesCleared = totalLinesCleared;
+    }
+
+    @Override
+    public void updateDifficultySpeed() {
+    }
+
+    @Override
+    public int getTotalLinesCleared() {
+        return totalLinesCleared;
+    }
+
+    @Override
+    public int getCurrentLevel() {
+        return ScoringEngine.levelFor(totalLinesCleared);
+    }
+
+    /** @return the game's current score */
+    public int getScore() {
+        return score == null ? 0 : score.get();
+    }
+
+    /** @return true once the game has ended */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+}
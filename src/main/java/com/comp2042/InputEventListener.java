@@ -22,5 +22,12 @@ public interface InputEventListener {
      */
     DownData onHardDrop();   // <-- ADDED FOR SPACE KEY HARD DROP
 
+    /**
+     * Practice mode: takes back the last placement.
+     *
+     * @return the view after the rewind, or null if the game cannot be rewound
+     */
+    ViewData onRewindEvent();
+
     void createNewGame();
 }
@@ -0,0 +1,83 @@
+package com.comp2042;
+
+/**
+ * Points earned by one locked brick, as scored by a {@link ScoringEngine},
+ * and what earned them. Immutable.
+ */
+public final class LockScore {
+
+    private static final String[] CLEAR_NAMES = {"", "SINGLE", "DOUBLE", "TRIPLE", "TETRIS"};
+
+    private final int points;
+    private final int lines;
+    private final TSpin spin;
+    private final int combo;
+    private final boolean backToBack;
+    private final boolean perfectClear;
+
+    LockScore(int points, int lines, TSpin spin, int combo, boolean backToBack, boolean perfectClear) {
+        this.points = points;
+        this.lines = lines;
+        this.spin = spin;
+        this.combo = combo;
+        this.backToBack = backToBack;
+        this.perfectClear = perfectClear;
+    }
+
+    /** @return points earned, bonuses and level included */
+    public int getPoints() {
+        return points;
+    }
+
+    /** @return lines cleared by the lock */
+    public int getLines() {
+        return lines;
+    }
+
+    public TSpin getSpin() {
+        return spin;
+    }
+
+    /** @return clearing locks in a row before this one (0 for the first) */
+    public int getCombo() {
+        return combo;
+    }
+
+    /** @return whether the back-to-back bonus applied */
+    public boolean isBackToBack() {
+        return backToBack;
+    }
+
+    public boolean isPerfectClear() {
+        return perfectClear;
+    }
+
+    /**
+     * @return what the lock was, e.g. {@code "B2B T-SPIN DOUBLE"} or
+     *         {@code "TETRIS COMBO 2"}; empty for a plain single, double or triple
+     */
+    public String getLabel() {
+        StringBuilder label = new StringBuilder();
+        if (backToBack) {
+            label.append("B2B ");
+        }
+        if (spin != TSpin.NONE) {
+            label.append(spin == TSpin.MINI ? "T-SPIN MINI " : "T-SPIN ").append(CLEAR_NAMES[lines]);
+        } else if (lines == 4) {
+            label.append(CLEAR_NAMES[4]);
+        }
+        if (combo > 0) {
+            label.append(" COMBO ").append(combo);
+        }
+        if (perfectClear) {
+            label.append(" PERFECT CLEAR");
+        }
+        return label.toString().trim();
+    }
+
+    @Override
+    public String toString() {
+        String label = getLabel();
+        return "+" + points + (label.isEmpty() ? "" : " " + label);
+    }
+}
@@ -1,29 +1,60 @@
 package com.comp2042;
 
+import com.comp2042.diagnostics.Log;
+import com.comp2042.diagnostics.StartupReport;
+import com.comp2042.metrics.JvmMetrics;
+import com.comp2042.metrics.MetricsExporter;
+import com.comp2042.metrics.MetricsRegistry;
+
 import javafx.application.Application;
-import javafx.fxml.FXMLLoader;
+import javafx.application.Platform;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
-import javafx.scene.text.Font;
 import javafx.stage.Stage;
 
+import java.util.concurrent.CompletableFuture;
+
 public class Main extends Application {
 
+    private static final Log LOG = Log.forClass(Main.class);
+
     @Override
     public void start(Stage primaryStage) throws Exception {
-        // Load arcade fonts globally before creating any UI (heavy initialization at startup)
-        loadArcadeFonts();
+        long start = StartupReport.begin();
         
-        // PRELOAD ALL FXML root nodes at startup to prevent flicker
-        SceneManager.preloadAllScenes();
+        // Load fonts and PRELOAD the FXML root nodes in parallel, off the FX thread
+        CompletableFuture<Void> preload = SceneManager.preloadAllScenes();
+        
+        // Start loading the persistent leaderboard off the FX thread
+        com.comp2042.scores.HighScoreStore.getInstance().loadAsync();
+        
+        // Prometheus export, if enabled with -Dtetris.metrics.port / -Dtetris.metrics.file
+        JvmMetrics.register(MetricsRegistry.global());
+        MetricsExporter.startFromSystemProperties(MetricsRegistry.global());
         
         // Register the primary stage with StageManager
         StageManager.setPrimaryStage(primaryStage);
+        StartupReport.record("Main.start", start);
+        
+        // Show the stage as soon as the fonts and the main menu are ready
+        preload.whenComplete((ignored, error) -> Platform.runLater(() -> {
+            if (error != null) {
+                LOG.error("Startup failed", error);
+                Platform.exit();
+                return;
+            }
+            showMainMenu(primaryStage);
+        }));
+    }
+    
+    private void showMainMenu(Stage primaryStage) {
+        long start = StartupReport.begin();
         
         // Get the preloaded main menu root
         Parent mainMenuRoot = SceneManager.getPreloadedRoot("mainMenu");
         if (mainMenuRoot == null) {
-            System.err.println("ERROR: Main menu root not preloaded!");
+            LOG.error("Main menu root not preloaded!");
+            Platform.exit();
             return;
         }
         
@@ -46,54 +77,25 @@ public class Main extends Application {
         
         // Show stage ONCE - never call show() again after this
         primaryStage.show();
+        StartupReport.record("show main menu", start);
         
-        // Request focus for keyboard input
-        javafx.application.Platform.runLater(() -> {
+        // Request focus for keyboard input, then report once the first frame is out
+        Platform.runLater(() -> {
             mainMenuRoot.requestFocus();
-        });
-    }
-    
-    /**
-     * Loads arcade fonts globally for the entire application.
-     * Tries to load fonts from the fonts/ directory.
-     */
-    private void loadArcadeFonts() {
-        try {
-            // Try to load Press Start 2P font
-            try {
-                Font.loadFont(getClass().getResourceAsStream("/fonts/press-start-2p.ttf"), 16);
-                System.out.println("Loaded: Press Start 2P");
-            } catch (Exception e) {
-                // Font not found, try alternatives
-            }
-            
-            // Try to load VT323 font
-            try {
-                Font.loadFont(getClass().getResourceAsStream("/fonts/vt323.ttf"), 16);
-                System.out.println("Loaded: VT323");
-            } catch (Exception e) {
-                // Font not found
-            }
+            StartupReport.finish();
             
-            // Try to load ArcadeClassic font
-            try {
-                Font.loadFont(getClass().getResourceAsStream("/fonts/arcade-classic.ttf"), 16);
-                System.out.println("Loaded: ArcadeClassic");
-            } catch (Exception e) {
-                // Font not found
-            }
+            // Load the game scene in the background so Start Game is instant
+            SceneManager.prewarmGameScene();
             
-            // Fallback: Load digital.ttf if available
-            try {
-                Font.loadFont(getClass().getResourceAsStream("/digital.ttf"), 16);
-                System.out.println("Loaded: digital.ttf (fallback)");
-            } catch (Exception e) {
-                // Font not found
-            }
-        } catch (Exception e) {
-            System.err.println("Error loading fonts: " + e.getMessage());
-            // Continue without custom fonts - will use system fonts
-        }
+            // Scripted session for the CDS training run (-Dtetris.training=true)
+            TrainingRun.startIfRequested(mainMenuRoot);
+        });
+    }
+
+    @Override
+    public void stop() {
+        // Write any settings change still waiting for its debounced save
+        SettingsManager.getInstance().flush();
     }
 
     public static void main(String[] args) {
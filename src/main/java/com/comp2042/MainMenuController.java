@@ -1,5 +1,7 @@
 package com.comp2042;
 
+import com.comp2042.diagnostics.Log;
+
 import javafx.animation.KeyFrame;
 import javafx.animation.ScaleTransition;
 import javafx.animation.Timeline;
@@ -31,6 +33,8 @@ import java.util.ResourceBundle;
  * <ul>
  *   <li>New Game - Starts a fresh game</li>
  *   <li>Resume Game - Continues a paused game (only visible when game is in progress)</li>
+ *   <li>Versus - Starts a local two-player match</li>
+ *   <li>Online - Joins a networked versus match on the loopback server</li>
  *   <li>Settings - Opens the settings menu</li>
  *   <li>Exit - Closes the application</li>
  * </ul>
@@ -41,12 +45,20 @@ import java.util.ResourceBundle;
  */
 public class MainMenuController implements Initializable {
 
+    private static final Log LOG = Log.forClass(MainMenuController.class);
+
     @FXML
     private Button resumeGameButton;
     
     @FXML
     private Button startGameButton;
     
+    @FXML
+    private Button versusButton;
+    
+    @FXML
+    private Button onlineButton;
+    
     @FXML
     private Button settingsButton;
     
@@ -59,30 +71,45 @@ public class MainMenuController implements Initializable {
     @FXML
     private javafx.scene.layout.VBox mainMenuRoot;
     
+    @FXML
+    private javafx.scene.layout.StackPane menuStack;
+    
+    @FXML
+    private javafx.scene.canvas.Canvas demoCanvas;
+    
+    // Bot-driven demo game shown behind the menu when idle
+    private AttractMode attractMode;
+    
+    // Loopback versus server hosted by this instance (null if another instance hosts it)
+    private static com.comp2042.net.GameServer localServer;
+    
     // Scale transitions for hover and press effects (subtle animations only)
     // No pulse animations - styling handled via CSS
     
     @Override
     public void initialize(URL location, ResourceBundle resources) {
         try {
-            System.out.println("MainMenuController.initialize() called");
+            LOG.debug("MainMenuController.initialize() called");
             
-            // Load arcade fonts for main menu (safe - won't break if fonts missing)
-            try {
-                loadArcadeFonts();
-            } catch (Exception e) {
-                System.err.println("WARNING: Could not load arcade fonts: " + e.getMessage());
-                // Continue without custom fonts
-            }
+            // Fonts are normally registered by the startup preloader already
+            AppFonts.loadAll();
             
             // Setup subtle hover/press animations (safe - won't break if buttons null)
             try {
                 setupButtonAnimations();
             } catch (Exception e) {
-                System.err.println("WARNING: Could not setup button animations: " + e.getMessage());
+                LOG.warn("Could not setup button animations: " + e.getMessage());
                 // Continue without animations
             }
             
+            // Attract mode: play a bot-driven demo behind the menu when idle (safe - optional)
+            try {
+                setupAttractMode();
+            } catch (Exception e) {
+                LOG.warn("Could not setup attract mode: " + e.getMessage());
+                // Continue without attract mode
+            }
+            
             // Update resume button visibility based on saved state
             updateResumeButtonVisibility();
             
@@ -94,9 +121,9 @@ public class MainMenuController implements Initializable {
                     resumeGameButton.setMouseTransparent(false);
                     resumeGameButton.setFocusTraversable(true);
                     resumeGameButton.setPickOnBounds(true);
-                    System.out.println("Resume Game button initialized and enabled");
+                    LOG.debug("Resume Game button initialized and enabled");
                 } catch (Exception e) {
-                    System.err.println("WARNING: Error setting up resumeGameButton: " + e.getMessage());
+                    LOG.warn("Error setting up resumeGameButton: " + e.getMessage());
                 }
             }
             
@@ -106,12 +133,12 @@ public class MainMenuController implements Initializable {
                     startGameButton.setMouseTransparent(false);
                     startGameButton.setFocusTraversable(true);
                     startGameButton.setPickOnBounds(true);
-                    System.out.println("Start Game button initialized and enabled");
+                    LOG.debug("Start Game button initialized and enabled");
                 } catch (Exception e) {
-                    System.err.println("WARNING: Error setting up startGameButton: " + e.getMessage());
+                    LOG.warn("Error setting up startGameButton: " + e.getMessage());
                 }
             } else {
-                System.err.println("ERROR: startGameButton is null!");
+                LOG.error("startGameButton is null!");
             }
             
             if (settingsButton != null) {
@@ -120,12 +147,12 @@ public class MainMenuController implements Initializable {
                     settingsButton.setMouseTransparent(false);
                     settingsButton.setFocusTraversable(true);
                     settingsButton.setPickOnBounds(true);
-                    System.out.println("Settings button initialized and enabled");
+                    LOG.debug("Settings button initialized and enabled");
                 } catch (Exception e) {
-                    System.err.println("WARNING: Error setting up settingsButton: " + e.getMessage());
+                    LOG.warn("Error setting up settingsButton: " + e.getMessage());
                 }
             } else {
-                System.err.println("ERROR: settingsButton is null!");
+                LOG.error("settingsButton is null!");
             }
             
             if (exitButton != null) {
@@ -134,12 +161,12 @@ public class MainMenuController implements Initializable {
                     exitButton.setMouseTransparent(false);
                     exitButton.setFocusTraversable(true);
                     exitButton.setPickOnBounds(true);
-                    System.out.println("Exit button initialized and enabled");
+                    LOG.debug("Exit button initialized and enabled");
                 } catch (Exception e) {
-                    System.err.println("WARNING: Error setting up exitButton: " + e.getMessage());
+                    LOG.warn("Error setting up exitButton: " + e.getMessage());
                 }
             } else {
-                System.err.println("ERROR: exitButton is null!");
+                LOG.error("exitButton is null!");
             }
             
             // Ensure main menu root doesn't block events
@@ -158,13 +185,13 @@ public class MainMenuController implements Initializable {
                 
                 // Set up ActionEvent handler
                 startGameButton.setOnAction(e -> {
-                    System.out.println(">>> START GAME ACTION EVENT FIRED! <<<");
+                    LOG.debug("Start game action event fired");
                     startGame(e);
                 });
                 
                 // Also add mouse click handler as backup (fires even if ActionEvent doesn't)
                 startGameButton.setOnMouseClicked(e -> {
-                    System.out.println(">>> START GAME MOUSE CLICKED! (x=" + e.getX() + ", y=" + e.getY() + ") <<<");
+                    LOG.debug("Start game mouse clicked (x=" + e.getX() + ", y=" + e.getY() + ")");
                     if (!e.isConsumed()) {
                         e.consume();
                         startGame(new ActionEvent(startGameButton, null));
@@ -172,11 +199,11 @@ public class MainMenuController implements Initializable {
                 });
                 
                 // Add diagnostic: check if button is actually visible and enabled
-                System.out.println("Start Game button state: visible=" + startGameButton.isVisible() + 
+                LOG.debug("Start Game button state: visible=" + startGameButton.isVisible() + 
                                  ", disabled=" + startGameButton.isDisabled() + 
                                  ", mouseTransparent=" + startGameButton.isMouseTransparent() +
                                  ", managed=" + startGameButton.isManaged());
-                System.out.println("Start Game button handler wired (both ActionEvent and MouseEvent)");
+                LOG.debug("Start Game button handler wired (both ActionEvent and MouseEvent)");
             }
             if (settingsButton != null) {
                 // Clear any existing handlers first
@@ -185,23 +212,23 @@ public class MainMenuController implements Initializable {
                 
                 // Set up ActionEvent handler
                 settingsButton.setOnAction(e -> {
-                    System.out.println(">>> SETTINGS ACTION EVENT FIRED! <<<");
+                    LOG.debug("Settings action event fired");
                     openSettings(e);
                 });
                 
                 // Also add mouse click handler as backup
                 settingsButton.setOnMouseClicked(e -> {
-                    System.out.println(">>> SETTINGS MOUSE CLICKED! (x=" + e.getX() + ", y=" + e.getY() + ") <<<");
+                    LOG.debug("Settings mouse clicked (x=" + e.getX() + ", y=" + e.getY() + ")");
                     if (!e.isConsumed()) {
                         e.consume();
                         openSettings(new ActionEvent(settingsButton, null));
                     }
                 });
                 
-                System.out.println("Settings button state: visible=" + settingsButton.isVisible() + 
+                LOG.debug("Settings button state: visible=" + settingsButton.isVisible() + 
                                  ", disabled=" + settingsButton.isDisabled() + 
                                  ", mouseTransparent=" + settingsButton.isMouseTransparent());
-                System.out.println("Settings button handler wired (both ActionEvent and MouseEvent)");
+                LOG.debug("Settings button handler wired (both ActionEvent and MouseEvent)");
             }
             if (exitButton != null) {
                 // Clear any existing handlers first
@@ -210,23 +237,23 @@ public class MainMenuController implements Initializable {
                 
                 // Set up ActionEvent handler
                 exitButton.setOnAction(e -> {
-                    System.out.println(">>> EXIT ACTION EVENT FIRED! <<<");
+                    LOG.debug("Exit action event fired");
                     exitGame(e);
                 });
                 
                 // Also add mouse click handler as backup
                 exitButton.setOnMouseClicked(e -> {
-                    System.out.println(">>> EXIT MOUSE CLICKED! (x=" + e.getX() + ", y=" + e.getY() + ") <<<");
+                    LOG.debug("Exit mouse clicked (x=" + e.getX() + ", y=" + e.getY() + ")");
                     if (!e.isConsumed()) {
                         e.consume();
                         exitGame(new ActionEvent(exitButton, null));
                     }
                 });
                 
-                System.out.println("Exit button state: visible=" + exitButton.isVisible() + 
+                LOG.debug("Exit button state: visible=" + exitButton.isVisible() + 
                                  ", disabled=" + exitButton.isDisabled() + 
                                  ", mouseTransparent=" + exitButton.isMouseTransparent());
-                System.out.println("Exit button handler wired (both ActionEvent and MouseEvent)");
+                LOG.debug("Exit button handler wired (both ActionEvent and MouseEvent)");
             }
             
             // Wire up Resume Game button handler (like other buttons)
@@ -237,101 +264,33 @@ public class MainMenuController implements Initializable {
                 
                 // Set up ActionEvent handler
                 resumeGameButton.setOnAction(e -> {
-                    System.out.println(">>> RESUME GAME ACTION EVENT FIRED! <<<");
+                    LOG.debug("Resume game action event fired");
                     resumeGame(e);
                 });
                 
                 // Also add mouse click handler as backup
                 resumeGameButton.setOnMouseClicked(e -> {
-                    System.out.println(">>> RESUME GAME MOUSE CLICKED! (x=" + e.getX() + ", y=" + e.getY() + ") <<<");
+                    LOG.debug("Resume game mouse clicked (x=" + e.getX() + ", y=" + e.getY() + ")");
                     if (!e.isConsumed()) {
                         e.consume();
                         resumeGame(new ActionEvent(resumeGameButton, null));
                     }
                 });
                 
-                System.out.println("Resume Game button state: visible=" + resumeGameButton.isVisible() + 
+                LOG.debug("Resume Game button state: visible=" + resumeGameButton.isVisible() + 
                                  ", disabled=" + resumeGameButton.isDisabled() + 
                                  ", mouseTransparent=" + resumeGameButton.isMouseTransparent() +
                                  ", managed=" + resumeGameButton.isManaged());
-                System.out.println("Resume Game button handler wired (both ActionEvent and MouseEvent)");
+                LOG.debug("Resume Game button handler wired (both ActionEvent and MouseEvent)");
             }
             
-            System.out.println("MainMenuController.initialize() completed successfully!");
+            LOG.debug("MainMenuController.initialize() completed successfully!");
         } catch (Exception e) {
-            System.err.println("========================================");
-            System.err.println("CRITICAL ERROR in MainMenuController.initialize():");
-            System.err.println("========================================");
-            System.err.println("Exception type: " + e.getClass().getName());
-            System.err.println("Message: " + e.getMessage());
-            e.printStackTrace();
-            System.err.println("========================================");
+            LOG.error("Unexpected error in MainMenuController.initialize()", e);
             // Don't rethrow - let the UI continue even if initialization partially fails
         }
     }
     
-    /**
-     * Loads arcade-style fonts for the main menu.
-     * Tries to load PressStart2P, VT323, ArcadeClassic, or digital.ttf from resources.
-     */
-    private void loadArcadeFonts() {
-        boolean fontLoaded = false;
-        
-        // Try to load PressStart2P.ttf from fonts directory (more animated/playful)
-        try {
-            java.io.InputStream fontStream = getClass().getResourceAsStream("/fonts/PressStart2P.ttf");
-            if (fontStream != null) {
-                javafx.scene.text.Font.loadFont(fontStream, 22);
-                fontLoaded = true;
-                System.out.println("Loaded: PressStart2P.ttf from fonts/ directory");
-            }
-        } catch (Exception e) {
-            // Font not found
-        }
-        
-        // Try VT323 (pixel/terminal style - more animated)
-        if (!fontLoaded) {
-            try {
-                java.io.InputStream fontStream = getClass().getResourceAsStream("/fonts/VT323.ttf");
-                if (fontStream != null) {
-                    javafx.scene.text.Font.loadFont(fontStream, 22);
-                    fontLoaded = true;
-                    System.out.println("Loaded: VT323.ttf from fonts/ directory");
-                }
-            } catch (Exception e) {
-                // Font not found
-            }
-        }
-        
-        // Try ArcadeClassic.ttf from fonts directory
-        if (!fontLoaded) {
-            try {
-                java.io.InputStream fontStream = getClass().getResourceAsStream("/fonts/ArcadeClassic.ttf");
-                if (fontStream != null) {
-                    javafx.scene.text.Font.loadFont(fontStream, 22);
-                    fontLoaded = true;
-                    System.out.println("Loaded: ArcadeClassic.ttf from fonts/ directory");
-                }
-            } catch (Exception e) {
-                // Font not found
-            }
-        }
-        
-        // Fallback: Load digital.ttf if available
-        if (!fontLoaded) {
-            try {
-                javafx.scene.text.Font.loadFont(
-                        getClass().getClassLoader().getResource("digital.ttf").toExternalForm(),
-                        22
-                );
-                fontLoaded = true;
-                System.out.println("Loaded: digital.ttf (fallback)");
-            } catch (Exception e) {
-                System.out.println("Using system fonts as fallback");
-            }
-        }
-    }
-    
     /**
      * Sets up subtle button animations: hover scale (1.03x) with translateY (2-3px), press scale (0.98x).
      * All animations are subtle and use CSS transitions (150-200ms).
@@ -340,16 +299,45 @@ public class MainMenuController implements Initializable {
         // Setup subtle hover animations (1.00 → 1.03x scale, 2-3px translateY, 175ms)
         setupHoverScale(resumeGameButton);
         setupHoverScale(startGameButton);
+        setupHoverScale(versusButton);
+        setupHoverScale(onlineButton);
         setupHoverScale(settingsButton);
         setupHoverScale(exitButton);
         
         // Setup press scale animations (1.00 → 0.98x, 150ms)
         setupPressScale(resumeGameButton);
         setupPressScale(startGameButton);
+        setupPressScale(versusButton);
+        setupPressScale(onlineButton);
         setupPressScale(settingsButton);
         setupPressScale(exitButton);
     }
     
+    /**
+     * Sets up the attract-mode demo game behind the menu.
+     * Any input stops the demo and restarts the idle countdown; the demo is
+     * disarmed whenever the menu root is swapped out of the scene.
+     */
+    private void setupAttractMode() {
+        if (demoCanvas == null || menuStack == null) return;
+        
+        attractMode = new AttractMode(demoCanvas);
+        
+        // Event filters see input before the buttons do, without consuming it
+        menuStack.addEventFilter(javafx.scene.input.MouseEvent.MOUSE_MOVED, e -> attractMode.resetIdleTimer());
+        menuStack.addEventFilter(javafx.scene.input.MouseEvent.MOUSE_PRESSED, e -> attractMode.resetIdleTimer());
+        menuStack.addEventFilter(javafx.scene.input.KeyEvent.KEY_PRESSED, e -> attractMode.resetIdleTimer());
+        
+        // Root swapping attaches/detaches the menu from the single scene
+        menuStack.sceneProperty().addListener((obs, oldScene, newScene) -> {
+            if (newScene == null) {
+                attractMode.disarm();
+            } else {
+                attractMode.resetIdleTimer();
+            }
+        });
+    }
+    
     /**
      * REMOVED: Continuous text animation - no longer needed.
      * Text styling is now handled entirely via CSS.
@@ -463,8 +451,8 @@ public class MainMenuController implements Initializable {
     public void updateResumeButtonVisibility() {
         if (resumeGameButton != null) {
             // Resume button should only appear if game is in progress (not after Game Over)
-            boolean gameInProgress = GameController.isGameInProgress();
-            boolean hasSavedState = GameController.hasSavedState();
+            boolean gameInProgress = GameSession.local().isGameInProgress();
+            boolean hasSavedState = GameSession.local().hasSavedState();
             boolean shouldShow = gameInProgress && hasSavedState;
             
             // Ensure button is enabled and clickable when visible
@@ -473,18 +461,17 @@ public class MainMenuController implements Initializable {
             resumeGameButton.setDisable(!shouldShow);
             resumeGameButton.setMouseTransparent(!shouldShow);
             
-            System.out.println("========================================");
-            System.out.println("Resume button visibility updated:");
-            System.out.println("  gameInProgress=" + gameInProgress);
-            System.out.println("  hasSavedState=" + hasSavedState);
-            System.out.println("  shouldShow=" + shouldShow);
-            System.out.println("  button.visible=" + resumeGameButton.isVisible());
-            System.out.println("  button.managed=" + resumeGameButton.isManaged());
-            System.out.println("  button.disabled=" + resumeGameButton.isDisabled());
-            System.out.println("  button.mouseTransparent=" + resumeGameButton.isMouseTransparent());
-            System.out.println("========================================");
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Resume button visibility updated: gameInProgress=" + gameInProgress
+                        + ", hasSavedState=" + hasSavedState
+                        + ", shouldShow=" + shouldShow
+                        + ", visible=" + resumeGameButton.isVisible()
+                        + ", managed=" + resumeGameButton.isManaged()
+                        + ", disabled=" + resumeGameButton.isDisabled()
+                        + ", mouseTransparent=" + resumeGameButton.isMouseTransparent());
+            }
         } else {
-            System.err.println("ERROR: resumeGameButton is null in updateResumeButtonVisibility()!");
+            LOG.error("resumeGameButton is null in updateResumeButtonVisibility()!");
         }
     }
     
@@ -508,7 +495,7 @@ public class MainMenuController implements Initializable {
         }
         
         // Check if game is in progress and has saved state
-        if (!GameController.isGameInProgress() || !GameController.hasSavedState()) {
+        if (!GameSession.local().isGameInProgress() || !GameSession.local().hasSavedState()) {
             javafx.scene.control.Alert alert = new javafx.scene.control.Alert(javafx.scene.control.Alert.AlertType.WARNING);
             alert.setTitle("No Saved Game");
             alert.setHeaderText("Cannot Resume");
@@ -519,28 +506,19 @@ public class MainMenuController implements Initializable {
             return;
         }
         
-        // Load FXML and create scene on background thread, then switch on JavaFX thread
+        // Reset the reused game scene and switch to it on the JavaFX thread
         javafx.application.Platform.runLater(() -> {
             try {
-                FXMLLoader loader = new FXMLLoader(getClass().getResource("/gameLayout.fxml"));
-                if (loader.getLocation() == null) {
-                    System.err.println("ERROR: Cannot find /gameLayout.fxml");
-                    return;
-                }
-                
-                Parent gameRoot = loader.load();
-                GuiController gui = loader.getController();
-                if (gui == null) {
-                    System.err.println("ERROR: GuiController is null!");
-                    return;
-                }
+                // Reused game scene, reset for this game
+                SceneManager.GameScene gameScene = SceneManager.getGameScene();
+                Parent gameRoot = gameScene.getRoot();
+                GuiController gui = gameScene.getController();
                 
                 // Create game controller (will resume from saved state)
                 try {
                     new GameController(gui);
                 } catch (Exception e) {
-                    System.err.println("ERROR: Failed to resume game: " + e.getMessage());
-                    e.printStackTrace();
+                    LOG.error("Failed to resume game", e);
                     return;
                 }
                 
@@ -551,9 +529,6 @@ public class MainMenuController implements Initializable {
                     // Ignore
                 }
                 
-                // Fix root pane sizing to prevent automatic resizing
-                SceneManager.fixRootPaneSizingExternal(gameRoot);
-                
                 // Ensure game root is interactive
                 gameRoot.setMouseTransparent(false);
                 gameRoot.setDisable(false);
@@ -578,14 +553,13 @@ public class MainMenuController implements Initializable {
                 });
                 
             } catch (Exception e) {
-                System.err.println("Error resuming game: " + e.getMessage());
-                e.printStackTrace();
+                LOG.error("Error resuming game", e);
             }
         });
     }
     
     /**
-     * Starts a new game by loading the gameLayout.fxml scene.
+     * Starts a new game in the reused gameLayout.fxml scene.
      * Always starts a fresh game (clears any saved state).
      */
     @FXML
@@ -603,57 +577,27 @@ public class MainMenuController implements Initializable {
             primaryStage.toFront();
         }
         
-        System.out.println("========================================");
-        System.out.println(">>> START GAME BUTTON CLICKED! <<<");
-        System.out.println("========================================");
-        System.out.println("Event source: " + (event != null ? event.getSource() : "null"));
-        System.out.println("Event target: " + (event != null ? event.getTarget() : "null"));
+        LOG.debug("Start Game button clicked (source: " + (event != null ? event.getSource() : "null")
+                + ", target: " + (event != null ? event.getTarget() : "null") + ")");
         
         try {
-            System.out.println("Loading gameLayout.fxml...");
-            FXMLLoader loader = new FXMLLoader(
-                    getClass().getResource("/gameLayout.fxml")
-            );
-            
-            if (loader.getLocation() == null) {
-                System.err.println("ERROR: Cannot find /gameLayout.fxml");
-                javafx.scene.control.Alert alert = new javafx.scene.control.Alert(javafx.scene.control.Alert.AlertType.ERROR);
-                alert.setTitle("Error");
-                alert.setHeaderText("Cannot Load Game");
-                alert.setContentText("Game layout file not found!");
-                alert.showAndWait();
-                return;
-            }
-            
-            System.out.println("Found gameLayout.fxml, loading...");
-            Parent gameRoot = loader.load();
-            System.out.println("FXML loaded successfully!");
-            
-            // Get the GUI controller from FXML
-            GuiController gui = loader.getController();
-            if (gui == null) {
-                System.err.println("ERROR: GuiController is null!");
-                javafx.scene.control.Alert alert = new javafx.scene.control.Alert(javafx.scene.control.Alert.AlertType.ERROR);
-                alert.setTitle("Error");
-                alert.setHeaderText("Cannot Start Game");
-                alert.setContentText("Game controller could not be initialized.");
-                alert.showAndWait();
-                return;
-            }
-            System.out.println("GuiController obtained: " + gui);
+            // Reused game scene, reset for this game
+            SceneManager.GameScene gameScene = SceneManager.getGameScene();
+            Parent gameRoot = gameScene.getRoot();
+            GuiController gui = gameScene.getController();
+            LOG.debug("GuiController obtained: " + gui);
             
             // Create the game controller and connect it to GUI
-            System.out.println("Creating GameController...");
+            LOG.debug("Creating GameController...");
             try {
                 // Always start a fresh game (clear any saved state)
-                System.out.println("Starting new game...");
-                GameController.clearSavedState();
+                LOG.debug("Starting new game...");
+                GameSession.local().clearSavedState();
                 
                 new GameController(gui);
-                System.out.println("GameController created successfully!");
+                LOG.debug("GameController created successfully!");
             } catch (Exception e) {
-                System.err.println("ERROR: Failed to create GameController: " + e.getMessage());
-                e.printStackTrace();
+                LOG.error("Failed to create GameController", e);
                 javafx.scene.control.Alert alert = new javafx.scene.control.Alert(javafx.scene.control.Alert.AlertType.ERROR);
                 alert.setTitle("Error");
                 alert.setHeaderText("Cannot Start Game");
@@ -665,15 +609,12 @@ public class MainMenuController implements Initializable {
             // Update Hard Drop label visibility based on current settings
             try {
                 gui.updateHardDropLabelVisibility();
-                System.out.println("Hard drop label visibility updated");
+                LOG.debug("Hard drop label visibility updated");
             } catch (Exception e) {
-                System.err.println("WARNING: Could not update hard drop label visibility: " + e.getMessage());
+                LOG.warn("Could not update hard drop label visibility: " + e.getMessage());
                 // Continue - this is not critical
             }
             
-            // Fix root pane sizing to prevent automatic resizing
-            SceneManager.fixRootPaneSizingExternal(gameRoot);
-            
             // Ensure the game root is interactive and visible
             gameRoot.setMouseTransparent(false);
             gameRoot.setDisable(false);
@@ -700,13 +641,7 @@ public class MainMenuController implements Initializable {
             });
             
         } catch (Exception e) {
-            System.err.println("========================================");
-            System.err.println("CRITICAL ERROR in startGame():");
-            System.err.println("========================================");
-            System.err.println("Exception type: " + e.getClass().getName());
-            System.err.println("Message: " + e.getMessage());
-            e.printStackTrace();
-            System.err.println("========================================");
+            LOG.error("Unexpected error in startGame()", e);
             
             // Show error dialog to user
             javafx.scene.control.Alert alert = new javafx.scene.control.Alert(javafx.scene.control.Alert.AlertType.ERROR);
@@ -717,6 +652,91 @@ public class MainMenuController implements Initializable {
         }
     }
     
+    /**
+     * Starts a local two-player versus match by loading the versus.fxml scene.
+     * Both players are dealt bricks from the same fresh seed.
+     */
+    @FXML
+    private void startVersus(ActionEvent event) {
+        if (event != null) {
+            event.consume();
+        }
+        
+        try {
+            FXMLLoader loader = new FXMLLoader(getClass().getResource("/versus.fxml"));
+            Parent versusRoot = loader.load();
+            VersusController versus = loader.getController();
+            
+            // Fix root pane sizing to prevent automatic resizing
+            SceneManager.fixRootPaneSizingExternal(versusRoot);
+            
+            // Swap root node in SINGLE scene - this prevents macOS window recreation
+            StageManager.switchRoot(versusRoot, "Tetris - Versus");
+            versus.startMatch(System.nanoTime());
+            
+            // Request focus for keyboard input
+            javafx.application.Platform.runLater(versusRoot::requestFocus);
+        } catch (Exception e) {
+            LOG.error("Could not start versus mode", e);
+            javafx.scene.control.Alert alert = new javafx.scene.control.Alert(javafx.scene.control.Alert.AlertType.ERROR);
+            alert.setTitle("Error");
+            alert.setHeaderText("Cannot Start Versus");
+            alert.setContentText("An error occurred while loading versus mode:\n" + e.getMessage());
+            alert.showAndWait();
+        }
+    }
+    
+    /**
+     * Joins an online versus match. The first instance to go online hosts the
+     * server on the loopback interface; later instances connect to it and are
+     * paired in order.
+     */
+    @FXML
+    private void startOnline(ActionEvent event) {
+        if (event != null) {
+            event.consume();
+        }
+        
+        try {
+            ensureLocalServer();
+            
+            SceneManager.GameScene gameScene = SceneManager.getGameScene();
+            Parent gameRoot = gameScene.getRoot();
+            GuiController gui = gameScene.getController();
+            
+            // Swap root node in SINGLE scene - this prevents macOS window recreation
+            StageManager.switchRoot(gameRoot, "Tetris - Online");
+            gui.startClientMode(new java.net.InetSocketAddress(
+                    java.net.InetAddress.getLoopbackAddress(), com.comp2042.net.Protocol.DEFAULT_PORT));
+        } catch (Exception e) {
+            LOG.error("Could not start online game", e);
+            javafx.scene.control.Alert alert = new javafx.scene.control.Alert(javafx.scene.control.Alert.AlertType.ERROR);
+            alert.setTitle("Error");
+            alert.setHeaderText("Cannot Go Online");
+            alert.setContentText("Could not reach the game server:\n" + e.getMessage());
+            alert.showAndWait();
+            
+            Parent mainMenuRoot = SceneManager.getPreloadedRoot("mainMenu");
+            if (mainMenuRoot != null && menuStack.getScene() == null) {
+                StageManager.switchRoot(mainMenuRoot, "Tetris");
+            }
+        }
+    }
+    
+    /**
+     * Hosts the loopback server unless this or another instance already does.
+     */
+    private static void ensureLocalServer() {
+        if (localServer != null) return;
+        try {
+            localServer = com.comp2042.net.GameServer.startLoopback(com.comp2042.net.Protocol.DEFAULT_PORT);
+            LOG.info("Hosting versus server on port " + localServer.getPort());
+        } catch (java.io.IOException e) {
+            // Port already bound: another instance is hosting
+            LOG.debug("Using existing versus server: " + e.getMessage());
+        }
+    }
+    
     /**
      * Opens the settings scene.
      */
@@ -739,7 +759,7 @@ public class MainMenuController implements Initializable {
         javafx.application.Platform.runLater(() -> {
             Parent settingsRoot = SceneManager.getPreloadedRoot("settings");
             if (settingsRoot == null) {
-                System.err.println("ERROR: Settings root not preloaded!");
+                LOG.error("Settings root not preloaded!");
                 return;
             }
             
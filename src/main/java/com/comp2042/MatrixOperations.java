@@ -1,8 +1,7 @@
 package com.comp2042;
 
-import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Deque;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -82,7 +81,19 @@ public final class MatrixOperations {
      */
     public static int[][] merge(int[][] matrix, int[][] brick, int x, int y) {
         int[][] merged = copy(matrix);
+        mergeInPlace(merged, brick, x, y);
+        return merged;
+    }
 
+    /**
+     * Merges a brick into the game matrix at a specific location, modifying it.
+     *
+     * @param matrix the game matrix to write the brick into
+     * @param brick the brick to merge
+     * @param x the X position to merge at
+     * @param y the Y position to merge at
+     */
+    public static void mergeInPlace(int[][] matrix, int[][] brick, int x, int y) {
         for (int row = 0; row < brick.length; row++) {
             for (int col = 0; col < brick[row].length; col++) {
 
@@ -94,73 +105,54 @@ public final class MatrixOperations {
                 // Skip cells above the board
                 if (targetY < 0) continue;
 
-                merged[targetY][targetX] = brick[row][col];
+                matrix[targetY][targetX] = brick[row][col];
             }
         }
-        return merged;
     }
 
     /**
-     * Checks the matrix for full rows, removes them, shifts everything downward,
-     * and calculates points using official Tetris Guideline base scoring.
+     * Removes full rows from the matrix in place: the remaining rows are shifted
+     * down by reference and the cleared rows are emptied and reused at the top,
+     * so nothing is copied or allocated unless rows were cleared.
      *
-     * @param matrix the current game matrix
-     * @return a RowClearResult object containing:
-     *         - number of cleared rows (1-4)
-     *         - updated matrix after removal
-     *         - base points earned (100/300/500/800)
-     *         - indices of cleared rows
+     * @param matrix the game matrix, modified
+     * @return the number of cleared rows and their indices before the shift
      */
-    public static RowClearResult checkRemoving(final int[][] matrix) {
+    public static RowClearResult removeFullRows(int[][] matrix) {
         int height = matrix.length;
-        int width = matrix[0].length;
-
-        int[][] updatedMatrix = new int[height][width];
+        List<Integer> clearedRowIndices = null;
+        int[][] cleared = null;
 
-        Deque<int[]> keptRows = new ArrayDeque<>();
-        List<Integer> clearedRowIndices = new ArrayList<>();
-
-        // Scan rows from top to bottom
-        for (int r = 0; r < height; r++) {
-            int[] rowCopy = new int[width];
-            boolean isFull = true;
-
-            for (int c = 0; c < width; c++) {
-                rowCopy[c] = matrix[r][c];
-                if (matrix[r][c] == 0) {
-                    isFull = false;
+        // Compact the kept rows towards the bottom, scanning bottom-up
+        int target = height - 1;
+        for (int r = height - 1; r >= 0; r--) {
+            if (isFull(matrix[r])) {
+                if (clearedRowIndices == null) {
+                    clearedRowIndices = new ArrayList<>(4);
+                    cleared = new int[height][];
                 }
-            }
-
-            if (isFull) {
-                clearedRowIndices.add(r);
+                clearedRowIndices.add(0, r);
+                cleared[clearedRowIndices.size() - 1] = matrix[r];
             } else {
-                keptRows.add(rowCopy);
+                matrix[target--] = matrix[r];
             }
         }
 
-        // Fill updatedMatrix bottom-up with rows kept
-        for (int r = height - 1; r >= 0; r--) {
-            int[] row = keptRows.pollLast();
-            if (row != null) {
-                updatedMatrix[r] = row;
-            } else {
-                break;
-            }
+        int rowsCleared = clearedRowIndices == null ? 0 : clearedRowIndices.size();
+        for (int i = 0; i < rowsCleared; i++) {
+            Arrays.fill(cleared[i], 0);
+            matrix[i] = cleared[i];
         }
+        return new RowClearResult(rowsCleared, clearedRowIndices);
+    }
 
-        // Official Tetris Guideline base scoring system
-        // Uses fixed point values (not formulas or multipliers)
-        int rowsCleared = clearedRowIndices.size();
-        int pointsEarned = switch (rowsCleared) {
-            case 1 -> 100;  // Single (1 line): 100 points
-            case 2 -> 300;  // Double (2 lines): 300 points
-            case 3 -> 500;  // Triple (3 lines): 500 points
-            case 4 -> 800;  // Tetris (4 lines): 800 points
-            default -> 0;   // Should not happen, but handle gracefully
-        };
-
-        return new RowClearResult(rowsCleared, updatedMatrix, pointsEarned, clearedRowIndices);
+    private static boolean isFull(int[] row) {
+        for (int cell : row) {
+            if (cell == 0) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
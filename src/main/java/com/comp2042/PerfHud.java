@@ -0,0 +1,94 @@
+package com.comp2042;
+
+import com.comp2042.diagnostics.PerfStats;
+import javafx.animation.AnimationTimer;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.layout.StackPane;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+
+/**
+ * Toggleable performance overlay (F3 in game) drawn on one small {@link Canvas}.
+ *
+ * <p>While shown, an {@link AnimationTimer} records every pulse in the
+ * {@link PerfStats} and redraws the text every {@value #REFRESH_MS} ms with a
+ * single multi-line {@code fillText}. While hidden the timer is stopped, so the
+ * overlay costs nothing.</p>
+ */
+public final class PerfHud {
+
+    static final long REFRESH_MS = 250;
+
+    private static final Font HUD_FONT = Font.font("Monospaced", FontWeight.BOLD, 12);
+    private static final Color BACKGROUND = Color.rgb(0, 0, 0, 0.65);
+    private static final double WIDTH = 400;
+    private static final double HEIGHT = 70;
+    private static final double PADDING = 6;
+    private static final double MARGIN = 8;
+
+    private final Canvas canvas = new Canvas(WIDTH, HEIGHT);
+    private final PerfStats stats;
+    private final AnimationTimer timer;
+    private long lastDrawNanos;
+
+    /**
+     * Adds the (hidden) overlay to the top-left corner of a root pane.
+     *
+     * @param parent root pane of the scene
+     * @param stats  measurements recorded by the game
+     */
+    public PerfHud(StackPane parent, PerfStats stats) {
+        this.stats = stats;
+        canvas.setMouseTransparent(true);
+        canvas.setVisible(false);
+        // Unmanaged so the root's layout ignores it; pinned to the top-left corner
+        canvas.setManaged(false);
+        canvas.relocate(MARGIN, MARGIN);
+        parent.getChildren().add(canvas);
+
+        timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                stats.recordFrame(now);
+                if (now - lastDrawNanos >= REFRESH_MS * 1_000_000L) {
+                    lastDrawNanos = now;
+                    draw();
+                }
+            }
+        };
+    }
+
+    /** Shows or hides the overlay. */
+    public void toggle() {
+        setVisible(!canvas.isVisible());
+    }
+
+    /**
+     * @param visible whether the overlay is shown (and measuring frames)
+     */
+    public void setVisible(boolean visible) {
+        if (visible == canvas.isVisible()) {
+            return;
+        }
+        canvas.setVisible(visible);
+        if (visible) {
+            canvas.toFront();
+            stats.resetFrameClock();
+            lastDrawNanos = 0;
+            timer.start();
+        } else {
+            timer.stop();
+        }
+    }
+
+    private void draw() {
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.setFill(BACKGROUND);
+        gc.fillRect(0, 0, WIDTH, HEIGHT);
+        gc.setFill(Color.LIME);
+        gc.setFont(HUD_FONT);
+        gc.fillText(stats.summary(), PADDING, PADDING + 10);
+    }
+}
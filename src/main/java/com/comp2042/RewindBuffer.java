@@ -0,0 +1,116 @@
+package com.comp2042;
+
+/**
+ * The last placements of a practice game, so the player can take them back.
+ *
+ * <p>A snapshot is captured each time a brick spawns: the board packed into
+ * one long per row ({@value #BITS_PER_CELL} bits a cell), the active brick's
+ * type, the preview queue, the score, the lines cleared, and the combo and
+ * back-to-back chain of the {@link ScoringEngine}. Snapshots live in
+ * a ring of preallocated arrays holding the last {@code capacity} of them, so
+ * capturing and rewinding are O(1) in the length of the game, allocate
+ * nothing, and the memory stays the same however long the session runs.</p>
+ *
+ * <p>Only the visible queue is kept, not the generator's random state: after a
+ * rewind the queued bricks come again, but the ones after them may differ.</p>
+ */
+public final class RewindBuffer {
+
+    /** Placements kept by default. */
+    public static final int DEFAULT_CAPACITY = 100;
+
+    static final int BITS_PER_CELL = 4;
+
+    /** Queued brick types kept per snapshot. */
+    private static final int MAX_QUEUE = 4;
+    // Per snapshot: active type, queue length, then the queue
+    private static final int PIECE_BYTES = 2 + MAX_QUEUE;
+
+    private final int height;
+    private final int capacity;
+    private final long[] rows;
+    private final byte[] pieces;
+    private final int[] scores;
+    private final int[] lines;
+    private final int[] combos;
+    private final boolean[] backToBacks;
+    private int newest = -1;
+    private int size;
+
+    /**
+     * @param board    board whose placements are captured
+     * @param capacity placements kept; older ones are overwritten
+     */
+    public RewindBuffer(SimpleBoard board, int capacity) {
+        int[][] matrix = board.getBoardMatrix();
+        int width = matrix[0].length;
+        if (width * BITS_PER_CELL > Long.SIZE) {
+            throw new IllegalArgumentException("Board too wide to pack: " + width);
+        }
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.height = matrix.length;
+        this.capacity = capacity;
+        rows = new long[capacity * height];
+        pieces = new byte[capacity * PIECE_BYTES];
+        scores = new int[capacity];
+        lines = new int[capacity];
+        combos = new int[capacity];
+        backToBacks = new boolean[capacity];
+    }
+
+    /**
+     * Records the board as it is now, with its brick just spawned,
+     * overwriting the oldest snapshot when full.
+     *
+     * @param totalLinesCleared lines cleared so far in the game
+     * @param scoring           the game's scoring engine, after the last lock
+     */
+    public void capture(SimpleBoard board, int totalLinesCleared, ScoringEngine scoring) {
+        newest = (newest + 1) % capacity;
+        size = Math.min(size + 1, capacity);
+        board.packRows(rows, newest * height);
+        int piece = newest * PIECE_BYTES;
+        pieces[piece] = (byte) board.getActiveBrickType();
+        pieces[piece + 1] = (byte) board.copyQueueTypes(pieces, piece + 2, MAX_QUEUE);
+        scores[newest] = board.getScore().scoreProperty().get();
+        lines[newest] = totalLinesCleared;
+        combos[newest] = scoring.getCombo();
+        backToBacks[newest] = scoring.isBackToBack();
+    }
+
+    /**
+     * Takes back the last placement: the current snapshot is dropped and the
+     * board restored to the one before it. With a single snapshot left, the
+     * board goes back to it, i.e. the current brick starts again.
+     *
+     * @param scoring receives the combo and back-to-back chain of the restored snapshot
+     * @return the lines cleared at the restored snapshot, or -1 if there is none
+     */
+    public int rewind(SimpleBoard board, ScoringEngine scoring) {
+        if (size == 0) {
+            return -1;
+        }
+        if (size > 1) {
+            newest = (newest + capacity - 1) % capacity;
+            size--;
+        }
+        int piece = newest * PIECE_BYTES;
+        board.restorePlacement(rows, newest * height, pieces[piece],
+                pieces, piece + 2, pieces[piece + 1], scores[newest]);
+        scoring.restore(combos[newest], backToBacks[newest]);
+        return lines[newest];
+    }
+
+    /** @return snapshots held, including the current placement's */
+    public int size() {
+        return size;
+    }
+
+    /** Forgets every snapshot, e.g. for a new game. */
+    public void clear() {
+        newest = -1;
+        size = 0;
+    }
+}
@@ -5,16 +5,10 @@ import java.util.List;
 
 /**
  * Stores the result of clearing one or more rows in the Tetris game.
- * Uses official Tetris Guideline base scoring:
- * - Single (1 line): 100 points
- * - Double (2 lines): 300 points
- * - Triple (3 lines): 500 points
- * - Tetris (4 lines): 800 points
+ * Points are not part of it; the lock is scored by a {@link ScoringEngine}.
  * 
  * This includes:
  * - how many rows were cleared (1-4),
- * - the updated game matrix after the clear,
- * - the base points awarded (100/300/500/800),
  * - and the indices of the cleared rows.
  *
  * This class is immutable to ensure the result cannot be modified after creation.
@@ -24,12 +18,6 @@ public final class RowClearResult {
     /** Number of rows cleared during this operation. */
     private final int rowsCleared;
 
-    /** The updated game matrix after clearing rows. */
-    private final int[][] updatedMatrix;
-
-    /** Points earned for clearing the rows. */
-    private final int pointsEarned;
-    
     /** List of row indices that were cleared (0-based, from top to bottom). */
     private final List<Integer> clearedRowIndices;
 
@@ -37,14 +25,10 @@ public final class RowClearResult {
      * Creates a new RowClearResult.
      *
      * @param rowsCleared     number of rows removed
-     * @param updatedMatrix   the updated game matrix after removal
-     * @param pointsEarned    the score gained from clearing the rows
      * @param clearedRowIndices the indices of the cleared rows (0-based from top)
      */
-    public RowClearResult(int rowsCleared, int[][] updatedMatrix, int pointsEarned, List<Integer> clearedRowIndices) {
+    public RowClearResult(int rowsCleared, List<Integer> clearedRowIndices) {
         this.rowsCleared = rowsCleared;
-        this.updatedMatrix = updatedMatrix;
-        this.pointsEarned = pointsEarned;
         this.clearedRowIndices = clearedRowIndices != null ? Collections.unmodifiableList(clearedRowIndices) : Collections.emptyList();
     }
 
@@ -55,20 +39,6 @@ public final class RowClearResult {
         return rowsCleared;
     }
 
-    /**
-     * @return a deep copy of the updated game matrix after clearing rows
-     */
-    public int[][] getUpdatedMatrix() {
-        return MatrixOperations.copy(updatedMatrix);
-    }
-
-    /**
-     * @return the number of points earned from clearing rows
-     */
-    public int getPointsEarned() {
-        return pointsEarned;
-    }
-    
     /**
      * @return an unmodifiable list of row indices that were cleared (0-based from top)
      */
@@ -1,57 +1,191 @@
 package com.comp2042;
 
+import com.comp2042.diagnostics.Log;
+import com.comp2042.diagnostics.StartupReport;
+
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
-import java.util.HashMap;
+import java.io.IOException;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Preloads and manages all FXML root nodes at startup to prevent flicker.
+ * Roots are loaded in parallel on background threads. The game scene is pre-warmed
+ * in the background and then reused for every game.
  * Uses a SINGLE Scene and swaps root nodes instead of replacing scenes.
  * This prevents macOS from recreating the window and keeps fullscreen stable.
  */
 public class SceneManager {
-    private static final Map<String, Parent> preloadedRoots = new HashMap<>();
-    private static final Map<String, Object> preloadedControllers = new HashMap<>();
+
+    private static final Log LOG = Log.forClass(SceneManager.class);
+
+    // Filled in by the preloader threads, read on the JavaFX thread
+    private static final Map<String, Parent> preloadedRoots = new ConcurrentHashMap<>();
+    private static final Map<String, Object> preloadedControllers = new ConcurrentHashMap<>();
+    private static final Map<String, CompletableFuture<Void>> pending = new ConcurrentHashMap<>();
+    private static final ExecutorService PRELOADER = Executors.newFixedThreadPool(3, new ThreadFactory() {
+        private final AtomicInteger count = new AtomicInteger();
+        
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "preloader-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+    
+    // The game scene, loading or loaded in the background, then reused (JavaFX thread only)
+    private static CompletableFuture<GameScene> gameScene;
     private static Scene singleScene;
     
     /**
-     * Preloads ALL FXML root nodes at application startup.
-     * This must be called from Main.java before showing the stage.
+     * Preloads the menu and settings FXML root nodes and the bundled fonts in
+     * parallel on background threads.
+     * Call from Main.java and show the stage once the returned future completes;
+     * the settings scene may still be loading then, and is waited for on first use.
+     *
+     * @return completes when the fonts and the main menu are ready
+     */
+    public static CompletableFuture<Void> preloadAllScenes() {
+        CompletableFuture<Void> fonts = CompletableFuture.runAsync(() -> {
+            long start = StartupReport.begin();
+            AppFonts.loadAll();
+            StartupReport.record("fonts", start);
+        }, PRELOADER);
+        CompletableFuture<Void> mainMenu = preload("mainMenu", "/mainMenu.fxml");
+        preload("settings", "/settings.fxml");
+        return CompletableFuture.allOf(fonts, mainMenu);
+    }
+    
+    /**
+     * Loads one FXML root and its controller on a preloader thread.
+     * FXML loading only builds the node graph; nothing is attached to a scene until
+     * the root is swapped in on the JavaFX thread, so this is safe off that thread.
+     */
+    private static CompletableFuture<Void> preload(String name, String resource) {
+        CompletableFuture<Void> future = CompletableFuture.runAsync(() -> {
+            long start = StartupReport.begin();
+            try {
+                FXMLLoader loader = new FXMLLoader(SceneManager.class.getResource(resource));
+                Parent root = loader.load();
+                
+                // Fix root pane sizing to prevent auto-resizing
+                fixRootPaneSizing(root);
+                
+                preloadedControllers.put(name, loader.getController());
+                preloadedRoots.put(name, root);
+            } catch (Exception e) {
+                LOG.error("Error preloading " + resource, e);
+                throw new CompletionException(e);
+            } finally {
+                StartupReport.record(resource, start);
+            }
+        }, PRELOADER);
+        pending.put(name, future);
+        return future;
+    }
+    
+    /**
+     * Starts loading the game scene in the background, unless it is already loaded
+     * or loading, so that the first {@link #getGameScene()} does not have to parse
+     * gameLayout.fxml on the JavaFX thread.
+     */
+    public static void prewarmGameScene() {
+        if (gameScene != null) {
+            return;
+        }
+        gameScene = CompletableFuture.supplyAsync(() -> {
+            long start = StartupReport.begin();
+            try {
+                return loadGameScene();
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            } finally {
+                StartupReport.record("/gameLayout.fxml", start);
+            }
+        }, PRELOADER);
+    }
+    
+    /**
+     * Returns the game scene, reset for a new game. The scene and its tile grids are
+     * loaded once and reused by every game, so starting a game only clears state.
+     * Call on the JavaFX thread.
+     *
+     * @return the game root and its controller
+     * @throws IOException if gameLayout.fxml cannot be loaded
+     */
+    public static GameScene getGameScene() throws IOException {
+        GameScene scene = null;
+        if (gameScene != null) {
+            try {
+                scene = gameScene.join();
+            } catch (CompletionException | CancellationException e) {
+                LOG.warn("Pre-warmed game scene failed to load, loading again: " + e.getMessage());
+            }
+        }
+        if (scene == null) {
+            scene = loadGameScene();
+            gameScene = CompletableFuture.completedFuture(scene);
+        }
+        scene.getController().resetForNewGame();
+        return scene;
+    }
+    
+    /**
+     * @return the game scene if it has finished loading, as is (not reset), or null
+     */
+    public static GameScene getLoadedGameScene() {
+        CompletableFuture<GameScene> loaded = gameScene;
+        if (loaded == null || !loaded.isDone() || loaded.isCompletedExceptionally()) {
+            return null;
+        }
+        return loaded.join();
+    }
+    
+    private static GameScene loadGameScene() throws IOException {
+        FXMLLoader loader = new FXMLLoader(SceneManager.class.getResource("/gameLayout.fxml"));
+        if (loader.getLocation() == null) {
+            throw new IOException("Cannot find /gameLayout.fxml");
+        }
+        Parent root = loader.load();
+        GuiController controller = loader.getController();
+        if (controller == null) {
+            throw new IOException("gameLayout.fxml has no GuiController");
+        }
+        
+        // Fix root pane sizing to prevent automatic resizing
+        fixRootPaneSizing(root);
+        return new GameScene(root, controller);
+    }
+    
+    /**
+     * The loaded game layout and its controller.
      */
-    public static void preloadAllScenes() {
-        try {
-            // Preload Main Menu
-            FXMLLoader mainMenuLoader = new FXMLLoader(
-                    SceneManager.class.getResource("/mainMenu.fxml")
-            );
-            Parent mainMenuRoot = mainMenuLoader.load();
-            MainMenuController mainMenuController = mainMenuLoader.getController();
-            
-            // Fix root pane sizing to prevent auto-resizing
-            fixRootPaneSizing(mainMenuRoot);
-            
-            preloadedRoots.put("mainMenu", mainMenuRoot);
-            preloadedControllers.put("mainMenu", mainMenuController);
-            
-            // Preload Settings
-            FXMLLoader settingsLoader = new FXMLLoader(
-                    SceneManager.class.getResource("/settings.fxml")
-            );
-            Parent settingsRoot = settingsLoader.load();
-            SettingsController settingsController = settingsLoader.getController();
-            
-            // Fix root pane sizing to prevent auto-resizing
-            fixRootPaneSizing(settingsRoot);
-            
-            preloadedRoots.put("settings", settingsRoot);
-            preloadedControllers.put("settings", settingsController);
-            
-            System.out.println("All FXML roots preloaded successfully!");
-        } catch (Exception e) {
-            System.err.println("ERROR preloading scenes: " + e.getMessage());
-            e.printStackTrace();
+    public static final class GameScene {
+        
+        private final Parent root;
+        private final GuiController controller;
+        
+        GameScene(Parent root, GuiController controller) {
+            this.root = root;
+            this.controller = controller;
+        }
+        
+        public Parent getRoot() {
+            return root;
+        }
+        
+        public GuiController getController() {
+            return controller;
         }
     }
     
@@ -79,6 +213,7 @@ public class SceneManager {
      * Returns null if not found.
      */
     public static Parent getPreloadedRoot(String rootName) {
+        awaitPreload(rootName);
         return preloadedRoots.get(rootName);
     }
     
@@ -87,6 +222,7 @@ public class SceneManager {
      * Returns null if not found.
      */
     public static Object getPreloadedController(String sceneName) {
+        awaitPreload(sceneName);
         return preloadedControllers.get(sceneName);
     }
     
@@ -94,14 +230,28 @@ public class SceneManager {
      * Gets the preloaded MainMenuController.
      */
     public static MainMenuController getMainMenuController() {
-        return (MainMenuController) preloadedControllers.get("mainMenu");
+        return (MainMenuController) getPreloadedController("mainMenu");
     }
     
     /**
      * Gets the preloaded SettingsController.
      */
     public static SettingsController getSettingsController() {
-        return (SettingsController) preloadedControllers.get("settings");
+        return (SettingsController) getPreloadedController("settings");
+    }
+    
+    /**
+     * Waits for a scene that is still being preloaded; a failed preload leaves it missing.
+     */
+    private static void awaitPreload(String name) {
+        CompletableFuture<Void> future = pending.get(name);
+        if (future != null && !future.isDone()) {
+            try {
+                future.join();
+            } catch (CompletionException | CancellationException e) {
+                // Already logged by the preloader
+            }
+        }
     }
     
     /**
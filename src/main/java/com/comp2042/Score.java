@@ -5,11 +5,8 @@ import javafx.beans.property.SimpleIntegerProperty;
 
 /**
  * Represents the player's score in the Tetris game.
- * Uses official Tetris Guideline base scoring for line clears:
- * - Single (1 line): 100 points
- * - Double (2 lines): 300 points
- * - Triple (3 lines): 500 points
- * - Tetris (4 lines): 800 points
+ * Points for line clears are worked out by a {@link ScoringEngine} (official
+ * Tetris Guideline scoring by default) and added here.
  *
  * Uses JavaFX's {@link IntegerProperty} so the GUI can automatically update
  * whenever the score changes (data binding).
@@ -0,0 +1,101 @@
+package com.comp2042;
+
+/**
+ * Scores each brick as it locks, following a {@link ScoringRules} table.
+ *
+ * <p>The state carried from one lock to the next is a combo counter (clearing
+ * locks in a row, -1 after a lock that cleared nothing) and a back-to-back flag
+ * (the last clear was a tetris or a T-spin). Locks that clear nothing break the
+ * combo but keep the back-to-back chain; any other clear breaks it.</p>
+ *
+ * <p>One engine per game; call {@link #reset()} when a new game starts.</p>
+ */
+public final class ScoringEngine {
+
+    /** Lines to clear per level. */
+    public static final int LINES_PER_LEVEL = 10;
+
+    private final ScoringRules rules;
+    private int combo = -1;
+    private boolean backToBack;
+
+    public ScoringEngine(ScoringRules rules) {
+        this.rules = rules;
+    }
+
+    /**
+     * Scores a lock and advances the combo and back-to-back state.
+     *
+     * @param lines        lines cleared by the lock (0-4)
+     * @param spin         T-spin made by the locked brick
+     * @param perfectClear whether the clear left the board empty
+     * @param level        current level, from 1
+     * @return the points and what earned them
+     */
+    public LockScore lock(int lines, TSpin spin, boolean perfectClear, int level) {
+        int points = rules.clearPoints(lines, spin);
+        boolean backToBackBonus = false;
+        if (lines == 0) {
+            combo = -1;
+            perfectClear = false;
+        } else {
+            combo++;
+            boolean difficult = lines == 4 || spin != TSpin.NONE;
+            backToBackBonus = difficult && backToBack;
+            backToBack = difficult;
+            if (backToBackBonus) {
+                points = points * rules.getBackToBackPercent() / 100;
+            }
+            points += rules.getComboStep() * combo;
+            if (perfectClear) {
+                points += rules.perfectClearPoints(lines);
+            }
+        }
+        if (rules.isLevelMultiplied()) {
+            points *= Math.max(1, level);
+        }
+        return new LockScore(points, lines, spin, Math.max(combo, 0), backToBackBonus, perfectClear);
+    }
+
+    /** @return clearing locks in a row before the current one, or -1 if the last lock cleared nothing */
+    public int getCombo() {
+        return combo;
+    }
+
+    /** @return whether the next tetris or T-spin clear earns the back-to-back bonus */
+    public boolean isBackToBack() {
+        return backToBack;
+    }
+
+    /**
+     * The level rule shared by every mode: gravity and the level multiplier
+     * both use it.
+     *
+     * @param totalLinesCleared lines cleared so far in the game
+     * @return the level reached: 1, plus one per {@value #LINES_PER_LEVEL} lines
+     */
+    public static int levelFor(int totalLinesCleared) {
+        return 1 + totalLinesCleared / LINES_PER_LEVEL;
+    }
+
+    /**
+     * Puts back a state read from {@link #getCombo()} and {@link #isBackToBack()},
+     * e.g. when a practice game is rewound.
+     *
+     * @param combo      clearing locks in a row, or -1
+     * @param backToBack whether the back-to-back chain is running
+     */
+    public void restore(int combo, boolean backToBack) {
+        if (combo < -1) {
+            throw new IllegalArgumentException("Combo must be -1 or more: " + combo);
+        }
+        this.combo = combo;
+        this.backToBack = backToBack;
+    }
+
+    /** Forgets the combo and back-to-back chain, for a new game. */
+    public void reset() {
+        combo = -1;
+        backToBack = false;
+    }
+}
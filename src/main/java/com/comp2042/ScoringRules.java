@@ -0,0 +1,105 @@
+package com.comp2042;
+
+/**
+ * Point tables used by a {@link ScoringEngine}.
+ *
+ * <p>Every table is indexed by lines cleared (0-4) and gives the points at
+ * level 1. The engine looks the lock up in one of the clear tables, applies the
+ * back-to-back bonus, adds the combo and perfect-clear bonuses, then multiplies
+ * by the level if {@link #isLevelMultiplied()}. Zero entries score nothing, so
+ * a rule set without T-spins simply repeats the line clear table in the T-spin
+ * tables.</p>
+ *
+ * <p>This class is immutable; the tables are copied on construction.</p>
+ */
+public final class ScoringRules {
+
+    private final int[] lineClear;
+    private final int[] tSpinMini;
+    private final int[] tSpin;
+    private final int[] perfectClear;
+    private final int comboStep;
+    private final int backToBackPercent;
+    private final boolean levelMultiplied;
+
+    /**
+     * Creates a rule set.
+     *
+     * @param lineClear         points for a plain clear, by lines
+     * @param tSpinMini         points for a mini T-spin, by lines
+     * @param tSpin             points for a T-spin, by lines
+     * @param perfectClear      bonus when the clear empties the board, by lines
+     * @param comboStep         bonus per consecutive clearing lock after the first
+     * @param backToBackPercent clear points in percent for a tetris or T-spin clear
+     *                          following another one (100 for no bonus)
+     * @param levelMultiplied   whether points are multiplied by the level
+     */
+    public ScoringRules(int[] lineClear, int[] tSpinMini, int[] tSpin, int[] perfectClear,
+                        int comboStep, int backToBackPercent, boolean levelMultiplied) {
+        this.lineClear = table("lineClear", lineClear);
+        this.tSpinMini = table("tSpinMini", tSpinMini);
+        this.tSpin = table("tSpin", tSpin);
+        this.perfectClear = table("perfectClear", perfectClear);
+        this.comboStep = comboStep;
+        this.backToBackPercent = backToBackPercent;
+        this.levelMultiplied = levelMultiplied;
+    }
+
+    /**
+     * Official Tetris Guideline scoring: singles to tetrises 100/300/500/800,
+     * T-spins 400/800/1200/1600 (minis 100/200/400), 50 per combo step,
+     * back-to-back clears worth 150%, perfect clear bonuses, all times the level.
+     */
+    public static ScoringRules guideline() {
+        return new ScoringRules(
+                new int[]{0, 100, 300, 500, 800},
+                new int[]{100, 200, 400, 0, 0},
+                new int[]{400, 800, 1200, 1600, 0},
+                new int[]{0, 800, 1200, 1800, 2000},
+                50, 150, true);
+    }
+
+    /**
+     * The fixed 100/300/500/800 per clear of earlier versions, with no T-spin,
+     * combo, back-to-back, perfect clear or level bonus.
+     */
+    public static ScoringRules classic() {
+        int[] lines = {0, 100, 300, 500, 800};
+        return new ScoringRules(lines, lines, lines, new int[5], 0, 100, false);
+    }
+
+    /**
+     * @return points at level 1 for clearing {@code lines} with the given T-spin, before bonuses
+     */
+    public int clearPoints(int lines, TSpin spin) {
+        return switch (spin) {
+            case NONE -> lineClear[lines];
+            case MINI -> tSpinMini[lines];
+            case FULL -> tSpin[lines];
+        };
+    }
+
+    /** @return perfect clear bonus at level 1 for clearing {@code lines} */
+    public int perfectClearPoints(int lines) {
+        return perfectClear[lines];
+    }
+
+    public int getComboStep() {
+        return comboStep;
+    }
+
+    public int getBackToBackPercent() {
+        return backToBackPercent;
+    }
+
+    public boolean isLevelMultiplied() {
+        return levelMultiplied;
+    }
+
+    private static int[] table(String name, int[] points) {
+        if (points.length != 5) {
+            throw new IllegalArgumentException(name + " needs 5 entries (0-4 lines), got " + points.length);
+        }
+        return points.clone();
+    }
+}
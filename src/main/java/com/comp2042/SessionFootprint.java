@@ -0,0 +1,60 @@
+package com.comp2042;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+
+/**
+ * Measures the retained heap of idle headless game sessions.
+ *
+ * <p>Creates N sessions, each a {@link GameSession} with a started
+ * {@link GameController} on a {@link HeadlessGameView}, keeps them all reachable
+ * and reports the heap growth per session after full GCs. Run with a fixed heap
+ * and a single-threaded collector for stable numbers, e.g.
+ * {@code java -Xms1g -Xmx1g -XX:+UseSerialGC com.comp2042.SessionFootprint}.</p>
+ *
+ * <p>Usage: {@code SessionFootprint [--sessions N]}</p>
+ */
+public final class SessionFootprint {
+
+    /** Per-session budget for an idle session. */
+    static final long TARGET_BYTES = 4096;
+
+    private SessionFootprint() { }
+
+    public static void main(String[] args) {
+        int count = 20_000;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--sessions" -> count = Integer.parseInt(args[++i]);
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        // Warm up: load and initialise every class a session touches
+        new GameController(new HeadlessGameView(), GameSession.headless(), -1);
+
+        GameController[] games = new GameController[count];
+        long before = usedHeap();
+        for (int i = 0; i < count; i++) {
+            games[i] = new GameController(new HeadlessGameView(), GameSession.headless(), i);
+        }
+        long after = usedHeap();
+
+        double perSession = (double) (after - before) / count;
+        System.out.printf("Sessions:            %d%n", count);
+        System.out.printf("Heap growth:         %.1f MB%n", (after - before) / 1e6);
+        System.out.printf("Per idle session:    %.0f bytes (target < %d)%n", perSession, TARGET_BYTES);
+        // Keep the sessions reachable until measured
+        System.out.println(games[count - 1].getSession().isGameInProgress() ? "" : "(not started)");
+    }
+
+    private static long usedHeap() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            used = Math.min(used, memory.getHeapMemoryUsage().getUsed());
+        }
+        return used;
+    }
+}
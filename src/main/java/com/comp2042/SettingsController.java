@@ -1,5 +1,7 @@
 package com.comp2042;
 
+import com.comp2042.diagnostics.Log;
+
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.scene.control.Button;
@@ -30,13 +32,16 @@ import java.util.ResourceBundle;
  * </ul>
  * </p>
  * 
- * <p>All settings are automatically saved using Java Preferences API and persist
- * between application sessions. Changes apply immediately during gameplay.</p>
+ * <p>Changes apply immediately during gameplay. {@link SettingsManager} saves them
+ * to the Java Preferences API in the background, so they persist between
+ * application sessions without blocking the FX thread.</p>
  * 
  * @author Tetris Game Team
  * @version 1.0
  */
 public class SettingsController implements Initializable {
+
+    private static final Log LOG = Log.forClass(SettingsController.class);
     
     @FXML
     private Button backButton;
@@ -47,6 +52,9 @@ public class SettingsController implements Initializable {
     @FXML
     private ToggleButton hardDropToggle;
     
+    @FXML
+    private ToggleButton practiceToggle;
+    
     private ToggleGroup difficultyGroup;
     
     @FXML
@@ -66,15 +74,14 @@ public class SettingsController implements Initializable {
     
     @Override
     public void initialize(URL location, ResourceBundle resources) {
-        System.out.println("SettingsController.initialize() called!");
+        LOG.debug("SettingsController.initialize() called!");
         try {
-            System.out.println("Getting SettingsManager instance...");
+            LOG.debug("Getting SettingsManager instance...");
             try {
                 settingsManager = SettingsManager.getInstance();
-                System.out.println("SettingsManager obtained: " + settingsManager);
+                LOG.debug("SettingsManager obtained: " + settingsManager);
             } catch (Exception e) {
-                System.err.println("WARNING: Error getting SettingsManager: " + e.getMessage());
-                e.printStackTrace();
+                LOG.warn("Error getting SettingsManager", e);
                 // Continue - settings can work without SettingsManager
             }
             
@@ -93,6 +100,13 @@ public class SettingsController implements Initializable {
                     hardDropToggle.setText(hardDropEnabled ? "ON" : "OFF");
                 }
                 
+                // Initialize practice mode toggle with saved setting
+                if (practiceToggle != null) {
+                    boolean practiceEnabled = settingsManager.isPracticeModeEnabled();
+                    practiceToggle.setSelected(practiceEnabled);
+                    practiceToggle.setText(practiceEnabled ? "ON" : "OFF");
+                }
+                
                 // Create ToggleGroup for difficulty radio buttons
                 difficultyGroup = new ToggleGroup();
                 
@@ -116,7 +130,7 @@ public class SettingsController implements Initializable {
                 
             } else {
                 // If settingsManager is null, initialize with defaults
-                System.err.println("WARNING: SettingsManager is null, using default values");
+                LOG.warn("SettingsManager is null, using default values");
                 if (ghostToggle != null) {
                     ghostToggle.setSelected(true);
                     ghostToggle.setText("ON");
@@ -125,6 +139,10 @@ public class SettingsController implements Initializable {
                     hardDropToggle.setSelected(true);
                     hardDropToggle.setText("ON");
                 }
+                if (practiceToggle != null) {
+                    practiceToggle.setSelected(false);
+                    practiceToggle.setText("OFF");
+                }
                 difficultyGroup = new ToggleGroup();
                 if (mediumRadio != null) {
                     mediumRadio.setToggleGroup(difficultyGroup);
@@ -154,6 +172,17 @@ public class SettingsController implements Initializable {
                 });
             }
             
+            // Practice mode toggle listener - takes effect from the next game
+            if (settingsManager != null && practiceToggle != null) {
+                practiceToggle.selectedProperty().addListener(new ChangeListener<Boolean>() {
+                    @Override
+                    public void changed(ObservableValue<? extends Boolean> observable, Boolean oldValue, Boolean newValue) {
+                        settingsManager.setPracticeModeEnabled(newValue);
+                        practiceToggle.setText(newValue ? "ON" : "OFF");
+                    }
+                });
+            }
+            
             // Difficulty radio button listeners - save immediately when changed (only if settingsManager available)
             if (settingsManager != null && difficultyGroup != null) {
                 difficultyGroup.selectedToggleProperty().addListener(new ChangeListener<javafx.scene.control.Toggle>() {
@@ -191,6 +220,10 @@ public class SettingsController implements Initializable {
                 hardDropToggle.setDisable(false);
                 hardDropToggle.setMouseTransparent(false);
             }
+            if (practiceToggle != null) {
+                practiceToggle.setDisable(false);
+                practiceToggle.setMouseTransparent(false);
+            }
             if (easyRadio != null) {
                 easyRadio.setDisable(false);
                 easyRadio.setMouseTransparent(false);
@@ -214,15 +247,9 @@ public class SettingsController implements Initializable {
                 }
             }
             
-            System.out.println("SettingsController.initialize() completed successfully!");
+            LOG.debug("SettingsController.initialize() completed successfully!");
         } catch (Exception e) {
-            System.err.println("========================================");
-            System.err.println("CRITICAL ERROR in SettingsController.initialize():");
-            System.err.println("========================================");
-            System.err.println("Exception type: " + e.getClass().getName());
-            System.err.println("Message: " + e.getMessage());
-            e.printStackTrace();
-            System.err.println("========================================");
+            LOG.error("Unexpected error in SettingsController.initialize()", e);
             // Don't rethrow - let the scene load even if initialization partially fails
         }
     }
@@ -262,7 +289,7 @@ public class SettingsController implements Initializable {
         javafx.application.Platform.runLater(() -> {
             Parent mainMenuRoot = SceneManager.getPreloadedRoot("mainMenu");
             if (mainMenuRoot == null) {
-                System.err.println("ERROR: Main menu root not preloaded!");
+                LOG.error("Main menu root not preloaded!");
                 return;
             }
             
@@ -283,7 +310,7 @@ public class SettingsController implements Initializable {
                     });
                 });
             } else {
-                System.err.println("ERROR: MainMenuController is null when returning from settings!");
+                LOG.error("MainMenuController is null when returning from settings!");
             }
         });
     }
@@ -0,0 +1,260 @@
+package com.comp2042;
+
+import com.comp2042.diagnostics.Log;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.prefs.BackingStoreException;
+import java.util.prefs.Preferences;
+
+/**
+ * Application-wide game settings (ghost piece, hard drop, difficulty, skin,
+ * practice mode).
+ *
+ * <p>The settings live in an immutable {@link Snapshot} published through a
+ * volatile field, so the getters are a single field read and are safe to call
+ * per cell while rendering. Setters publish a new snapshot and schedule a save;
+ * saves are debounced by {@value #SAVE_DELAY_MS} ms on a background thread, so a
+ * burst of toggles costs one write to the Java Preferences store and the FX
+ * thread never waits on the disk. {@link #flush()} writes any pending change
+ * immediately (called when the application exits).</p>
+ */
+public final class SettingsManager {
+
+    private static final Log LOG = Log.forClass(SettingsManager.class);
+
+    /**
+     * Difficulty levels with their base gravity interval.
+     */
+    public enum Difficulty {
+        EASY(600),
+        MEDIUM(400),
+        HARD(200);
+
+        private final int dropSpeedMs;
+
+        Difficulty(int dropSpeedMs) {
+            this.dropSpeedMs = dropSpeedMs;
+        }
+
+        /** @return milliseconds between gravity steps at level 1 */
+        public int getDropSpeedMs() {
+            return dropSpeedMs;
+        }
+    }
+
+    static final long SAVE_DELAY_MS = 300;
+
+    private static final String KEY_GHOST = "ghostPiece";
+    private static final String KEY_HARD_DROP = "hardDrop";
+    private static final String KEY_DIFFICULTY = "difficulty";
+    private static final String KEY_SKIN = "skin";
+    private static final String KEY_PRACTICE = "practiceMode";
+
+    private static final SettingsManager INSTANCE = new SettingsManager();
+
+    private final Preferences preferences = Preferences.userNodeForPackage(SettingsManager.class);
+    private final ScheduledExecutorService saver = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "settings-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile Snapshot current;
+    private ScheduledFuture<?> pendingSave;
+    private Snapshot saved;
+
+    private SettingsManager() {
+        current = load();
+        saved = current;
+    }
+
+    /** @return the shared settings */
+    public static SettingsManager getInstance() {
+        return INSTANCE;
+    }
+
+    /** @return the current settings as one consistent, immutable value */
+    public Snapshot getSnapshot() {
+        return current;
+    }
+
+    public boolean isGhostPieceEnabled() {
+        return current.ghostPieceEnabled;
+    }
+
+    public void setGhostPieceEnabled(boolean enabled) {
+        Snapshot s = current;
+        update(new Snapshot(enabled, s.hardDropEnabled, s.difficulty, s.skin, s.practiceModeEnabled));
+    }
+
+    public boolean isHardDropEnabled() {
+        return current.hardDropEnabled;
+    }
+
+    public void setHardDropEnabled(boolean enabled) {
+        Snapshot s = current;
+        update(new Snapshot(s.ghostPieceEnabled, enabled, s.difficulty, s.skin, s.practiceModeEnabled));
+    }
+
+    public Difficulty getDifficulty() {
+        return current.difficulty;
+    }
+
+    public void setDifficulty(Difficulty difficulty) {
+        Snapshot s = current;
+        update(new Snapshot(s.ghostPieceEnabled, s.hardDropEnabled, difficulty, s.skin, s.practiceModeEnabled));
+    }
+
+    /** @return base gravity interval of the current difficulty */
+    public int getDropSpeedMs() {
+        return current.difficulty.getDropSpeedMs();
+    }
+
+    public Skin getSkin() {
+        return current.skin;
+    }
+
+    public void setSkin(Skin skin) {
+        Snapshot s = current;
+        update(new Snapshot(s.ghostPieceEnabled, s.hardDropEnabled, s.difficulty, skin, s.practiceModeEnabled));
+    }
+
+    /** @return true if games can be rewound (and are not recorded as high scores) */
+    public boolean isPracticeModeEnabled() {
+        return current.practiceModeEnabled;
+    }
+
+    public void setPracticeModeEnabled(boolean enabled) {
+        Snapshot s = current;
+        update(new Snapshot(s.ghostPieceEnabled, s.hardDropEnabled, s.difficulty, s.skin, enabled));
+    }
+
+    /**
+     * Writes any pending change to the Preferences store now and waits for it.
+     */
+    public void flush() {
+        synchronized (this) {
+            if (pendingSave != null) {
+                pendingSave.cancel(false);
+                pendingSave = null;
+            }
+        }
+        try {
+            saver.submit(this::save).get(2, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            LOG.warn("Could not save settings: " + e.getMessage());
+        }
+    }
+
+    private synchronized void update(Snapshot next) {
+        current = next;
+        // Debounce: every change restarts the delay, the save writes whatever is current then
+        if (pendingSave != null) {
+            pendingSave.cancel(false);
+        }
+        pendingSave = saver.schedule(this::save, SAVE_DELAY_MS, TimeUnit.MILLISECONDS);
+    }
+
+    // ---- Saver thread only ----
+
+    private void save() {
+        Snapshot s = current;
+        if (s.equals(saved)) {
+            return;
+        }
+        preferences.putBoolean(KEY_GHOST, s.ghostPieceEnabled);
+        preferences.putBoolean(KEY_HARD_DROP, s.hardDropEnabled);
+        preferences.put(KEY_DIFFICULTY, s.difficulty.name());
+        preferences.put(KEY_SKIN, s.skin.name());
+        preferences.putBoolean(KEY_PRACTICE, s.practiceModeEnabled);
+        try {
+            preferences.flush();
+            saved = s;
+        } catch (BackingStoreException e) {
+            LOG.warn("Could not save settings: " + e.getMessage());
+        }
+    }
+
+    private Snapshot load() {
+        return new Snapshot(
+                preferences.getBoolean(KEY_GHOST, true),
+                preferences.getBoolean(KEY_HARD_DROP, true),
+                parse(Difficulty.class, preferences.get(KEY_DIFFICULTY, null), Difficulty.MEDIUM),
+                parse(Skin.class, preferences.get(KEY_SKIN, null), Skin.CLASSIC),
+                preferences.getBoolean(KEY_PRACTICE, false));
+    }
+
+    private static <E extends Enum<E>> E parse(Class<E> type, String name, E fallback) {
+        if (name == null) {
+            return fallback;
+        }
+        try {
+            return Enum.valueOf(type, name);
+        } catch (IllegalArgumentException e) {
+            return fallback;
+        }
+    }
+
+    /**
+     * One immutable set of settings values.
+     */
+    public static final class Snapshot {
+
+        private final boolean ghostPieceEnabled;
+        private final boolean hardDropEnabled;
+        private final Difficulty difficulty;
+        private final Skin skin;
+        private final boolean practiceModeEnabled;
+
+        Snapshot(boolean ghostPieceEnabled, boolean hardDropEnabled, Difficulty difficulty, Skin skin,
+                 boolean practiceModeEnabled) {
+            this.ghostPieceEnabled = ghostPieceEnabled;
+            this.hardDropEnabled = hardDropEnabled;
+            this.difficulty = difficulty;
+            this.skin = skin;
+            this.practiceModeEnabled = practiceModeEnabled;
+        }
+
+        public boolean isGhostPieceEnabled() {
+            return ghostPieceEnabled;
+        }
+
+        public boolean isHardDropEnabled() {
+            return hardDropEnabled;
+        }
+
+        public Difficulty getDifficulty() {
+            return difficulty;
+        }
+
+        public Skin getSkin() {
+            return skin;
+        }
+
+        public boolean isPracticeModeEnabled() {
+            return practiceModeEnabled;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Snapshot)) {
+                return false;
+            }
+            Snapshot other = (Snapshot) o;
+            return ghostPieceEnabled == other.ghostPieceEnabled && hardDropEnabled == other.hardDropEnabled
+                    && difficulty == other.difficulty && skin == other.skin
+                    && practiceModeEnabled == other.practiceModeEnabled;
+        }
+
+        @Override
+        public int hashCode() {
+            return (((Boolean.hashCode(ghostPieceEnabled) * 31 + Boolean.hashCode(hardDropEnabled)) * 31
+                    + difficulty.hashCode()) * 31 + skin.hashCode()) * 31 + Boolean.hashCode(practiceModeEnabled);
+        }
+    }
+}
@@ -3,12 +3,43 @@ package com.comp2042;
 import com.comp2042.logic.bricks.Brick;
 import com.comp2042.logic.bricks.BrickGenerator;
 import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.logic.ai.PieceShapes;
+import com.comp2042.logic.ai.Zobrist;
+import com.comp2042.diagnostics.GhostEvent;
 
 import java.awt.*;
+import java.util.Arrays;
 import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
 
 public class SimpleBoard implements Board {
 
+    /** Cell value of garbage rows received in versus mode (rendered grey). */
+    public static final int GARBAGE_CELL = 8;
+
+    private static final int T_TYPE = 5;
+    // Corners of the T's 3x3 box in its shape matrix (row, col), as mask bits 0-3:
+    // top-left, top-right, bottom-left, bottom-right. Every rotation is centred on (1, 1).
+    private static final int[][] T_CORNERS = {{0, 0}, {0, 2}, {2, 0}, {2, 2}};
+    // The two corners beside the T's point, by rotation index (down, right, up, left)
+    private static final int[] T_FRONT_CORNERS = {0b1100, 0b1010, 0b0011, 0b0101};
+    // T-spin by rotation index and mask of occupied corners
+    private static final TSpin[][] T_SPINS = new TSpin[T_FRONT_CORNERS.length][1 << T_CORNERS.length];
+
+    static {
+        for (int rotation = 0; rotation < T_SPINS.length; rotation++) {
+            int front = T_FRONT_CORNERS[rotation];
+            for (int corners = 0; corners < T_SPINS[rotation].length; corners++) {
+                if (Integer.bitCount(corners) < 3) {
+                    T_SPINS[rotation][corners] = TSpin.NONE;
+                } else {
+                    T_SPINS[rotation][corners] = (corners & front) == front ? TSpin.FULL : TSpin.MINI;
+                }
+            }
+        }
+    }
+
     private final int width;
     private final int height;
     private final BrickGenerator brickGenerator;
@@ -16,105 +47,110 @@ public class SimpleBoard implements Board {
     private int[][] currentGameMatrix;
     private Point currentOffset;
     private final Score score;
+    // Preview shapes, fetched when the queue advances rather than on every view
+    private int[][] nextBrickShape;
+    private int[][] nextBrick2Shape;
+    // Landing row of the active brick; falling does not change it, so it is
+    // only recomputed after a shift, rotation or change to the stack
+    private int ghostY;
+    private boolean ghostStale = true;
+    // Zobrist hash of the filled cells, kept up to date as bricks lock, rows
+    // clear and garbage arrives; rowHashes[r] is row r's share of it
+    private final long[] rowHashes;
+    private long boardHash;
+    // Filled cells on the board, so a perfect clear is seen without scanning it
+    private int filledCells;
+    // Whether the active brick's last successful move was a rotation, for T-spins
+    private boolean lastMoveRotation;
+    private TSpin lockedTSpin = TSpin.NONE;
 
     public SimpleBoard(int width, int height) {
+        this(width, height, new RandomBrickGenerator());
+    }
+
+    /**
+     * Creates a board dealing bricks from the given generator
+     * (e.g. a seeded {@link RandomBrickGenerator} for versus mode).
+     */
+    public SimpleBoard(int width, int height, BrickGenerator brickGenerator) {
+        if (width > Zobrist.MAX_COLS || height > Zobrist.MAX_ROWS) {
+            throw new IllegalArgumentException("Board too large: " + width + "x" + height);
+        }
         this.width = width;
         this.height = height;
+        rowHashes = new long[height];
 
         currentGameMatrix = new int[height][width];
-        brickGenerator = new RandomBrickGenerator();
+        this.brickGenerator = brickGenerator;
         brickRotator = new BrickRotator();
         score = new Score();
     }
 
     @Override
     public boolean moveBrickDown() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        Point p = new Point(currentOffset);
-        p.translate(0, 1);
-        boolean conflict = MatrixOperations.intersect(
-                currentMatrix,
-                brickRotator.getCurrentShape(),
-                (int) p.getX(),
-                (int) p.getY()
-        );
-        if (conflict) {
-            return false;
-        } else {
-            currentOffset = p;
-            return true;
-        }
+        return moveBrickBy(0, 1);
     }
 
     @Override
     public boolean moveBrickLeft() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        Point p = new Point(currentOffset);
-        p.translate(-1, 0);
-
-        boolean conflict = MatrixOperations.intersect(
-                currentMatrix,
-                brickRotator.getCurrentShape(),
-                (int) p.getX(),
-                (int) p.getY()
-        );
-        if (conflict) {
-            return false;
-        } else {
-            currentOffset = p;
-            return true;
-        }
+        return moveBrickBy(-1, 0);
     }
 
     @Override
     public boolean moveBrickRight() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        Point p = new Point(currentOffset);
-        p.translate(1, 0);
+        return moveBrickBy(1, 0);
+    }
 
-        boolean conflict = MatrixOperations.intersect(
-                currentMatrix,
-                brickRotator.getCurrentShape(),
-                (int) p.getX(),
-                (int) p.getY()
-        );
-        if (conflict) {
+    /**
+     * Moves the brick if the target position is free. The collision test only
+     * reads the board, so it runs on the live matrix without copying it.
+     */
+    private boolean moveBrickBy(int dx, int dy) {
+        if (MatrixOperations.intersect(currentGameMatrix, brickRotator.getCurrentShape(),
+                currentOffset.x + dx, currentOffset.y + dy)) {
             return false;
-        } else {
-            currentOffset = p;
-            return true;
         }
+        currentOffset.translate(dx, dy);
+        lastMoveRotation = false;
+        if (dx != 0) {
+            ghostStale = true;
+        }
+        return true;
     }
 
     @Override
     public boolean rotateLeftBrick() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
         NextShapeInfo nextShape = brickRotator.getNextShape();
-
-        boolean conflict = MatrixOperations.intersect(
-                currentMatrix,
-                nextShape.getShape(),
-                currentOffset.x,
-                currentOffset.y
-        );
-
-        if (conflict) {
+        if (MatrixOperations.intersect(currentGameMatrix, nextShape.getShape(),
+                currentOffset.x, currentOffset.y)) {
             return false;
-        } else {
-            brickRotator.setCurrentShape(nextShape.getPosition());
-            return true;
         }
+        brickRotator.setCurrentShape(nextShape.getPosition());
+        ghostStale = true;
+        lastMoveRotation = true;
+        return true;
     }
 
     @Override
     public boolean createNewBrick() {
-        Brick currentBrick = brickGenerator.getBrick();
-        brickRotator.setBrick(currentBrick);
+        return spawn(brickGenerator.getBrick());
+    }
+
+    /**
+     * Makes the brick the active one at the spawn position.
+     *
+     * @return true if it overlaps the stack (game over)
+     */
+    private boolean spawn(Brick brick) {
+        brickRotator.setBrick(brick);
 
         // Official Tetris: spawn centered at top
         // For 10-column board with 4-wide brick matrix, column 3 centers the piece
         // Spawn at row 0 (top of the hidden spawn area)
         currentOffset = new Point(3, 0);
+        refreshPreview();
+        ghostStale = true;
+        lastMoveRotation = false;
 
         return MatrixOperations.intersect(
                 currentGameMatrix,
@@ -131,51 +167,202 @@ public class SimpleBoard implements Board {
 
     @Override
     public ViewData getViewData() {
-        int ghostY = calculateGhostPosition();
+        if (ghostStale) {
+            ghostY = calculateGhostPosition();
+            ghostStale = false;
+        }
         return new ViewData(
                 brickRotator.getCurrentShape(),
                 currentOffset.x,
                 currentOffset.y,
-                brickGenerator.getNextBrick().getShapeMatrix().get(0),
-                brickGenerator.getNextBrick2().getShapeMatrix().get(0),
+                nextBrickShape,
+                nextBrick2Shape,
                 currentGameMatrix,
                 ghostY
         );
     }
     
+    private void refreshPreview() {
+        nextBrickShape = BrickRotator.shapesOf(brickGenerator.getNextBrick()).get(0);
+        nextBrick2Shape = BrickRotator.shapesOf(brickGenerator.getNextBrick2()).get(0);
+    }
+
     /**
      * Calculates the Y position where the ghost piece should be displayed.
-     * Simulates dropping the brick straight down until it collides.
+     * In a straight drop only the lowest cell of each shape column can land
+     * first, so the free rows below those cells are counted and the smallest
+     * gap is the drop distance.
      */
     private int calculateGhostPosition() {
+        GhostEvent event = new GhostEvent();
+        event.begin();
         int[][] shape = brickRotator.getCurrentShape();
-        int ghostY = currentOffset.y;
-        
-        // Move down until collision
-        while (!MatrixOperations.intersect(currentGameMatrix, shape, currentOffset.x, ghostY + 1)) {
-            ghostY++;
+        int drop = height;
+
+        for (int col = 0; col < shape[0].length; col++) {
+            int lowest = -1;
+            for (int row = 0; row < shape.length; row++) {
+                if (shape[row][col] != 0) {
+                    lowest = row;
+                }
+            }
+            if (lowest < 0) {
+                continue;
+            }
+            int boardCol = currentOffset.x + col;
+            int start = currentOffset.y + lowest + 1;
+            int row = start;
+            // Rows above the board count as free, as in MatrixOperations.intersect
+            while (row < height && (row < 0 || currentGameMatrix[row][boardCol] == 0)) {
+                row++;
+            }
+            drop = Math.min(drop, row - start);
         }
-        
+
+        int ghostY = currentOffset.y + drop;
+        event.rowsProbed = ghostY - currentOffset.y + 1;
+        event.commit();
         return ghostY;
     }
 
     @Override
     public void mergeBrickToBackground() {
-        currentGameMatrix = MatrixOperations.merge(
+        lockedTSpin = lastMoveRotation && getActiveBrickType() == T_TYPE ? detectTSpin() : TSpin.NONE;
+        int[][] shape = brickRotator.getCurrentShape();
+        for (int r = 0; r < shape.length; r++) {
+            int row = currentOffset.y + r;
+            if (row < 0) {
+                continue;
+            }
+            for (int c = 0; c < shape[r].length; c++) {
+                int col = currentOffset.x + c;
+                // A brick left overlapping the stack (topped out by garbage) fills no new cell there
+                if (shape[r][c] != 0 && currentGameMatrix[row][col] == 0) {
+                    long key = Zobrist.cellKey(row, col);
+                    rowHashes[row] ^= key;
+                    boardHash ^= key;
+                    filledCells++;
+                }
+            }
+        }
+
+        MatrixOperations.mergeInPlace(
                 currentGameMatrix,
-                brickRotator.getCurrentShape(),
+                shape,
                 currentOffset.x,
                 currentOffset.y
         );
+        ghostStale = true;
     }
 
     @Override
     public RowClearResult clearRows() {
-        RowClearResult result = MatrixOperations.checkRemoving(currentGameMatrix);
-        currentGameMatrix = result.getUpdatedMatrix();
+        RowClearResult result = MatrixOperations.removeFullRows(currentGameMatrix);
+        if (result.getRowsCleared() > 0) {
+            ghostStale = true;
+            filledCells -= width * result.getRowsCleared();
+            // Rows below the lowest cleared one did not move
+            List<Integer> cleared = result.getClearedRowIndices();
+            rehashRows(cleared.get(cleared.size() - 1));
+        }
         return result;
     }
 
+    /**
+     * Looks the T-spin up from the four corners around the active T; walls and
+     * the floor count as filled.
+     */
+    private TSpin detectTSpin() {
+        int corners = 0;
+        for (int i = 0; i < T_CORNERS.length; i++) {
+            int row = currentOffset.y + T_CORNERS[i][0];
+            int col = currentOffset.x + T_CORNERS[i][1];
+            if (col < 0 || col >= width || row >= height || (row >= 0 && currentGameMatrix[row][col] != 0)) {
+                corners |= 1 << i;
+            }
+        }
+        return T_SPINS[brickRotator.currentRotationIndex][corners];
+    }
+
+    @Override
+    public TSpin getLockedTSpin() {
+        return lockedTSpin;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return filledCells == 0;
+    }
+
+    /**
+     * Shifts the row references up in place and reuses the rows that fall off
+     * the top as the new garbage rows, so no row data is copied or reallocated.
+     */
+    @Override
+    public boolean addGarbageRows(int count, int holeColumn) {
+        Objects.checkIndex(holeColumn, width);
+        count = Math.min(count, height);
+        if (count <= 0) {
+            return false;
+        }
+        ghostStale = true;
+
+        boolean toppedOut = false;
+        int[][] recycled = new int[count][];
+        for (int r = 0; r < count; r++) {
+            recycled[r] = currentGameMatrix[r];
+            for (int cell : recycled[r]) {
+                if (cell != 0) {
+                    toppedOut = true;
+                    break;
+                }
+            }
+        }
+
+        System.arraycopy(currentGameMatrix, count, currentGameMatrix, 0, height - count);
+        for (int r = 0; r < count; r++) {
+            int[] row = recycled[r];
+            Arrays.fill(row, GARBAGE_CELL);
+            row[holeColumn] = 0;
+            currentGameMatrix[height - count + r] = row;
+        }
+        rehashBoard();
+
+        // Lift the falling brick with the stack if the garbage now overlaps it;
+        // if it would have to leave the top of the board, the player is out
+        if (currentOffset != null && MatrixOperations.intersect(
+                currentGameMatrix, brickRotator.getCurrentShape(), currentOffset.x, currentOffset.y)) {
+            int liftedY = currentOffset.y - count;
+            if (liftedY < 0) {
+                return true;
+            }
+            currentOffset = new Point(currentOffset.x, liftedY);
+        }
+        return toppedOut;
+    }
+
+    /**
+     * Writes the board with the active brick drawn in to a flat buffer
+     * ({@code cells[row * width + col]}) for canvas rendering, without allocating.
+     *
+     * @param cells buffer of at least {@code width * height} cells
+     */
+    public void copyCellsTo(int[] cells) {
+        for (int r = 0; r < height; r++) {
+            System.arraycopy(currentGameMatrix[r], 0, cells, r * width, width);
+        }
+        int[][] shape = brickRotator.getCurrentShape();
+        for (int r = 0; r < shape.length; r++) {
+            for (int c = 0; c < shape[r].length; c++) {
+                int row = currentOffset.y + r;
+                int col = currentOffset.x + c;
+                if (shape[r][c] != 0 && row >= 0 && row < height && col >= 0 && col < width) {
+                    cells[row * width + col] = shape[r][c];
+                }
+            }
+        }
+    }
+
     @Override
     public Score getScore() {
         return score;
@@ -184,10 +371,112 @@ public class SimpleBoard implements Board {
     @Override
     public void newGame() {
         currentGameMatrix = new int[height][width];
+        rehashBoard();
         score.reset();
         createNewBrick();
     }
     
+    /**
+     * Returns the Zobrist hash of the filled cells, equal to
+     * {@link com.comp2042.logic.ai.PackedBoard#zobristHash()} of the same board.
+     * Cell colours are not hashed; they never affect play.
+     */
+    public long getBoardHash() {
+        return boardHash;
+    }
+
+    /**
+     * Returns the Zobrist key of the active brick's type, rotation and position.
+     */
+    public long getPieceHash() {
+        return Zobrist.poseKey(getActiveBrickType(), brickRotator.currentRotationIndex,
+                currentOffset.x, currentOffset.y);
+    }
+
+    /**
+     * Returns the hash of the board and the active brick together; boards with
+     * different hashes are different positions, so it is a cheap first test of
+     * equality between two games.
+     */
+    public long getStateHash() {
+        return boardHash ^ getPieceHash();
+    }
+
+    /**
+     * Recomputes the hashes of rows {@code 0..lastRow} after they moved, and the
+     * board hash from all rows.
+     */
+    private void rehashRows(int lastRow) {
+        for (int r = 0; r <= lastRow; r++) {
+            long hash = 0L;
+            for (int c = 0; c < width; c++) {
+                if (currentGameMatrix[r][c] != 0) {
+                    hash ^= Zobrist.cellKey(r, c);
+                }
+            }
+            rowHashes[r] = hash;
+        }
+        long hash = 0L;
+        for (long rowHash : rowHashes) {
+            hash ^= rowHash;
+        }
+        boardHash = hash;
+    }
+
+    /**
+     * Recomputes every row hash and the filled-cell count after the whole board changed.
+     */
+    private void rehashBoard() {
+        rehashRows(height - 1);
+        int filled = 0;
+        for (int[] row : currentGameMatrix) {
+            for (int cell : row) {
+                if (cell != 0) {
+                    filled++;
+                }
+            }
+        }
+        filledCells = filled;
+    }
+
+    /**
+     * Returns the piece type (0-6) of the active brick, for the bot.
+     */
+    public int getActiveBrickType() {
+        return PieceShapes.typeOf(brickRotator.getCurrentShape());
+    }
+
+    /**
+     * Returns the rotation index of the active brick.
+     */
+    public int getActiveBrickRotation() {
+        return brickRotator.currentRotationIndex;
+    }
+
+    /**
+     * Returns the column offset of the active brick's shape matrix.
+     */
+    public int getActiveBrickX() {
+        return currentOffset.x;
+    }
+
+    /**
+     * Returns the row offset of the active brick's shape matrix.
+     */
+    public int getActiveBrickY() {
+        return currentOffset.y;
+    }
+
+    /**
+     * Returns the piece types (0-6) of the preview queue, next brick first, for the bot.
+     */
+    public int[] getPreviewBrickTypes() {
+        return new int[]{
+                PieceShapes.typeOf(brickGenerator.getNextBrick()),
+                PieceShapes.typeOf(brickGenerator.getNextBrick2())
+        };
+    }
+
     /**
      * Saves the current game state to a GameState object.
      * This includes board, active brick, next bricks, score, and generator queue.
@@ -233,6 +522,7 @@ public class SimpleBoard implements Board {
     public void restoreState(GameState state) {
         // Restore board matrix
         currentGameMatrix = state.getBoardMatrix();
+        rehashBoard();
         
         // Restore score - reset and add the saved score
         score.reset();
@@ -240,6 +530,7 @@ public class SimpleBoard implements Board {
         
         // Restore brick generator queue
         ((RandomBrickGenerator) brickGenerator).restoreQueue(state.getBrickGeneratorQueue());
+        refreshPreview();
         
         // Restore active brick
         Brick activeBrick = createBrickFromType(state.getActiveBrickType());
@@ -248,8 +539,56 @@ public class SimpleBoard implements Board {
         
         // Restore position
         currentOffset = new Point(state.getActiveBrickX(), state.getActiveBrickY());
+        ghostStale = true;
+        lastMoveRotation = false;
     }
     
+    /**
+     * Packs each row into one long, {@value RewindBuffer#BITS_PER_CELL} bits a
+     * cell, for {@link RewindBuffer}.
+     */
+    void packRows(long[] rows, int offset) {
+        for (int r = 0; r < height; r++) {
+            int[] row = currentGameMatrix[r];
+            long packed = 0L;
+            for (int c = 0; c < width; c++) {
+                packed |= (long) row[c] << (c * RewindBuffer.BITS_PER_CELL);
+            }
+            rows[offset + r] = packed;
+        }
+    }
+
+    /**
+     * Copies the piece types (0-6) of the generator's queue, next first.
+     *
+     * @return the number of types copied, at most {@code max}
+     */
+    int copyQueueTypes(byte[] types, int offset, int max) {
+        return ((RandomBrickGenerator) brickGenerator).copyQueueTypes(types, offset, max);
+    }
+
+    /**
+     * Puts the game back to a placement saved by {@link RewindBuffer}: the rows
+     * packed by {@link #packRows}, a brick of the given type just spawned, the
+     * queue and the score. The board is unpacked in place.
+     */
+    void restorePlacement(long[] rows, int rowOffset, int activeType,
+                          byte[] queue, int queueOffset, int queueLength, int points) {
+        long mask = (1L << RewindBuffer.BITS_PER_CELL) - 1;
+        for (int r = 0; r < height; r++) {
+            long packed = rows[rowOffset + r];
+            int[] row = currentGameMatrix[r];
+            for (int c = 0; c < width; c++) {
+                row[c] = (int) ((packed >>> (c * RewindBuffer.BITS_PER_CELL)) & mask);
+            }
+        }
+        rehashBoard();
+        ((RandomBrickGenerator) brickGenerator).restoreQueueTypes(queue, queueOffset, queueLength);
+        spawn(RandomBrickGenerator.brickOfType(activeType));
+        score.reset();
+        score.add(points);
+    }
+
     /**
      * Helper method to get brick type name from a Brick instance.
      */
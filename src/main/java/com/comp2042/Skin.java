@@ -58,6 +58,9 @@ public enum Skin {
         Color.web("#42A5F5")       // Z-piece - Blue
     );
     
+    /** Colour of garbage rows in versus mode (cell value 8), shared by all skins. */
+    private static final Color GARBAGE_COLOR = Color.web("#6E6E6E");
+
     private final String displayName;
     private final Color[] colors;  // Array of 7 colors for the 7 brick types
     
@@ -78,13 +81,16 @@ public enum Skin {
     
     /**
      * Gets the color for a specific brick type.
-     * @param brickValue The brick value (1-7)
+     * @param brickValue The brick value (1-7, or 8 for garbage)
      * @return The color for that brick type
      */
     public Paint getColor(int brickValue) {
         if (brickValue >= 1 && brickValue <= 7) {
             return colors[brickValue - 1];
         }
+        if (brickValue == SimpleBoard.GARBAGE_CELL) {
+            return GARBAGE_COLOR;
+        }
         return Color.TRANSPARENT;
     }
     
@@ -1,5 +1,7 @@
 package com.comp2042;
 
+import com.comp2042.diagnostics.Log;
+
 import javafx.stage.Stage;
 
 /**
@@ -8,6 +10,9 @@ import javafx.stage.Stage;
  * creating new ones or modifying stage properties.
  */
 public class StageManager {
+
+    private static final Log LOG = Log.forClass(StageManager.class);
+
     private static Stage primaryStage;
     
     /**
@@ -73,13 +78,13 @@ public class StageManager {
      */
     public static void switchRoot(javafx.scene.Parent newRoot, String title) {
         if (primaryStage == null) {
-            System.err.println("ERROR: Primary stage not set in StageManager!");
+            LOG.error("Primary stage not set in StageManager!");
             return;
         }
         
         javafx.scene.Scene singleScene = SceneManager.getSingleScene();
         if (singleScene == null) {
-            System.err.println("ERROR: Single scene not created!");
+            LOG.error("Single scene not created!");
             return;
         }
         
@@ -116,8 +121,7 @@ public class StageManager {
                 }
                 
             } catch (Exception e) {
-                System.err.println("ERROR switching root: " + e.getMessage());
-                e.printStackTrace();
+                LOG.error("Error switching root", e);
             }
         };
         
@@ -136,7 +140,7 @@ public class StageManager {
     public static void switchToGameScene(javafx.scene.Scene gameScene, String title) {
         // For game scene, we still need to create it, but swap the root
         if (primaryStage == null || gameScene == null) {
-            System.err.println("ERROR: Stage or scene is null!");
+            LOG.error("Stage or scene is null!");
             return;
         }
         
@@ -0,0 +1,13 @@
+package com.comp2042;
+
+/**
+ * Kind of T-spin made by a locked brick, as detected by {@link Board#getLockedTSpin()}.
+ */
+public enum TSpin {
+    /** Not a T-spin. */
+    NONE,
+    /** Three corners around the T are filled, but not both beside its point. */
+    MINI,
+    /** Both corners beside the T's point and at least one behind it are filled. */
+    FULL
+}
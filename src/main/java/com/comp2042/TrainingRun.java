@@ -0,0 +1,124 @@
+package com.comp2042;
+
+import com.comp2042.diagnostics.Log;
+
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.application.Platform;
+import javafx.event.Event;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.control.Button;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import javafx.util.Duration;
+
+/**
+ * Scripted session used as the training run for the class-data-sharing archive
+ * (see the {@code cds} Maven profile).
+ *
+ * <p>Enabled with {@code -Dtetris.training=true}. Once the main menu is shown it
+ * opens and closes the settings, starts a game, plays a fixed sequence of key
+ * presses through the normal input path (including the F3 overlay and pause),
+ * returns to the menu and exits. Everything the JVM loads on the way is what a
+ * real start-up and first game load, so it ends up in the archive.</p>
+ */
+final class TrainingRun {
+
+    private static final Log LOG = Log.forClass(TrainingRun.class);
+
+    /** Number of scripted key presses in the game. */
+    static final int GAME_STEPS = Integer.getInteger("tetris.training.steps", 400);
+    private static final Duration STEP = Duration.millis(20);
+
+    // Repeats: shifts, rotations, soft drops and a hard drop (a soft drop if disabled)
+    private static final KeyCode[] SCRIPT = {
+            KeyCode.LEFT, KeyCode.UP, KeyCode.LEFT, KeyCode.DOWN, KeyCode.SPACE,
+            KeyCode.RIGHT, KeyCode.UP, KeyCode.RIGHT, KeyCode.RIGHT, KeyCode.DOWN, KeyCode.SPACE,
+            KeyCode.UP, KeyCode.UP, KeyCode.LEFT, KeyCode.LEFT, KeyCode.LEFT, KeyCode.SPACE
+    };
+
+    private final Parent mainMenuRoot;
+    private int step;
+
+    private TrainingRun(Parent mainMenuRoot) {
+        this.mainMenuRoot = mainMenuRoot;
+    }
+
+    /**
+     * Starts the scripted session if {@code -Dtetris.training=true} is set.
+     * Call on the JavaFX thread once the main menu is shown.
+     */
+    static void startIfRequested(Parent mainMenuRoot) {
+        if (!Boolean.getBoolean("tetris.training")) {
+            return;
+        }
+        LOG.info("Training run: " + GAME_STEPS + " scripted inputs");
+        TrainingRun run = new TrainingRun(mainMenuRoot);
+        Timeline timeline = new Timeline(new KeyFrame(STEP, e -> run.step()));
+        timeline.setCycleCount(GAME_STEPS + 8);
+        timeline.setOnFinished(e -> run.finish());
+        timeline.play();
+    }
+
+    private void step() {
+        int current = step++;
+        try {
+            if (current == 0) {
+                fire(mainMenuRoot, "#settingsButton");
+            } else if (current == 1) {
+                Parent settingsRoot = SceneManager.getPreloadedRoot("settings");
+                if (settingsRoot != null) {
+                    fire(settingsRoot, "#backButton");
+                }
+            } else if (current == 2) {
+                fire(mainMenuRoot, "#startGameButton");
+            } else if (current == 3) {
+                press(KeyCode.F3);
+            } else if (current < GAME_STEPS + 3) {
+                press(SCRIPT[current % SCRIPT.length]);
+            } else if (current == GAME_STEPS + 3) {
+                press(KeyCode.P);
+            } else if (current == GAME_STEPS + 4) {
+                press(KeyCode.P);
+                press(KeyCode.F3);
+            }
+        } catch (Exception e) {
+            LOG.warn("Training step " + current + " failed: " + e.getMessage());
+        }
+    }
+
+    private void finish() {
+        SceneManager.GameScene game = SceneManager.getLoadedGameScene();
+        if (game != null && game.getRoot().getScene() != null) {
+            game.getController().returnToMainMenu();
+        }
+        // Let the menu draw once more before exiting; the archive is written at JVM exit
+        Platform.runLater(() -> Platform.runLater(Platform::exit));
+    }
+
+    private static void fire(Parent root, String selector) {
+        Node node = root.lookup(selector);
+        if (node instanceof Button) {
+            ((Button) node).fire();
+        } else {
+            LOG.warn("Training run: no " + selector);
+        }
+    }
+
+    private static void press(KeyCode code) {
+        Node target = gameRootPane();
+        if (target == null) {
+            return;
+        }
+        Event.fireEvent(target, new KeyEvent(KeyEvent.KEY_PRESSED, "", "", code,
+                false, false, false, false));
+        Event.fireEvent(target, new KeyEvent(KeyEvent.KEY_RELEASED, "", "", code,
+                false, false, false, false));
+    }
+
+    private static Node gameRootPane() {
+        SceneManager.GameScene game = SceneManager.getLoadedGameScene();
+        return game == null ? null : game.getRoot().lookup("#rootPane");
+    }
+}
@@ -0,0 +1,368 @@
+package com.comp2042;
+
+import com.comp2042.diagnostics.Log;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.net.FrameEncoder;
+import com.comp2042.net.SpectatorBroadcaster;
+import javafx.animation.AnimationTimer;
+import javafx.fxml.FXML;
+import javafx.fxml.Initializable;
+import javafx.scene.Parent;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.layout.StackPane;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.TextAlignment;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.ResourceBundle;
+import java.util.SplittableRandom;
+
+/**
+ * Controller for the local two-player versus mode (versus.fxml).
+ *
+ * <p>Two {@link SimpleBoard}s play side by side. Each board has its own
+ * {@link RandomBrickGenerator} built from the same seed, so both players are
+ * dealt the same brick sequence. Clearing lines sends garbage rows to the
+ * opponent (2 lines: 1 row, 3 lines: 2 rows, 4 lines: 4 rows); incoming garbage
+ * is first cancelled by the receiver's own clears and otherwise added when the
+ * receiver locks a brick without clearing.</p>
+ *
+ * <p>Both boards are drawn onto one {@link Canvas} by a single
+ * {@link AnimationTimer}, which also runs gravity. Each player owns one flat
+ * cell buffer that is refilled in place, and the canvas is only redrawn when a
+ * board changed, so a frame with two boards allocates nothing.</p>
+ *
+ * <p>Both boards are also published as spectator frames (game ids 1 and 2) on a
+ * loopback {@link SpectatorBroadcaster}, so any number of local viewers can
+ * watch the match without touching the game state.</p>
+ *
+ * <p>Controls: player 1 uses A/D to move, W to rotate, S to soft drop and SPACE
+ * to hard drop; player 2 uses the arrow keys and ENTER. R starts a rematch after
+ * game over and ESC returns to the main menu.</p>
+ */
+public class VersusController implements Initializable {
+
+    private static final Log LOG = Log.forClass(VersusController.class);
+
+    // Board dimensions (official Tetris, same as GameController)
+    private static final int BOARD_COLS = 10;
+    private static final int VISIBLE_ROWS = 20;
+    private static final int HIDDEN_ROWS = 2;
+    private static final int TOTAL_ROWS = VISIBLE_ROWS + HIDDEN_ROWS;
+
+    // Layout on the 900x700 canvas
+    private static final double TILE_SIZE = 28;
+    private static final double BOARD_TOP = 90;
+    private static final double[] BOARD_LEFT = {110, 510};
+    private static final double GARBAGE_METER_WIDTH = 8;
+
+    /** Garbage rows sent per lines cleared at once (index = lines cleared). */
+    private static final int[] GARBAGE_TABLE = {0, 0, 1, 2, 4};
+
+    // Gravity interval at level 1; later levels follow the single-player GravityCurve
+    private static final int BASE_DROP_MS = 600;
+
+    /** Spectator frames between keyframes (late joiners wait at most this many frames). */
+    private static final int KEYFRAME_INTERVAL = 60;
+
+    // Shared by all matches; null if the spectator port could not be bound
+    private static SpectatorBroadcaster spectatorFeed;
+    private static boolean spectatorFeedStarted;
+
+    private static final Color BACKGROUND = Color.web("#05050f");
+    private static final Color GARBAGE_METER = Color.web("#ff3b3b");
+    private static final Font HUD_FONT = Font.font("Monospaced", FontWeight.BOLD, 18);
+    private static final Font BANNER_FONT = Font.font("Monospaced", FontWeight.BOLD, 40);
+
+    @FXML
+    private StackPane versusRoot;
+
+    @FXML
+    private Canvas versusCanvas;
+
+    private BoardCanvasRenderer renderer;
+    private AnimationTimer gameLoop;
+    private final Player[] players = new Player[2];
+    private boolean gameOver;
+    private String bannerText;
+    private boolean dirty;
+
+    @Override
+    public void initialize(URL location, ResourceBundle resources) {
+        renderer = new BoardCanvasRenderer(versusCanvas, BOARD_COLS, VISIBLE_ROWS, HIDDEN_ROWS);
+        startSpectatorFeed();
+
+        versusRoot.setFocusTraversable(true);
+        versusRoot.setOnKeyPressed(this::handleKeyPress);
+
+        gameLoop = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                tick(now);
+            }
+        };
+
+        // Stop the loop whenever the versus root is swapped out of the scene
+        versusRoot.sceneProperty().addListener((obs, oldScene, newScene) -> {
+            if (newScene == null) {
+                gameLoop.stop();
+            }
+        });
+    }
+
+    /**
+     * Starts a new match in which both players are dealt bricks from the given seed.
+     *
+     * @param seed shared seed of both brick sequences and the garbage holes
+     */
+    public void startMatch(long seed) {
+        for (int i = 0; i < players.length; i++) {
+            players[i] = new Player(i + 1, seed);
+        }
+        gameOver = false;
+        bannerText = null;
+        dirty = true;
+        gameLoop.start();
+    }
+
+    private void tick(long now) {
+        for (Player player : players) {
+            if (gameOver) {
+                break;
+            }
+            if (player.lastDropNanos == 0) {
+                player.lastDropNanos = now;
+            } else if (now - player.lastDropNanos >= player.dropIntervalNanos()) {
+                player.lastDropNanos = now;
+                softDrop(player, false);
+            }
+        }
+        if (dirty) {
+            publishSpectatorFrames();
+            render();
+            dirty = false;
+        }
+    }
+
+    private static void startSpectatorFeed() {
+        if (spectatorFeedStarted) {
+            return;
+        }
+        spectatorFeedStarted = true;
+        try {
+            spectatorFeed = SpectatorBroadcaster.startLoopback(SpectatorBroadcaster.DEFAULT_PORT);
+        } catch (IOException e) {
+            LOG.warn("Spectator feed unavailable: " + e.getMessage());
+        }
+    }
+
+    private void publishSpectatorFrames() {
+        // Nobody watching: skip encoding (a new viewer starts at a keyframe anyway)
+        if (spectatorFeed == null || spectatorFeed.getSpectatorCount() == 0) {
+            return;
+        }
+        for (Player player : players) {
+            SimpleBoard board = player.board;
+            spectatorFeed.publish(player.encoder, player.encoder.encode(board.getBoardMatrix(),
+                    board.getActiveBrickType(), board.getActiveBrickRotation(),
+                    board.getActiveBrickX(), board.getActiveBrickY()));
+        }
+    }
+
+    private void handleKeyPress(KeyEvent event) {
+        KeyCode code = event.getCode();
+        if (code == KeyCode.ESCAPE) {
+            returnToMainMenu();
+            return;
+        }
+        if (gameOver) {
+            if (code == KeyCode.R) {
+                startMatch(System.nanoTime());
+            }
+            return;
+        }
+
+        Player p1 = players[0];
+        Player p2 = players[1];
+        switch (code) {
+            case A -> dirty |= p1.board.moveBrickLeft();
+            case D -> dirty |= p1.board.moveBrickRight();
+            case W -> dirty |= p1.board.rotateLeftBrick();
+            case S -> softDrop(p1, true);
+            case SPACE -> hardDrop(p1);
+            case LEFT -> dirty |= p2.board.moveBrickLeft();
+            case RIGHT -> dirty |= p2.board.moveBrickRight();
+            case UP -> dirty |= p2.board.rotateLeftBrick();
+            case DOWN -> softDrop(p2, true);
+            case ENTER -> hardDrop(p2);
+            default -> {
+                return;
+            }
+        }
+        event.consume();
+    }
+
+    private void softDrop(Player player, boolean byUser) {
+        if (player.board.moveBrickDown()) {
+            if (byUser) {
+                player.board.getScore().add(1);
+                player.lastDropNanos = 0;
+            }
+        } else {
+            lockBrick(player);
+        }
+        dirty = true;
+    }
+
+    private void hardDrop(Player player) {
+        int dropDistance = 0;
+        while (player.board.moveBrickDown()) {
+            dropDistance++;
+        }
+        player.board.getScore().add(dropDistance * 2);
+        lockBrick(player);
+        player.lastDropNanos = 0;
+        dirty = true;
+    }
+
+    /**
+     * Locks the falling brick, exchanges garbage with the opponent and spawns the next brick.
+     */
+    private void lockBrick(Player player) {
+        Player opponent = players[player.index == 1 ? 1 : 0];
+        Board board = player.board;
+
+        board.mergeBrickToBackground();
+        RowClearResult result = board.clearRows();
+        int cleared = result.getRowsCleared();
+        boolean toppedOut = false;
+
+        board.getScore().add(player.scoring.lock(cleared, board.getLockedTSpin(),
+                cleared > 0 && board.isEmpty(), player.level()).getPoints());
+        if (cleared > 0) {
+            player.lines += cleared;
+
+            // Own clears cancel pending garbage first; the rest goes to the opponent
+            int attack = GARBAGE_TABLE[Math.min(cleared, GARBAGE_TABLE.length - 1)];
+            int cancelled = Math.min(attack, player.pendingGarbage);
+            player.pendingGarbage -= cancelled;
+            opponent.pendingGarbage += attack - cancelled;
+        } else if (player.pendingGarbage > 0) {
+            toppedOut = board.addGarbageRows(player.pendingGarbage, player.garbageHoles.nextInt(BOARD_COLS));
+            player.pendingGarbage = 0;
+        }
+
+        if (toppedOut || board.createNewBrick()) {
+            endMatch(opponent);
+            return;
+        }
+        player.updateHud();
+        opponent.updateHud();
+    }
+
+    private void endMatch(Player winner) {
+        gameOver = true;
+        bannerText = "PLAYER " + winner.index + " WINS";
+        dirty = true;
+    }
+
+    private void render() {
+        GraphicsContext gc = versusCanvas.getGraphicsContext2D();
+        gc.setFill(BACKGROUND);
+        gc.fillRect(0, 0, versusCanvas.getWidth(), versusCanvas.getHeight());
+
+        Skin skin = SettingsManager.getInstance().getSkin();
+        gc.setFont(HUD_FONT);
+        gc.setTextAlign(TextAlignment.LEFT);
+        for (int i = 0; i < players.length; i++) {
+            Player player = players[i];
+            double left = BOARD_LEFT[i];
+
+            player.board.copyCellsTo(player.cells);
+            renderer.render(player.cells, skin, left, BOARD_TOP, TILE_SIZE);
+
+            gc.setFill(Color.WHITE);
+            gc.fillText(player.hudTitle, left, BOARD_TOP - 52);
+            gc.fillText(player.hudStats, left, BOARD_TOP - 24);
+
+            // Pending garbage meter along the left edge of the board
+            double meterHeight = Math.min(player.pendingGarbage, VISIBLE_ROWS) * TILE_SIZE;
+            gc.setFill(GARBAGE_METER);
+            gc.fillRect(left - GARBAGE_METER_WIDTH - 4, BOARD_TOP + VISIBLE_ROWS * TILE_SIZE - meterHeight,
+                    GARBAGE_METER_WIDTH, meterHeight);
+        }
+
+        if (bannerText != null) {
+            double centerX = versusCanvas.getWidth() / 2;
+            double centerY = versusCanvas.getHeight() / 2;
+            gc.setFill(Color.rgb(0, 0, 0, 0.7));
+            gc.fillRect(0, centerY - 60, versusCanvas.getWidth(), 110);
+            gc.setTextAlign(TextAlignment.CENTER);
+            gc.setFill(Color.WHITE);
+            gc.setFont(BANNER_FONT);
+            gc.fillText(bannerText, centerX, centerY);
+            gc.setFont(HUD_FONT);
+            gc.fillText("R - REMATCH    ESC - MAIN MENU", centerX, centerY + 36);
+        }
+    }
+
+    /**
+     * Returns to the main menu using the preloaded root (root swap, not scene replacement).
+     */
+    private void returnToMainMenu() {
+        gameLoop.stop();
+        Parent mainMenuRoot = SceneManager.getPreloadedRoot("mainMenu");
+        if (mainMenuRoot == null) {
+            LOG.error("Main menu root not preloaded!");
+            return;
+        }
+        StageManager.switchRoot(mainMenuRoot, "Tetris");
+    }
+
+    /**
+     * State of one side of the match. The cell buffer is allocated once and
+     * refilled on every redraw; the HUD strings are only rebuilt when a brick locks.
+     */
+    private static final class Player {
+
+        private final int index;
+        private final SimpleBoard board;
+        private final SplittableRandom garbageHoles;
+        private final FrameEncoder encoder;
+        private final int[] cells = new int[TOTAL_ROWS * BOARD_COLS];
+        private final String hudTitle;
+        private final ScoringEngine scoring = new ScoringEngine(ScoringRules.guideline());
+        private String hudStats;
+        private int lines;
+        private int pendingGarbage;
+        private long lastDropNanos;
+
+        Player(int index, long seed) {
+            this.index = index;
+            this.board = new SimpleBoard(BOARD_COLS, TOTAL_ROWS, new RandomBrickGenerator(seed));
+            this.garbageHoles = new SplittableRandom(seed * 31 + index);
+            this.hudTitle = "PLAYER " + index;
+            this.encoder = new FrameEncoder(index, BOARD_COLS, TOTAL_ROWS, KEYFRAME_INTERVAL);
+            board.newGame();
+            updateHud();
+        }
+
+        int level() {
+            return ScoringEngine.levelFor(lines);
+        }
+
+        long dropIntervalNanos() {
+            return GravityCurve.intervalMillis(BASE_DROP_MS, level()) * 1_000_000L;
+        }
+
+        void updateHud() {
+            hudStats = "LINES " + lines + "  SCORE " + board.getScore().scoreProperty().get();
+        }
+    }
+}
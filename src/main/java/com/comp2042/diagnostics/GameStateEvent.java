@@ -0,0 +1,22 @@
+package com.comp2042.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event spanning a save or restore of the paused game.
+ */
+@Name("com.comp2042.GameState")
+@Label("Game Save/Restore")
+@Category({"Tetris", "Engine"})
+public final class GameStateEvent extends jdk.jfr.Event {
+
+    /** Value of {@link #operation} for a save. */
+    public static final String SAVE = "save";
+    /** Value of {@link #operation} for a restore. */
+    public static final String RESTORE = "restore";
+
+    @Label("Operation")
+    public String operation;
+}
@@ -0,0 +1,17 @@
+package com.comp2042.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event spanning one ghost piece landing computation.
+ */
+@Name("com.comp2042.Ghost")
+@Label("Ghost Computation")
+@Category({"Tetris", "Engine"})
+public final class GhostEvent extends jdk.jfr.Event {
+
+    @Label("Rows Probed")
+    public int rowsProbed;
+}
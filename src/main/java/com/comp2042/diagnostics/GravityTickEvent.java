@@ -0,0 +1,30 @@
+package com.comp2042.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event for one gravity step, recording how late it fired compared with
+ * the configured interval. Positive jitter means the FX thread was busy.
+ */
+@Name("com.comp2042.GravityTick")
+@Label("Gravity Tick")
+@Category({"Tetris", "Timing"})
+public final class GravityTickEvent extends jdk.jfr.Event {
+
+    @Label("Expected Interval")
+    @Timespan(Timespan.NANOSECONDS)
+    public long expectedInterval;
+
+    @Label("Actual Interval")
+    @Timespan(Timespan.NANOSECONDS)
+    public long actualInterval;
+
+    @Label("Jitter")
+    @Description("Actual minus expected interval")
+    @Timespan(Timespan.NANOSECONDS)
+    public long jitter;
+}
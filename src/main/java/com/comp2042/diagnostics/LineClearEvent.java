@@ -0,0 +1,18 @@
+package com.comp2042.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event spanning the scan and compaction of completed rows.
+ * Only committed when at least one row was cleared.
+ */
+@Name("com.comp2042.LineClear")
+@Label("Line Clear")
+@Category({"Tetris", "Engine"})
+public final class LineClearEvent extends jdk.jfr.Event {
+
+    @Label("Rows")
+    public int rows;
+}
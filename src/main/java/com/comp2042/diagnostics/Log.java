@@ -0,0 +1,177 @@
+package com.comp2042.diagnostics;
+
+import java.io.PrintStream;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Asynchronous, levelled logger for the game.
+ *
+ * <p>Logging a message only appends a record to a lock-free ring buffer
+ * ({@link LogRingBuffer}); a daemon thread formats the records and writes them to
+ * the console (WARN and ERROR to stderr, the rest to stdout). The FX thread
+ * therefore never waits on a slow terminal. If the writer falls
+ * {@value #CAPACITY} records behind, new records are dropped and counted, and
+ * the count is reported once the writer catches up. Pending records are written
+ * on JVM exit.</p>
+ *
+ * <p>The threshold is set with {@code -Dtetris.log.level=DEBUG|INFO|WARN|ERROR}
+ * (default INFO); messages below it cost one comparison.</p>
+ *
+ * <p>Usage: {@code private static final Log LOG = Log.forClass(Foo.class);}</p>
+ */
+public final class Log {
+
+    /** Message severity, lowest first. */
+    public enum Level {
+        DEBUG, INFO, WARN, ERROR
+    }
+
+    static final int CAPACITY = 4096;
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final DateTimeFormatter TIME_FORMAT =
+            DateTimeFormatter.ofPattern("HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+
+    private static final Level THRESHOLD = parseLevel(System.getProperty("tetris.log.level"));
+    private static final LogRingBuffer BUFFER = new LogRingBuffer(CAPACITY);
+    private static final AtomicLong DROPPED = new AtomicLong();
+    private static final AtomicBoolean WRITER_PARKED = new AtomicBoolean();
+    private static final Thread WRITER = startWriter();
+
+    private final String source;
+
+    private Log(String source) {
+        this.source = source;
+    }
+
+    /**
+     * @param type class whose simple name tags its messages
+     * @return a logger for that class
+     */
+    public static Log forClass(Class<?> type) {
+        return new Log(type.getSimpleName());
+    }
+
+    /** @return true if DEBUG messages are written (guard for costly message building) */
+    public boolean isDebugEnabled() {
+        return THRESHOLD == Level.DEBUG;
+    }
+
+    public void debug(String message) {
+        log(Level.DEBUG, message, null);
+    }
+
+    public void info(String message) {
+        log(Level.INFO, message, null);
+    }
+
+    public void warn(String message) {
+        log(Level.WARN, message, null);
+    }
+
+    public void warn(String message, Throwable thrown) {
+        log(Level.WARN, message, thrown);
+    }
+
+    public void error(String message) {
+        log(Level.ERROR, message, null);
+    }
+
+    public void error(String message, Throwable thrown) {
+        log(Level.ERROR, message, thrown);
+    }
+
+    private void log(Level level, String message, Throwable thrown) {
+        if (level.compareTo(THRESHOLD) < 0) {
+            return;
+        }
+        if (!BUFFER.offer(level, source, message, thrown)) {
+            DROPPED.incrementAndGet();
+        }
+        // Only the first record after the writer went idle pays for an unpark
+        if (WRITER_PARKED.compareAndSet(true, false)) {
+            LockSupport.unpark(WRITER);
+        }
+    }
+
+    // ---- Writer thread ----
+
+    private static Thread startWriter() {
+        Thread thread = new Thread(Log::runWriter, "log-writer");
+        thread.setDaemon(true);
+        thread.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(Log::drain, "log-flush"));
+        return thread;
+    }
+
+    private static void runWriter() {
+        while (true) {
+            if (!drain()) {
+                WRITER_PARKED.set(true);
+                // Re-check after announcing: a record may have landed just before
+                if (BUFFER.peek() == null) {
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                }
+                WRITER_PARKED.set(false);
+            }
+        }
+    }
+
+    /**
+     * Writes every published record. Synchronized so that the shutdown hook and
+     * the writer thread never consume concurrently.
+     *
+     * @return true if anything was written
+     */
+    private static synchronized boolean drain() {
+        boolean wroteOut = false;
+        boolean wroteErr = false;
+        StringBuilder line = new StringBuilder(128);
+        LogRingBuffer.Record record;
+        while ((record = BUFFER.peek()) != null) {
+            boolean toErr = record.level.compareTo(Level.WARN) >= 0;
+            PrintStream stream = toErr ? System.err : System.out;
+            line.setLength(0);
+            TIME_FORMAT.formatTo(Instant.ofEpochMilli(record.timeMillis), line);
+            line.append(' ').append(record.level)
+                    .append(" [").append(record.thread).append("] ")
+                    .append(record.source).append(": ").append(record.message);
+            stream.println(line);
+            if (record.thrown != null) {
+                record.thrown.printStackTrace(stream);
+            }
+            wroteOut |= !toErr;
+            wroteErr |= toErr;
+            BUFFER.release();
+        }
+        long dropped = DROPPED.getAndSet(0);
+        if (dropped > 0) {
+            System.err.println("WARN Log: " + dropped + " messages dropped (writer fell behind)");
+            wroteErr = true;
+        }
+        if (wroteOut) {
+            System.out.flush();
+        }
+        if (wroteErr) {
+            System.err.flush();
+        }
+        return wroteOut || wroteErr;
+    }
+
+    private static Level parseLevel(String name) {
+        if (name != null) {
+            try {
+                return Level.valueOf(name.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                // Fall through to the default
+            }
+        }
+        return Level.INFO;
+    }
+}
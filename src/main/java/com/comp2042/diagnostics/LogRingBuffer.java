@@ -0,0 +1,104 @@
+package com.comp2042.diagnostics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded, lock-free multi-producer / single-consumer queue of log records.
+ *
+ * <p>Records are preallocated and reused. Each slot carries a sequence number:
+ * a producer claims the next position with one CAS, fills the slot and then
+ * publishes it by advancing the slot's sequence; the consumer reads a slot once
+ * its sequence says it is published and hands it back one lap ahead. A full
+ * buffer makes {@link #offer} fail immediately instead of blocking the caller.</p>
+ */
+final class LogRingBuffer {
+
+    /**
+     * One reusable log record. Fields are written by the claiming producer and
+     * read by the consumer, ordered by the slot's sequence.
+     */
+    static final class Record {
+        Log.Level level;
+        String source;
+        String thread;
+        long timeMillis;
+        String message;
+        Throwable thrown;
+    }
+
+    private final Record[] slots;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private long head;  // Consumer only
+
+    /**
+     * @param capacity number of slots, a power of two
+     */
+    LogRingBuffer(int capacity) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+        slots = new Record[capacity];
+        sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new Record();
+            sequences.set(i, i);
+        }
+        mask = capacity - 1;
+    }
+
+    /**
+     * Appends a record. Safe to call from any thread; never blocks.
+     *
+     * @return false if the buffer was full and the record was dropped
+     */
+    boolean offer(Log.Level level, String source, String message, Throwable thrown) {
+        long position;
+        int index;
+        while (true) {
+            position = tail.get();
+            index = (int) position & mask;
+            long sequence = sequences.get(index);
+            if (sequence < position) {
+                return false;  // The consumer has not freed this slot yet: full
+            }
+            if (sequence == position && tail.compareAndSet(position, position + 1)) {
+                break;
+            }
+            // Another producer claimed this position first: retry with the new tail
+        }
+        Record record = slots[index];
+        record.level = level;
+        record.source = source;
+        record.thread = Thread.currentThread().getName();
+        record.timeMillis = System.currentTimeMillis();
+        record.message = message;
+        record.thrown = thrown;
+        sequences.set(index, position + 1);
+        return true;
+    }
+
+    /**
+     * Returns the next published record without removing it. Consumer only.
+     *
+     * @return the record, or null if nothing is published yet
+     */
+    Record peek() {
+        int index = (int) head & mask;
+        return sequences.get(index) == head + 1 ? slots[index] : null;
+    }
+
+    /**
+     * Frees the record returned by {@link #peek()} for reuse. Consumer only.
+     */
+    void release() {
+        int index = (int) head & mask;
+        Record record = slots[index];
+        record.message = null;
+        record.thrown = null;
+        sequences.set(index, head + slots.length);
+        head++;
+    }
+}
@@ -0,0 +1,152 @@
+package com.comp2042.diagnostics;
+
+import com.comp2042.metrics.GameMetrics;
+import com.comp2042.metrics.Histogram;
+import com.comp2042.metrics.JvmMetrics;
+import com.comp2042.metrics.MetricsRegistry;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Frame and input measurements for the performance HUD, read back from the
+ * {@link MetricsRegistry}.
+ *
+ * <p>Frame intervals and input-to-frame latencies are recorded into the
+ * {@link GameMetrics} histograms, next to the logic step and redraw timings the
+ * game records itself. {@link #summary()} keeps the last {@value #WINDOW}
+ * histogram snapshots so that the percentiles cover roughly the last two seconds
+ * (at one summary per 250 ms), and reads the JVM gauges for the allocation rate
+ * and GC activity.</p>
+ *
+ * <p>Not thread-safe: record and summarise on the JavaFX application thread.</p>
+ */
+public final class PerfStats {
+
+    static final int WINDOW = 8;
+
+    private final Window frames = new Window(GameMetrics.FRAME_INTERVAL);
+    private final Window ticks = new Window(GameMetrics.LOGIC_STEP);
+    private final Window latencies = new Window(GameMetrics.INPUT_LATENCY);
+    private final JvmMetrics jvm = JvmMetrics.register(MetricsRegistry.global());
+
+    private long lastFrameNanos;
+    private long pendingInputNanos;
+
+    private long lastSampleNanos;
+    private long lastAllocatedBytes = -1;
+    private long lastGcCount;
+    private double lastGcSeconds;
+
+    /**
+     * Records a rendered frame (one animation pulse).
+     *
+     * @param now pulse time in nanoseconds
+     */
+    public void recordFrame(long now) {
+        if (lastFrameNanos != 0) {
+            GameMetrics.FRAME_INTERVAL.record(now - lastFrameNanos);
+        }
+        lastFrameNanos = now;
+        if (pendingInputNanos != 0) {
+            GameMetrics.INPUT_LATENCY.record(now - pendingInputNanos);
+            pendingInputNanos = 0;
+        }
+    }
+
+    /**
+     * Marks a player input; its latency is measured up to the next frame.
+     *
+     * @param now time the input was handled, in nanoseconds
+     */
+    public void recordInput(long now) {
+        GameMetrics.INPUTS.increment();
+        if (pendingInputNanos == 0) {
+            pendingInputNanos = now;
+        }
+    }
+
+    /** Forgets frame timing and the percentile window, e.g. after the HUD was hidden. */
+    public void resetFrameClock() {
+        lastFrameNanos = 0;
+        pendingInputNanos = 0;
+        frames.clear();
+        ticks.clear();
+        latencies.clear();
+    }
+
+    /**
+     * @return the HUD text: FPS, frame time, logic and latency percentiles,
+     *         allocation rate and GC activity since the previous summary
+     */
+    public String summary() {
+        long now = System.nanoTime();
+        double seconds = lastSampleNanos == 0 ? 0 : (now - lastSampleNanos) / 1e9;
+        lastSampleNanos = now;
+
+        long allocated = jvm.getAllocated().get();
+        double allocMbPerSecond = lastAllocatedBytes < 0 || seconds == 0
+                ? 0 : (allocated - lastAllocatedBytes) / 1e6 / seconds;
+        lastAllocatedBytes = allocated;
+        long gcCount = jvm.getGcCollections().get();
+        double gcSeconds = jvm.getGcTime().get();
+        long newGcs = gcCount - lastGcCount;
+        long newGcMillis = Math.round((gcSeconds - lastGcSeconds) * 1000);
+        lastGcCount = gcCount;
+        lastGcSeconds = gcSeconds;
+
+        Histogram.Snapshot frame = frames.advance();
+        double meanFrame = frame.mean();
+        String frameLine = String.format(Locale.ROOT, "FPS %5.1f  frame p50 %s p99 %s max %s",
+                meanFrame == 0 ? 0 : 1e9 / meanFrame,
+                millis(frame, 0.50), millis(frame, 0.99), millis(frame, 1.0));
+        Histogram.Snapshot tick = ticks.advance();
+        String tickLine = String.format(Locale.ROOT, "logic p50 %s p99 %s max %s",
+                millis(tick, 0.50), millis(tick, 0.99), millis(tick, 1.0));
+        Histogram.Snapshot latency = latencies.advance();
+        String latencyLine = String.format(Locale.ROOT, "input->frame p50 %s p99 %s",
+                millis(latency, 0.50), millis(latency, 0.99));
+        String memoryLine = String.format(Locale.ROOT, "alloc %6.1f MB/s  GC %d total, +%d (%d ms)",
+                allocMbPerSecond, gcCount, newGcs, newGcMillis);
+        return frameLine + "\n" + tickLine + "\n" + latencyLine + "\n" + memoryLine;
+    }
+
+    private static String millis(Histogram.Snapshot snapshot, double quantile) {
+        if (snapshot.getCount() == 0) {
+            return "  -  ";
+        }
+        return String.format(Locale.ROOT, "%5.2f", snapshot.valueAtQuantile(quantile) / 1e6);
+    }
+
+    /**
+     * Sliding window over a cumulative histogram, built from its recent snapshots.
+     */
+    private static final class Window {
+
+        private final Histogram histogram;
+        private final Histogram.Snapshot[] history = new Histogram.Snapshot[WINDOW];
+        private int next;
+
+        Window(Histogram histogram) {
+            this.histogram = histogram;
+        }
+
+        void clear() {
+            Arrays.fill(history, null);
+            next = 0;
+        }
+
+        /** Takes a snapshot and returns what was recorded since the oldest one kept. */
+        Histogram.Snapshot advance() {
+            Histogram.Snapshot current = histogram.snapshot();
+            Histogram.Snapshot oldest = history[next];
+            if (oldest == null) {
+                // Fewer than WINDOW snapshots so far: use the first one
+                oldest = history[0] != null ? history[0] : current;
+            }
+            history[next] = current;
+            next = (next + 1) % WINDOW;
+            return current.since(oldest);
+        }
+    }
+}
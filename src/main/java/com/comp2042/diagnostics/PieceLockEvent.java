@@ -0,0 +1,30 @@
+package com.comp2042.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event spanning one piece lock: merge, line clear, garbage exchange and the
+ * next piece's spawn.
+ */
+@Name("com.comp2042.PieceLock")
+@Label("Piece Lock")
+@Category({"Tetris", "Engine"})
+@Description("A piece locked into the board")
+public final class PieceLockEvent extends jdk.jfr.Event {
+
+    @Label("Hard Drop")
+    public boolean hardDrop;
+
+    @Label("Drop Distance")
+    @Description("Rows fallen by the hard drop, 0 for gravity or soft drop")
+    public int dropDistance;
+
+    @Label("Rows Cleared")
+    public int rowsCleared;
+
+    @Label("Game Over")
+    public boolean gameOver;
+}
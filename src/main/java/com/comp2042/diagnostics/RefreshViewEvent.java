@@ -0,0 +1,17 @@
+package com.comp2042.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event spanning one redraw of the game board and previews on the FX thread.
+ */
+@Name("com.comp2042.RefreshView")
+@Label("Refresh View")
+@Category({"Tetris", "Rendering"})
+public final class RefreshViewEvent extends jdk.jfr.Event {
+
+    @Label("Ghost Drawn")
+    public boolean ghostDrawn;
+}
@@ -0,0 +1,71 @@
+package com.comp2042.diagnostics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Collects the duration of each startup phase and logs them as one report once
+ * the first window is on screen.
+ *
+ * <p>Phases may run on several threads at once; each is recorded with the thread
+ * that ran it, so the report shows what overlapped. The report also gives the
+ * JVM uptime at first show, which includes JVM and JavaFX toolkit start-up that
+ * the application cannot time itself.</p>
+ */
+public final class StartupReport {
+
+    private static final Log LOG = Log.forClass(StartupReport.class);
+    private static final long ORIGIN_NANOS = System.nanoTime();
+
+    private static final Queue<String> phases = new ConcurrentLinkedQueue<>();
+    private static volatile boolean finished;
+
+    private StartupReport() {
+    }
+
+    /**
+     * @return a start time to pass to {@link #record}
+     */
+    public static long begin() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Records a phase that started at {@code startNanos} and ends now.
+     *
+     * @param phase      short name of the phase
+     * @param startNanos value returned by {@link #begin()}
+     */
+    public static void record(String phase, long startNanos) {
+        long end = System.nanoTime();
+        String line = String.format(Locale.ROOT, "  %-24s %7.1f ms  (at +%.1f ms, %s)",
+                phase, (end - startNanos) / 1e6, (startNanos - ORIGIN_NANOS) / 1e6,
+                Thread.currentThread().getName());
+        if (finished) {
+            LOG.debug("Startup phase after first show:" + line.substring(1));
+        } else {
+            phases.add(line);
+        }
+    }
+
+    /**
+     * Logs the report. Phases recorded afterwards (e.g. background pre-warming)
+     * are logged individually at debug level.
+     */
+    public static void finish() {
+        if (finished) {
+            return;
+        }
+        finished = true;
+        StringBuilder report = new StringBuilder(256);
+        report.append(String.format(Locale.ROOT, "Startup: first show after %.1f ms (JVM uptime %d ms)",
+                (System.nanoTime() - ORIGIN_NANOS) / 1e6,
+                ManagementFactory.getRuntimeMXBean().getUptime()));
+        for (String phase : phases) {
+            report.append('\n').append(phase);
+        }
+        LOG.info(report.toString());
+    }
+}
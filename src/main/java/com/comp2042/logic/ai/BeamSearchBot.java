@@ -0,0 +1,334 @@
+package com.comp2042.logic.ai;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tetris bot that plans placements with a multi-ply beam search over the
+ * current piece and the next-piece previews.
+ *
+ * <p>Each ply expands every board in the beam with all rotations and columns of
+ * the next piece, scores the results with {@link BoardEvaluator} and keeps the
+ * best {@code beamWidth} boards. Expansion runs in parallel on a
+ * {@link ForkJoinPool}: the beam is split across a fixed set of workers, each
+ * owning reusable scratch boards and a bounded candidate heap, so a search does
+ * not allocate per placement. Boards reached by different move orders are
+ * kept once, by their best path: a Zobrist-hash transposition table skips
+ * evaluating paths with a lower reward, and the candidate heaps break the
+ * remaining ties in a fixed order, so the result does not depend on which
+ * worker reached a board first.</p>
+ *
+ * <p>The placements of each expanded board are scored together by a
+ * {@link VectorBoardEvaluator} when the JVM runs with
+ * {@code --add-modules jdk.incubator.vector}, and one at a time by
+ * {@link BoardEvaluator} otherwise; both give the same scores.</p>
+ *
+ * <p>The search is bounded by a time budget (5 ms by default) so it can run on
+ * the JavaFX application thread without dropping frames. The first ply is always
+ * completed; deeper plies are abandoned if the budget runs out and the best move
+ * of the deepest complete ply is returned.</p>
+ *
+ * <p>Searches on one instance are serialized; use one bot per game.</p>
+ */
+public final class BeamSearchBot {
+
+    /** Default time budget per move, in milliseconds. */
+    public static final long DEFAULT_TIME_BUDGET_MS = 5;
+
+    /** Default number of boards kept per ply. */
+    public static final int DEFAULT_BEAM_WIDTH = 48;
+
+    /** Row the game spawns new bricks at (see {@code SimpleBoard.createNewBrick}). */
+    private static final int SPAWN_Y = 0;
+
+    /** Beams smaller than this are expanded on the calling thread. */
+    private static final int PARALLEL_THRESHOLD = 4;
+
+    private static final int NO_MOVE = Integer.MIN_VALUE;
+
+    private final EvaluationWeights weights;
+    private final ForkJoinPool pool;
+    private final int width;
+    private final int height;
+    private final Worker[] workers;
+    private final TranspositionTable transpositions;
+    private final PackedBoard rootBoard;
+    private CandidateHeap beam;
+    private CandidateHeap nextBeam;
+    private volatile long timeBudgetNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_TIME_BUDGET_MS);
+
+    // Per-ply search parameters, published to workers by ForkJoinPool.invoke
+    private int plyType;
+    private int plyIndex;
+    private long plyDeadline;
+
+    /**
+     * Creates a bot using the common pool and default beam width.
+     *
+     * @param boardWidth  number of board columns
+     * @param boardHeight number of board rows (including hidden rows)
+     * @param weights     evaluation weights
+     */
+    public BeamSearchBot(int boardWidth, int boardHeight, EvaluationWeights weights) {
+        this(boardWidth, boardHeight, weights, DEFAULT_BEAM_WIDTH, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a bot.
+     *
+     * @param boardWidth  number of board columns
+     * @param boardHeight number of board rows (including hidden rows)
+     * @param weights     evaluation weights
+     * @param beamWidth   boards kept per ply
+     * @param pool        pool used to expand plies in parallel
+     */
+    public BeamSearchBot(int boardWidth, int boardHeight, EvaluationWeights weights,
+                         int beamWidth, ForkJoinPool pool) {
+        if (beamWidth <= 0) {
+            throw new IllegalArgumentException("beamWidth must be positive");
+        }
+        this.weights = weights;
+        this.pool = pool;
+        this.width = boardWidth;
+        this.height = boardHeight;
+        this.rootBoard = new PackedBoard(boardWidth, boardHeight);
+        this.beam = new CandidateHeap(beamWidth, boardHeight);
+        this.nextBeam = new CandidateHeap(beamWidth, boardHeight);
+
+        int workerCount = Math.max(1, Math.min(beamWidth, pool.getParallelism() * 2));
+        this.workers = new Worker[workerCount];
+        for (int i = 0; i < workerCount; i++) {
+            workers[i] = new Worker(i, beamWidth);
+        }
+        // Roughly 4 rotations x width columns per expanded board
+        this.transpositions = new TranspositionTable(beamWidth * 4 * boardWidth);
+    }
+
+    /**
+     * Sets the time budget for a single {@link #findBestMove} call.
+     *
+     * @param millis budget in milliseconds (the first ply is always searched)
+     */
+    public void setTimeBudgetMillis(long millis) {
+        timeBudgetNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, millis));
+    }
+
+    /** @return the time budget per move in milliseconds */
+    public long getTimeBudgetMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(timeBudgetNanos);
+    }
+
+    /** @return the evaluation weights used by this bot */
+    public EvaluationWeights getWeights() {
+        return weights;
+    }
+
+    /**
+     * Finds the best placement for the current piece on a game matrix.
+     *
+     * @param boardMatrix  the background matrix (without the active piece)
+     * @param currentType  type of the piece to place (0-6)
+     * @param previewTypes types of the upcoming pieces, in order
+     * @return the chosen move, or null if the piece cannot be placed anywhere
+     */
+    public synchronized BotMove findBestMove(int[][] boardMatrix, int currentType, int[] previewTypes) {
+        rootBoard.load(boardMatrix);
+        return search(currentType, previewTypes);
+    }
+
+    /**
+     * Finds the best placement for the current piece on a packed board.
+     *
+     * @param board        the background board (without the active piece)
+     * @param currentType  type of the piece to place (0-6)
+     * @param previewTypes types of the upcoming pieces, in order
+     * @return the chosen move, or null if the piece cannot be placed anywhere
+     */
+    public synchronized BotMove findBestMove(PackedBoard board, int currentType, int[] previewTypes) {
+        rootBoard.copyFrom(board);
+        return search(currentType, previewTypes);
+    }
+
+    private BotMove search(int currentType, int[] previewTypes) {
+        long deadline = System.nanoTime() + timeBudgetNanos;
+        int plies = 1 + (previewTypes == null ? 0 : previewTypes.length);
+
+        beam.clear();
+        beam.offer(0.0, 0.0, NO_MOVE, rootBoard.zobristHash(), rootBoard);
+        int completed = 0;
+
+        for (int ply = 0; ply < plies; ply++) {
+            plyType = ply == 0 ? currentType : previewTypes[ply - 1];
+            plyIndex = ply;
+            plyDeadline = ply == 0 ? Long.MAX_VALUE : deadline;
+            if (ply > 0 && System.nanoTime() >= deadline) {
+                break;
+            }
+
+            transpositions.clear();
+            expandPly();
+
+            boolean timedOut = false;
+            nextBeam.clear();
+            for (Worker worker : workers) {
+                timedOut |= worker.timedOut;
+                for (int i = 0; i < worker.candidates.size(); i++) {
+                    nextBeam.offer(worker.candidates, i);
+                }
+            }
+            if (timedOut || nextBeam.size() == 0) {
+                // Keep the last fully expanded ply
+                break;
+            }
+
+            CandidateHeap swap = beam;
+            beam = nextBeam;
+            nextBeam = swap;
+            completed = ply + 1;
+        }
+
+        if (completed == 0) {
+            return null;
+        }
+        int best = beam.bestIndex();
+        int move = beam.firstMove(best);
+        return new BotMove(move >>> 8, (byte) move, beam.score(best), completed);
+    }
+
+    private void expandPly() {
+        for (Worker worker : workers) {
+            worker.candidates.clear();
+            worker.timedOut = false;
+        }
+        if (beam.size() < PARALLEL_THRESHOLD || workers.length == 1) {
+            for (Worker worker : workers) {
+                worker.expandAssigned();
+            }
+        } else {
+            pool.invoke(new ExpandTask(0, workers.length));
+        }
+    }
+
+    /**
+     * Splits the worker set in halves until each task drives a single worker,
+     * letting idle pool threads steal the remaining halves.
+     */
+    private final class ExpandTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+
+        ExpandTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                workers[from].expandAssigned();
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ExpandTask(from, mid), new ExpandTask(mid, to));
+        }
+    }
+
+    /**
+     * Search worker with its own scratch boards and candidate heap, reused
+     * across plies and searches.
+     */
+    private final class Worker {
+
+        private final int index;
+        private final PackedBoard parent = new PackedBoard(width, height);
+        private final int[] heights = new int[width];
+        private final CandidateHeap candidates;
+        private boolean timedOut;
+
+        // The placements of the board being expanded, scored as one batch
+        private final VectorBoardEvaluator batch;
+        private final PackedBoard[] placed;
+        private final double[] rewards;
+        private final int[] moves;
+        private final long[] hashes;
+        private final double[] scores;
+
+        Worker(int index, int beamWidth) {
+            this.index = index;
+            this.candidates = new CandidateHeap(beamWidth, height);
+            // At most one placement per column for each of the (up to 4) rotations
+            int placements = 4 * width;
+            this.batch = BoardEvaluator.VECTOR_API ? new VectorBoardEvaluator(width, height, placements) : null;
+            this.placed = new PackedBoard[placements];
+            for (int i = 0; i < placements; i++) {
+                placed[i] = new PackedBoard(width, height);
+            }
+            this.rewards = new double[placements];
+            this.moves = new int[placements];
+            this.hashes = new long[placements];
+            this.scores = new double[placements];
+        }
+
+        /** Expands every beam entry assigned to this worker (strided for balance). */
+        void expandAssigned() {
+            for (int p = index; p < beam.size(); p += workers.length) {
+                if (System.nanoTime() >= plyDeadline) {
+                    timedOut = true;
+                    return;
+                }
+                expand(p);
+            }
+        }
+
+        private void expand(int beamIndex) {
+            beam.loadBoard(beamIndex, parent);
+            double parentReward = beam.reward(beamIndex);
+            int inheritedMove = beam.firstMove(beamIndex);
+
+            int count = 0;
+            int rotations = PieceShapes.rotationCount(plyType);
+            for (int r = 0; r < rotations; r++) {
+                PieceShapes.Rotation rotation = PieceShapes.rotation(plyType, r);
+                int maxX = rotation.maxX(width);
+                for (int x = rotation.minX(); x <= maxX; x++) {
+                    if (parent.collides(rotation, x, SPAWN_Y)) {
+                        continue;
+                    }
+                    int y = parent.dropY(rotation, x, SPAWN_Y);
+                    PackedBoard board = placed[count];
+                    board.copyFrom(parent);
+                    int lines = board.place(rotation, x, y);
+                    long hash = board.zobristHash();
+                    double reward = parentReward + weights.getCompleteLines() * lines;
+                    if (!transpositions.offer(hash, reward)) {
+                        // Another path reached this board with a higher reward
+                        continue;
+                    }
+                    rewards[count] = reward;
+                    moves[count] = plyIndex == 0 ? (r << 8) | (x & 0xFF) : inheritedMove;
+                    hashes[count] = hash;
+                    count++;
+                }
+            }
+
+            if (batch != null) {
+                batch.clear();
+                for (int i = 0; i < count; i++) {
+                    batch.add(placed[i], 0);
+                }
+                batch.evaluate(weights, scores);
+            } else {
+                for (int i = 0; i < count; i++) {
+                    scores[i] = BoardEvaluator.evaluate(placed[i], 0, weights, heights);
+                }
+            }
+            for (int i = 0; i < count; i++) {
+                candidates.offer(rewards[i] + scores[i], rewards[i], moves[i], hashes[i], placed[i]);
+            }
+        }
+    }
+}
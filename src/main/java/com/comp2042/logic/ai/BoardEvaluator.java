@@ -0,0 +1,86 @@
+package com.comp2042.logic.ai;
+
+import java.util.Arrays;
+
+/**
+ * Scores a {@link PackedBoard} as a weighted sum of heuristic features.
+ *
+ * <p>Features are computed with row-wise bit operations. Callers pass a
+ * reusable {@code heights} scratch array (at least {@code board.width()} long)
+ * so evaluation does not allocate.</p>
+ */
+public final class BoardEvaluator {
+
+    /**
+     * Whether the Vector API was added to this JVM, so {@link VectorBoardEvaluator}
+     * can be used; without it callers fall back to this evaluator.
+     */
+    static final boolean VECTOR_API = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    /** Prevent instantiation of utility class. */
+    private BoardEvaluator() { }
+
+    /**
+     * Evaluates a board after a placement.
+     *
+     * @param board        the board after the piece was placed and rows cleared
+     * @param linesCleared rows cleared by the placement
+     * @param weights      feature weights
+     * @param heights      scratch array for column heights
+     * @return the weighted score (higher is better)
+     */
+    public static double evaluate(PackedBoard board, int linesCleared, EvaluationWeights weights, int[] heights) {
+        int width = board.width();
+        int height = board.height();
+        int full = board.fullRowMask();
+
+        Arrays.fill(heights, 0, width, 0);
+        int covered = 0;
+        int holes = 0;
+        int rowTransitions = 0;
+        int wallBit = 1 << (width + 1);
+
+        for (int r = 0; r < height; r++) {
+            int row = board.row(r);
+            holes += Integer.bitCount(covered & ~row & full);
+
+            int newlySeen = row & ~covered;
+            while (newlySeen != 0) {
+                int c = Integer.numberOfTrailingZeros(newlySeen);
+                heights[c] = height - r;
+                newlySeen &= newlySeen - 1;
+            }
+            covered |= row;
+
+            if (covered != 0) {
+                // Walls count as filled cells on both sides of the row
+                int extended = (row << 1) | 1 | wallBit;
+                rowTransitions += Integer.bitCount((extended ^ (extended >>> 1)) & (wallBit - 1));
+            }
+        }
+
+        int aggregateHeight = 0;
+        int bumpiness = 0;
+        int wellDepth = 0;
+        for (int c = 0; c < width; c++) {
+            int h = heights[c];
+            aggregateHeight += h;
+            if (c + 1 < width) {
+                bumpiness += Math.abs(h - heights[c + 1]);
+            }
+            int left = c == 0 ? height : heights[c - 1];
+            int right = c == width - 1 ? height : heights[c + 1];
+            int depth = Math.min(left, right) - h;
+            if (depth > 0) {
+                wellDepth += depth;
+            }
+        }
+
+        return weights.getAggregateHeight() * aggregateHeight
+                + weights.getCompleteLines() * linesCleared
+                + weights.getHoles() * holes
+                + weights.getBumpiness() * bumpiness
+                + weights.getRowTransitions() * rowTransitions
+                + weights.getWellDepth() * wellDepth;
+    }
+}
@@ -0,0 +1,51 @@
+package com.comp2042.logic.ai;
+
+/**
+ * A placement chosen by the bot for the current piece.
+ *
+ * <p>{@code rotation} is the rotation index to reach (the game rotates by
+ * incrementing this index) and {@code x} is the column offset of the piece's
+ * shape matrix, the same coordinate the board uses for the active brick.
+ * The piece is then hard-dropped.</p>
+ */
+public final class BotMove {
+
+    private final int rotation;
+    private final int x;
+    private final double score;
+    private final int depthSearched;
+
+    public BotMove(int rotation, int x, double score, int depthSearched) {
+        this.rotation = rotation;
+        this.x = x;
+        this.score = score;
+        this.depthSearched = depthSearched;
+    }
+
+    public int getRotation() {
+        return rotation;
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    /**
+     * @return evaluation of the best leaf reached through this move
+     */
+    public double getScore() {
+        return score;
+    }
+
+    /**
+     * @return number of pieces (current plus previews) the search completed
+     */
+    public int getDepthSearched() {
+        return depthSearched;
+    }
+
+    @Override
+    public String toString() {
+        return "BotMove{rotation=" + rotation + ", x=" + x + ", score=" + score + ", depth=" + depthSearched + "}";
+    }
+}
@@ -0,0 +1,180 @@
+package com.comp2042.logic.ai;
+
+/**
+ * Bounded min-heap of search candidates with preallocated flat storage.
+ *
+ * <p>Keeps the best {@code capacity} boards seen so far. Board rows, scores and
+ * move data live in flat arrays indexed by slot, and the heap itself orders slot
+ * indices, so offering a candidate never allocates and a replacement only copies
+ * the rows of the new board once.</p>
+ *
+ * <p>Each board is kept once: offering a board with the hash of an entry
+ * replaces that entry if the new path ranks higher and is dropped otherwise.
+ * Candidates rank by score, then by lower hash, then by lower first move, a
+ * total order that makes the kept set independent of the offer order.</p>
+ */
+final class CandidateHeap {
+
+    private final int capacity;
+    private final int height;
+    private final int[] rows;
+    private final double[] scores;
+    private final double[] rewards;
+    private final int[] firstMoves;
+    private final long[] hashes;
+    private final int[] heap;
+    private int size;
+
+    CandidateHeap(int capacity, int height) {
+        this.capacity = capacity;
+        this.height = height;
+        this.rows = new int[capacity * height];
+        this.scores = new double[capacity];
+        this.rewards = new double[capacity];
+        this.firstMoves = new int[capacity];
+        this.hashes = new long[capacity];
+        this.heap = new int[capacity];
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    /**
+     * Offers the board currently held by {@code board}.
+     *
+     * @param hash Zobrist hash of {@code board}
+     */
+    void offer(double score, double reward, int firstMove, long hash, PackedBoard board) {
+        int pos = claimPosition(score, hash, firstMove);
+        if (pos < 0) {
+            return;
+        }
+        board.copyTo(rows, heap[pos] * height);
+        store(pos, score, reward, firstMove, hash);
+    }
+
+    /**
+     * Offers the entry at heap position {@code index} of another heap.
+     */
+    void offer(CandidateHeap other, int index) {
+        int source = other.heap[index];
+        double score = other.scores[source];
+        long hash = other.hashes[source];
+        int firstMove = other.firstMoves[source];
+        int pos = claimPosition(score, hash, firstMove);
+        if (pos < 0) {
+            return;
+        }
+        System.arraycopy(other.rows, source * other.height, rows, heap[pos] * height, height);
+        store(pos, score, other.rewards[source], firstMove, hash);
+    }
+
+    /** Loads the board of the entry at heap position {@code index}. */
+    void loadBoard(int index, PackedBoard board) {
+        board.copyFrom(rows, heap[index] * height);
+    }
+
+    double score(int index) {
+        return scores[heap[index]];
+    }
+
+    double reward(int index) {
+        return rewards[heap[index]];
+    }
+
+    int firstMove(int index) {
+        return firstMoves[heap[index]];
+    }
+
+    /** @return heap position of the highest-ranking entry, or -1 if empty */
+    int bestIndex() {
+        int best = -1;
+        for (int i = 0; i < size; i++) {
+            if (best < 0 || ranksAbove(heap[i], heap[best])) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    /** @return heap position to store the candidate at, or -1 to drop it */
+    private int claimPosition(double score, long hash, int firstMove) {
+        for (int pos = 0; pos < size; pos++) {
+            if (hashes[heap[pos]] == hash) {
+                // The same board reached by another path
+                return ranksAbove(score, hash, firstMove, heap[pos]) ? pos : -1;
+            }
+        }
+        if (size < capacity) {
+            // Slots are handed out in order until the heap is full
+            heap[size] = size;
+            return size++;
+        }
+        return ranksAbove(score, hash, firstMove, heap[0]) ? 0 : -1;
+    }
+
+    private void store(int pos, double score, double reward, int firstMove, long hash) {
+        int slot = heap[pos];
+        scores[slot] = score;
+        rewards[slot] = reward;
+        firstMoves[slot] = firstMove;
+        hashes[slot] = hash;
+        if (pos == size - 1) {
+            // A new entry at the end; a replaced last entry has no children
+            siftUp(pos);
+        } else {
+            // A replaced entry only ever ranks higher than before
+            siftDown(pos);
+        }
+    }
+
+    private boolean ranksAbove(int slot, int other) {
+        return ranksAbove(scores[slot], hashes[slot], firstMoves[slot], other);
+    }
+
+    private boolean ranksAbove(double score, long hash, int firstMove, int slot) {
+        if (score != scores[slot]) {
+            return score > scores[slot];
+        }
+        if (hash != hashes[slot]) {
+            return hash < hashes[slot];
+        }
+        return firstMove < firstMoves[slot];
+    }
+
+    private void siftUp(int pos) {
+        int slot = heap[pos];
+        while (pos > 0) {
+            int parent = (pos - 1) >>> 1;
+            if (!ranksAbove(heap[parent], slot)) {
+                break;
+            }
+            heap[pos] = heap[parent];
+            pos = parent;
+        }
+        heap[pos] = slot;
+    }
+
+    private void siftDown(int pos) {
+        int slot = heap[pos];
+        int half = size >>> 1;
+        while (pos < half) {
+            int child = 2 * pos + 1;
+            int right = child + 1;
+            if (right < size && ranksAbove(heap[child], heap[right])) {
+                child = right;
+            }
+            if (!ranksAbove(slot, heap[child])) {
+                break;
+            }
+            heap[pos] = heap[child];
+            pos = child;
+        }
+        heap[pos] = slot;
+    }
+}
@@ -0,0 +1,98 @@
+package com.comp2042.logic.ai;
+
+import java.util.Arrays;
+
+/**
+ * Weights of the board features used by {@link BoardEvaluator}.
+ *
+ * <p>This class is immutable. The array form ({@link #toArray()} /
+ * {@link #fromArray(double[])}) lists weights in {@link #FEATURE_NAMES} order.</p>
+ */
+public final class EvaluationWeights {
+
+    /** Feature names in array order. */
+    public static final String[] FEATURE_NAMES = {
+            "aggregateHeight", "completeLines", "holes", "bumpiness", "rowTransitions", "wellDepth"
+    };
+
+    /** Number of weighted features. */
+    public static final int FEATURE_COUNT = FEATURE_NAMES.length;
+
+    /** Hand-tuned defaults that play a solid single-preview game. */
+    public static final EvaluationWeights DEFAULT =
+            new EvaluationWeights(-0.51, 0.76, -0.36, -0.18, -0.10, -0.05);
+
+    private final double aggregateHeight;
+    private final double completeLines;
+    private final double holes;
+    private final double bumpiness;
+    private final double rowTransitions;
+    private final double wellDepth;
+
+    /**
+     * Creates a set of weights.
+     *
+     * @param aggregateHeight weight of the summed column heights
+     * @param completeLines   weight of rows cleared by the placement
+     * @param holes           weight of empty cells covered by filled cells
+     * @param bumpiness       weight of height differences between neighbouring columns
+     * @param rowTransitions  weight of filled/empty transitions along rows
+     * @param wellDepth       weight of the summed depth of one-wide wells
+     */
+    public EvaluationWeights(double aggregateHeight, double completeLines, double holes,
+                             double bumpiness, double rowTransitions, double wellDepth) {
+        this.aggregateHeight = aggregateHeight;
+        this.completeLines = completeLines;
+        this.holes = holes;
+        this.bumpiness = bumpiness;
+        this.rowTransitions = rowTransitions;
+        this.wellDepth = wellDepth;
+    }
+
+    /**
+     * Creates weights from an array in {@link #FEATURE_NAMES} order.
+     *
+     * @param values exactly {@link #FEATURE_COUNT} weights
+     * @return the weights
+     */
+    public static EvaluationWeights fromArray(double[] values) {
+        if (values.length != FEATURE_COUNT) {
+            throw new IllegalArgumentException("Expected " + FEATURE_COUNT + " weights, got " + values.length);
+        }
+        return new EvaluationWeights(values[0], values[1], values[2], values[3], values[4], values[5]);
+    }
+
+    /** @return the weights in {@link #FEATURE_NAMES} order */
+    public double[] toArray() {
+        return new double[]{aggregateHeight, completeLines, holes, bumpiness, rowTransitions, wellDepth};
+    }
+
+    public double getAggregateHeight() {
+        return aggregateHeight;
+    }
+
+    public double getCompleteLines() {
+        return completeLines;
+    }
+
+    public double getHoles() {
+        return holes;
+    }
+
+    public double getBumpiness() {
+        return bumpiness;
+    }
+
+    public double getRowTransitions() {
+        return rowTransitions;
+    }
+
+    public double getWellDepth() {
+        return wellDepth;
+    }
+
+    @Override
+    public String toString() {
+        return "EvaluationWeights" + Arrays.toString(toArray());
+    }
+}
@@ -0,0 +1,141 @@
+package com.comp2042.logic.ai;
+
+import java.util.SplittableRandom;
+
+/**
+ * Compares {@link VectorBoardEvaluator} with the scalar {@link BoardEvaluator}
+ * on the same boards, and checks that both give the same scores.
+ *
+ * <p>The boards come from random games: random pieces dropped at their best
+ * position, or at a random one every fourth piece, restarting when the stack
+ * tops out, so heights, holes, wells and line clears cover what a search
+ * sees. Each path scores every board once per round, the
+ * vector path in batches of the given size including the copy into the batch;
+ * the best round of each is reported after the warm-up rounds.</p>
+ *
+ * <p>Usage: {@code EvaluatorBenchmark [--boards N] [--batch N] [--rounds N]},
+ * run with {@code --add-modules jdk.incubator.vector}.</p>
+ */
+public final class EvaluatorBenchmark {
+
+    private static final int BOARD_COLS = 10;
+    private static final int BOARD_ROWS = 22;
+    private static final int WARMUP_ROUNDS = 20;
+
+    private EvaluatorBenchmark() { }
+
+    public static void main(String[] args) {
+        int boardCount = 100_000;
+        int batch = 64;
+        int rounds = 50;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--boards" -> boardCount = Integer.parseInt(args[++i]);
+                case "--batch" -> batch = Integer.parseInt(args[++i]);
+                case "--rounds" -> rounds = Integer.parseInt(args[++i]);
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        int[] lines = new int[boardCount];
+        PackedBoard[] boards = randomBoards(boardCount, lines, new SplittableRandom(42));
+        EvaluationWeights weights = EvaluationWeights.DEFAULT;
+        int[] heights = new int[BOARD_COLS];
+        VectorBoardEvaluator vector = new VectorBoardEvaluator(BOARD_COLS, BOARD_ROWS, batch);
+        double[] scalarScores = new double[boardCount];
+        double[] vectorScores = new double[boardCount];
+        double[] batchScores = new double[batch];
+
+        long bestScalar = Long.MAX_VALUE;
+        long bestVector = Long.MAX_VALUE;
+        for (int round = 0; round < WARMUP_ROUNDS + rounds; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < boardCount; i++) {
+                scalarScores[i] = BoardEvaluator.evaluate(boards[i], lines[i], weights, heights);
+            }
+            long scalarNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int from = 0; from < boardCount; from += batch) {
+                int to = Math.min(boardCount, from + batch);
+                vector.clear();
+                for (int i = from; i < to; i++) {
+                    vector.add(boards[i], lines[i]);
+                }
+                vector.evaluate(weights, batchScores);
+                System.arraycopy(batchScores, 0, vectorScores, from, to - from);
+            }
+            long vectorNanos = System.nanoTime() - start;
+
+            if (round >= WARMUP_ROUNDS) {
+                bestScalar = Math.min(bestScalar, scalarNanos);
+                bestVector = Math.min(bestVector, vectorNanos);
+            }
+        }
+
+        int mismatches = 0;
+        int clears = 0;
+        for (int i = 0; i < boardCount; i++) {
+            if (Double.compare(scalarScores[i], vectorScores[i]) != 0) {
+                mismatches++;
+            }
+            if (lines[i] > 0) {
+                clears++;
+            }
+        }
+
+        System.out.printf("Boards:              %d%n", boardCount);
+        System.out.printf("Boards after clears: %d%n", clears);
+        System.out.printf("Vector lanes:        %d (batch %d)%n", VectorBoardEvaluator.lanes(), batch);
+        System.out.printf("Scalar:              %.1f ns/board (%.1f M boards/s)%n",
+                (double) bestScalar / boardCount, boardCount * 1e3 / bestScalar);
+        System.out.printf("Vector:              %.1f ns/board (%.1f M boards/s)%n",
+                (double) bestVector / boardCount, boardCount * 1e3 / bestVector);
+        System.out.printf("Speedup:             %.2fx%n", (double) bestScalar / bestVector);
+        System.out.printf("Scores checked:      %s%n", mismatches == 0 ? "ok" : mismatches + " MISMATCHES");
+    }
+
+    /**
+     * @param lines receives the rows cleared by the placement that made each board
+     */
+    private static PackedBoard[] randomBoards(int count, int[] lines, SplittableRandom random) {
+        PackedBoard game = new PackedBoard(BOARD_COLS, BOARD_ROWS);
+        PackedBoard scratch = new PackedBoard(BOARD_COLS, BOARD_ROWS);
+        int[] heights = new int[BOARD_COLS];
+        PackedBoard[] boards = new PackedBoard[count];
+        for (int i = 0; i < count; i++) {
+            int type = random.nextInt(PieceShapes.PIECE_COUNT);
+            // Mostly the best placement, so rows fill and clear as they do in a search
+            boolean greedy = random.nextInt(4) > 0;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            PieceShapes.Rotation best = null;
+            int bestX = 0;
+            for (int r = 0; r < PieceShapes.rotationCount(type); r++) {
+                PieceShapes.Rotation rotation = PieceShapes.rotation(type, r);
+                for (int x = rotation.minX(); x <= rotation.maxX(BOARD_COLS); x++) {
+                    if (game.collides(rotation, x, 0)) {
+                        continue;
+                    }
+                    scratch.copyFrom(game);
+                    int cleared = scratch.place(rotation, x, scratch.dropY(rotation, x, 0));
+                    double score = greedy
+                            ? BoardEvaluator.evaluate(scratch, cleared, EvaluationWeights.DEFAULT, heights)
+                            : random.nextDouble();
+                    if (score > bestScore) {
+                        bestScore = score;
+                        best = rotation;
+                        bestX = x;
+                    }
+                }
+            }
+            if (best == null) {
+                game.clear();
+            } else {
+                lines[i] = game.place(best, bestX, game.dropY(best, bestX, 0));
+            }
+            boards[i] = new PackedBoard(BOARD_COLS, BOARD_ROWS);
+            boards[i].copyFrom(game);
+        }
+        return boards;
+    }
+}
@@ -0,0 +1,161 @@
+package com.comp2042.logic.ai;
+
+import java.util.SplittableRandom;
+
+/**
+ * Fast, seeded, UI-free game simulation used to measure how well a set of
+ * {@link EvaluationWeights} plays.
+ *
+ * <p>Pieces are drawn uniformly from a {@link SplittableRandom} seeded per game
+ * (the same distribution as {@code RandomBrickGenerator}), so a seed always
+ * yields the same piece sequence. Each piece is placed greedily at the position
+ * with the best {@link BoardEvaluator} score and hard-dropped from the spawn row.
+ * The game ends when a piece cannot be placed or the piece limit is reached.
+ * When the JVM runs with {@code --add-modules jdk.incubator.vector}, all the
+ * placements of a piece are scored together by a {@link VectorBoardEvaluator},
+ * which picks the same positions faster.</p>
+ *
+ * <p>An instance owns all of its buffers and is reused for many games; it is not
+ * thread-safe, so parallel callers keep one instance per thread.</p>
+ */
+public final class HeadlessGame {
+
+    private static final int SPAWN_Y = 0;
+
+    private final PackedBoard board;
+    private final PackedBoard scratch;
+    private final int[] heights;
+    private int piecesPlaced;
+
+    // Batched scoring: the placements of the current piece, in the order they were added
+    private final VectorBoardEvaluator batch;
+    private final PieceShapes.Rotation[] batchRotations;
+    private final int[] batchX;
+    private final int[] batchY;
+    private final double[] batchScores;
+
+    /**
+     * @param width  number of board columns
+     * @param height number of board rows (including hidden rows)
+     */
+    public HeadlessGame(int width, int height) {
+        this.board = new PackedBoard(width, height);
+        this.scratch = new PackedBoard(width, height);
+        this.heights = new int[width];
+        // At most one placement per column for each of the (up to 4) rotations
+        int placements = 4 * width;
+        this.batch = BoardEvaluator.VECTOR_API ? new VectorBoardEvaluator(width, height, placements) : null;
+        this.batchRotations = new PieceShapes.Rotation[placements];
+        this.batchX = new int[placements];
+        this.batchY = new int[placements];
+        this.batchScores = new double[placements];
+    }
+
+    /**
+     * Plays one game from an empty board.
+     *
+     * @param seed      seed of the piece sequence
+     * @param weights   evaluation weights driving placement
+     * @param maxPieces upper bound on pieces placed
+     * @return total rows cleared
+     */
+    public int play(long seed, EvaluationWeights weights, int maxPieces) {
+        board.clear();
+        piecesPlaced = 0;
+        SplittableRandom random = new SplittableRandom(seed);
+        int lines = 0;
+        while (piecesPlaced < maxPieces) {
+            int cleared = placeBest(random.nextInt(PieceShapes.PIECE_COUNT), weights);
+            if (cleared < 0) {
+                break;
+            }
+            lines += cleared;
+            piecesPlaced++;
+        }
+        return lines;
+    }
+
+    /** @return pieces placed in the last game */
+    public int getPiecesPlaced() {
+        return piecesPlaced;
+    }
+
+    /**
+     * Places a piece at its best-scoring position.
+     *
+     * @return rows cleared, or -1 if the piece could not be placed (top-out)
+     */
+    private int placeBest(int type, EvaluationWeights weights) {
+        if (batch != null) {
+            return placeBestBatched(type, weights);
+        }
+        int width = board.width();
+        double bestScore = Double.NEGATIVE_INFINITY;
+        PieceShapes.Rotation bestRotation = null;
+        int bestX = 0;
+        int bestY = 0;
+
+        for (int r = 0; r < PieceShapes.rotationCount(type); r++) {
+            PieceShapes.Rotation rotation = PieceShapes.rotation(type, r);
+            int maxX = rotation.maxX(width);
+            for (int x = rotation.minX(); x <= maxX; x++) {
+                if (board.collides(rotation, x, SPAWN_Y)) {
+                    continue;
+                }
+                int y = board.dropY(rotation, x, SPAWN_Y);
+                scratch.copyFrom(board);
+                int lines = scratch.place(rotation, x, y);
+                double score = BoardEvaluator.evaluate(scratch, lines, weights, heights);
+                if (score > bestScore) {
+                    bestScore = score;
+                    bestRotation = rotation;
+                    bestX = x;
+                    bestY = y;
+                }
+            }
+        }
+
+        if (bestRotation == null) {
+            return -1;
+        }
+        return board.place(bestRotation, bestX, bestY);
+    }
+
+    /**
+     * {@link #placeBest} with every placement scored in one batch. Ties go to
+     * the first placement, as in the scalar loop, so both choose the same one.
+     */
+    private int placeBestBatched(int type, EvaluationWeights weights) {
+        int width = board.width();
+        batch.clear();
+        for (int r = 0; r < PieceShapes.rotationCount(type); r++) {
+            PieceShapes.Rotation rotation = PieceShapes.rotation(type, r);
+            int maxX = rotation.maxX(width);
+            for (int x = rotation.minX(); x <= maxX; x++) {
+                if (board.collides(rotation, x, SPAWN_Y)) {
+                    continue;
+                }
+                int y = board.dropY(rotation, x, SPAWN_Y);
+                scratch.copyFrom(board);
+                int lines = scratch.place(rotation, x, y);
+                int index = batch.add(scratch, lines);
+                batchRotations[index] = rotation;
+                batchX[index] = x;
+                batchY[index] = y;
+            }
+        }
+
+        int count = batch.size();
+        if (count == 0) {
+            return -1;
+        }
+        batch.evaluate(weights, batchScores);
+        int best = 0;
+        for (int i = 1; i < count; i++) {
+            if (batchScores[i] > batchScores[best]) {
+                best = i;
+            }
+        }
+        return board.place(batchRotations[best], batchX[best], batchY[best]);
+    }
+}
@@ -0,0 +1,220 @@
+package com.comp2042.logic.ai;
+
+import java.util.Arrays;
+
+/**
+ * Compact board representation used by the bot's search.
+ *
+ * <p>Each row is stored as a single {@code int} bit mask (bit {@code c} set means
+ * column {@code c} is filled), so collision tests, placement and line clears are
+ * a handful of bitwise operations per row instead of nested loops over an
+ * {@code int[][]} matrix. Row 0 is the top of the board, matching the game matrix.</p>
+ *
+ * <p>Instances are mutable and intended to be reused as scratch buffers.</p>
+ */
+public final class PackedBoard {
+
+    private final int width;
+    private final int height;
+    private final int fullRow;
+    private final int[] rows;
+
+    /**
+     * Creates an empty board.
+     *
+     * @param width  number of columns (at most {@link Zobrist#MAX_COLS} - 1)
+     * @param height number of rows (at most {@link Zobrist#MAX_ROWS})
+     */
+    public PackedBoard(int width, int height) {
+        if (width <= 0 || width >= Zobrist.MAX_COLS || height <= 0 || height > Zobrist.MAX_ROWS) {
+            throw new IllegalArgumentException("Unsupported board size " + width + "x" + height);
+        }
+        this.width = width;
+        this.height = height;
+        this.fullRow = (1 << width) - 1;
+        this.rows = new int[height];
+    }
+
+    /** @return number of columns */
+    public int width() {
+        return width;
+    }
+
+    /** @return number of rows */
+    public int height() {
+        return height;
+    }
+
+    /** @return mask of a completely filled row */
+    public int fullRowMask() {
+        return fullRow;
+    }
+
+    /**
+     * @param r row index (0 = top)
+     * @return bit mask of filled cells in the row
+     */
+    public int row(int r) {
+        return rows[r];
+    }
+
+    /**
+     * Sets the raw mask of a row.
+     *
+     * @param r    row index (0 = top)
+     * @param mask column bit mask
+     */
+    public void setRow(int r, int mask) {
+        rows[r] = mask & fullRow;
+    }
+
+    /** Empties every row. */
+    public void clear() {
+        Arrays.fill(rows, 0);
+    }
+
+    /**
+     * Loads the filled cells of a game matrix.
+     *
+     * @param matrix board matrix with {@code height} rows of {@code width} cells
+     */
+    public void load(int[][] matrix) {
+        for (int r = 0; r < height; r++) {
+            int mask = 0;
+            int[] row = matrix[r];
+            for (int c = 0; c < width; c++) {
+                if (row[c] != 0) {
+                    mask |= 1 << c;
+                }
+            }
+            rows[r] = mask;
+        }
+    }
+
+    /**
+     * Copies all rows from another board of the same size.
+     *
+     * @param other the source board
+     */
+    public void copyFrom(PackedBoard other) {
+        System.arraycopy(other.rows, 0, rows, 0, height);
+    }
+
+    /**
+     * Copies rows from flat storage (used by pooled search nodes).
+     *
+     * @param src    flat array holding {@code height} rows starting at {@code offset}
+     * @param offset index of the first row
+     */
+    public void copyFrom(int[] src, int offset) {
+        System.arraycopy(src, offset, rows, 0, height);
+    }
+
+    /**
+     * Copies rows into flat storage.
+     *
+     * @param dst    destination array
+     * @param offset index to write the first row at
+     */
+    public void copyTo(int[] dst, int offset) {
+        System.arraycopy(rows, 0, dst, offset, height);
+    }
+
+    /**
+     * Tests whether a piece rotation would collide at the given offset.
+     * As in {@code MatrixOperations.intersect}, cells above the board are allowed.
+     *
+     * @param rotation the piece rotation
+     * @param x        column offset of the shape matrix
+     * @param y        row offset of the shape matrix
+     * @return true if the piece overlaps a wall, the floor or a filled cell
+     */
+    public boolean collides(PieceShapes.Rotation rotation, int x, int y) {
+        if (x < rotation.minX() || x > rotation.maxX(width)) {
+            return true;
+        }
+        for (int i = rotation.topRow(); i <= rotation.bottomRow(); i++) {
+            int boardRow = y + i;
+            if (boardRow < 0) {
+                continue;
+            }
+            if (boardRow >= height) {
+                return true;
+            }
+            if ((rows[boardRow] & shift(rotation.rowMask(i), x)) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Drops a piece straight down from {@code y} until it rests.
+     *
+     * @param rotation the piece rotation
+     * @param x        column offset of the shape matrix
+     * @param y        starting row offset (must not collide)
+     * @return the lowest non-colliding row offset
+     */
+    public int dropY(PieceShapes.Rotation rotation, int x, int y) {
+        while (!collides(rotation, x, y + 1)) {
+            y++;
+        }
+        return y;
+    }
+
+    /**
+     * Places a piece and clears any completed rows.
+     *
+     * @param rotation the piece rotation
+     * @param x        column offset of the shape matrix
+     * @param y        row offset of the shape matrix
+     * @return number of rows cleared
+     */
+    public int place(PieceShapes.Rotation rotation, int x, int y) {
+        for (int i = rotation.topRow(); i <= rotation.bottomRow(); i++) {
+            int boardRow = y + i;
+            if (boardRow >= 0) {
+                rows[boardRow] |= shift(rotation.rowMask(i), x);
+            }
+        }
+        return clearFullRows();
+    }
+
+    /**
+     * Removes full rows in place, shifting the rows above them down.
+     *
+     * @return number of rows removed
+     */
+    public int clearFullRows() {
+        int write = height - 1;
+        for (int read = height - 1; read >= 0; read--) {
+            int mask = rows[read];
+            if (mask != fullRow) {
+                rows[write--] = mask;
+            }
+        }
+        int cleared = write + 1;
+        while (write >= 0) {
+            rows[write--] = 0;
+        }
+        return cleared;
+    }
+
+    /**
+     * @return the Zobrist hash of the filled cells
+     */
+    public long zobristHash() {
+        long hash = 0L;
+        for (int r = 0; r < height; r++) {
+            if (rows[r] != 0) {
+                hash ^= Zobrist.rowHash(r, rows[r]);
+            }
+        }
+        return hash;
+    }
+
+    private static int shift(int mask, int x) {
+        return x >= 0 ? mask << x : mask >>> -x;
+    }
+}
@@ -0,0 +1,181 @@
+package com.comp2042.logic.ai;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+
+import java.util.List;
+
+/**
+ * Precomputed bit-mask form of every tetromino rotation, used by the bot
+ * to test and place pieces on a {@link PackedBoard} without touching
+ * {@code int[][]} matrices.
+ *
+ * <p>Piece types are indexed by their cell value minus one, so type 0 is
+ * the I-brick (value 1) and type 6 is the Z-brick (value 7). Rotation
+ * indices match the order of {@link Brick#getShapeMatrix()}, which is the
+ * same order the game's {@code BrickRotator} cycles through.</p>
+ */
+public final class PieceShapes {
+
+    /** Number of distinct tetromino types. */
+    public static final int PIECE_COUNT = 7;
+
+    /** Brick class names in type order (value 1..7). */
+    private static final String[] TYPE_NAMES = {
+            "IBrick", "JBrick", "LBrick", "OBrick", "SBrick", "TBrick", "ZBrick"
+    };
+
+    private static final Rotation[][] ROTATIONS = new Rotation[PIECE_COUNT][];
+
+    static {
+        RandomBrickGenerator factory = new RandomBrickGenerator();
+        for (int type = 0; type < PIECE_COUNT; type++) {
+            List<int[][]> shapes = factory.createBrickFromType(TYPE_NAMES[type]).getShapeMatrix();
+            ROTATIONS[type] = new Rotation[shapes.size()];
+            for (int r = 0; r < shapes.size(); r++) {
+                ROTATIONS[type][r] = new Rotation(shapes.get(r));
+            }
+        }
+    }
+
+    /** Prevent instantiation of utility class. */
+    private PieceShapes() { }
+
+    /**
+     * @param type the piece type (0-6)
+     * @return number of distinct rotation states for that piece
+     */
+    public static int rotationCount(int type) {
+        return ROTATIONS[type].length;
+    }
+
+    /**
+     * @param type     the piece type (0-6)
+     * @param rotation the rotation index
+     * @return the precomputed rotation masks
+     */
+    public static Rotation rotation(int type, int rotation) {
+        return ROTATIONS[type][rotation];
+    }
+
+    /**
+     * Returns the brick class name for a piece type, as used by
+     * {@link RandomBrickGenerator#createBrickFromType(String)}.
+     *
+     * @param type the piece type (0-6)
+     * @return the brick type name
+     */
+    public static String typeName(int type) {
+        return TYPE_NAMES[type];
+    }
+
+    /**
+     * Determines the piece type of a brick from the value stored in its cells.
+     *
+     * @param brick the brick to inspect
+     * @return the piece type (0-6), or -1 if the brick is null or empty
+     */
+    public static int typeOf(Brick brick) {
+        if (brick == null) {
+            return -1;
+        }
+        return typeOf(brick.getShapeMatrix().get(0));
+    }
+
+    /**
+     * Determines the piece type from a shape matrix.
+     *
+     * @param shape a brick shape matrix
+     * @return the piece type (0-6), or -1 if the shape has no filled cells
+     */
+    public static int typeOf(int[][] shape) {
+        for (int[] row : shape) {
+            for (int value : row) {
+                if (value != 0) {
+                    return value - 1;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * One rotation state of a piece, stored as one bit mask per shape row.
+     * Bit {@code c} of a mask corresponds to column {@code c} of the 4x4 shape matrix.
+     */
+    public static final class Rotation {
+
+        private final int[] rowMasks;
+        private final int minCol;
+        private final int maxCol;
+        private final int topRow;
+        private final int bottomRow;
+
+        Rotation(int[][] shape) {
+            rowMasks = new int[shape.length];
+            int min = Integer.MAX_VALUE;
+            int max = -1;
+            int top = -1;
+            int bottom = -1;
+            for (int r = 0; r < shape.length; r++) {
+                int mask = 0;
+                for (int c = 0; c < shape[r].length; c++) {
+                    if (shape[r][c] != 0) {
+                        mask |= 1 << c;
+                        min = Math.min(min, c);
+                        max = Math.max(max, c);
+                    }
+                }
+                rowMasks[r] = mask;
+                if (mask != 0) {
+                    if (top < 0) {
+                        top = r;
+                    }
+                    bottom = r;
+                }
+            }
+            minCol = min;
+            maxCol = max;
+            topRow = top;
+            bottomRow = bottom;
+        }
+
+        /** @return the column mask for the given shape row */
+        public int rowMask(int row) {
+            return rowMasks[row];
+        }
+
+        /** @return leftmost filled column within the shape matrix */
+        public int minCol() {
+            return minCol;
+        }
+
+        /** @return rightmost filled column within the shape matrix */
+        public int maxCol() {
+            return maxCol;
+        }
+
+        /** @return first shape row containing a filled cell */
+        public int topRow() {
+            return topRow;
+        }
+
+        /** @return last shape row containing a filled cell */
+        public int bottomRow() {
+            return bottomRow;
+        }
+
+        /** @return smallest legal x offset for this rotation */
+        public int minX() {
+            return -minCol;
+        }
+
+        /**
+         * @param boardWidth number of board columns
+         * @return largest legal x offset for this rotation
+         */
+        public int maxX(int boardWidth) {
+            return boardWidth - 1 - maxCol;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.comp2042.logic.ai;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free map from board hash to the best reward of any path that reached
+ * the board during the same search ply.
+ *
+ * <p>Equal boards evaluate equally, so a path whose reward is below the
+ * recorded one can never score higher and is skipped before evaluation. Ties
+ * are let through for the candidate heaps to break, so which worker reaches a
+ * board first does not change the search result.</p>
+ *
+ * <p>Open addressing with linear probing over an {@link AtomicLongArray} of
+ * interleaved key and reward slots. Keys are claimed with a CAS from zero and
+ * rewards raised with a CAS loop, so concurrent search workers can insert
+ * without locking. When the table is full every path is reported as the best,
+ * which only costs duplicate work, never a wrong result.</p>
+ */
+final class TranspositionTable {
+
+    private static final long EMPTY = 0L;
+    private static final long ZERO_REPLACEMENT = 0x9E37_79B9_7F4A_7C15L;
+    private static final long NO_REWARD = Double.doubleToRawLongBits(Double.NEGATIVE_INFINITY);
+    private static final int MAX_PROBES = 32;
+
+    // slots[2 * i] is a key, slots[2 * i + 1] the raw bits of its best reward
+    private final AtomicLongArray slots;
+    private final int mask;
+
+    /**
+     * @param expectedEntries number of boards expected between {@link #clear()} calls
+     */
+    TranspositionTable(int expectedEntries) {
+        int capacity = Integer.highestOneBit(Math.max(16, expectedEntries * 2 - 1)) << 1;
+        slots = new AtomicLongArray(capacity * 2);
+        mask = capacity - 1;
+        clear();
+    }
+
+    /**
+     * Records the reward of a path to a board.
+     *
+     * @param hash   the board hash
+     * @param reward reward accumulated along the path
+     * @return false if a higher reward was already recorded for the board
+     */
+    boolean offer(long hash, double reward) {
+        long key = hash == EMPTY ? ZERO_REPLACEMENT : hash;
+        int index = (int) (key ^ (key >>> 32)) & mask;
+        for (int probe = 0; probe < MAX_PROBES; probe++) {
+            long current = slots.get(2 * index);
+            if (current == EMPTY) {
+                if (slots.compareAndSet(2 * index, EMPTY, key)) {
+                    return raise(2 * index + 1, reward);
+                }
+                current = slots.get(2 * index);
+            }
+            if (current == key) {
+                return raise(2 * index + 1, reward);
+            }
+            index = (index + 1) & mask;
+        }
+        return true;
+    }
+
+    /** Removes all entries. Must not run concurrently with {@link #offer}. */
+    void clear() {
+        for (int i = 0; i < slots.length(); i += 2) {
+            slots.lazySet(i, EMPTY);
+            slots.lazySet(i + 1, NO_REWARD);
+        }
+    }
+
+    private boolean raise(int at, double reward) {
+        while (true) {
+            long bits = slots.get(at);
+            double best = Double.longBitsToDouble(bits);
+            if (best > reward) {
+                return false;
+            }
+            if (best == reward || slots.compareAndSet(at, bits, Double.doubleToRawLongBits(reward))) {
+                return true;
+            }
+        }
+    }
+}
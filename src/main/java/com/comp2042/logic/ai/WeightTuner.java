@@ -0,0 +1,415 @@
+package com.comp2042.logic.ai;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Offline tool that evolves {@link EvaluationWeights} with a genetic algorithm.
+ *
+ * <p>Every individual plays the same fixed set of seeded {@link HeadlessGame}s,
+ * and its fitness is the mean number of lines cleared. Each generation the
+ * weakest part of the population is replaced by offspring bred from tournament
+ * winners (fitness-weighted crossover plus occasional mutation).</p>
+ *
+ * <p>Games are evaluated as independent (individual, seed) tasks on a
+ * work-stealing {@link ForkJoinPool} sized to all cores. Tasks share no mutable
+ * board state: each pool thread reuses its own {@link HeadlessGame} buffers and
+ * writes its result into a dedicated array slot, so the collector stays idle
+ * during evaluation. Individuals carried over unchanged are not re-played.</p>
+ *
+ * <p>After every generation the population is checkpointed to disk (written to a
+ * temporary file, then atomically moved) and an interrupted run resumes from it.
+ * Each generation draws its random numbers from a generator derived from the
+ * seed and the generation number, so a resumed run breeds exactly the same
+ * offspring as an uninterrupted one.</p>
+ *
+ * <p>Usage: {@code java -cp <classpath> com.comp2042.logic.ai.WeightTuner
+ * [--generations=50] [--population=100] [--games=16] [--pieces=1000]
+ * [--seed=2042] [--checkpoint=tuner-checkpoint.properties]}; adding
+ * {@code --add-modules jdk.incubator.vector} to the JVM scores placements in
+ * SIMD batches.</p>
+ */
+public final class WeightTuner {
+
+    private static final int BOARD_WIDTH = 10;
+    private static final int BOARD_HEIGHT = 22;
+
+    /** Share of the population replaced by offspring each generation. */
+    private static final double REPLACEMENT_RATE = 0.3;
+
+    /** Share of the population sampled for each tournament. */
+    private static final double TOURNAMENT_RATE = 0.1;
+
+    private static final double MUTATION_CHANCE = 0.05;
+    private static final double MUTATION_STEP = 0.2;
+
+    /** Each pool thread keeps one simulator for the whole run. */
+    private static final ThreadLocal<HeadlessGame> GAMES =
+            ThreadLocal.withInitial(() -> new HeadlessGame(BOARD_WIDTH, BOARD_HEIGHT));
+
+    private final int populationSize;
+    private final int maxPieces;
+    private final long[] gameSeeds;
+    private final Path checkpoint;
+    private final ForkJoinPool pool;
+    private final long seed;
+
+    private double[][] population;
+    private double[] fitness;
+    private boolean[] evaluated;
+    private int generation;
+
+    /**
+     * Creates a tuner.
+     *
+     * @param populationSize number of weight vectors per generation
+     * @param games          number of seeded games per individual
+     * @param maxPieces      piece limit per game
+     * @param seed           seed for the game seeds and the evolution itself
+     * @param checkpoint     checkpoint file, or null to disable checkpointing
+     * @param pool           pool that runs the games
+     */
+    public WeightTuner(int populationSize, int games, int maxPieces, long seed, Path checkpoint, ForkJoinPool pool) {
+        if (populationSize < 4 || games < 1 || maxPieces < 1) {
+            throw new IllegalArgumentException("population >= 4, games >= 1 and pieces >= 1 are required");
+        }
+        this.populationSize = populationSize;
+        this.maxPieces = maxPieces;
+        this.checkpoint = checkpoint;
+        this.pool = pool;
+        this.seed = seed;
+        SplittableRandom random = new SplittableRandom(seed);
+        this.gameSeeds = new long[games];
+        for (int i = 0; i < games; i++) {
+            gameSeeds[i] = random.nextLong();
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        int generations = 50;
+        int population = 100;
+        int games = 16;
+        int pieces = 1000;
+        long seed = 2042;
+        Path checkpointPath = Paths.get("tuner-checkpoint.properties");
+
+        for (String arg : args) {
+            String[] parts = arg.split("=", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            }
+            switch (parts[0]) {
+                case "--generations" -> generations = Integer.parseInt(parts[1]);
+                case "--population" -> population = Integer.parseInt(parts[1]);
+                case "--games" -> games = Integer.parseInt(parts[1]);
+                case "--pieces" -> pieces = Integer.parseInt(parts[1]);
+                case "--seed" -> seed = Long.parseLong(parts[1]);
+                case "--checkpoint" -> checkpointPath = Paths.get(parts[1]);
+                default -> throw new IllegalArgumentException("Unknown option " + parts[0]);
+            }
+        }
+
+        // One worker per core; the main thread only waits for each generation
+        ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        try {
+            WeightTuner tuner = new WeightTuner(population, games, pieces, seed, checkpointPath, pool);
+            EvaluationWeights best = tuner.run(generations);
+            System.out.println("Best weights: " + best);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Runs the tuner, resuming from the checkpoint if one exists.
+     *
+     * @param generations generation number to stop at
+     * @return the best weights found
+     * @throws IOException if the checkpoint cannot be read or written
+     */
+    public EvaluationWeights run(int generations) throws IOException {
+        if (checkpoint != null && Files.exists(checkpoint)) {
+            loadCheckpoint();
+            if (generation >= generations) {
+                System.out.println("Checkpoint " + checkpoint + " already reached generation " + generation);
+                return EvaluationWeights.fromArray(population[bestIndex()]);
+            }
+            // The checkpointed generation is complete; continue with the next one
+            evolve();
+            generation++;
+            System.out.println("Resumed tuner at generation " + generation + " from " + checkpoint);
+        } else {
+            initializePopulation();
+        }
+
+        while (true) {
+            long start = System.nanoTime();
+            evaluatePopulation();
+            int best = bestIndex();
+            System.out.printf(Locale.ROOT, "Generation %d: best=%.1f mean=%.1f (%d ms) %s%n",
+                    generation, fitness[best], meanFitness(),
+                    (System.nanoTime() - start) / 1_000_000, EvaluationWeights.fromArray(population[best]));
+            saveCheckpoint();
+            if (generation >= generations) {
+                return EvaluationWeights.fromArray(population[best]);
+            }
+            evolve();
+            generation++;
+        }
+    }
+
+    private void initializePopulation() {
+        population = new double[populationSize][];
+        fitness = new double[populationSize];
+        evaluated = new boolean[populationSize];
+        // Seed the population with the hand-tuned defaults
+        population[0] = normalize(EvaluationWeights.DEFAULT.toArray());
+        SplittableRandom random = randomFor(0);
+        for (int i = 1; i < populationSize; i++) {
+            double[] weights = new double[EvaluationWeights.FEATURE_COUNT];
+            for (int f = 0; f < weights.length; f++) {
+                weights[f] = random.nextDouble(-1.0, 1.0);
+            }
+            population[i] = normalize(weights);
+        }
+        generation = 0;
+    }
+
+    /** Plays every (unevaluated individual, seed) pair in parallel. */
+    private void evaluatePopulation() {
+        int pending = 0;
+        int[] individuals = new int[populationSize];
+        for (int i = 0; i < populationSize; i++) {
+            if (!evaluated[i]) {
+                individuals[pending++] = i;
+            }
+        }
+        if (pending == 0) {
+            return;
+        }
+
+        EvaluationWeights[] weights = new EvaluationWeights[pending];
+        for (int i = 0; i < pending; i++) {
+            weights[i] = EvaluationWeights.fromArray(population[individuals[i]]);
+        }
+        int[] lines = new int[pending * gameSeeds.length];
+        pool.invoke(new GameTask(weights, lines, 0, lines.length));
+
+        for (int i = 0; i < pending; i++) {
+            long total = 0;
+            for (int g = 0; g < gameSeeds.length; g++) {
+                total += lines[i * gameSeeds.length + g];
+            }
+            fitness[individuals[i]] = (double) total / gameSeeds.length;
+            evaluated[individuals[i]] = true;
+        }
+    }
+
+    /** Replaces the weakest individuals with offspring of tournament winners. */
+    private void evolve() {
+        SplittableRandom random = randomFor(generation + 1);
+        int offspringCount = Math.max(1, (int) (populationSize * REPLACEMENT_RATE));
+        double[][] offspring = new double[offspringCount][];
+        for (int i = 0; i < offspringCount; i++) {
+            int[] parents = tournament(random);
+            offspring[i] = crossover(parents[0], parents[1], random);
+        }
+
+        Integer[] order = new Integer[populationSize];
+        for (int i = 0; i < populationSize; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(fitness[a], fitness[b]));
+        for (int i = 0; i < offspringCount; i++) {
+            int replaced = order[i];
+            population[replaced] = offspring[i];
+            evaluated[replaced] = false;
+        }
+    }
+
+    /** @return indices of the two fittest individuals in a random sample */
+    private int[] tournament(SplittableRandom random) {
+        int sampleSize = Math.max(2, (int) (populationSize * TOURNAMENT_RATE));
+        int first = -1;
+        int second = -1;
+        for (int i = 0; i < sampleSize; i++) {
+            int candidate = random.nextInt(populationSize);
+            if (first < 0 || fitness[candidate] > fitness[first]) {
+                second = first;
+                first = candidate;
+            } else if (candidate != first && (second < 0 || fitness[candidate] > fitness[second])) {
+                second = candidate;
+            }
+        }
+        if (second < 0) {
+            second = (first + 1) % populationSize;
+        }
+        return new int[]{first, second};
+    }
+
+    private double[] crossover(int a, int b, SplittableRandom random) {
+        double fa = fitness[a];
+        double fb = fitness[b];
+        double sum = fa + fb;
+        double wa = sum > 0 ? fa / sum : 0.5;
+        double wb = 1.0 - wa;
+        double[] child = new double[EvaluationWeights.FEATURE_COUNT];
+        for (int f = 0; f < child.length; f++) {
+            child[f] = population[a][f] * wa + population[b][f] * wb;
+        }
+        if (random.nextDouble() < MUTATION_CHANCE) {
+            child[random.nextInt(child.length)] += random.nextDouble(-MUTATION_STEP, MUTATION_STEP);
+        }
+        return normalize(child);
+    }
+
+    /**
+     * @return the generator for breeding {@code generation}, which depends only
+     *         on the seed and the generation number
+     */
+    private SplittableRandom randomFor(int generation) {
+        // Murmur3 finalizer, so neighbouring generations get unrelated streams
+        long z = seed + (generation + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return new SplittableRandom(z ^ (z >>> 33));
+    }
+
+    private int bestIndex() {
+        int best = 0;
+        for (int i = 1; i < populationSize; i++) {
+            if (fitness[i] > fitness[best]) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    private double meanFitness() {
+        double sum = 0;
+        for (double f : fitness) {
+            sum += f;
+        }
+        return sum / populationSize;
+    }
+
+    /** Scales a weight vector to unit length; only its direction affects play. */
+    private static double[] normalize(double[] weights) {
+        double norm = 0;
+        for (double w : weights) {
+            norm += w * w;
+        }
+        norm = Math.sqrt(norm);
+        if (norm > 0) {
+            for (int i = 0; i < weights.length; i++) {
+                weights[i] /= norm;
+            }
+        }
+        return weights;
+    }
+
+    private void saveCheckpoint() throws IOException {
+        if (checkpoint == null) {
+            return;
+        }
+        Properties properties = new Properties();
+        properties.setProperty("generation", Integer.toString(generation));
+        properties.setProperty("population", Integer.toString(populationSize));
+        for (int i = 0; i < populationSize; i++) {
+            properties.setProperty("individual." + i, join(population[i]));
+            properties.setProperty("fitness." + i, Double.toString(fitness[i]));
+        }
+
+        Path parent = checkpoint.toAbsolutePath().getParent();
+        Path temp = Files.createTempFile(parent, "tuner", ".tmp");
+        try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            properties.store(writer, "WeightTuner checkpoint");
+        }
+        Files.move(temp, checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void loadCheckpoint() throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(checkpoint, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        int saved = Integer.parseInt(properties.getProperty("population"));
+        if (saved != populationSize) {
+            throw new IOException("Checkpoint population " + saved + " does not match " + populationSize);
+        }
+        population = new double[populationSize][];
+        fitness = new double[populationSize];
+        evaluated = new boolean[populationSize];
+        for (int i = 0; i < populationSize; i++) {
+            population[i] = split(properties.getProperty("individual." + i));
+            fitness[i] = Double.parseDouble(properties.getProperty("fitness." + i));
+            evaluated[i] = true;
+        }
+        generation = Integer.parseInt(properties.getProperty("generation"));
+    }
+
+    private static String join(double[] values) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(values[i]);
+        }
+        return builder.toString();
+    }
+
+    private static double[] split(String text) {
+        String[] parts = text.split(",");
+        double[] values = new double[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            values[i] = Double.parseDouble(parts[i]);
+        }
+        return values;
+    }
+
+    /**
+     * Plays a range of (individual, seed) games, splitting in halves so idle
+     * pool threads can steal work.
+     */
+    private final class GameTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient EvaluationWeights[] weights;
+        private final int[] lines;
+        private final int from;
+        private final int to;
+
+        GameTask(EvaluationWeights[] weights, int[] lines, int from, int to) {
+            this.weights = weights;
+            this.lines = lines;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                HeadlessGame game = GAMES.get();
+                int games = gameSeeds.length;
+                lines[from] = game.play(gameSeeds[from % games], weights[from / games], maxPieces);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new GameTask(weights, lines, from, mid), new GameTask(weights, lines, mid, to));
+        }
+    }
+}
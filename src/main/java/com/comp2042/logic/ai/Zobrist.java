@@ -0,0 +1,80 @@
+package com.comp2042.logic.ai;
+
+import java.util.SplittableRandom;
+
+/**
+ * Zobrist keys for board cells and the falling piece.
+ *
+ * <p>The hash of a board is the XOR of the keys of all filled cells, so it can
+ * be updated incrementally as cells are set. A piece's pose (type, rotation and
+ * position) has a key of its own to XOR in. Keys are generated from a fixed
+ * seed, which keeps hashes identical across runs and machines.</p>
+ */
+public final class Zobrist {
+
+    /** Maximum supported board width (columns). */
+    public static final int MAX_COLS = 32;
+
+    /** Maximum supported board height (rows). */
+    public static final int MAX_ROWS = 64;
+
+    private static final int MAX_ROTATIONS = 4;
+
+    // A piece's shape matrix may hang off the board by up to this many cells
+    private static final int POSE_MARGIN = 4;
+
+    private static final long[] CELL_KEYS = new long[MAX_COLS * MAX_ROWS];
+    private static final long[] PIECE_KEYS = new long[PieceShapes.PIECE_COUNT * MAX_ROTATIONS];
+    private static final long[] X_KEYS = new long[MAX_COLS + 2 * POSE_MARGIN];
+    private static final long[] Y_KEYS = new long[MAX_ROWS + 2 * POSE_MARGIN];
+
+    static {
+        SplittableRandom random = new SplittableRandom(0x2042_7E7A_15L);
+        for (long[] keys : new long[][]{CELL_KEYS, PIECE_KEYS, X_KEYS, Y_KEYS}) {
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = random.nextLong();
+            }
+        }
+    }
+
+    /** Prevent instantiation of utility class. */
+    private Zobrist() { }
+
+    /**
+     * @param row board row
+     * @param col board column
+     * @return the key for a filled cell at that position
+     */
+    public static long cellKey(int row, int col) {
+        return CELL_KEYS[row * MAX_COLS + col];
+    }
+
+    /**
+     * @param type     piece type (0-6)
+     * @param rotation rotation index
+     * @param x        column offset of the piece's shape matrix
+     * @param y        row offset of the piece's shape matrix
+     * @return the key for a piece in that pose
+     */
+    public static long poseKey(int type, int rotation, int x, int y) {
+        return PIECE_KEYS[type * MAX_ROTATIONS + rotation]
+                ^ X_KEYS[x + POSE_MARGIN] ^ Y_KEYS[y + POSE_MARGIN];
+    }
+
+    /**
+     * Hashes all filled cells of a single packed row.
+     *
+     * @param row  board row index
+     * @param mask column bit mask of filled cells (bit c = column c)
+     * @return XOR of the keys of every filled cell in the row
+     */
+    public static long rowHash(int row, int mask) {
+        long hash = 0L;
+        int base = row * MAX_COLS;
+        while (mask != 0) {
+            hash ^= CELL_KEYS[base + Integer.numberOfTrailingZeros(mask)];
+            mask &= mask - 1;
+        }
+        return hash;
+    }
+}
@@ -1,29 +1,55 @@
 package com.comp2042.logic.bricks;
 
 import java.util.ArrayDeque;
-import java.util.ArrayList;
 import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
+import java.util.SplittableRandom;
 import java.util.concurrent.ThreadLocalRandom;
 
 public class RandomBrickGenerator implements BrickGenerator {
 
-    private final List<Brick> brickList;
+    // Bricks are immutable (getShapeMatrix returns copies), so every generator shares one set
+    private static final Brick I = new IBrick();
+    private static final Brick J = new JBrick();
+    private static final Brick L = new LBrick();
+    private static final Brick O = new OBrick();
+    private static final Brick S = new SBrick();
+    private static final Brick T = new TBrick();
+    private static final Brick Z = new ZBrick();
+    private static final List<Brick> brickList = List.of(I, J, L, O, S, T, Z);
 
-    Deque<Brick> nextBricks = new ArrayDeque<>(); // Package-private for state saving
+    Deque<Brick> nextBricks = new ArrayDeque<>(4); // Package-private for state saving
+
+    // Seeded source for reproducible sequences (versus mode); null uses ThreadLocalRandom
+    private final SplittableRandom seededRandom;
 
     public RandomBrickGenerator() {
-        brickList = new ArrayList<>();
-        brickList.add(new IBrick());
-        brickList.add(new JBrick());
-        brickList.add(new LBrick());
-        brickList.add(new OBrick());
-        brickList.add(new SBrick());
-        brickList.add(new TBrick());
-        brickList.add(new ZBrick());
+        this(null);
+    }
+
+    /**
+     * Creates a generator whose brick sequence is fully determined by the seed,
+     * so two generators built from the same seed deal the same bricks.
+     *
+     * @param seed seed of the brick sequence
+     */
+    public RandomBrickGenerator(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    private RandomBrickGenerator(SplittableRandom seededRandom) {
+        this.seededRandom = seededRandom;
         // Initialize with two next bricks
-        nextBricks.add(brickList.get(ThreadLocalRandom.current().nextInt(brickList.size())));
-        nextBricks.add(brickList.get(ThreadLocalRandom.current().nextInt(brickList.size())));
+        nextBricks.add(randomBrick());
+        nextBricks.add(randomBrick());
+    }
+
+    private Brick randomBrick() {
+        int index = seededRandom != null
+                ? seededRandom.nextInt(brickList.size())
+                : ThreadLocalRandom.current().nextInt(brickList.size());
+        return brickList.get(index);
     }
 
     @Override
@@ -31,7 +57,7 @@ public class RandomBrickGenerator implements BrickGenerator {
         // Always maintain at least 2 bricks in queue
         // If we have 2 or fewer, add one before consuming
         if (nextBricks.size() <= 2) {
-            nextBricks.add(brickList.get(ThreadLocalRandom.current().nextInt(brickList.size())));
+            nextBricks.add(randomBrick());
         }
         return nextBricks.poll();
     }
@@ -45,17 +71,18 @@ public class RandomBrickGenerator implements BrickGenerator {
     public Brick getNextBrick2() {
         // Get the second brick in queue
         if (nextBricks.size() >= 2) {
-            Brick[] bricks = nextBricks.toArray(new Brick[0]);
-            return bricks[1];
+            Iterator<Brick> queue = nextBricks.iterator();
+            queue.next();
+            return queue.next();
         }
         // If only one brick, generate a new one for preview
         if (nextBricks.size() == 1) {
-            Brick newBrick = brickList.get(ThreadLocalRandom.current().nextInt(brickList.size()));
+            Brick newBrick = randomBrick();
             nextBricks.add(newBrick);
             return newBrick;
         }
         // Fallback: generate a random brick
-        return brickList.get(ThreadLocalRandom.current().nextInt(brickList.size()));
+        return randomBrick();
     }
     
     /**
@@ -80,20 +107,54 @@ public class RandomBrickGenerator implements BrickGenerator {
         }
     }
     
+    /**
+     * Copies the piece types (0-6) of the queue, next first, for compact
+     * snapshots.
+     *
+     * @return the number of types copied, at most {@code max}
+     */
+    public int copyQueueTypes(byte[] types, int offset, int max) {
+        int count = 0;
+        for (Brick brick : nextBricks) {
+            if (count == max) {
+                break;
+            }
+            types[offset + count++] = (byte) brickList.indexOf(brick);
+        }
+        return count;
+    }
+
+    /**
+     * Replaces the queue with bricks of the given piece types (0-6), next first.
+     */
+    public void restoreQueueTypes(byte[] types, int offset, int count) {
+        nextBricks.clear();
+        for (int i = 0; i < count; i++) {
+            nextBricks.add(brickOfType(types[offset + i]));
+        }
+    }
+
+    /**
+     * Returns the brick of a piece type (0-6), in the order I, J, L, O, S, T, Z.
+     */
+    public static Brick brickOfType(int type) {
+        return brickList.get(type);
+    }
+
     /**
      * Helper method to create a Brick instance from a type name.
      * Public so SimpleBoard can use it.
      */
     public Brick createBrickFromType(String typeName) {
         switch (typeName) {
-            case "IBrick": return new IBrick();
-            case "JBrick": return new JBrick();
-            case "LBrick": return new LBrick();
-            case "OBrick": return new OBrick();
-            case "SBrick": return new SBrick();
-            case "TBrick": return new TBrick();
-            case "ZBrick": return new ZBrick();
-            default: return new IBrick();
+            case "IBrick": return I;
+            case "JBrick": return J;
+            case "LBrick": return L;
+            case "OBrick": return O;
+            case "SBrick": return S;
+            case "TBrick": return T;
+            case "ZBrick": return Z;
+            default: return I;
         }
     }
 }
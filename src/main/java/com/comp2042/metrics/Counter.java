@@ -0,0 +1,41 @@
+package com.comp2042.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Monotonic event count. Increments are contention-free ({@link LongAdder}).
+ */
+public final class Counter {
+
+    private final String name;
+    private final String help;
+    private final LongAdder count = new LongAdder();
+
+    Counter(String name, String help) {
+        this.name = name;
+        this.help = help;
+    }
+
+    public void increment() {
+        count.increment();
+    }
+
+    /**
+     * @param amount non-negative amount to add
+     */
+    public void add(long amount) {
+        count.add(amount);
+    }
+
+    public long get() {
+        return count.sum();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getHelp() {
+        return help;
+    }
+}
@@ -0,0 +1,32 @@
+package com.comp2042.metrics;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Monotonic count kept elsewhere (such as the JVM's) and read from a supplier
+ * when sampled. Exported as a counter; it has nothing to increment.
+ */
+public final class FunctionCounter {
+
+    private final String name;
+    private final String help;
+    private final LongSupplier supplier;
+
+    FunctionCounter(String name, String help, LongSupplier supplier) {
+        this.name = name;
+        this.help = help;
+        this.supplier = supplier;
+    }
+
+    public long get() {
+        return supplier.getAsLong();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getHelp() {
+        return help;
+    }
+}
@@ -0,0 +1,49 @@
+package com.comp2042.metrics;
+
+/**
+ * The game's metrics in the {@linkplain MetricsRegistry#global() global registry}.
+ * Durations are recorded in nanoseconds and exported in seconds.
+ */
+public final class GameMetrics {
+
+    private static final MetricsRegistry REGISTRY = MetricsRegistry.global();
+
+    /** Time spent in one GameController input or gravity handler. */
+    public static final Histogram LOGIC_STEP = REGISTRY.timer("tetris_logic_step_seconds",
+            "Time spent in one game logic handler");
+    /** Duration of GuiController.refreshView. */
+    public static final Histogram REFRESH_VIEW = REGISTRY.timer("tetris_refresh_view_seconds",
+            "Time spent redrawing the board and previews");
+    /** How much later than its interval each gravity step fired. */
+    public static final Histogram GRAVITY_LATENESS = REGISTRY.timer("tetris_gravity_lateness_seconds",
+            "Delay of gravity steps beyond their configured interval");
+    /** Interval between animation pulses (recorded while the HUD is shown). */
+    public static final Histogram FRAME_INTERVAL = REGISTRY.timer("tetris_frame_interval_seconds",
+            "Interval between rendered frames while the performance HUD is shown");
+    /** Time from handling a key press to the next rendered frame (recorded while the HUD is shown). */
+    public static final Histogram INPUT_LATENCY = REGISTRY.timer("tetris_input_latency_seconds",
+            "Time from a key press to the next rendered frame while the performance HUD is shown");
+
+    public static final Counter INPUTS = REGISTRY.counter("tetris_inputs_total",
+            "Player key presses handled by the game");
+    public static final Counter GRAVITY_TICKS = REGISTRY.counter("tetris_gravity_ticks_total",
+            "Gravity steps");
+    public static final Counter PIECES_LOCKED = REGISTRY.counter("tetris_pieces_locked_total",
+            "Pieces locked into the board");
+    public static final Counter HARD_DROPS = REGISTRY.counter("tetris_hard_drops_total",
+            "Hard drops");
+    public static final Counter LINES_CLEARED = REGISTRY.counter("tetris_lines_cleared_total",
+            "Lines cleared");
+    public static final Counter GAMES_ENDED = REGISTRY.counter("tetris_games_ended_total",
+            "Games that ended by topping out");
+
+    /** Time to re-simulate one submitted replay. */
+    public static final Histogram REPLAY_VERIFY = REGISTRY.timer("tetris_replay_verify_seconds",
+            "Time spent re-simulating one submitted replay");
+    public static final Counter REPLAYS_ACCEPTED = REGISTRY.counter("tetris_replays_accepted_total",
+            "Replays whose claimed result was reproduced");
+    public static final Counter REPLAYS_REJECTED = REGISTRY.counter("tetris_replays_rejected_total",
+            "Replays rejected as mismatched or invalid");
+
+    private GameMetrics() { }
+}
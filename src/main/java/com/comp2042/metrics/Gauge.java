@@ -0,0 +1,31 @@
+package com.comp2042.metrics;
+
+import java.util.function.DoubleSupplier;
+
+/**
+ * Point-in-time value read from a supplier when sampled.
+ */
+public final class Gauge {
+
+    private final String name;
+    private final String help;
+    private final DoubleSupplier supplier;
+
+    Gauge(String name, String help, DoubleSupplier supplier) {
+        this.name = name;
+        this.help = help;
+        this.supplier = supplier;
+    }
+
+    public double get() {
+        return supplier.getAsDouble();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getHelp() {
+        return help;
+    }
+}
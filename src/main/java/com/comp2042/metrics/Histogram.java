@@ -0,0 +1,177 @@
+package com.comp2042.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free log-linear histogram of non-negative long values (typically nanoseconds).
+ *
+ * <p>Values below {@value #SUB_BUCKETS} get one bucket each; above that, every
+ * power of two is split into {@value #SUB_BUCKETS} linear sub-buckets, in the
+ * style of HdrHistogram. Any value from 0 to {@link Long#MAX_VALUE} is covered by
+ * {@value #BUCKET_COUNT} buckets with at most 1/{@value #SUB_BUCKETS} relative
+ * error. Recording is one atomic increment plus two adders and a max update, with
+ * no locks and no allocation, so any thread may record concurrently.</p>
+ */
+public final class Histogram {
+
+    static final int SUB_BUCKET_BITS = 4;
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final String name;
+    private final String help;
+    private final double exportScale;
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * @param exportScale factor applied to recorded values when exported
+     *                    (1e-9 for nanoseconds exported as seconds)
+     */
+    Histogram(String name, String help, double exportScale) {
+        this.name = name;
+        this.help = help;
+        this.exportScale = exportScale;
+    }
+
+    /**
+     * @param value value to record; negative values are recorded as 0
+     */
+    public void record(long value) {
+        long v = Math.max(0, value);
+        counts.incrementAndGet(bucketIndex(v));
+        count.increment();
+        sum.add(v);
+        long current;
+        while (v > (current = max.get()) && !max.compareAndSet(current, v)) {
+            // Lost a race with a larger or concurrent value: re-read
+        }
+    }
+
+    /**
+     * @return a consistent-enough copy of the bucket counts for quantile queries
+     */
+    public Snapshot snapshot() {
+        long[] copy = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copy[i] = counts.get(i);
+            total += copy[i];
+        }
+        return new Snapshot(copy, total);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getSum() {
+        return sum.sum();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getHelp() {
+        return help;
+    }
+
+    public double getExportScale() {
+        return exportScale;
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int bucket = exponent - SUB_BUCKET_BITS + 1;
+        int sub = (int) (value >>> (exponent - SUB_BUCKET_BITS)) - SUB_BUCKETS;
+        return bucket * SUB_BUCKETS + sub;
+    }
+
+    /** @return the largest value that falls into the given bucket */
+    static long bucketUpperBound(int index) {
+        int bucket = index / SUB_BUCKETS;
+        int sub = index % SUB_BUCKETS;
+        if (bucket == 0) {
+            return sub;
+        }
+        long width = 1L << (bucket - 1);
+        return (SUB_BUCKETS + sub) * width + width - 1;
+    }
+
+    /**
+     * Bucket counts at one point in time.
+     */
+    public static final class Snapshot {
+
+        private final long[] counts;
+        private final long total;
+
+        Snapshot(long[] counts, long total) {
+            this.counts = counts;
+            this.total = total;
+        }
+
+        /**
+         * @param earlier a snapshot of the same histogram taken before this one
+         * @return the values recorded between the two snapshots
+         */
+        public Snapshot since(Snapshot earlier) {
+            long[] delta = new long[BUCKET_COUNT];
+            long deltaTotal = 0;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                delta[i] = Math.max(0, counts[i] - earlier.counts[i]);
+                deltaTotal += delta[i];
+            }
+            return new Snapshot(delta, deltaTotal);
+        }
+
+        public long getCount() {
+            return total;
+        }
+
+        /**
+         * @param quantile quantile in [0, 1]
+         * @return upper bound of the bucket holding that quantile, or 0 if empty
+         */
+        public long valueAtQuantile(double quantile) {
+            if (total == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(quantile * total));
+            long seen = 0;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return bucketUpperBound(i);
+                }
+            }
+            return bucketUpperBound(BUCKET_COUNT - 1);
+        }
+
+        /** @return approximate mean, using bucket upper bounds */
+        public double mean() {
+            if (total == 0) {
+                return 0;
+            }
+            double weighted = 0;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                if (counts[i] != 0) {
+                    weighted += (double) counts[i] * bucketUpperBound(i);
+                }
+            }
+            return weighted / total;
+        }
+    }
+}
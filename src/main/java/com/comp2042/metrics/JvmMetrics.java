@@ -0,0 +1,81 @@
+package com.comp2042.metrics;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+
+/**
+ * JVM metrics: heap in use, GC time, and counters of bytes allocated and
+ * garbage collections since start.
+ *
+ * <p>The allocation counter includes threads that have exited, so it never
+ * decreases when a worker pool shrinks.</p>
+ */
+public final class JvmMetrics {
+
+    private final Gauge heapUsed;
+    private final FunctionCounter allocated;
+    private final FunctionCounter gcCollections;
+    private final Gauge gcTime;
+
+    private JvmMetrics(MetricsRegistry registry) {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+
+        heapUsed = registry.gauge("jvm_heap_used_bytes", "Heap memory in use",
+                () -> memory.getHeapMemoryUsage().getUsed());
+        allocated = registry.functionCounter("jvm_allocated_bytes_total",
+                "Bytes allocated by all threads since start, exited ones included", () -> allocatedBytes(threads));
+        gcCollections = registry.functionCounter("jvm_gc_collections_total", "Garbage collections since start", () -> {
+            long total = 0;
+            for (GarbageCollectorMXBean collector : collectors) {
+                total += Math.max(0, collector.getCollectionCount());
+            }
+            return total;
+        });
+        gcTime = registry.gauge("jvm_gc_time_seconds", "Time spent in garbage collection since start", () -> {
+            long millis = 0;
+            for (GarbageCollectorMXBean collector : collectors) {
+                millis += Math.max(0, collector.getCollectionTime());
+            }
+            return millis / 1000.0;
+        });
+    }
+
+    /**
+     * Registers the JVM metrics (once per registry) and returns handles to them.
+     */
+    public static JvmMetrics register(MetricsRegistry registry) {
+        return new JvmMetrics(registry);
+    }
+
+    public Gauge getHeapUsed() {
+        return heapUsed;
+    }
+
+    public FunctionCounter getAllocated() {
+        return allocated;
+    }
+
+    public FunctionCounter getGcCollections() {
+        return gcCollections;
+    }
+
+    public Gauge getGcTime() {
+        return gcTime;
+    }
+
+    private static long allocatedBytes(ThreadMXBean threads) {
+        if (!(threads instanceof com.sun.management.ThreadMXBean)) {
+            return 0;
+        }
+        com.sun.management.ThreadMXBean hotspot = (com.sun.management.ThreadMXBean) threads;
+        if (!hotspot.isThreadAllocatedMemoryEnabled()) {
+            return 0;
+        }
+        return Math.max(0, hotspot.getTotalThreadAllocatedBytes());
+    }
+}
@@ -0,0 +1,154 @@
+package com.comp2042.metrics;
+
+import com.comp2042.diagnostics.Log;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes a {@link MetricsRegistry} in the Prometheus text format, either on a
+ * loopback HTTP endpoint ({@code GET /metrics}) or as a file rewritten
+ * periodically (temp file + atomic move, so a scraper never reads a partial file).
+ *
+ * <p>{@link #startFromSystemProperties} enables either from
+ * {@code -Dtetris.metrics.port=9464} and {@code -Dtetris.metrics.file=path}.
+ * Exports run on their own daemon thread.</p>
+ */
+public final class MetricsExporter implements Closeable {
+
+    /** Seconds between file exports. */
+    static final long FILE_PERIOD_SECONDS = 10;
+
+    private static final Log LOG = Log.forClass(MetricsExporter.class);
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final MetricsRegistry registry;
+    private HttpServer server;
+    private ScheduledExecutorService fileWriter;
+
+    private MetricsExporter(MetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Starts the exporters configured through system properties, if any.
+     *
+     * @return the running exporter, or null if none is configured
+     */
+    public static MetricsExporter startFromSystemProperties(MetricsRegistry registry) {
+        String port = System.getProperty("tetris.metrics.port");
+        String file = System.getProperty("tetris.metrics.file");
+        if (port == null && file == null) {
+            return null;
+        }
+        MetricsExporter exporter = new MetricsExporter(registry);
+        try {
+            if (port != null) {
+                exporter.startHttp(Integer.parseInt(port.trim()));
+                LOG.info("Serving metrics on http://127.0.0.1:" + exporter.getPort() + "/metrics");
+            }
+            if (file != null) {
+                exporter.startFileExport(Path.of(file), FILE_PERIOD_SECONDS);
+                LOG.info("Writing metrics to " + file + " every " + FILE_PERIOD_SECONDS + " s");
+            }
+        } catch (IOException | NumberFormatException e) {
+            LOG.warn("Could not start metrics export", e);
+        }
+        return exporter;
+    }
+
+    /**
+     * Serves {@code /metrics} on the loopback interface.
+     *
+     * @param port TCP port, or 0 for an ephemeral port
+     * @return an exporter serving only HTTP
+     */
+    public static MetricsExporter serveLoopback(MetricsRegistry registry, int port) throws IOException {
+        MetricsExporter exporter = new MetricsExporter(registry);
+        exporter.startHttp(port);
+        return exporter;
+    }
+
+    /**
+     * Writes one snapshot of the registry to a file, atomically replacing it.
+     */
+    public static void writeFile(MetricsRegistry registry, Path target) throws IOException {
+        Path parent = target.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (Writer out = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            registry.writePrometheus(out);
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /** @return the HTTP port, or -1 if HTTP is not served */
+    public int getPort() {
+        return server == null ? -1 : server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        if (server != null) {
+            server.stop(0);
+        }
+        if (fileWriter != null) {
+            fileWriter.shutdownNow();
+        }
+    }
+
+    private void startHttp(int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext("/metrics", exchange -> {
+            try (exchange) {
+                if (!"GET".equals(exchange.getRequestMethod())) {
+                    exchange.sendResponseHeaders(405, -1);
+                    return;
+                }
+                StringBuilder text = new StringBuilder(4096);
+                registry.writePrometheus(text);
+                byte[] body = text.toString().getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            }
+        });
+        server.setExecutor(Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-http");
+            thread.setDaemon(true);
+            return thread;
+        }));
+        server.start();
+    }
+
+    private void startFileExport(Path target, long periodSeconds) {
+        fileWriter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-file");
+            thread.setDaemon(true);
+            return thread;
+        });
+        fileWriter.scheduleAtFixedRate(() -> {
+            try {
+                writeFile(registry, target);
+            } catch (IOException e) {
+                LOG.warn("Could not write metrics file: " + e.getMessage());
+            }
+        }, periodSeconds, periodSeconds, TimeUnit.SECONDS);
+    }
+}
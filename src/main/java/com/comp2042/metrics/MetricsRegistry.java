@@ -0,0 +1,129 @@
+package com.comp2042.metrics;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Named counters, gauges and histograms shared by the game, the HUD and the exporter.
+ *
+ * <p>Metrics are created once (typically into a {@code static final} field) and
+ * then recorded without touching the registry. Asking again for an existing name
+ * returns the same metric. {@link #writePrometheus} renders everything in the
+ * Prometheus text exposition format; histograms are exported as summaries with
+ * fixed quantiles.</p>
+ */
+public final class MetricsRegistry {
+
+    private static final MetricsRegistry GLOBAL = new MetricsRegistry();
+    private static final double[] EXPORTED_QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+    // Sorted by name so exports are stable
+    private final Map<String, Object> metrics = new ConcurrentSkipListMap<>();
+
+    /** @return the registry used by the whole application */
+    public static MetricsRegistry global() {
+        return GLOBAL;
+    }
+
+    /**
+     * @param name Prometheus metric name, ending in {@code _total}
+     * @param help one-line description
+     */
+    public Counter counter(String name, String help) {
+        return get(name, Counter.class, () -> new Counter(name, help));
+    }
+
+    /**
+     * Counter whose value is kept elsewhere and read when sampled.
+     *
+     * @param name     Prometheus metric name, ending in {@code _total}
+     * @param supplier never decreasing; must be thread-safe
+     */
+    public FunctionCounter functionCounter(String name, String help, LongSupplier supplier) {
+        return get(name, FunctionCounter.class, () -> new FunctionCounter(name, help, supplier));
+    }
+
+    /**
+     * @param supplier read whenever the gauge is sampled; must be thread-safe
+     */
+    public Gauge gauge(String name, String help, DoubleSupplier supplier) {
+        return get(name, Gauge.class, () -> new Gauge(name, help, supplier));
+    }
+
+    /**
+     * Histogram of nanosecond durations, exported in seconds.
+     *
+     * @param name Prometheus metric name, ending in {@code _seconds}
+     */
+    public Histogram timer(String name, String help) {
+        return histogram(name, help, 1e-9);
+    }
+
+    /**
+     * @param exportScale factor applied to recorded values on export
+     */
+    public Histogram histogram(String name, String help, double exportScale) {
+        return get(name, Histogram.class, () -> new Histogram(name, help, exportScale));
+    }
+
+    private <T> T get(String name, Class<T> type, Supplier<T> factory) {
+        Object metric = metrics.computeIfAbsent(name, n -> factory.get());
+        if (!type.isInstance(metric)) {
+            throw new IllegalArgumentException(name + " is already registered as a "
+                    + metric.getClass().getSimpleName());
+        }
+        return type.cast(metric);
+    }
+
+    /**
+     * Writes every metric in the Prometheus text format.
+     *
+     * @param out destination
+     * @throws IOException if writing fails
+     */
+    public void writePrometheus(Appendable out) throws IOException {
+        for (Object metric : metrics.values()) {
+            if (metric instanceof Counter) {
+                Counter counter = (Counter) metric;
+                header(out, counter.getName(), counter.getHelp(), "counter");
+                out.append(counter.getName()).append(' ').append(Long.toString(counter.get())).append('\n');
+            } else if (metric instanceof FunctionCounter) {
+                FunctionCounter counter = (FunctionCounter) metric;
+                header(out, counter.getName(), counter.getHelp(), "counter");
+                out.append(counter.getName()).append(' ').append(Long.toString(counter.get())).append('\n');
+            } else if (metric instanceof Gauge) {
+                Gauge gauge = (Gauge) metric;
+                header(out, gauge.getName(), gauge.getHelp(), "gauge");
+                out.append(gauge.getName()).append(' ').append(format(gauge.get())).append('\n');
+            } else if (metric instanceof Histogram) {
+                Histogram histogram = (Histogram) metric;
+                String name = histogram.getName();
+                double scale = histogram.getExportScale();
+                header(out, name, histogram.getHelp(), "summary");
+                Histogram.Snapshot snapshot = histogram.snapshot();
+                for (double quantile : EXPORTED_QUANTILES) {
+                    out.append(name).append("{quantile=\"").append(format(quantile)).append("\"} ")
+                            .append(format(snapshot.valueAtQuantile(quantile) * scale)).append('\n');
+                }
+                out.append(name).append("_sum ").append(format(histogram.getSum() * scale)).append('\n');
+                out.append(name).append("_count ").append(Long.toString(histogram.getCount())).append('\n');
+            }
+        }
+    }
+
+    private static void header(Appendable out, String name, String help, String type) throws IOException {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static String format(double value) {
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return Long.toString((long) value);
+        }
+        return Double.toString(value);
+    }
+}
@@ -0,0 +1,124 @@
+package com.comp2042.net;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Rebuilds one game's state from spectator frames produced by {@link FrameEncoder}.
+ *
+ * <p>Delta frames received before the first keyframe cannot be applied and are
+ * skipped; from the first keyframe on, the decoder mirrors the encoder's board.</p>
+ */
+public final class FrameDecoder {
+
+    private int width;
+    private int height;
+    private int[] cells = new int[0];
+    private boolean synced;
+    private int gameId;
+    private int tick;
+    private int pieceType = FrameEncoder.NO_PIECE;
+    private int rotation;
+    private int pieceX;
+    private int pieceY;
+
+    /**
+     * Applies one frame.
+     *
+     * @param frame buffer positioned at a frame's length field and holding the
+     *              whole frame; its position is advanced past the frame
+     * @return true if the frame was applied, false if it was a delta before the first keyframe
+     */
+    public boolean apply(ByteBuffer frame) {
+        int length = frame.getShort() & 0xFFFF;
+        int end = frame.position() + length;
+        byte kind = frame.get();
+        int frameGameId = frame.getInt();
+        int frameTick = frame.getInt();
+        int newWidth = width;
+        int newHeight = height;
+        if (kind == FrameEncoder.KEYFRAME) {
+            newWidth = frame.get() & 0xFF;
+            newHeight = frame.get() & 0xFF;
+        }
+        int newPieceType = frame.get() & 0xFF;
+        int newRotation = frame.get();
+        int newX = frame.get();
+        int newY = frame.get();
+        int rows = frame.get() & 0xFF;
+
+        if (kind == FrameEncoder.KEYFRAME) {
+            width = newWidth;
+            height = newHeight;
+            if (cells.length != width * height) {
+                cells = new int[width * height];
+            }
+            synced = true;
+        }
+        if (!synced) {
+            // The row size depends on the width, known only from a keyframe
+            frame.position(end);
+            return false;
+        }
+
+        for (int i = 0; i < rows; i++) {
+            int rowStart = (frame.get() & 0xFF) * width;
+            for (int c = 0; c < width; c += 2) {
+                int packed = frame.get() & 0xFF;
+                cells[rowStart + c] = packed >>> 4;
+                if (c + 1 < width) {
+                    cells[rowStart + c + 1] = packed & 0x0F;
+                }
+            }
+        }
+        gameId = frameGameId;
+        tick = frameTick;
+        pieceType = newPieceType;
+        rotation = newRotation;
+        pieceX = newX;
+        pieceY = newY;
+        return true;
+    }
+
+    /** @return true once a keyframe has been applied */
+    public boolean isSynced() {
+        return synced;
+    }
+
+    public int getGameId() {
+        return gameId;
+    }
+
+    public int getTick() {
+        return tick;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /** @return background cell value at the given position */
+    public int getCell(int row, int col) {
+        return cells[row * width + col];
+    }
+
+    /** @return active piece type (0-6), or {@link FrameEncoder#NO_PIECE} */
+    public int getPieceType() {
+        return pieceType;
+    }
+
+    public int getRotation() {
+        return rotation;
+    }
+
+    public int getPieceX() {
+        return pieceX;
+    }
+
+    public int getPieceY() {
+        return pieceY;
+    }
+}
@@ -0,0 +1,130 @@
+package com.comp2042.net;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Encodes one game's state into spectator frames for {@link SpectatorBroadcaster}.
+ *
+ * <p>A frame carries the active piece pose and the background rows that changed
+ * since the previous frame. Every {@code keyframeInterval} frames a keyframe
+ * carries all rows instead, so a spectator that joins late (or fell behind and
+ * had frames dropped) can start from the next keyframe. Cells are packed two per
+ * byte (values 0-15).</p>
+ *
+ * <pre>
+ * [length:2]   bytes after this field
+ * [kind:1]     KEYFRAME or DELTA
+ * [gameId:4][tick:4]
+ * [width:1][height:1]                    keyframes only
+ * [pieceType:1][rotation:1][x:1][y:1]    pieceType 0xFF if there is no active piece
+ * [rowCount:1] then rowCount x ([row:1][cells:(width + 1) / 2])
+ * </pre>
+ *
+ * <p>The encoder keeps a copy of the last encoded background and reuses one
+ * output buffer, so encoding does not allocate. Not thread-safe; use one encoder
+ * per game on the thread that runs the game.</p>
+ */
+public final class FrameEncoder {
+
+    public static final byte KEYFRAME = 20;
+    public static final byte DELTA = 21;
+
+    /** Piece type sent when no piece is falling. */
+    public static final int NO_PIECE = 0xFF;
+
+    private final int gameId;
+    private final int width;
+    private final int height;
+    private final int keyframeInterval;
+    private final int[][] previous;
+    private final ByteBuffer out;
+    private int tick;
+
+    /**
+     * @param gameId           id spectators subscribe to
+     * @param width            board columns (at most 255)
+     * @param height           board rows including hidden rows (at most 255)
+     * @param keyframeInterval frames between keyframes
+     */
+    public FrameEncoder(int gameId, int width, int height, int keyframeInterval) {
+        if (keyframeInterval <= 0) {
+            throw new IllegalArgumentException("keyframeInterval must be positive");
+        }
+        this.gameId = gameId;
+        this.width = width;
+        this.height = height;
+        this.keyframeInterval = keyframeInterval;
+        this.previous = new int[height][width];
+        this.out = ByteBuffer.allocate(headerSize() + height * (1 + rowBytes(width)));
+    }
+
+    /** @return the game id of this encoder */
+    public int getGameId() {
+        return gameId;
+    }
+
+    /** @return true if the next frame will be a keyframe */
+    public boolean isKeyframeDue() {
+        return tick % keyframeInterval == 0;
+    }
+
+    /**
+     * Encodes the next frame.
+     *
+     * @param background the board matrix without the active piece
+     * @param pieceType  active piece type (0-6), or {@link #NO_PIECE}
+     * @param rotation   rotation index of the active piece
+     * @param x          column of the active piece's shape matrix
+     * @param y          row of the active piece's shape matrix
+     * @return the encoded frame (valid until the next call)
+     */
+    public ByteBuffer encode(int[][] background, int pieceType, int rotation, int x, int y) {
+        boolean keyframe = isKeyframeDue();
+        out.clear();
+        out.putShort((short) 0);
+        out.put(keyframe ? KEYFRAME : DELTA);
+        out.putInt(gameId);
+        out.putInt(tick);
+        if (keyframe) {
+            out.put((byte) width);
+            out.put((byte) height);
+        }
+        out.put((byte) pieceType);
+        out.put((byte) rotation);
+        out.put((byte) x);
+        out.put((byte) y);
+
+        int countPosition = out.position();
+        out.put((byte) 0);
+        int rows = 0;
+        for (int r = 0; r < height; r++) {
+            int[] row = background[r];
+            if (!keyframe && Arrays.equals(row, previous[r])) {
+                continue;
+            }
+            System.arraycopy(row, 0, previous[r], 0, width);
+            out.put((byte) r);
+            for (int c = 0; c < width; c += 2) {
+                int high = row[c] & 0x0F;
+                int low = c + 1 < width ? row[c + 1] & 0x0F : 0;
+                out.put((byte) (high << 4 | low));
+            }
+            rows++;
+        }
+        out.put(countPosition, (byte) rows);
+        out.putShort(0, (short) (out.position() - 2));
+        out.flip();
+        tick++;
+        return out;
+    }
+
+    private static int headerSize() {
+        // length, kind, gameId, tick, width, height, pose, rowCount
+        return 2 + 1 + 4 + 4 + 2 + 4 + 1;
+    }
+
+    static int rowBytes(int width) {
+        return (width + 1) / 2;
+    }
+}
@@ -0,0 +1,212 @@
+package com.comp2042.net;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * Client side of the versus protocol (see {@link Protocol}).
+ *
+ * <p>The connection is a blocking {@link SocketChannel}. Incoming messages are
+ * decoded on a daemon reader thread and passed to a {@link Listener}, so the
+ * listener is called off the JavaFX thread and must hand work over itself
+ * (e.g. with {@code Platform.runLater}). Send methods may be called from any
+ * thread and never block: they queue the message for a daemon writer thread,
+ * so a slow or stalled server cannot freeze the caller. A server that lets
+ * {@value #MAX_QUEUED_MESSAGES} messages pile up is treated as gone.</p>
+ */
+public final class GameClient implements Closeable {
+
+    /**
+     * Receives server messages on the reader thread.
+     */
+    public interface Listener {
+
+        /**
+         * A match was found.
+         *
+         * @param seed        brick seed shared by both players
+         * @param playerIndex this client's player number (1 or 2)
+         */
+        void onMatchStart(long seed, int playerIndex);
+
+        /** The opponent sent garbage rows with the given hole column. */
+        void onGarbage(int rows, int holeColumn);
+
+        /**
+         * The match ended.
+         *
+         * @param winner winning player number, or {@link Protocol#OPPONENT_LEFT}
+         */
+        void onMatchEnd(int winner);
+
+        /**
+         * The connection was lost.
+         *
+         * @param cause the error, or null if the client was closed locally
+         */
+        void onDisconnected(IOException cause);
+    }
+
+    static final int MAX_QUEUED_MESSAGES = 256;
+
+    private final SocketChannel channel;
+    private final Listener listener;
+    private final ArrayBlockingQueue<byte[]> outgoing = new ArrayBlockingQueue<>(MAX_QUEUED_MESSAGES);
+    private final Thread reader;
+    private final Thread writer;
+    private volatile boolean closed;
+
+    private GameClient(SocketChannel channel, Listener listener) {
+        this.channel = channel;
+        this.listener = listener;
+        this.reader = new Thread(this::readLoop, "game-client-reader");
+        reader.setDaemon(true);
+        this.writer = new Thread(this::writeLoop, "game-client-writer");
+        writer.setDaemon(true);
+    }
+
+    /**
+     * Connects to a server and starts the reader and writer threads.
+     *
+     * @param address  server address
+     * @param listener receiver of server messages
+     * @return the connected client
+     * @throws IOException if the connection fails
+     */
+    public static GameClient connect(InetSocketAddress address, Listener listener) throws IOException {
+        SocketChannel channel = SocketChannel.open(address);
+        channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        GameClient client = new GameClient(channel, listener);
+        client.reader.start();
+        client.writer.start();
+        return client;
+    }
+
+    /** Enters matchmaking. */
+    public void join() throws IOException {
+        send(Protocol.JOIN, -1, -1);
+    }
+
+    /** Sends garbage rows to the opponent. */
+    public void sendGarbage(int rows, int holeColumn) throws IOException {
+        send(Protocol.GARBAGE, rows, holeColumn);
+    }
+
+    /** Reports that this player topped out. */
+    public void sendToppedOut() throws IOException {
+        send(Protocol.TOPPED_OUT, -1, -1);
+    }
+
+    /**
+     * Queues a message for the writer thread.
+     *
+     * @throws IOException if the connection is closed or the queue is full
+     */
+    private void send(byte type, int a, int b) throws IOException {
+        byte[] message = new byte[Protocol.messageLength(type)];
+        message[0] = type;
+        if (a >= 0) {
+            message[1] = (byte) a;
+        }
+        if (b >= 0) {
+            message[2] = (byte) b;
+        }
+        if (!channel.isOpen()) {
+            throw new IOException("Connection closed");
+        }
+        if (!outgoing.offer(message)) {
+            // The server stopped reading; the reader reports the disconnect
+            channel.close();
+            throw new IOException("Send queue full");
+        }
+    }
+
+    /**
+     * Closes the connection; the listener gets {@code onDisconnected(null)}.
+     * Messages still queued are dropped.
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        writer.interrupt();
+        channel.close();
+    }
+
+    private void writeLoop() {
+        try {
+            while (true) {
+                ByteBuffer message = ByteBuffer.wrap(outgoing.take());
+                while (message.hasRemaining()) {
+                    channel.write(message);
+                }
+            }
+        } catch (InterruptedException e) {
+            // Closed
+        } catch (IOException e) {
+            // The reader sees the closed channel and reports the disconnect
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // Already closed
+            }
+        }
+    }
+
+    private void readLoop() {
+        ByteBuffer in = ByteBuffer.allocate(256);
+        IOException failure = null;
+        try {
+            while (channel.read(in) >= 0) {
+                in.flip();
+                while (in.hasRemaining()) {
+                    byte type = in.get(in.position());
+                    int length = Protocol.messageLength(type);
+                    if (length < 0) {
+                        throw new IOException("Unknown message type " + type);
+                    }
+                    if (in.remaining() < length) {
+                        break;
+                    }
+                    dispatch(in);
+                }
+                in.compact();
+            }
+            failure = new EOFException("Server closed the connection");
+        } catch (IOException e) {
+            failure = e;
+        } finally {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // Already closed
+            }
+            listener.onDisconnected(closed ? null : failure);
+        }
+    }
+
+    private void dispatch(ByteBuffer in) throws IOException {
+        byte type = in.get();
+        switch (type) {
+            case Protocol.MATCH_START -> {
+                long seed = in.getLong();
+                listener.onMatchStart(seed, in.get());
+            }
+            case Protocol.GARBAGE -> {
+                int rows = in.get();
+                int holeColumn = in.get();
+                if (!Protocol.isValidGarbage(rows, holeColumn)) {
+                    throw new IOException("Invalid garbage: " + rows + " rows, hole " + holeColumn);
+                }
+                listener.onGarbage(rows, holeColumn);
+            }
+            case Protocol.MATCH_END -> listener.onMatchEnd(in.get());
+            default -> in.position(in.position() + Protocol.messageLength(type) - 1);
+        }
+    }
+}
@@ -0,0 +1,367 @@
+package com.comp2042.net;
+
+import com.comp2042.diagnostics.Log;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Non-blocking versus server that pairs clients into matches and relays their
+ * garbage messages (see {@link Protocol}).
+ *
+ * <p>All sessions are served by a single selector thread. Each session owns a
+ * fixed {@value #READ_BUFFER_SIZE}-byte read buffer and a fixed
+ * {@value #WRITE_BUFFER_SIZE}-byte write buffer allocated once on accept, so the
+ * memory per session is bounded no matter how fast peers send. A peer that lets
+ * its pending output fill the write buffer is disconnected instead of being
+ * buffered without limit.</p>
+ *
+ * <p>Matchmaking is first come, first served: each JOIN is paired with the
+ * client waiting before it, and both receive the same random brick seed.</p>
+ */
+public final class GameServer implements Closeable {
+
+    private static final Log LOG = Log.forClass(GameServer.class);
+
+    static final int READ_BUFFER_SIZE = 64;
+    static final int WRITE_BUFFER_SIZE = 512;
+
+    private final Selector selector;
+    private final ServerSocketChannel serverChannel;
+    private final Thread selectorThread;
+    private final SplittableRandom seeds = new SplittableRandom();
+    private final AtomicInteger sessionCount = new AtomicInteger();
+    private final AtomicInteger matchCount = new AtomicInteger();
+    private volatile boolean running = true;
+
+    // Selector thread only
+    private Session waiting;
+    private final byte[] scratch = new byte[Protocol.MAX_MESSAGE_LENGTH];
+
+    private GameServer(InetSocketAddress address) throws IOException {
+        selector = Selector.open();
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(address, 1024);
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+
+        selectorThread = new Thread(this::runLoop, "game-server-selector");
+        selectorThread.setDaemon(true);
+        selectorThread.start();
+    }
+
+    /**
+     * Starts a server on the loopback interface.
+     *
+     * @param port TCP port, or 0 for an ephemeral port
+     * @return the running server
+     * @throws IOException if the port cannot be bound
+     */
+    public static GameServer startLoopback(int port) throws IOException {
+        return start(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+    }
+
+    /**
+     * Starts a server on the given address.
+     *
+     * @param address address to listen on
+     * @return the running server
+     * @throws IOException if the address cannot be bound
+     */
+    public static GameServer start(InetSocketAddress address) throws IOException {
+        return new GameServer(address);
+    }
+
+    /** @return the bound port */
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    /** @return connected sessions */
+    public int getSessionCount() {
+        return sessionCount.get();
+    }
+
+    /** @return matches currently being played */
+    public int getMatchCount() {
+        return matchCount.get();
+    }
+
+    /**
+     * Stops the server and disconnects every session.
+     */
+    @Override
+    public void close() throws IOException {
+        running = false;
+        selector.wakeup();
+        try {
+            selectorThread.join(2000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void runLoop() {
+        try {
+            while (running) {
+                selector.select();
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    if (key.isAcceptable()) {
+                        accept();
+                        continue;
+                    }
+                    Session session = (Session) key.attachment();
+                    try {
+                        if (key.isReadable()) {
+                            read(session);
+                        }
+                        if (key.isValid() && key.isWritable()) {
+                            flush(session);
+                        }
+                    } catch (IOException e) {
+                        disconnect(session);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            LOG.error("Game server selector failed: " + e.getMessage());
+        } finally {
+            shutdown();
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel;
+        while ((channel = serverChannel.accept()) != null) {
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            Session session = new Session(channel);
+            session.key = channel.register(selector, SelectionKey.OP_READ, session);
+            sessionCount.incrementAndGet();
+        }
+    }
+
+    private void read(Session session) throws IOException {
+        ByteBuffer in = session.in;
+        if (session.channel.read(in) < 0) {
+            disconnect(session);
+            return;
+        }
+        in.flip();
+        while (in.hasRemaining() && session.key.isValid()) {
+            byte type = in.get(in.position());
+            int length = Protocol.messageLength(type);
+            if (length < 0) {
+                // Unknown message: the stream cannot be resynchronised
+                disconnect(session);
+                return;
+            }
+            if (in.remaining() < length) {
+                break;
+            }
+            in.get(scratch, 0, length);
+            handle(session, type, length);
+        }
+        if (session.key.isValid()) {
+            in.compact();
+        }
+    }
+
+    private void handle(Session session, byte type, int length) {
+        switch (type) {
+            case Protocol.JOIN -> join(session);
+            case Protocol.GARBAGE -> {
+                if (!Protocol.isValidGarbage(scratch[1], scratch[2])) {
+                    // Never relay what could corrupt the opponent's board
+                    disconnect(session);
+                } else if (session.opponent != null) {
+                    send(session.opponent, scratch, length);
+                }
+            }
+            case Protocol.TOPPED_OUT -> {
+                Session opponent = session.opponent;
+                if (opponent != null) {
+                    endMatch(session, opponent, opponent.playerIndex);
+                }
+            }
+            default -> {
+                // Server-to-client messages, and hosted-game inputs, are ignored here
+            }
+        }
+    }
+
+    private void join(Session session) {
+        if (session.opponent != null || waiting == session) {
+            return;
+        }
+        if (waiting == null) {
+            waiting = session;
+            return;
+        }
+
+        Session first = waiting;
+        waiting = null;
+        first.opponent = session;
+        session.opponent = first;
+        first.playerIndex = 1;
+        session.playerIndex = 2;
+        matchCount.incrementAndGet();
+
+        long seed = seeds.nextLong();
+        sendMatchStart(first, seed);
+        sendMatchStart(session, seed);
+    }
+
+    private void sendMatchStart(Session session, long seed) {
+        byte[] message = scratch;
+        message[0] = Protocol.MATCH_START;
+        for (int i = 0; i < 8; i++) {
+            message[1 + i] = (byte) (seed >>> (56 - 8 * i));
+        }
+        message[9] = (byte) session.playerIndex;
+        send(session, message, 10);
+    }
+
+    private void endMatch(Session a, Session b, int winner) {
+        a.opponent = null;
+        b.opponent = null;
+        matchCount.decrementAndGet();
+        scratch[0] = Protocol.MATCH_END;
+        scratch[1] = (byte) winner;
+        send(a, scratch, 2);
+        send(b, scratch, 2);
+    }
+
+    /**
+     * Queues a message and tries to write it straight away; a session whose
+     * write buffer is full is disconnected.
+     */
+    private void send(Session session, byte[] message, int length) {
+        if (!session.key.isValid()) {
+            return;
+        }
+        if (session.out.remaining() < length) {
+            disconnect(session);
+            return;
+        }
+        session.out.put(message, 0, length);
+        try {
+            flush(session);
+        } catch (IOException e) {
+            disconnect(session);
+        }
+    }
+
+    private void flush(Session session) throws IOException {
+        ByteBuffer out = session.out;
+        out.flip();
+        session.channel.write(out);
+        out.compact();
+        int ops = out.position() > 0 ? SelectionKey.OP_READ | SelectionKey.OP_WRITE : SelectionKey.OP_READ;
+        if (session.key.interestOps() != ops) {
+            session.key.interestOps(ops);
+        }
+    }
+
+    private void disconnect(Session session) {
+        if (!session.key.isValid()) {
+            return;
+        }
+        session.key.cancel();
+        try {
+            session.channel.close();
+        } catch (IOException ignored) {
+            // Already closed by the peer
+        }
+        sessionCount.decrementAndGet();
+
+        if (waiting == session) {
+            waiting = null;
+        }
+        Session opponent = session.opponent;
+        if (opponent != null) {
+            session.opponent = null;
+            opponent.opponent = null;
+            matchCount.decrementAndGet();
+            scratch[0] = Protocol.MATCH_END;
+            scratch[1] = (byte) Protocol.OPPONENT_LEFT;
+            send(opponent, scratch, 2);
+        }
+    }
+
+    private void shutdown() {
+        for (SelectionKey key : selector.keys()) {
+            try {
+                key.channel().close();
+            } catch (IOException ignored) {
+                // Closing anyway
+            }
+        }
+        try {
+            selector.close();
+        } catch (IOException ignored) {
+            // Closing anyway
+        }
+        sessionCount.set(0);
+        matchCount.set(0);
+    }
+
+    /**
+     * One connected client. Both buffers are allocated once and never grow.
+     */
+    private static final class Session {
+
+        private final SocketChannel channel;
+        private final ByteBuffer in = ByteBuffer.allocate(READ_BUFFER_SIZE);
+        private final ByteBuffer out = ByteBuffer.allocate(WRITE_BUFFER_SIZE);
+        private SelectionKey key;
+        private Session opponent;
+        private int playerIndex;
+
+        Session(SocketChannel channel) {
+            this.channel = channel;
+        }
+    }
+
+    /**
+     * Runs a standalone server.
+     *
+     * <p>Usage: {@code GameServer [--port N] [--public]}. The server listens on the
+     * loopback interface unless {@code --public} is given.</p>
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int port = Protocol.DEFAULT_PORT;
+        boolean bindAll = false;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--port" -> port = Integer.parseInt(args[++i]);
+                case "--public" -> bindAll = true;
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        GameServer server = bindAll ? start(new InetSocketAddress(port)) : startLoopback(port);
+        System.out.println("Game server listening on port " + server.getPort());
+        while (true) {
+            Thread.sleep(10_000);
+            System.out.println("Sessions: " + server.getSessionCount() + ", matches: " + server.getMatchCount());
+        }
+    }
+}
@@ -0,0 +1,306 @@
+package com.comp2042.net;
+
+import com.comp2042.EventType;
+import com.comp2042.diagnostics.Log;
+import com.comp2042.timing.CarrierScheduler;
+import com.comp2042.timing.HostedGame;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Server that runs the games itself: clients send HOST and their key presses
+ * (see {@link Protocol}), and the server plays a {@link HostedGame} for each.
+ *
+ * <p>This is the timing-wheel execution model. One selector thread reads every
+ * connection and hands the inputs to the game's carrier on a
+ * {@link CarrierScheduler}; the carriers run gravity, lock delay and
+ * auto-shift for all games. Compare {@link VirtualThreadGameServer}, which
+ * runs the same games with a virtual thread per session.</p>
+ */
+public final class HostedGameServer implements Closeable {
+
+    private static final Log LOG = Log.forClass(HostedGameServer.class);
+
+    static final int READ_BUFFER_SIZE = 64;
+
+    /** Timer resolution of the carriers. */
+    static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final CarrierScheduler scheduler;
+    private final int baseIntervalMs;
+    private final Selector selector;
+    private final ServerSocketChannel serverChannel;
+    private final Thread selectorThread;
+    private final AtomicInteger sessionCount = new AtomicInteger();
+    private volatile boolean running = true;
+
+    // Selector thread only
+    private final SplittableRandom seeds = new SplittableRandom();
+    private final byte[] scratch = new byte[Protocol.MAX_MESSAGE_LENGTH];
+    private long nextSessionId;
+
+    private HostedGameServer(InetSocketAddress address, int carriers, int baseIntervalMs) throws IOException {
+        this.baseIntervalMs = baseIntervalMs;
+        scheduler = new CarrierScheduler(carriers, TICK_NANOS);
+        selector = Selector.open();
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(address, 1024);
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+
+        selectorThread = new Thread(this::runLoop, "hosted-server-selector");
+        selectorThread.setDaemon(true);
+        selectorThread.start();
+    }
+
+    /**
+     * Starts a server on the loopback interface.
+     *
+     * @param port           TCP port, or 0 for an ephemeral port
+     * @param carriers       carrier threads running the games
+     * @param baseIntervalMs gravity interval at level 1
+     * @return the running server
+     * @throws IOException if the port cannot be bound
+     */
+    public static HostedGameServer startLoopback(int port, int carriers, int baseIntervalMs) throws IOException {
+        return new HostedGameServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), port),
+                carriers, baseIntervalMs);
+    }
+
+    /** @return the bound port */
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    /** @return connected sessions */
+    public int getSessionCount() {
+        return sessionCount.get();
+    }
+
+    /**
+     * Stops the server, its carriers and every game.
+     */
+    @Override
+    public void close() throws IOException {
+        running = false;
+        selector.wakeup();
+        try {
+            selectorThread.join(2000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        scheduler.close();
+    }
+
+    /**
+     * Applies an INPUT action to a hosted game.
+     *
+     * @return false for an unknown action
+     */
+    static boolean applyInput(HostedGame game, int action) {
+        switch (action) {
+            case Protocol.ACTION_LEFT -> game.press(EventType.LEFT);
+            case Protocol.ACTION_RIGHT -> game.press(EventType.RIGHT);
+            case Protocol.ACTION_ROTATE -> game.press(EventType.ROTATE);
+            case Protocol.ACTION_SOFT_DROP -> game.press(EventType.DOWN);
+            case Protocol.ACTION_HARD_DROP -> game.hardDrop();
+            case Protocol.ACTION_RELEASE_LEFT -> game.release(EventType.LEFT);
+            case Protocol.ACTION_RELEASE_RIGHT -> game.release(EventType.RIGHT);
+            default -> {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes the MATCH_START that answers HOST.
+     *
+     * @return message length
+     */
+    static int encodeHostedStart(byte[] message, long seed) {
+        message[0] = Protocol.MATCH_START;
+        for (int i = 0; i < 8; i++) {
+            message[1 + i] = (byte) (seed >>> (56 - 8 * i));
+        }
+        message[9] = 1;
+        return 10;
+    }
+
+    private void runLoop() {
+        try {
+            while (running) {
+                selector.select();
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    if (key.isAcceptable()) {
+                        accept();
+                        continue;
+                    }
+                    Session session = (Session) key.attachment();
+                    try {
+                        read(session);
+                    } catch (IOException e) {
+                        disconnect(session);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            LOG.error("Hosted game server selector failed: " + e.getMessage());
+        } finally {
+            shutdown();
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel;
+        while ((channel = serverChannel.accept()) != null) {
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            Session session = new Session(channel);
+            session.game = new HostedGame(scheduler.carrierFor(nextSessionId++), baseIntervalMs,
+                    game -> session.sendGameOver());
+            session.key = channel.register(selector, SelectionKey.OP_READ, session);
+            sessionCount.incrementAndGet();
+        }
+    }
+
+    private void read(Session session) throws IOException {
+        ByteBuffer in = session.in;
+        if (session.channel.read(in) < 0) {
+            disconnect(session);
+            return;
+        }
+        in.flip();
+        while (in.hasRemaining() && session.key.isValid()) {
+            byte type = in.get(in.position());
+            int length = Protocol.messageLength(type);
+            if (length < 0) {
+                // Unknown message: the stream cannot be resynchronised
+                disconnect(session);
+                return;
+            }
+            if (in.remaining() < length) {
+                break;
+            }
+            in.get(scratch, 0, length);
+            handle(session, type);
+        }
+        if (session.key.isValid()) {
+            in.compact();
+        }
+    }
+
+    private void handle(Session session, byte type) {
+        switch (type) {
+            case Protocol.HOST -> {
+                long seed = seeds.nextLong();
+                session.game.start(seed);
+                session.send(scratch, encodeHostedStart(scratch, seed));
+            }
+            case Protocol.INPUT -> {
+                if (!applyInput(session.game, scratch[1])) {
+                    disconnect(session);
+                }
+            }
+            default -> {
+                // Versus and server-to-client messages are ignored here
+            }
+        }
+    }
+
+    private void disconnect(Session session) {
+        session.close();
+    }
+
+    private void shutdown() {
+        for (SelectionKey key : selector.keys()) {
+            try {
+                key.channel().close();
+            } catch (IOException ignored) {
+                // Closing anyway
+            }
+        }
+        try {
+            selector.close();
+        } catch (IOException ignored) {
+            // Closing anyway
+        }
+        sessionCount.set(0);
+    }
+
+    /**
+     * One connected client and its game. Messages to the client are rare and
+     * tiny, so they are written directly from the selector or carrier thread.
+     */
+    private final class Session {
+
+        private final SocketChannel channel;
+        private final ByteBuffer in = ByteBuffer.allocate(READ_BUFFER_SIZE);
+        private final ByteBuffer out = ByteBuffer.allocate(Protocol.MAX_MESSAGE_LENGTH);
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private SelectionKey key;
+        private HostedGame game;
+
+        Session(SocketChannel channel) {
+            this.channel = channel;
+        }
+
+        /** Called on the carrier thread. */
+        void sendGameOver() {
+            send(new byte[] {Protocol.TOPPED_OUT}, 1);
+        }
+
+        /**
+         * Writes a message; a client whose socket buffer is full is not reading
+         * and is dropped.
+         */
+        synchronized void send(byte[] message, int length) {
+            out.clear();
+            out.put(message, 0, length).flip();
+            try {
+                channel.write(out);
+            } catch (IOException e) {
+                close();
+                return;
+            }
+            if (out.hasRemaining()) {
+                close();
+            }
+        }
+
+        /** Closes the connection and stops the game; safe from any thread, once. */
+        void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            game.stop();
+            try {
+                // Also cancels the selection key
+                channel.close();
+            } catch (IOException ignored) {
+                // Already closed by the peer
+            }
+            sessionCount.decrementAndGet();
+        }
+    }
+}
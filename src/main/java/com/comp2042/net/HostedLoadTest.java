@@ -0,0 +1,241 @@
+package com.comp2042.net;
+
+import com.comp2042.SettingsManager;
+import com.comp2042.metrics.GameMetrics;
+import com.comp2042.metrics.Histogram;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load test comparing the two hosted-game execution models over loopback:
+ * {@link HostedGameServer} (timing wheel on a few carrier threads) and
+ * {@link VirtualThreadGameServer} (a virtual thread per session).
+ *
+ * <p>For each model it starts an in-process server, connects synthetic bot
+ * clients that each host a game, and has them send random key presses at the
+ * given total rate, releasing shifts {@value #HOLD_MS} ms later. A bot whose
+ * game tops out hosts a new one. After a one-second warm-up it reports gravity
+ * steps and inputs handled per second, and how late gravity steps ran after
+ * their deadlines. All bots are driven by a single selector thread.</p>
+ *
+ * <p>Usage: {@code HostedLoadTest [--mode wheel|virtual|both] [--sessions N]
+ * [--seconds N] [--inputs PER_SECOND] [--carriers N] [--base MS]}</p>
+ */
+public final class HostedLoadTest {
+
+    static final int HOLD_MS = 200;
+
+    private static final int[] ACTIONS = {
+            Protocol.ACTION_LEFT, Protocol.ACTION_RIGHT, Protocol.ACTION_ROTATE,
+            Protocol.ACTION_ROTATE, Protocol.ACTION_SOFT_DROP, Protocol.ACTION_HARD_DROP};
+
+    private HostedLoadTest() { }
+
+    public static void main(String[] args) throws IOException {
+        String mode = "both";
+        int sessions = 2000;
+        int seconds = 10;
+        int inputsPerSecond = 10_000;
+        int carriers = Math.max(1, Runtime.getRuntime().availableProcessors());
+        int base = SettingsManager.Difficulty.MEDIUM.getDropSpeedMs();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--mode" -> mode = args[++i];
+                case "--sessions" -> sessions = Integer.parseInt(args[++i]);
+                case "--seconds" -> seconds = Integer.parseInt(args[++i]);
+                case "--inputs" -> inputsPerSecond = Integer.parseInt(args[++i]);
+                case "--carriers" -> carriers = Integer.parseInt(args[++i]);
+                case "--base" -> base = Integer.parseInt(args[++i]);
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        if (mode.equals("wheel") || mode.equals("both")) {
+            try (HostedGameServer server = HostedGameServer.startLoopback(0, carriers, base)) {
+                run("timing wheel, " + carriers + " carriers", server.getPort(), sessions, seconds, inputsPerSecond);
+            }
+        }
+        if (mode.equals("virtual") || mode.equals("both")) {
+            try (VirtualThreadGameServer server = VirtualThreadGameServer.startLoopback(0, base)) {
+                run("virtual thread per session", server.getPort(), sessions, seconds, inputsPerSecond);
+            }
+        }
+    }
+
+    private static void run(String model, int port, int sessions, int seconds, int inputsPerSecond)
+            throws IOException {
+        InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(), port);
+        Bot[] bots = new Bot[sessions];
+        try (Selector selector = Selector.open()) {
+            for (int i = 0; i < sessions; i++) {
+                bots[i] = new Bot(SocketChannel.open(address));
+                bots[i].channel.register(selector, SelectionKey.OP_READ, bots[i]);
+            }
+
+            Driver driver = new Driver(bots, inputsPerSecond);
+            driver.runFor(selector, TimeUnit.SECONDS.toNanos(1));
+
+            Histogram.Snapshot latenessBefore = GameMetrics.GRAVITY_LATENESS.snapshot();
+            long ticksBefore = GameMetrics.GRAVITY_TICKS.get();
+            long inputsBefore = GameMetrics.INPUTS.get();
+            long gamesBefore = driver.gamesEnded;
+            long start = System.nanoTime();
+            driver.runFor(selector, TimeUnit.SECONDS.toNanos(seconds));
+            double elapsed = (System.nanoTime() - start) / 1e9;
+            Histogram.Snapshot lateness = GameMetrics.GRAVITY_LATENESS.snapshot().since(latenessBefore);
+            long ticks = GameMetrics.GRAVITY_TICKS.get() - ticksBefore;
+            long inputs = GameMetrics.INPUTS.get() - inputsBefore;
+
+            System.out.printf("Model:               %s%n", model);
+            System.out.printf("Sessions:            %d%n", sessions);
+            System.out.printf("Gravity steps:       %.0f/s%n", ticks / elapsed);
+            System.out.printf("Inputs handled:      %.0f/s (sent %d/s)%n", inputs / elapsed, inputsPerSecond);
+            System.out.printf("Games ended:         %d%n", driver.gamesEnded - gamesBefore);
+            System.out.printf("Lateness p50:        %.2f ms%n", lateness.valueAtQuantile(0.50) / 1e6);
+            System.out.printf("Lateness p99:        %.2f ms%n", lateness.valueAtQuantile(0.99) / 1e6);
+            System.out.printf("Lateness max:        %.2f ms%n%n", lateness.valueAtQuantile(1.0) / 1e6);
+        } finally {
+            for (Bot bot : bots) {
+                if (bot != null) {
+                    bot.close();
+                }
+            }
+        }
+    }
+
+    /**
+     * Sends the bots' inputs once a millisecond and handles server messages in
+     * between.
+     */
+    private static final class Driver {
+
+        private final Bot[] bots;
+        private final int perMilli;
+        private final SplittableRandom random = new SplittableRandom(42);
+        // Shifts to release, one slot per millisecond of the hold time
+        private final Bot[] heldBots;
+        private final int[] heldActions;
+        private int slot;
+        private long gamesEnded;
+
+        Driver(Bot[] bots, int inputsPerSecond) {
+            this.bots = bots;
+            this.perMilli = Math.max(1, inputsPerSecond / 1000);
+            heldBots = new Bot[HOLD_MS * perMilli];
+            heldActions = new int[heldBots.length];
+        }
+
+        void runFor(Selector selector, long nanos) throws IOException {
+            long end = System.nanoTime() + nanos;
+            long nextInputs = System.nanoTime();
+            while (System.nanoTime() < end) {
+                long wait = nextInputs - System.nanoTime();
+                if (wait > 0) {
+                    // Rounded up: a zero timeout would block indefinitely, selectNow would spin
+                    selector.select(Math.max(1, TimeUnit.NANOSECONDS.toMillis(wait)));
+                } else {
+                    selector.selectNow();
+                }
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (key.isValid() && ((Bot) key.attachment()).onReadable()) {
+                        gamesEnded++;
+                    }
+                }
+                if (System.nanoTime() - nextInputs >= 0) {
+                    sendInputs();
+                    nextInputs += TimeUnit.MILLISECONDS.toNanos(1);
+                }
+            }
+        }
+
+        private void sendInputs() throws IOException {
+            int first = slot * perMilli;
+            for (int i = first; i < first + perMilli; i++) {
+                if (heldBots[i] != null) {
+                    heldBots[i].write(Protocol.INPUT, heldActions[i]);
+                    heldBots[i] = null;
+                }
+                Bot bot = bots[random.nextInt(bots.length)];
+                int action = ACTIONS[random.nextInt(ACTIONS.length)];
+                bot.write(Protocol.INPUT, action);
+                if (action == Protocol.ACTION_LEFT || action == Protocol.ACTION_RIGHT) {
+                    heldBots[i] = bot;
+                    heldActions[i] = action == Protocol.ACTION_LEFT
+                            ? Protocol.ACTION_RELEASE_LEFT : Protocol.ACTION_RELEASE_RIGHT;
+                }
+            }
+            slot = (slot + 1) % HOLD_MS;
+        }
+    }
+
+    /**
+     * Synthetic client: hosts a game and hosts another whenever it tops out.
+     */
+    private static final class Bot implements Closeable {
+
+        private final SocketChannel channel;
+        private final ByteBuffer in = ByteBuffer.allocate(256);
+        private final ByteBuffer out = ByteBuffer.allocate(Protocol.MAX_MESSAGE_LENGTH);
+
+        Bot(SocketChannel channel) throws IOException {
+            this.channel = channel;
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            write(Protocol.HOST);
+            channel.configureBlocking(false);
+        }
+
+        /** @return true if the bot's game just ended */
+        boolean onReadable() throws IOException {
+            boolean ended = false;
+            if (channel.read(in) < 0) {
+                throw new IOException("Server closed the connection");
+            }
+            in.flip();
+            while (in.hasRemaining()) {
+                int length = Protocol.messageLength(in.get(in.position()));
+                if (length < 0 || in.remaining() < length) {
+                    break;
+                }
+                if (in.get() == Protocol.TOPPED_OUT) {
+                    ended = true;
+                    write(Protocol.HOST);
+                } else {
+                    in.position(in.position() + length - 1);
+                }
+            }
+            in.compact();
+            return ended;
+        }
+
+        void write(byte type, int... payload) throws IOException {
+            out.clear();
+            out.put(type);
+            for (int value : payload) {
+                out.put((byte) value);
+            }
+            out.flip();
+            while (out.hasRemaining()) {
+                channel.write(out);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.comp2042.net;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load test for {@link GameServer} over the loopback interface.
+ *
+ * <p>Starts an in-process server on an ephemeral loopback port, connects many
+ * clients, lets them pair up into matches and exchange garbage messages, then
+ * ends every match. All clients are driven by a single selector so that the
+ * test itself stays cheap. Prints throughput and the heap used per session.</p>
+ *
+ * <p>Usage: {@code LoopbackLoadTest [--sessions N] [--messages N]}</p>
+ */
+public final class LoopbackLoadTest {
+
+    private static final long TIMEOUT_SECONDS = 60;
+
+    private LoopbackLoadTest() { }
+
+    public static void main(String[] args) throws IOException {
+        int sessions = 2000;
+        int messages = 50;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--sessions" -> sessions = Integer.parseInt(args[++i]);
+                case "--messages" -> messages = Integer.parseInt(args[++i]);
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+        sessions += sessions % 2;
+
+        try (GameServer server = GameServer.startLoopback(0);
+             Selector selector = Selector.open()) {
+            InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(), server.getPort());
+            long heapBefore = usedHeap();
+
+            long start = System.nanoTime();
+            Client[] clients = new Client[sessions];
+            for (int i = 0; i < sessions; i++) {
+                clients[i] = new Client(SocketChannel.open(address), messages);
+                clients[i].register(selector);
+            }
+            long connected = System.nanoTime();
+            long heapConnected = usedHeap();
+
+            int finished = 0;
+            long deadline = connected + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+            while (finished < sessions && System.nanoTime() < deadline) {
+                selector.select(100);
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    Client client = (Client) key.attachment();
+                    if (client.onReadable()) {
+                        finished++;
+                    }
+                }
+            }
+            long end = System.nanoTime();
+
+            long relayed = (long) sessions * messages;
+            double seconds = (end - connected) / 1e9;
+            System.out.printf("Sessions:            %d (%d finished)%n", sessions, finished);
+            System.out.printf("Connect time:        %.1f ms%n", (connected - start) / 1e6);
+            System.out.printf("Match time:          %.1f ms%n", seconds * 1e3);
+            System.out.printf("Garbage relayed:     %d (%.0f msg/s)%n", relayed, relayed / seconds);
+            System.out.printf("Heap per session:    ~%d bytes (server and test client)%n",
+                    Math.max(0, heapConnected - heapBefore) / sessions);
+            System.out.printf("Server sessions now: %d, matches: %d%n", server.getSessionCount(), server.getMatchCount());
+
+            for (Client client : clients) {
+                client.channel.close();
+            }
+        }
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Scripted client: joins, sends its garbage messages once matched, waits
+     * for the opponent's, and then player 1 concedes to end the match.
+     */
+    private static final class Client {
+
+        private final SocketChannel channel;
+        private final int messages;
+        private final ByteBuffer in = ByteBuffer.allocate(256);
+        private final ByteBuffer out = ByteBuffer.allocate(Protocol.MAX_MESSAGE_LENGTH);
+        private int playerIndex;
+        private int received;
+        private boolean finished;
+
+        Client(SocketChannel channel, int messages) throws IOException {
+            this.channel = channel;
+            this.messages = messages;
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            write(Protocol.JOIN);
+            channel.configureBlocking(false);
+        }
+
+        void register(Selector selector) throws IOException {
+            channel.register(selector, SelectionKey.OP_READ, this);
+        }
+
+        /** @return true if the client just finished */
+        boolean onReadable() {
+            if (finished) {
+                return false;
+            }
+            try {
+                if (channel.read(in) < 0) {
+                    finished = true;
+                    return true;
+                }
+                in.flip();
+                while (in.hasRemaining()) {
+                    int length = Protocol.messageLength(in.get(in.position()));
+                    if (length < 0 || in.remaining() < length) {
+                        break;
+                    }
+                    handle(in.get());
+                }
+                in.compact();
+            } catch (IOException e) {
+                finished = true;
+            }
+            return finished;
+        }
+
+        private void handle(byte type) throws IOException {
+            switch (type) {
+                case Protocol.MATCH_START -> {
+                    in.getLong();
+                    playerIndex = in.get();
+                    for (int i = 0; i < messages; i++) {
+                        write(Protocol.GARBAGE, 1, i % 10);
+                    }
+                }
+                case Protocol.GARBAGE -> {
+                    in.get();
+                    in.get();
+                    if (++received == messages && playerIndex == 1) {
+                        write(Protocol.TOPPED_OUT);
+                    }
+                }
+                case Protocol.MATCH_END -> {
+                    in.get();
+                    finished = true;
+                }
+                default -> in.position(in.position() + Protocol.messageLength(type) - 1);
+            }
+        }
+
+        private void write(byte type, int... payload) throws IOException {
+            out.clear();
+            out.put(type);
+            for (int value : payload) {
+                out.put((byte) value);
+            }
+            out.flip();
+            while (out.hasRemaining()) {
+                channel.write(out);
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.comp2042.net;
+
+/**
+ * Wire format shared by {@link GameServer} and {@link GameClient}.
+ *
+ * <p>Every message is a one-byte type followed by a fixed-size payload, so the
+ * type alone determines the message length and no length prefix is needed.
+ * Multi-byte values are big-endian.</p>
+ *
+ * <p>Versus matches exchange garbage only: each client runs its own game, and
+ * the opponent's board is not shown, so key inputs are not sent.</p>
+ *
+ * <pre>
+ * client -&gt; server
+ *   JOIN         [type]                       enter matchmaking
+ *   GARBAGE      [type][rows][holeColumn]     relayed to the opponent
+ *   TOPPED_OUT   [type]                       sender lost the match
+ * server -&gt; client
+ *   MATCH_START  [type][seed:8][playerIndex]  shared brick seed, player 1 or 2
+ *   MATCH_END    [type][winner]               winner 1 or 2, 0 if the opponent left
+ * </pre>
+ *
+ * <p>Hosted games, where the server runs the game and the client only sends
+ * its keys ({@link HostedGameServer}, {@link VirtualThreadGameServer}):</p>
+ *
+ * <pre>
+ * client -&gt; server
+ *   HOST         [type]                       start (or restart) a hosted game
+ *   INPUT        [type][action]               a key press or release
+ * server -&gt; client
+ *   MATCH_START  [type][seed:8][1]            the hosted game started
+ *   TOPPED_OUT   [type]                       the hosted game ended
+ * </pre>
+ */
+public final class Protocol {
+
+    /** Default TCP port of the game server. */
+    public static final int DEFAULT_PORT = 40420;
+
+    public static final byte JOIN = 1;
+    public static final byte INPUT = 2;
+    public static final byte GARBAGE = 3;
+    public static final byte TOPPED_OUT = 4;
+    public static final byte HOST = 5;
+    public static final byte MATCH_START = 10;
+    public static final byte MATCH_END = 11;
+
+    // Input actions carried by INPUT (hosted games)
+    public static final int ACTION_LEFT = 1;
+    public static final int ACTION_RIGHT = 2;
+    public static final int ACTION_ROTATE = 3;
+    public static final int ACTION_SOFT_DROP = 4;
+    public static final int ACTION_HARD_DROP = 5;
+    // Key releases (they end auto-shift)
+    public static final int ACTION_RELEASE_LEFT = 6;
+    public static final int ACTION_RELEASE_RIGHT = 7;
+
+    /** Winner value of MATCH_END when the opponent disconnected. */
+    public static final int OPPONENT_LEFT = 0;
+
+    /** Most garbage rows one GARBAGE message may carry (a tetris). */
+    public static final int MAX_GARBAGE = 4;
+
+    /** Board width of versus matches; GARBAGE hole columns are below it. */
+    public static final int BOARD_COLS = 10;
+
+    /** Length of the longest message (MATCH_START). */
+    public static final int MAX_MESSAGE_LENGTH = 10;
+
+    private Protocol() { }
+
+    /**
+     * @return true if a GARBAGE message with these values can come from an
+     *         honest client; anything else means the peer is broken or cheating
+     */
+    public static boolean isValidGarbage(int rows, int holeColumn) {
+        return rows >= 1 && rows <= MAX_GARBAGE && holeColumn >= 0 && holeColumn < BOARD_COLS;
+    }
+
+    /**
+     * @param type message type byte
+     * @return total message length including the type byte, or -1 for an unknown type
+     */
+    public static int messageLength(byte type) {
+        return switch (type) {
+            case JOIN, TOPPED_OUT, HOST -> 1;
+            case INPUT, MATCH_END -> 2;
+            case GARBAGE -> 3;
+            case MATCH_START -> 10;
+            default -> -1;
+        };
+    }
+}
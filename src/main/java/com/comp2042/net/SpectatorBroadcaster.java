@@ -0,0 +1,339 @@
+package com.comp2042.net;
+
+import com.comp2042.diagnostics.Log;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fans spectator frames ({@link FrameEncoder}) out to many spectators over NIO.
+ *
+ * <p>A spectator connects and sends the 4-byte id of the game it wants to watch,
+ * then receives that game's frames, starting at the next keyframe. Games call
+ * {@link #publish} from their own threads; each frame is copied once into an
+ * immutable array that every subscriber's queue shares, and a single selector
+ * thread does all socket writes.</p>
+ *
+ * <p>Each spectator queues at most {@value #MAX_QUEUED_FRAMES} frames. A spectator
+ * that falls further behind has its queued frames dropped and waits for the next
+ * keyframe, so a slow viewer costs bounded memory and never stalls the games or
+ * the other viewers.</p>
+ */
+public final class SpectatorBroadcaster implements Closeable {
+
+    private static final Log LOG = Log.forClass(SpectatorBroadcaster.class);
+
+    /** Default TCP port of the spectator feed. */
+    public static final int DEFAULT_PORT = Protocol.DEFAULT_PORT + 1;
+
+    static final int MAX_QUEUED_FRAMES = 64;
+
+    private final Selector selector;
+    private final ServerSocketChannel serverChannel;
+    private final Thread selectorThread;
+    private final ConcurrentLinkedQueue<Frame> published = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean wakeupPending = new AtomicBoolean();
+    private final AtomicInteger spectatorCount = new AtomicInteger();
+    private final AtomicLong framesPublished = new AtomicLong();
+    private final AtomicLong resyncs = new AtomicLong();
+    private volatile boolean running = true;
+
+    // Selector thread only: spectators by subscribed game id
+    private final Map<Integer, List<Spectator>> subscribers = new HashMap<>();
+    // Selector thread only: receives whatever a subscribed spectator still sends
+    private final ByteBuffer discard = ByteBuffer.allocate(256);
+
+    private SpectatorBroadcaster(InetSocketAddress address) throws IOException {
+        selector = Selector.open();
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(address, 1024);
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+
+        selectorThread = new Thread(this::runLoop, "spectator-broadcaster");
+        selectorThread.setDaemon(true);
+        selectorThread.start();
+    }
+
+    /**
+     * Starts a broadcaster on the loopback interface.
+     *
+     * @param port TCP port, or 0 for an ephemeral port
+     * @return the running broadcaster
+     * @throws IOException if the port cannot be bound
+     */
+    public static SpectatorBroadcaster startLoopback(int port) throws IOException {
+        return new SpectatorBroadcaster(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+    }
+
+    /** @return the bound port */
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    /** @return connected spectators */
+    public int getSpectatorCount() {
+        return spectatorCount.get();
+    }
+
+    /** @return frames published by all games */
+    public long getFramesPublished() {
+        return framesPublished.get();
+    }
+
+    /** @return times a lagging spectator had its queue dropped to wait for a keyframe */
+    public long getResyncCount() {
+        return resyncs.get();
+    }
+
+    /**
+     * Publishes one encoded frame to the game's spectators. Safe to call from any thread.
+     *
+     * @param encoder the game's encoder (identifies the game)
+     * @param frame   the frame just returned by {@link FrameEncoder#encode}
+     */
+    public void publish(FrameEncoder encoder, ByteBuffer frame) {
+        byte[] bytes = new byte[frame.remaining()];
+        frame.get(bytes);
+        published.add(new Frame(encoder.getGameId(), bytes[2] == FrameEncoder.KEYFRAME, bytes));
+        framesPublished.incrementAndGet();
+        // One wakeup per batch of frames rather than per frame
+        if (wakeupPending.compareAndSet(false, true)) {
+            selector.wakeup();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        running = false;
+        selector.wakeup();
+        try {
+            selectorThread.join(2000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void runLoop() {
+        try {
+            while (running) {
+                selector.select();
+                wakeupPending.set(false);
+                fanOut();
+
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    if (key.isAcceptable()) {
+                        accept();
+                        continue;
+                    }
+                    Spectator spectator = (Spectator) key.attachment();
+                    try {
+                        if (key.isReadable()) {
+                            readSubscription(spectator);
+                        }
+                        if (key.isValid() && key.isWritable()) {
+                            flush(spectator);
+                        }
+                    } catch (IOException e) {
+                        disconnect(spectator);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            LOG.error("Spectator broadcaster failed: " + e.getMessage());
+        } finally {
+            for (SelectionKey key : selector.keys()) {
+                try {
+                    key.channel().close();
+                } catch (IOException ignored) {
+                    // Closing anyway
+                }
+            }
+            try {
+                selector.close();
+            } catch (IOException ignored) {
+                // Closing anyway
+            }
+            spectatorCount.set(0);
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel;
+        while ((channel = serverChannel.accept()) != null) {
+            channel.configureBlocking(false);
+            Spectator spectator = new Spectator(channel);
+            spectator.key = channel.register(selector, SelectionKey.OP_READ, spectator);
+            spectatorCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Reads the subscription, or after it anything else the spectator sends,
+     * which is dropped: the key stays readable so that a closed connection is
+     * seen (read returns -1) and the spectator removed.
+     */
+    private void readSubscription(Spectator spectator) throws IOException {
+        if (spectator.gameId != null) {
+            int read;
+            do {
+                discard.clear();
+                read = spectator.channel.read(discard);
+            } while (read > 0);
+            if (read < 0) {
+                disconnect(spectator);
+            }
+            return;
+        }
+        if (spectator.channel.read(spectator.subscription) < 0) {
+            disconnect(spectator);
+            return;
+        }
+        if (spectator.subscription.hasRemaining()) {
+            return;
+        }
+        spectator.gameId = spectator.subscription.getInt(0);
+        subscribers.computeIfAbsent(spectator.gameId, id -> new ArrayList<>()).add(spectator);
+    }
+
+    /**
+     * Queues every newly published frame on its subscribers and writes what the sockets accept.
+     */
+    private void fanOut() {
+        Frame frame;
+        while ((frame = published.poll()) != null) {
+            List<Spectator> spectators = subscribers.get(frame.gameId);
+            if (spectators == null) {
+                continue;
+            }
+            for (int i = 0; i < spectators.size(); i++) {
+                spectators.get(i).enqueue(frame);
+            }
+        }
+        for (List<Spectator> spectators : subscribers.values()) {
+            for (int i = spectators.size() - 1; i >= 0; i--) {
+                Spectator spectator = spectators.get(i);
+                if (spectator.queue.isEmpty()) {
+                    continue;
+                }
+                try {
+                    flush(spectator);
+                } catch (IOException e) {
+                    disconnect(spectator);
+                }
+            }
+        }
+    }
+
+    private void flush(Spectator spectator) throws IOException {
+        while (!spectator.queue.isEmpty()) {
+            byte[] head = spectator.queue.peek();
+            ByteBuffer buffer = ByteBuffer.wrap(head, spectator.headOffset, head.length - spectator.headOffset);
+            spectator.headOffset += spectator.channel.write(buffer);
+            if (spectator.headOffset < head.length) {
+                break;
+            }
+            spectator.queue.poll();
+            spectator.headOffset = 0;
+        }
+        int ops = spectator.queue.isEmpty() ? SelectionKey.OP_READ : SelectionKey.OP_READ | SelectionKey.OP_WRITE;
+        if (spectator.key.interestOps() != ops) {
+            spectator.key.interestOps(ops);
+        }
+    }
+
+    private void disconnect(Spectator spectator) {
+        if (!spectator.key.isValid()) {
+            return;
+        }
+        spectator.key.cancel();
+        try {
+            spectator.channel.close();
+        } catch (IOException ignored) {
+            // Already closed by the peer
+        }
+        spectatorCount.decrementAndGet();
+        if (spectator.gameId != null) {
+            // The (possibly empty) list stays mapped: fanOut may be iterating the map
+            subscribers.get(spectator.gameId).remove(spectator);
+        }
+    }
+
+    /**
+     * A published frame shared by all of its game's spectators.
+     */
+    private static final class Frame {
+
+        private final int gameId;
+        private final boolean keyframe;
+        private final byte[] bytes;
+
+        Frame(int gameId, boolean keyframe, byte[] bytes) {
+            this.gameId = gameId;
+            this.keyframe = keyframe;
+            this.bytes = bytes;
+        }
+    }
+
+    /**
+     * One connected spectator with its bounded queue of shared frames.
+     */
+    private final class Spectator {
+
+        private final SocketChannel channel;
+        private final ByteBuffer subscription = ByteBuffer.allocate(4);
+        private final ArrayDeque<byte[]> queue = new ArrayDeque<>();
+        private SelectionKey key;
+        private Integer gameId;
+        private int headOffset;
+        private boolean synced;
+
+        Spectator(SocketChannel channel) {
+            this.channel = channel;
+        }
+
+        void enqueue(Frame frame) {
+            if (!synced && !frame.keyframe) {
+                return;
+            }
+            if (queue.size() >= MAX_QUEUED_FRAMES) {
+                // Too far behind: keep only a partly written frame and wait for a keyframe
+                byte[] partial = headOffset > 0 ? queue.peek() : null;
+                queue.clear();
+                if (partial != null) {
+                    queue.add(partial);
+                }
+                synced = false;
+                resyncs.incrementAndGet();
+                if (!frame.keyframe) {
+                    return;
+                }
+            }
+            synced = true;
+            queue.add(frame.bytes);
+        }
+    }
+}
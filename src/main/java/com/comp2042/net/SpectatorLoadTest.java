@@ -0,0 +1,228 @@
+package com.comp2042.net;
+
+import com.comp2042.SimpleBoard;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.SplittableRandom;
+
+/**
+ * Load test for {@link SpectatorBroadcaster} over the loopback interface.
+ *
+ * <p>Runs several randomly played games that publish a frame per tick, with many
+ * spectators spread over the games. Spectators are driven by a single selector
+ * and rebuild their game with a {@link FrameDecoder}; at the end every spectator's
+ * board is compared with the real one. Prints bandwidth, delta frame size,
+ * resyncs and mismatches.</p>
+ *
+ * <p>Usage: {@code SpectatorLoadTest [--games N] [--spectators N] [--ticks N] [--keyframe N]}</p>
+ */
+public final class SpectatorLoadTest {
+
+    private static final int BOARD_COLS = 10;
+    private static final int TOTAL_ROWS = 22;
+
+    private SpectatorLoadTest() { }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int gameCount = 16;
+        int spectatorCount = 1000;
+        int ticks = 3000;
+        int keyframeInterval = 60;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--games" -> gameCount = Integer.parseInt(args[++i]);
+                case "--spectators" -> spectatorCount = Integer.parseInt(args[++i]);
+                case "--ticks" -> ticks = Integer.parseInt(args[++i]);
+                case "--keyframe" -> keyframeInterval = Integer.parseInt(args[++i]);
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        try (SpectatorBroadcaster broadcaster = SpectatorBroadcaster.startLoopback(0);
+             Selector selector = Selector.open()) {
+            InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(), broadcaster.getPort());
+
+            Viewer[] viewers = new Viewer[spectatorCount];
+            for (int i = 0; i < spectatorCount; i++) {
+                viewers[i] = new Viewer(SocketChannel.open(address), i % gameCount);
+                viewers[i].channel.register(selector, SelectionKey.OP_READ, viewers[i]);
+            }
+            while (broadcaster.getSpectatorCount() < spectatorCount) {
+                Thread.sleep(10);
+            }
+            // Let the broadcaster read every subscription before the first frame
+            Thread.sleep(200);
+
+            Game[] games = new Game[gameCount];
+            for (int g = 0; g < gameCount; g++) {
+                games[g] = new Game(g, keyframeInterval);
+            }
+
+            long deltaBytes = 0;
+            long deltaFrames = 0;
+            long start = System.nanoTime();
+            for (int t = 0; t < ticks; t++) {
+                for (Game game : games) {
+                    boolean keyframe = game.encoder.isKeyframeDue();
+                    ByteBuffer frame = game.step();
+                    if (!keyframe) {
+                        deltaBytes += frame.remaining();
+                        deltaFrames++;
+                    }
+                    broadcaster.publish(game.encoder, frame);
+                }
+                pump(selector, 0);
+            }
+            // Final keyframes so that every viewer ends in sync
+            for (int k = 0; k < keyframeInterval; k++) {
+                for (Game game : games) {
+                    broadcaster.publish(game.encoder, game.idle());
+                }
+            }
+            long deadline = System.nanoTime() + 5_000_000_000L;
+            while (System.nanoTime() < deadline && !allCaughtUp(viewers, games)) {
+                pump(selector, 50);
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            long received = 0;
+            int mismatches = 0;
+            for (Viewer viewer : viewers) {
+                received += viewer.bytesReceived;
+                if (!viewer.matches(games[viewer.gameId])) {
+                    mismatches++;
+                }
+            }
+            System.out.printf("Games x spectators:  %d x %d%n", gameCount, spectatorCount);
+            System.out.printf("Frames published:    %d in %.2f s%n", broadcaster.getFramesPublished(), seconds);
+            System.out.printf("Avg delta frame:     %.1f bytes (keyframe every %d)%n",
+                    deltaFrames == 0 ? 0.0 : (double) deltaBytes / deltaFrames, keyframeInterval);
+            System.out.printf("Delivered:           %.1f MB (%.1f MB/s)%n", received / 1e6, received / 1e6 / seconds);
+            System.out.printf("Resyncs:             %d%n", broadcaster.getResyncCount());
+            System.out.printf("Board mismatches:    %d%n", mismatches);
+
+            for (Viewer viewer : viewers) {
+                viewer.channel.close();
+            }
+        }
+    }
+
+    private static void pump(Selector selector, long timeoutMillis) throws IOException {
+        if (timeoutMillis == 0) {
+            selector.selectNow();
+        } else {
+            selector.select(timeoutMillis);
+        }
+        Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+        while (keys.hasNext()) {
+            SelectionKey key = keys.next();
+            keys.remove();
+            ((Viewer) key.attachment()).onReadable();
+        }
+    }
+
+    private static boolean allCaughtUp(Viewer[] viewers, Game[] games) {
+        for (Viewer viewer : viewers) {
+            if (viewer.decoder.getTick() != games[viewer.gameId].lastTick) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A game played with random moves that publishes a frame per tick.
+     */
+    private static final class Game {
+
+        private final SimpleBoard board = new SimpleBoard(BOARD_COLS, TOTAL_ROWS);
+        private final FrameEncoder encoder;
+        private final SplittableRandom random;
+        private int lastTick = -1;
+
+        Game(int id, int keyframeInterval) {
+            this.encoder = new FrameEncoder(id, BOARD_COLS, TOTAL_ROWS, keyframeInterval);
+            this.random = new SplittableRandom(id);
+            board.newGame();
+        }
+
+        ByteBuffer step() {
+            switch (random.nextInt(4)) {
+                case 0 -> board.moveBrickLeft();
+                case 1 -> board.moveBrickRight();
+                case 2 -> board.rotateLeftBrick();
+                default -> {
+                    if (!board.moveBrickDown()) {
+                        board.mergeBrickToBackground();
+                        board.clearRows();
+                        if (board.createNewBrick()) {
+                            board.newGame();
+                        }
+                    }
+                }
+            }
+            return idle();
+        }
+
+        ByteBuffer idle() {
+            lastTick++;
+            return encoder.encode(board.getBoardMatrix(), board.getActiveBrickType(),
+                    board.getActiveBrickRotation(), board.getActiveBrickX(), board.getActiveBrickY());
+        }
+    }
+
+    /**
+     * A spectator that subscribes to one game and decodes its frames.
+     */
+    private static final class Viewer {
+
+        private final SocketChannel channel;
+        private final int gameId;
+        private final FrameDecoder decoder = new FrameDecoder();
+        private final ByteBuffer in = ByteBuffer.allocate(16 * 1024);
+        private long bytesReceived;
+
+        Viewer(SocketChannel channel, int gameId) throws IOException {
+            this.channel = channel;
+            this.gameId = gameId;
+            ByteBuffer subscribe = ByteBuffer.allocate(4).putInt(0, gameId);
+            while (subscribe.hasRemaining()) {
+                channel.write(subscribe);
+            }
+            channel.configureBlocking(false);
+        }
+
+        void onReadable() throws IOException {
+            int read;
+            while ((read = channel.read(in)) > 0) {
+                bytesReceived += read;
+                in.flip();
+                while (in.remaining() >= 2 && in.remaining() >= 2 + (in.getShort(in.position()) & 0xFFFF)) {
+                    decoder.apply(in);
+                }
+                in.compact();
+            }
+        }
+
+        boolean matches(Game game) {
+            int[][] matrix = game.board.getBoardMatrix();
+            for (int r = 0; r < TOTAL_ROWS; r++) {
+                for (int c = 0; c < BOARD_COLS; c++) {
+                    if (decoder.getCell(r, c) != matrix[r][c]) {
+                        return false;
+                    }
+                }
+            }
+            return decoder.getPieceType() == game.board.getActiveBrickType()
+                    && decoder.getPieceX() == game.board.getActiveBrickX()
+                    && decoder.getPieceY() == game.board.getActiveBrickY();
+        }
+    }
+}
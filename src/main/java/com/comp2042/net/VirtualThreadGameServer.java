@@ -0,0 +1,214 @@
+package com.comp2042.net;
+
+import com.comp2042.diagnostics.Log;
+import com.comp2042.timing.HostedGame;
+import com.comp2042.timing.VirtualThreadHost;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Server that runs the games itself, like {@link HostedGameServer}, but with a
+ * virtual thread per session instead of a shared timing wheel.
+ *
+ * <p>Each session has two virtual threads: a reader that blocks on the socket
+ * and queues the client's keys, and the game's {@link VirtualThreadHost}, which
+ * blocks on that queue until the next gravity, lock-delay or auto-shift
+ * deadline. All code is plain blocking code; the JDK multiplexes the threads
+ * onto its carrier threads. The protocol and games are the same as in
+ * {@link HostedGameServer}, so the two execution models can be compared.</p>
+ */
+public final class VirtualThreadGameServer implements Closeable {
+
+    private static final Log LOG = Log.forClass(VirtualThreadGameServer.class);
+
+    private final ServerSocketChannel serverChannel;
+    private final int baseIntervalMs;
+    private final Thread acceptThread;
+    private final Set<Session> sessions = ConcurrentHashMap.newKeySet();
+    private volatile boolean running = true;
+
+    private VirtualThreadGameServer(InetSocketAddress address, int baseIntervalMs) throws IOException {
+        this.baseIntervalMs = baseIntervalMs;
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(address, 1024);
+        acceptThread = Thread.ofVirtual().name("hosted-accept").start(this::acceptLoop);
+    }
+
+    /**
+     * Starts a server on the loopback interface.
+     *
+     * @param port           TCP port, or 0 for an ephemeral port
+     * @param baseIntervalMs gravity interval at level 1
+     * @return the running server
+     * @throws IOException if the port cannot be bound
+     */
+    public static VirtualThreadGameServer startLoopback(int port, int baseIntervalMs) throws IOException {
+        return new VirtualThreadGameServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), port),
+                baseIntervalMs);
+    }
+
+    /** @return the bound port */
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    /** @return connected sessions */
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    /**
+     * Stops the server and every game.
+     */
+    @Override
+    public void close() throws IOException {
+        running = false;
+        serverChannel.close();
+        try {
+            acceptThread.join(2000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (Session session : sessions) {
+            session.close();
+        }
+    }
+
+    private void acceptLoop() {
+        long nextSessionId = 0;
+        try {
+            while (running) {
+                SocketChannel channel = serverChannel.accept();
+                channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                Session session = new Session(channel, nextSessionId++);
+                sessions.add(session);
+                session.start();
+            }
+        } catch (IOException e) {
+            if (running) {
+                LOG.error("Hosted game server stopped accepting: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * One connected client, its game and the game's two threads.
+     */
+    private final class Session {
+
+        private final SocketChannel channel;
+        private final VirtualThreadHost host;
+        private final HostedGame game;
+        private final Thread reader;
+        private final ByteBuffer out = ByteBuffer.allocate(Protocol.MAX_MESSAGE_LENGTH);
+        private final ReentrantLock writeLock = new ReentrantLock();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        Session(SocketChannel channel, long id) {
+            this.channel = channel;
+            host = new VirtualThreadHost("hosted-game-" + id);
+            game = new HostedGame(host, baseIntervalMs, g -> send(new byte[] {Protocol.TOPPED_OUT}, 1));
+            reader = Thread.ofVirtual().name("hosted-reader-" + id).unstarted(this::readLoop);
+        }
+
+        void start() {
+            host.start();
+            reader.start();
+        }
+
+        private void readLoop() {
+            ByteBuffer in = ByteBuffer.allocate(HostedGameServer.READ_BUFFER_SIZE);
+            byte[] message = new byte[Protocol.MAX_MESSAGE_LENGTH];
+            try {
+                while (channel.read(in) >= 0) {
+                    in.flip();
+                    while (in.hasRemaining()) {
+                        byte type = in.get(in.position());
+                        int length = Protocol.messageLength(type);
+                        if (length < 0) {
+                            // Unknown message: the stream cannot be resynchronised
+                            return;
+                        }
+                        if (in.remaining() < length) {
+                            break;
+                        }
+                        in.get(message, 0, length);
+                        if (!handle(type, message)) {
+                            return;
+                        }
+                    }
+                    in.compact();
+                }
+            } catch (IOException e) {
+                // Disconnected
+            } finally {
+                close();
+            }
+        }
+
+        /** @return false if the client sent something invalid */
+        private boolean handle(byte type, byte[] message) {
+            switch (type) {
+                case Protocol.HOST -> {
+                    long seed = ThreadLocalRandom.current().nextLong();
+                    game.start(seed);
+                    byte[] start = new byte[Protocol.MAX_MESSAGE_LENGTH];
+                    send(start, HostedGameServer.encodeHostedStart(start, seed));
+                    return true;
+                }
+                case Protocol.INPUT -> {
+                    return HostedGameServer.applyInput(game, message[1]);
+                }
+                default -> {
+                    // Versus and server-to-client messages are ignored here
+                    return true;
+                }
+            }
+        }
+
+        /**
+         * Blocking write; a slow client only holds up its own threads. Guarded
+         * by a lock rather than {@code synchronized}, which would pin the
+         * carrier thread while blocked.
+         */
+        private void send(byte[] message, int length) {
+            writeLock.lock();
+            try {
+                out.clear();
+                out.put(message, 0, length).flip();
+                while (out.hasRemaining()) {
+                    channel.write(out);
+                }
+            } catch (IOException e) {
+                close();
+            } finally {
+                writeLock.unlock();
+            }
+        }
+
+        void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            host.stop();
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // Already closed by the peer
+            }
+            sessions.remove(this);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.comp2042.replay;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * A recorded game as submitted by a client: the brick seed, the claimed result
+ * and every game event in order, one byte each.
+ *
+ * <p>Gravity steps are events like key presses, so a replay is independent of
+ * timing: re-applying the events to a game with the same seed reproduces it
+ * exactly (see {@link ReplayVerifier}). Input event codes match the
+ * {@code ACTION_*} values of the network protocol.</p>
+ *
+ * <p>Binary form: magic, version, seed (8 bytes), claimed score and lines
+ * (4 bytes each), event count (4 bytes), then the events.</p>
+ */
+public final class Replay {
+
+    public static final byte GRAVITY = 0;
+    public static final byte LEFT = 1;
+    public static final byte RIGHT = 2;
+    public static final byte ROTATE = 3;
+    public static final byte SOFT_DROP = 4;
+    public static final byte HARD_DROP = 5;
+
+    /** Largest event count accepted when reading; hours of play. */
+    public static final int MAX_EVENTS = 1 << 20;
+
+    private static final int MAGIC = 0x54524550; // "TREP"
+    private static final int VERSION = 1;
+
+    private final long seed;
+    private final int claimedScore;
+    private final int claimedLines;
+    private final byte[] events;
+
+    /**
+     * @param events event codes; the array is kept, not copied
+     */
+    public Replay(long seed, int claimedScore, int claimedLines, byte[] events) {
+        this.seed = seed;
+        this.claimedScore = claimedScore;
+        this.claimedLines = claimedLines;
+        this.events = events;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getClaimedScore() {
+        return claimedScore;
+    }
+
+    public int getClaimedLines() {
+        return claimedLines;
+    }
+
+    public int getEventCount() {
+        return events.length;
+    }
+
+    public byte getEvent(int index) {
+        return events[index];
+    }
+
+    /**
+     * @return a copy with a different claimed result and the same events
+     */
+    public Replay withClaim(int score, int lines) {
+        return new Replay(seed, score, lines, events);
+    }
+
+    /**
+     * Writes the replay in its binary form.
+     *
+     * @param out destination
+     * @throws IOException if writing fails
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeLong(seed);
+        out.writeInt(claimedScore);
+        out.writeInt(claimedLines);
+        out.writeInt(events.length);
+        out.write(events);
+    }
+
+    /**
+     * Reads a replay written by {@link #writeTo}. The input is untrusted, so the
+     * header is checked before anything is allocated.
+     *
+     * @param in source
+     * @return the replay
+     * @throws IOException if reading fails or the data is not a valid replay
+     */
+    public static Replay readFrom(DataInput in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a replay");
+        }
+        int version = in.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported replay version " + version);
+        }
+        long seed = in.readLong();
+        int score = in.readInt();
+        int lines = in.readInt();
+        int count = in.readInt();
+        if (count < 0 || count > MAX_EVENTS) {
+            throw new IOException("Bad event count " + count);
+        }
+        byte[] events = new byte[count];
+        in.readFully(events);
+        return new Replay(seed, score, lines, events);
+    }
+
+    /**
+     * Collects the events of a game as it is played.
+     */
+    public static final class Recorder {
+
+        private byte[] events = new byte[1024];
+        private int count;
+
+        /**
+         * @param event one of the event codes of {@link Replay}
+         */
+        public void record(byte event) {
+            if (count == events.length) {
+                events = Arrays.copyOf(events, count * 2);
+            }
+            events[count++] = event;
+        }
+
+        /** @return events recorded so far */
+        public int size() {
+            return count;
+        }
+
+        /** Forgets the recorded events, e.g. for a new game. */
+        public void clear() {
+            count = 0;
+        }
+
+        /**
+         * @return a replay of the events recorded so far with the claimed result
+         */
+        public Replay toReplay(long seed, int score, int lines) {
+            return new Replay(seed, score, lines, Arrays.copyOf(events, count));
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.comp2042.replay;
+
+import com.comp2042.GravityCurve;
+import com.comp2042.HeadlessGameView;
+import com.comp2042.ScoringEngine;
+import com.comp2042.SettingsManager;
+import com.comp2042.SimpleBoard;
+import com.comp2042.logic.ai.BeamSearchBot;
+import com.comp2042.logic.ai.BotMove;
+import com.comp2042.logic.ai.EvaluationWeights;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.metrics.Histogram;
+import com.comp2042.metrics.MetricsRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Measures replay verification: the time to verify one long game and the
+ * throughput of a {@link ReplayPipeline} on all cores.
+ *
+ * <p>Replays are recorded from bot-played games lasting the given number of
+ * minutes of game time: the bot makes one input every {@value #INPUT_INTERVAL_MS}
+ * ms while gravity runs at the medium difficulty's speed for the level. Every
+ * second submission claims one line clear more than was played, and must be
+ * rejected.</p>
+ *
+ * <p>Usage: {@code ReplayBenchmark [--games N] [--minutes N] [--submissions N]
+ * [--workers N]}</p>
+ */
+public final class ReplayBenchmark {
+
+    static final long INPUT_INTERVAL_MS = 100;
+
+    private static final int BOARD_COLS = 10;
+    private static final int BOARD_ROWS = 22;
+    private static final int WARMUP_ROUNDS = 100;
+    private static final int VERIFY_ROUNDS = 200;
+
+    private ReplayBenchmark() { }
+
+    public static void main(String[] args) {
+        int games = 4;
+        int minutes = 10;
+        int submissions = 20_000;
+        int workers = Runtime.getRuntime().availableProcessors();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--games" -> games = Integer.parseInt(args[++i]);
+                case "--minutes" -> minutes = Integer.parseInt(args[++i]);
+                case "--submissions" -> submissions = Integer.parseInt(args[++i]);
+                case "--workers" -> workers = Integer.parseInt(args[++i]);
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        ReplayVerifier verifier = new ReplayVerifier();
+        BeamSearchBot bot = new BeamSearchBot(BOARD_COLS, BOARD_ROWS, EvaluationWeights.DEFAULT,
+                12, ForkJoinPool.commonPool());
+        List<Replay> replays = new ArrayList<>();
+        for (int g = 0; g < games; g++) {
+            Replay replay = record(g, minutes * 60_000L, bot, verifier);
+            replays.add(replay);
+            System.out.printf("Game %d:              %d events, score %d, %d lines%n",
+                    g, replay.getEventCount(), replay.getClaimedScore(), replay.getClaimedLines());
+        }
+
+        // Single-replay latency, once the JIT has compiled the simulation: the
+        // first few hundred verifications run interpreted or in C1 code
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            for (Replay replay : replays) {
+                verifier.verify(replay);
+            }
+        }
+        Histogram latency = new MetricsRegistry().timer("replay_verify_latency_seconds", "Single replay verification");
+        for (int round = 0; round < VERIFY_ROUNDS; round++) {
+            for (Replay replay : replays) {
+                long start = System.nanoTime();
+                ReplayVerifier.Verdict verdict = verifier.verify(replay);
+                latency.record(System.nanoTime() - start);
+                if (verdict != ReplayVerifier.Verdict.ACCEPTED) {
+                    throw new IllegalStateException("Honest replay rejected: " + verdict);
+                }
+            }
+        }
+        Histogram.Snapshot single = latency.snapshot();
+        System.out.printf("Verify one game:     p50 %.2f ms, p99 %.2f ms%n",
+                single.valueAtQuantile(0.50) / 1e6, single.valueAtQuantile(0.99) / 1e6);
+
+        try (ReplayPipeline pipeline = new ReplayPipeline(workers, submissions)) {
+            List<CompletableFuture<ReplayVerifier.Verdict>> verdicts = new ArrayList<>(submissions);
+            long start = System.nanoTime();
+            for (int i = 0; i < submissions; i++) {
+                Replay replay = replays.get(i % replays.size());
+                if (i % 2 == 1) {
+                    replay = replay.withClaim(replay.getClaimedScore(), replay.getClaimedLines() + 1);
+                }
+                verdicts.add(pipeline.submit(replay));
+            }
+            int accepted = 0;
+            for (CompletableFuture<ReplayVerifier.Verdict> verdict : verdicts) {
+                if (verdict.join() == ReplayVerifier.Verdict.ACCEPTED) {
+                    accepted++;
+                }
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("Pipeline:            %d replays on %d workers in %.2f s (%.0f replays/s)%n",
+                    submissions, workers, seconds, submissions / seconds);
+            System.out.printf("Accepted / rejected: %d / %d%n", accepted, submissions - accepted);
+        }
+    }
+
+    /**
+     * Plays a bot game on a board with the given seed, recording its events,
+     * until it tops out or the game time runs out. The claimed result is taken
+     * from simulating the recording, as an honest client's would be.
+     */
+    private static Replay record(long seed, long durationMs, BeamSearchBot bot, ReplayVerifier verifier) {
+        int baseMs = SettingsManager.Difficulty.MEDIUM.getDropSpeedMs();
+        SimpleBoard board = new SimpleBoard(BOARD_COLS, BOARD_ROWS, new RandomBrickGenerator(seed));
+        board.createNewBrick();
+        Replay.Recorder recorder = new Replay.Recorder();
+
+        int lines = 0;
+        long now = 0;
+        long nextGravity = GravityCurve.intervalMillis(baseMs, 1);
+        BotMove plan = null;
+        boolean over = false;
+        while (!over && now < durationMs) {
+            long nextInput = now + INPUT_INTERVAL_MS;
+            while (!over && nextGravity <= nextInput) {
+                now = nextGravity;
+                recorder.record(Replay.GRAVITY);
+                if (!board.moveBrickDown()) {
+                    int cleared = lock(board);
+                    over = cleared < 0;
+                    lines += Math.max(0, cleared);
+                    plan = null;
+                }
+                nextGravity = now + GravityCurve.intervalMillis(baseMs, ScoringEngine.levelFor(lines));
+            }
+            if (over) {
+                break;
+            }
+            now = nextInput;
+
+            if (plan == null) {
+                plan = bot.findBestMove(board.getBoardMatrix(), board.getActiveBrickType(),
+                        board.getPreviewBrickTypes());
+            }
+            boolean drop = plan == null;
+            if (!drop && board.getActiveBrickRotation() != plan.getRotation()) {
+                recorder.record(Replay.ROTATE);
+                drop = !board.rotateLeftBrick();
+            } else if (!drop && board.getActiveBrickX() != plan.getX()) {
+                boolean right = board.getActiveBrickX() < plan.getX();
+                recorder.record(right ? Replay.RIGHT : Replay.LEFT);
+                drop = !(right ? board.moveBrickRight() : board.moveBrickLeft());
+            } else {
+                drop = true;
+            }
+            if (drop) {
+                recorder.record(Replay.HARD_DROP);
+                while (board.moveBrickDown()) {
+                    // Falls to the bottom
+                }
+                int cleared = lock(board);
+                over = cleared < 0;
+                lines += Math.max(0, cleared);
+                plan = null;
+                nextGravity = now + GravityCurve.intervalMillis(baseMs, ScoringEngine.levelFor(lines));
+            }
+        }
+
+        Replay played = recorder.toReplay(seed, 0, 0);
+        HeadlessGameView result = verifier.simulate(played);
+        return played.withClaim(result.getScore(), result.getTotalLinesCleared());
+    }
+
+    /** @return rows cleared, or -1 if the next brick does not fit (game over) */
+    private static int lock(SimpleBoard board) {
+        board.mergeBrickToBackground();
+        int cleared = board.clearRows().getRowsCleared();
+        return board.createNewBrick() ? -1 : cleared;
+    }
+}
@@ -0,0 +1,143 @@
+package com.comp2042.replay;
+
+import com.comp2042.diagnostics.Log;
+import com.comp2042.metrics.GameMetrics;
+import com.comp2042.metrics.MetricsRegistry;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Verifies submitted replays in the background before their scores are accepted.
+ *
+ * <p>Submissions wait in a bounded backlog; a full backlog rejects new ones
+ * instead of growing without limit. One worker thread per core takes the
+ * waiting replays in batches of up to {@value #BATCH_SIZE} and re-simulates
+ * them with a {@link ReplayVerifier}, so a burst is drained with one queue
+ * operation per batch rather than per replay.</p>
+ *
+ * <p>Exported metrics: {@code tetris_replay_verify_seconds},
+ * {@code tetris_replays_accepted_total}, {@code tetris_replays_rejected_total}
+ * and the {@code tetris_replay_backlog} gauge (summed over all pipelines).</p>
+ */
+public final class ReplayPipeline implements Closeable {
+
+    private static final Log LOG = Log.forClass(ReplayPipeline.class);
+
+    static final int BATCH_SIZE = 32;
+
+    private static final AtomicInteger BACKLOG = new AtomicInteger();
+
+    static {
+        MetricsRegistry.global().gauge("tetris_replay_backlog",
+                "Submitted replays waiting for verification", BACKLOG::get);
+    }
+
+    private final ReplayVerifier verifier = new ReplayVerifier();
+    private final BlockingQueue<Job> backlog;
+    private final Thread[] workers;
+
+    /**
+     * @param workerCount     verification threads, typically one per core
+     * @param backlogCapacity replays that may wait before submissions are rejected
+     */
+    public ReplayPipeline(int workerCount, int backlogCapacity) {
+        backlog = new ArrayBlockingQueue<>(backlogCapacity);
+        workers = new Thread[workerCount];
+        for (int i = 0; i < workerCount; i++) {
+            workers[i] = new Thread(this::runWorker, "replay-verifier-" + i);
+            workers[i].setDaemon(true);
+            workers[i].start();
+        }
+    }
+
+    /**
+     * Queues a replay for verification.
+     *
+     * @return the verdict, once verified; fails with a
+     *         {@link RejectedExecutionException} if the backlog is full
+     */
+    public CompletableFuture<ReplayVerifier.Verdict> submit(Replay replay) {
+        Job job = new Job(replay);
+        if (backlog.offer(job)) {
+            BACKLOG.incrementAndGet();
+        } else {
+            job.result.completeExceptionally(new RejectedExecutionException("Replay backlog is full"));
+        }
+        return job.result;
+    }
+
+    /** @return replays waiting for verification */
+    public int getBacklog() {
+        return backlog.size();
+    }
+
+    /**
+     * Stops the workers; replays still waiting are never verified.
+     */
+    @Override
+    public void close() {
+        for (Thread worker : workers) {
+            worker.interrupt();
+        }
+        List<Job> abandoned = new ArrayList<>();
+        BACKLOG.addAndGet(-backlog.drainTo(abandoned));
+        for (Job job : abandoned) {
+            job.result.cancel(false);
+        }
+    }
+
+    private void runWorker() {
+        List<Job> batch = new ArrayList<>(BATCH_SIZE);
+        try {
+            while (true) {
+                batch.add(backlog.take());
+                backlog.drainTo(batch, BATCH_SIZE - 1);
+                BACKLOG.addAndGet(-batch.size());
+                for (Job job : batch) {
+                    verify(job);
+                }
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            // Closed
+        }
+    }
+
+    private void verify(Job job) {
+        long start = System.nanoTime();
+        ReplayVerifier.Verdict verdict;
+        try {
+            verdict = verifier.verify(job.replay);
+        } catch (RuntimeException e) {
+            LOG.warn("Replay crashed the engine: " + e);
+            verdict = ReplayVerifier.Verdict.INVALID;
+        }
+        GameMetrics.REPLAY_VERIFY.record(System.nanoTime() - start);
+        if (verdict == ReplayVerifier.Verdict.ACCEPTED) {
+            GameMetrics.REPLAYS_ACCEPTED.increment();
+        } else {
+            GameMetrics.REPLAYS_REJECTED.increment();
+        }
+        job.result.complete(verdict);
+    }
+
+    /**
+     * A submitted replay and the future of its verdict.
+     */
+    private static final class Job {
+
+        private final Replay replay;
+        private final CompletableFuture<ReplayVerifier.Verdict> result = new CompletableFuture<>();
+
+        Job(Replay replay) {
+            this.replay = replay;
+        }
+    }
+}
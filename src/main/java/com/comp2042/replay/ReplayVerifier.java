@@ -0,0 +1,79 @@
+package com.comp2042.replay;
+
+import com.comp2042.EventSource;
+import com.comp2042.EventType;
+import com.comp2042.GameController;
+import com.comp2042.GameSession;
+import com.comp2042.HeadlessGameView;
+import com.comp2042.MoveEvent;
+
+/**
+ * Re-simulates a {@link Replay} on the headless engine and checks its claimed
+ * result.
+ *
+ * <p>The events are applied to a {@link GameController} with the replay's seed,
+ * so the rules (movement, locking, scoring) are exactly those of the real game.
+ * A replay is accepted when the simulated score and lines match the claim. It
+ * is invalid if it contains an unknown event or events after the game ended,
+ * which no honest client records. Stateless and thread-safe.</p>
+ */
+public final class ReplayVerifier {
+
+    private static final MoveEvent GRAVITY = new MoveEvent(EventType.DOWN, EventSource.THREAD);
+    private static final MoveEvent SOFT_DROP = new MoveEvent(EventType.DOWN, EventSource.USER);
+    private static final MoveEvent LEFT = new MoveEvent(EventType.LEFT, EventSource.USER);
+    private static final MoveEvent RIGHT = new MoveEvent(EventType.RIGHT, EventSource.USER);
+    private static final MoveEvent ROTATE = new MoveEvent(EventType.ROTATE, EventSource.USER);
+
+    /**
+     * Outcome of a verification.
+     */
+    public enum Verdict {
+        ACCEPTED,
+        /** The replay is well-formed but does not produce the claimed result. */
+        MISMATCH,
+        /** The replay is malformed. */
+        INVALID
+    }
+
+    /**
+     * @return the verdict for the replay's claim
+     */
+    public Verdict verify(Replay replay) {
+        HeadlessGameView view = simulate(replay);
+        if (view == null) {
+            return Verdict.INVALID;
+        }
+        boolean matches = view.getScore() == replay.getClaimedScore()
+                && view.getTotalLinesCleared() == replay.getClaimedLines();
+        return matches ? Verdict.ACCEPTED : Verdict.MISMATCH;
+    }
+
+    /**
+     * Plays the replay's events.
+     *
+     * @return the view holding the final score and lines, or null if the replay is invalid
+     */
+    public HeadlessGameView simulate(Replay replay) {
+        HeadlessGameView view = new HeadlessGameView();
+        GameController game = new GameController(view, GameSession.headless(), replay.getSeed());
+        int count = replay.getEventCount();
+        for (int i = 0; i < count; i++) {
+            if (view.isGameOver()) {
+                return null;
+            }
+            switch (replay.getEvent(i)) {
+                case Replay.GRAVITY -> game.onDownEvent(GRAVITY);
+                case Replay.LEFT -> game.onLeftEvent(LEFT);
+                case Replay.RIGHT -> game.onRightEvent(RIGHT);
+                case Replay.ROTATE -> game.onRotateEvent(ROTATE);
+                case Replay.SOFT_DROP -> game.onDownEvent(SOFT_DROP);
+                case Replay.HARD_DROP -> game.onHardDrop();
+                default -> {
+                    return null;
+                }
+            }
+        }
+        return view;
+    }
+}
@@ -0,0 +1,96 @@
+package com.comp2042.scores;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * One finished game on the leaderboard. Immutable.
+ */
+public final class HighScoreEntry {
+
+    /** Best first: higher score, then more lines, then the earlier game. */
+    public static final Comparator<HighScoreEntry> RANKING = Comparator
+            .comparingInt(HighScoreEntry::getScore).reversed()
+            .thenComparing(Comparator.comparingInt(HighScoreEntry::getLines).reversed())
+            .thenComparingLong(HighScoreEntry::getTimestamp);
+
+    private final String difficulty;
+    private final String playerName;
+    private final int score;
+    private final int lines;
+    private final int level;
+    private final long durationMillis;
+    private final long timestamp;
+
+    /**
+     * @param difficulty     difficulty the game was played on (leaderboard key)
+     * @param playerName     name shown on the leaderboard
+     * @param score          final score
+     * @param lines          lines cleared
+     * @param level          level reached
+     * @param durationMillis game duration in milliseconds
+     * @param timestamp      end of the game, epoch milliseconds
+     */
+    public HighScoreEntry(String difficulty, String playerName, int score, int lines, int level,
+                          long durationMillis, long timestamp) {
+        this.difficulty = difficulty;
+        this.playerName = playerName;
+        this.score = score;
+        this.lines = lines;
+        this.level = level;
+        this.durationMillis = durationMillis;
+        this.timestamp = timestamp;
+    }
+
+    public String getDifficulty() {
+        return difficulty;
+    }
+
+    public String getPlayerName() {
+        return playerName;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getLines() {
+        return lines;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof HighScoreEntry)) {
+            return false;
+        }
+        HighScoreEntry other = (HighScoreEntry) o;
+        return score == other.score && lines == other.lines && level == other.level
+                && durationMillis == other.durationMillis && timestamp == other.timestamp
+                && difficulty.equals(other.difficulty) && playerName.equals(other.playerName);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(difficulty, playerName, score, lines, level, durationMillis, timestamp);
+    }
+
+    @Override
+    public String toString() {
+        return playerName + " " + score + " (" + difficulty + ", " + lines + " lines, level " + level + ")";
+    }
+}
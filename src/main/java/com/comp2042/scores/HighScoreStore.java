@@ -0,0 +1,333 @@
+package com.comp2042.scores;
+
+import com.comp2042.diagnostics.Log;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.CRC32;
+
+/**
+ * Persistent leaderboard: the top {@value #TOP_N} games per difficulty.
+ *
+ * <p>Every recorded game is appended to {@code scores.log}, one checksummed line
+ * per game, and flushed to disk. {@code scores.idx} is a compacted index holding
+ * the current top entries plus the log length they cover, so loading reads the
+ * index and replays only the log tail written after it. The index is rewritten
+ * atomically (temp file + move) every {@value #COMPACT_EVERY} appends, and the log
+ * is rewritten down to the ranked entries once it exceeds {@value #MAX_LOG_BYTES}
+ * bytes. Torn or corrupt lines (a crash mid-write) fail their checksum and are
+ * skipped, and replaying entries the index already holds is harmless, so a crash
+ * at any point leaves a loadable store.</p>
+ *
+ * <p>All disk access runs on one background thread. Reads on the game's hot path
+ * ({@link #getBestScore}, {@link #getTopScores}) only read an immutable snapshot
+ * through a volatile field and never block; before the lazy load has finished
+ * they see an empty board.</p>
+ */
+public final class HighScoreStore {
+
+    private static final Log LOG = Log.forClass(HighScoreStore.class);
+
+    /** Entries kept per difficulty. */
+    public static final int TOP_N = 10;
+
+    static final int COMPACT_EVERY = 32;
+    static final long MAX_LOG_BYTES = 256 * 1024;
+
+    private static final String LOG_FILE = "scores.log";
+    private static final String INDEX_FILE = "scores.idx";
+    private static final String OFFSET_KEY = "offset";
+
+    private static HighScoreStore instance;
+
+    private final Path logFile;
+    private final Path indexFile;
+    private final ExecutorService writer;
+    private volatile Map<String, List<HighScoreEntry>> snapshot = Collections.emptyMap();
+    private CompletableFuture<Void> loaded;
+    private int appendsSinceCompaction;
+
+    /**
+     * @param directory directory holding the log and index files
+     */
+    public HighScoreStore(Path directory) {
+        this.logFile = directory.resolve(LOG_FILE);
+        this.indexFile = directory.resolve(INDEX_FILE);
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "high-score-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * @return the store in {@code ~/.tetris}, shared by the whole application
+     */
+    public static synchronized HighScoreStore getInstance() {
+        if (instance == null) {
+            instance = new HighScoreStore(Paths.get(System.getProperty("user.home"), ".tetris"));
+        }
+        return instance;
+    }
+
+    /**
+     * Starts loading the leaderboard in the background (only the first call loads).
+     *
+     * @return a future completed once the leaderboard is in memory
+     */
+    public synchronized CompletableFuture<Void> loadAsync() {
+        if (loaded == null) {
+            loaded = CompletableFuture.runAsync(this::load, writer);
+        }
+        return loaded;
+    }
+
+    /**
+     * Records a finished game. Returns immediately; the ranking and the disk write
+     * happen on the writer thread.
+     *
+     * @param entry the finished game
+     */
+    public void record(HighScoreEntry entry) {
+        loadAsync();
+        writer.execute(() -> {
+            insert(entry);
+            try {
+                append(entry);
+            } catch (IOException e) {
+                LOG.warn("Could not save high score: " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * @param difficulty difficulty name
+     * @return the best score on that difficulty, or 0 (never blocks)
+     */
+    public int getBestScore(String difficulty) {
+        List<HighScoreEntry> entries = snapshot.get(difficulty);
+        return entries == null || entries.isEmpty() ? 0 : entries.get(0).getScore();
+    }
+
+    /**
+     * @param difficulty difficulty name
+     * @return the ranked entries for that difficulty, best first (never blocks)
+     */
+    public List<HighScoreEntry> getTopScores(String difficulty) {
+        List<HighScoreEntry> entries = snapshot.get(difficulty);
+        return entries == null ? Collections.emptyList() : entries;
+    }
+
+    // ---- Writer thread only ----
+
+    private void load() {
+        Map<String, List<HighScoreEntry>> board = new HashMap<>();
+        long offset = 0;
+        try {
+            if (Files.exists(indexFile)) {
+                offset = readIndex(board);
+            }
+            long logSize = Files.exists(logFile) ? Files.size(logFile) : 0;
+            if (offset > logSize) {
+                // Index is newer than a rewritten log (crash during compaction): replay everything
+                board.clear();
+                offset = 0;
+            }
+            if (logSize > offset) {
+                replayLog(board, offset);
+            }
+        } catch (IOException e) {
+            LOG.warn("Could not load high scores: " + e.getMessage());
+        }
+        publish(board);
+    }
+
+    private long readIndex(Map<String, List<HighScoreEntry>> board) throws IOException {
+        long offset = 0;
+        try (BufferedReader reader = Files.newBufferedReader(indexFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(OFFSET_KEY + "\t")) {
+                    offset = Long.parseLong(line.substring(OFFSET_KEY.length() + 1));
+                    continue;
+                }
+                HighScoreEntry entry = decode(line);
+                if (entry != null) {
+                    rank(board, entry);
+                }
+            }
+        } catch (NumberFormatException e) {
+            board.clear();
+            return 0;
+        }
+        return offset;
+    }
+
+    private void replayLog(Map<String, List<HighScoreEntry>> board, long offset) throws IOException {
+        try (FileChannel channel = FileChannel.open(logFile, StandardOpenOption.READ)) {
+            channel.position(offset);
+            InputStream in = Channels.newInputStream(channel);
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                HighScoreEntry entry = decode(line);
+                if (entry != null) {
+                    rank(board, entry);
+                }
+            }
+        }
+    }
+
+    private void insert(HighScoreEntry entry) {
+        Map<String, List<HighScoreEntry>> board = new HashMap<>();
+        snapshot.forEach((difficulty, entries) -> board.put(difficulty, new ArrayList<>(entries)));
+        rank(board, entry);
+        publish(board);
+    }
+
+    private void append(HighScoreEntry entry) throws IOException {
+        Files.createDirectories(logFile.getParent());
+        try (FileChannel channel = FileChannel.open(logFile,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // A torn last line (crash mid-append) must not swallow this entry
+            String text = encode(entry) + "\n";
+            long size = channel.size();
+            if (size > 0) {
+                ByteBuffer last = ByteBuffer.allocate(1);
+                channel.read(last, size - 1);
+                if (last.get(0) != '\n') {
+                    text = "\n" + text;
+                }
+            }
+            channel.position(size);
+            ByteBuffer buffer = ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+
+        if (++appendsSinceCompaction >= COMPACT_EVERY || Files.size(logFile) > MAX_LOG_BYTES) {
+            compact();
+        }
+    }
+
+    /**
+     * Rewrites the index from the snapshot; if the log has grown too large it is
+     * first rewritten to hold only the ranked entries.
+     */
+    private void compact() throws IOException {
+        Map<String, List<HighScoreEntry>> board = snapshot;
+        if (Files.size(logFile) > MAX_LOG_BYTES) {
+            writeAtomically(logFile, board, -1);
+        }
+        writeAtomically(indexFile, board, Files.size(logFile));
+        appendsSinceCompaction = 0;
+    }
+
+    private static void writeAtomically(Path target, Map<String, List<HighScoreEntry>> board, long offset)
+            throws IOException {
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (BufferedWriter out = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            if (offset >= 0) {
+                out.write(OFFSET_KEY + "\t" + offset);
+                out.newLine();
+            }
+            for (List<HighScoreEntry> entries : board.values()) {
+                for (HighScoreEntry entry : entries) {
+                    out.write(encode(entry));
+                    out.newLine();
+                }
+            }
+        }
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void publish(Map<String, List<HighScoreEntry>> board) {
+        Map<String, List<HighScoreEntry>> frozen = new HashMap<>();
+        board.forEach((difficulty, entries) -> frozen.put(difficulty, List.copyOf(entries)));
+        snapshot = Collections.unmodifiableMap(frozen);
+    }
+
+    private static void rank(Map<String, List<HighScoreEntry>> board, HighScoreEntry entry) {
+        List<HighScoreEntry> entries = board.computeIfAbsent(entry.getDifficulty(), d -> new ArrayList<>());
+        // Replaying a log tail the index already covers must not duplicate entries
+        if (entries.contains(entry)) {
+            return;
+        }
+        int index = Collections.binarySearch(entries, entry, HighScoreEntry.RANKING);
+        entries.add(index < 0 ? -index - 1 : index, entry);
+        if (entries.size() > TOP_N) {
+            entries.remove(entries.size() - 1);
+        }
+    }
+
+    // ---- Line format: crc32 <TAB> difficulty, name, score, lines, level, duration, timestamp ----
+
+    private static String encode(HighScoreEntry entry) {
+        String body = String.join("\t",
+                clean(entry.getDifficulty()),
+                clean(entry.getPlayerName()),
+                Integer.toString(entry.getScore()),
+                Integer.toString(entry.getLines()),
+                Integer.toString(entry.getLevel()),
+                Long.toString(entry.getDurationMillis()),
+                Long.toString(entry.getTimestamp()));
+        return Long.toHexString(checksum(body)) + "\t" + body;
+    }
+
+    private static HighScoreEntry decode(String line) {
+        int tab = line.indexOf('\t');
+        if (tab <= 0) {
+            return null;
+        }
+        String body = line.substring(tab + 1);
+        try {
+            if (Long.parseLong(line.substring(0, tab), 16) != checksum(body)) {
+                return null;
+            }
+            String[] fields = body.split("\t", -1);
+            if (fields.length != 7) {
+                return null;
+            }
+            return new HighScoreEntry(fields[0], fields[1],
+                    Integer.parseInt(fields[2]), Integer.parseInt(fields[3]), Integer.parseInt(fields[4]),
+                    Long.parseLong(fields[5]), Long.parseLong(fields[6]));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static long checksum(String body) {
+        CRC32 crc = new CRC32();
+        crc.update(body.getBytes(StandardCharsets.UTF_8));
+        return crc.getValue();
+    }
+
+    private static String clean(String value) {
+        return value.replace('\t', ' ').replace('\n', ' ').replace('\r', ' ');
+    }
+}
@@ -0,0 +1,409 @@
+package com.comp2042.scores;
+
+import com.comp2042.diagnostics.Log;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Leaderboard shared by many concurrent games, e.g. all the sessions of a
+ * server: each player's best score, ranked.
+ *
+ * <p>Standings are kept in a concurrent skip list in ranking order, for the
+ * top-K and around-me queries, and every score is counted in a 16-way radix
+ * tree of atomic counters, so the rank of any score is one walk down its eight
+ * levels. Rank is competition ranking: one more than the number of players
+ * with a strictly higher score, so equal scores share a rank. Tree nodes are
+ * created for the score ranges in use, about 200 bytes per 16 scores.</p>
+ *
+ * <p>There is no global lock: updates for one player are serialised by their
+ * entry in a concurrent map, and otherwise only contend on the atomic
+ * counters they touch. Queries do not lock and, like the concurrent
+ * collections they read, are weakly consistent: one that runs alongside an
+ * update may or may not see it.</p>
+ *
+ * <p>The board can be saved to a file periodically ({@link #startSnapshots})
+ * and is saved once more on {@link #close()}. A snapshot is written to a
+ * temporary file and moved over the old one, so a crash leaves either.</p>
+ */
+public final class Leaderboard implements Closeable {
+
+    private static final Log LOG = Log.forClass(Leaderboard.class);
+
+    private static final int MAGIC = 0x544C4244; // "TLBD"
+    private static final int VERSION = 1;
+
+    private final Path file;
+    private final ConcurrentHashMap<String, Standing> standings = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<Standing> ranking = new ConcurrentSkipListSet<>(Standing.RANKING);
+    private final RankIndex index = new RankIndex();
+    private ScheduledExecutorService snapshots;
+
+    private Leaderboard(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * @return an empty leaderboard that is never saved
+     */
+    public static Leaderboard inMemory() {
+        return new Leaderboard(null);
+    }
+
+    /**
+     * Opens the leaderboard saved in a file. A missing file gives an empty
+     * board; an unreadable one is logged and also gives an empty board.
+     *
+     * @param file snapshot file, read now and written by snapshots
+     * @return the leaderboard
+     */
+    public static Leaderboard open(Path file) {
+        Leaderboard leaderboard = new Leaderboard(file);
+        if (Files.exists(file)) {
+            try {
+                leaderboard.load();
+            } catch (IOException e) {
+                LOG.warn("Could not load leaderboard " + file + ": " + e.getMessage());
+            }
+        }
+        return leaderboard;
+    }
+
+    /**
+     * Records a finished game; it counts only if it beats the player's best.
+     *
+     * @param playerName player
+     * @param score      final score, not negative
+     * @return true if this is the player's new best score
+     */
+    public boolean submit(String playerName, int score) {
+        if (score < 0) {
+            throw new IllegalArgumentException("Negative score " + score);
+        }
+        return put(new Standing(playerName, score, System.currentTimeMillis()));
+    }
+
+    /**
+     * @return the player's best score, or -1 if they have none
+     */
+    public int getBestScore(String playerName) {
+        Standing standing = standings.get(playerName);
+        return standing == null ? -1 : standing.getScore();
+    }
+
+    /**
+     * @return the highest score on the board, or 0 if it is empty
+     */
+    public int getTopScore() {
+        Iterator<Standing> best = ranking.iterator();
+        return best.hasNext() ? best.next().getScore() : 0;
+    }
+
+    /**
+     * @return the rank a player with this score would have (1 is first)
+     */
+    public int rankOfScore(int score) {
+        return 1 + index.countAbove(score);
+    }
+
+    /**
+     * @return the player's rank (1 is first), or -1 if they have no score
+     */
+    public int rankOf(String playerName) {
+        Standing standing = standings.get(playerName);
+        return standing == null ? -1 : rankOfScore(standing.getScore());
+    }
+
+    /**
+     * @param count number of standings
+     * @return the best standings, best first
+     */
+    public List<Standing> top(int count) {
+        List<Standing> top = new ArrayList<>(Math.min(count, 64));
+        for (Standing standing : ranking) {
+            if (top.size() == count) {
+                break;
+            }
+            top.add(standing);
+        }
+        return top;
+    }
+
+    /**
+     * @param playerName player
+     * @param count      standings to include on each side of the player
+     * @return up to {@code count} standings above the player, the player's own,
+     *         then up to {@code count} below, best first; empty if the player has no score
+     */
+    public List<Standing> around(String playerName, int count) {
+        Standing standing = standings.get(playerName);
+        if (standing == null) {
+            return Collections.emptyList();
+        }
+        List<Standing> around = new ArrayList<>(2 * count + 1);
+        Iterator<Standing> above = ranking.headSet(standing, false).descendingIterator();
+        while (around.size() < count && above.hasNext()) {
+            around.add(above.next());
+        }
+        Collections.reverse(around);
+        around.add(standing);
+        Iterator<Standing> below = ranking.tailSet(standing, false).iterator();
+        for (int i = 0; i < count && below.hasNext(); i++) {
+            around.add(below.next());
+        }
+        return around;
+    }
+
+    /** @return players on the board */
+    public int size() {
+        return standings.size();
+    }
+
+    /**
+     * Saves the board every {@code period} on a background thread, until closed.
+     * Only boards opened from a file can be saved.
+     */
+    public synchronized void startSnapshots(long period, TimeUnit unit) {
+        if (file == null) {
+            throw new IllegalStateException("In-memory leaderboard");
+        }
+        if (snapshots != null) {
+            return;
+        }
+        snapshots = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "leaderboard-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        snapshots.scheduleWithFixedDelay(() -> {
+            try {
+                writeSnapshot();
+            } catch (IOException e) {
+                LOG.warn("Could not save leaderboard: " + e.getMessage());
+            }
+        }, period, period, unit);
+    }
+
+    /**
+     * Saves the board now. Updates made while it is written may or may not be included.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    public void writeSnapshot() throws IOException {
+        if (file == null) {
+            throw new IllegalStateException("In-memory leaderboard");
+        }
+        List<Standing> copy = new ArrayList<>(ranking);
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeInt(copy.size());
+            for (Standing standing : copy) {
+                out.writeUTF(standing.getPlayerName());
+                out.writeInt(standing.getScore());
+                out.writeLong(standing.getTimestamp());
+            }
+        }
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Stops the snapshots and saves the board a last time, unless it is in memory.
+     */
+    @Override
+    public synchronized void close() {
+        if (snapshots != null) {
+            snapshots.shutdownNow();
+            snapshots = null;
+        }
+        if (file == null) {
+            return;
+        }
+        try {
+            writeSnapshot();
+        } catch (IOException e) {
+            LOG.warn("Could not save leaderboard: " + e.getMessage());
+        }
+    }
+
+    private void load() throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a leaderboard");
+            }
+            int version = in.readUnsignedByte();
+            if (version != VERSION) {
+                throw new IOException("Unsupported leaderboard version " + version);
+            }
+            int count = in.readInt();
+            if (count < 0) {
+                throw new IOException("Bad standing count " + count);
+            }
+            for (int i = 0; i < count; i++) {
+                String playerName = in.readUTF();
+                int score = in.readInt();
+                long timestamp = in.readLong();
+                if (score >= 0) {
+                    put(new Standing(playerName, score, timestamp));
+                }
+            }
+        }
+    }
+
+    /**
+     * Makes the standing the player's best if it beats their current one. The
+     * map's per-key lock keeps the skip list and the counts in step with it.
+     */
+    private boolean put(Standing next) {
+        return standings.compute(next.getPlayerName(), (name, current) -> {
+            if (current != null && current.getScore() >= next.getScore()) {
+                return current;
+            }
+            ranking.add(next);
+            index.add(next.getScore(), 1);
+            if (current != null) {
+                ranking.remove(current);
+                index.add(current.getScore(), -1);
+            }
+            return next;
+        }) == next;
+    }
+
+    /**
+     * A player's best game. Immutable.
+     */
+    public static final class Standing {
+
+        /** Best first: higher score, then the earlier game, then by name. */
+        static final Comparator<Standing> RANKING = Comparator
+                .comparingInt(Standing::getScore).reversed()
+                .thenComparingLong(Standing::getTimestamp)
+                .thenComparing(Standing::getPlayerName);
+
+        private final String playerName;
+        private final int score;
+        private final long timestamp;
+
+        Standing(String playerName, int score, long timestamp) {
+            this.playerName = playerName;
+            this.score = score;
+            this.timestamp = timestamp;
+        }
+
+        public String getPlayerName() {
+            return playerName;
+        }
+
+        public int getScore() {
+            return score;
+        }
+
+        /** @return when the score was set, epoch milliseconds */
+        public long getTimestamp() {
+            return timestamp;
+        }
+
+        @Override
+        public String toString() {
+            return playerName + " " + score;
+        }
+    }
+
+    /**
+     * Radix tree of atomic counters: the number of players on each score. A
+     * score is read as {@value #LEVELS} base-16 digits, most significant first;
+     * each node counts, for each digit, the players whose score has the node's
+     * prefix followed by that digit. Updates and counts walk one path, so both
+     * take a fixed number of steps whatever the score.
+     */
+    private static final class RankIndex {
+
+        private static final int BITS = 4;
+        private static final int FANOUT = 1 << BITS;
+        // Non-negative ints have 31 bits
+        private static final int LEVELS = (Integer.SIZE - 1 + BITS - 1) / BITS;
+
+        private final Node root = new Node(LEVELS - 1);
+
+        void add(int score, int delta) {
+            Node node = root;
+            for (int level = LEVELS - 1; ; level--) {
+                int digit = digit(score, level);
+                node.counts.addAndGet(digit, delta);
+                if (level == 0) {
+                    return;
+                }
+                node = node.child(digit);
+            }
+        }
+
+        /** @return players with a score strictly above {@code score} */
+        int countAbove(int score) {
+            int above = 0;
+            Node node = root;
+            for (int level = LEVELS - 1; node != null; level--) {
+                int digit = digit(score, level);
+                for (int d = digit + 1; d < FANOUT; d++) {
+                    above += node.counts.get(d);
+                }
+                node = level == 0 ? null : node.children.get(digit);
+            }
+            return above;
+        }
+
+        private static int digit(int score, int level) {
+            return (score >>> (level * BITS)) & (FANOUT - 1);
+        }
+
+        private static final class Node {
+
+            private final int level;
+            private final AtomicIntegerArray counts = new AtomicIntegerArray(FANOUT);
+            // Null on the last level
+            private final AtomicReferenceArray<Node> children;
+
+            Node(int level) {
+                this.level = level;
+                this.children = level == 0 ? null : new AtomicReferenceArray<>(FANOUT);
+            }
+
+            Node child(int digit) {
+                Node child = children.get(digit);
+                if (child == null) {
+                    Node created = new Node(level - 1);
+                    child = children.compareAndSet(digit, null, created) ? created : children.get(digit);
+                }
+                return child;
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.comp2042.scores;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures {@link Leaderboard} throughput under concurrent writers.
+ *
+ * <p>The board is filled with the given number of players, then every thread
+ * submits scores for random players as fast as it can, with one operation in
+ * ten being a query instead (rank of a player, top 10 or the 5 around a
+ * player). Snapshots are written every second to a temporary file meanwhile.
+ * Afterwards the ranks are checked against a count over the whole board.</p>
+ *
+ * <p>Usage: {@code LeaderboardBenchmark [--players N] [--threads N] [--seconds N]}</p>
+ */
+public final class LeaderboardBenchmark {
+
+    private static final int QUERY_EVERY = 10;
+    // About the best scores of bot games under guideline scoring
+    private static final int MAX_SCORE = 2_500_000;
+
+    private LeaderboardBenchmark() { }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int players = 100_000;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int seconds = 10;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--players" -> players = Integer.parseInt(args[++i]);
+                case "--threads" -> threads = Integer.parseInt(args[++i]);
+                case "--seconds" -> seconds = Integer.parseInt(args[++i]);
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        Path directory = Files.createTempDirectory("leaderboard");
+        Path file = directory.resolve("leaderboard.bin");
+        try (Leaderboard leaderboard = Leaderboard.open(file)) {
+            SplittableRandom seeds = new SplittableRandom(42);
+            for (int p = 0; p < players; p++) {
+                leaderboard.submit(name(p), seeds.nextInt(MAX_SCORE));
+            }
+            leaderboard.startSnapshots(1, TimeUnit.SECONDS);
+
+            LongAdder updates = new LongAdder();
+            LongAdder improved = new LongAdder();
+            LongAdder queries = new LongAdder();
+            long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+            Thread[] workers = new Thread[threads];
+            for (int t = 0; t < threads; t++) {
+                SplittableRandom random = seeds.split();
+                int playerCount = players;
+                workers[t] = new Thread(() -> {
+                    long ops = 0;
+                    while ((ops & 1023) != 0 || System.nanoTime() < end) {
+                        String player = name(random.nextInt(playerCount));
+                        if (++ops % QUERY_EVERY == 0) {
+                            switch (random.nextInt(3)) {
+                                case 0 -> leaderboard.rankOf(player);
+                                case 1 -> leaderboard.top(10);
+                                default -> leaderboard.around(player, 5);
+                            }
+                            queries.increment();
+                        } else {
+                            if (leaderboard.submit(player, random.nextInt(MAX_SCORE))) {
+                                improved.increment();
+                            }
+                            updates.increment();
+                        }
+                    }
+                }, "leaderboard-writer-" + t);
+                workers[t].start();
+            }
+            long start = System.nanoTime();
+            for (Thread worker : workers) {
+                worker.join();
+            }
+            double elapsed = (System.nanoTime() - start) / 1e9;
+
+            System.out.printf("Players:             %d%n", leaderboard.size());
+            System.out.printf("Threads:             %d%n", threads);
+            System.out.printf("Updates:             %.0f/s (%.0f%% new bests)%n",
+                    updates.sum() / elapsed, 100.0 * improved.sum() / updates.sum());
+            System.out.printf("Queries:             %.0f/s%n", queries.sum() / elapsed);
+            System.out.printf("Ranks checked:       %s%n", checkRanks(leaderboard) ? "ok" : "MISMATCH");
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    private static String name(int player) {
+        return "player-" + player;
+    }
+
+    /** Compares every rank with the position in the full ranking, once writers have stopped. */
+    private static boolean checkRanks(Leaderboard leaderboard) {
+        List<Leaderboard.Standing> all = leaderboard.top(Integer.MAX_VALUE);
+        int rank = 1;
+        for (int i = 0; i < all.size(); i++) {
+            if (i > 0 && all.get(i).getScore() != all.get(i - 1).getScore()) {
+                rank = i + 1;
+            }
+            if (leaderboard.rankOf(all.get(i).getPlayerName()) != rank) {
+                return false;
+            }
+        }
+        return all.size() == leaderboard.size();
+    }
+}
@@ -0,0 +1,207 @@
+package com.comp2042.timing;
+
+import com.comp2042.diagnostics.Log;
+
+import java.io.Closeable;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives the timers of many game sessions from a handful of carrier threads.
+ *
+ * <p>Each {@link Carrier} is one daemon thread with its own {@link TimingWheel}
+ * and an inbox of tasks submitted from other threads. A session is pinned to
+ * one carrier, so all of its timers and inputs run on that thread and its game
+ * state needs no locking. A carrier sleeps until the next tick boundary, runs
+ * its inbox, then every timeout that fell due, so hundreds of thousands of
+ * periodic timers cost one wheel slot each and no thread of their own.</p>
+ */
+public final class CarrierScheduler implements Closeable {
+
+    private static final Log LOG = Log.forClass(CarrierScheduler.class);
+
+    /** Longest sleep of a carrier with no pending timeouts. */
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final long tickNanos;
+    private final long originNanos = System.nanoTime();
+    private final Carrier[] carriers;
+    private volatile boolean running = true;
+
+    /**
+     * @param carrierCount number of carrier threads
+     * @param tickNanos    tick length in nanoseconds; timer resolution
+     */
+    public CarrierScheduler(int carrierCount, long tickNanos) {
+        if (carrierCount < 1 || tickNanos < 1) {
+            throw new IllegalArgumentException("carriers " + carrierCount + ", tick " + tickNanos);
+        }
+        this.tickNanos = tickNanos;
+        carriers = new Carrier[carrierCount];
+        for (int i = 0; i < carrierCount; i++) {
+            carriers[i] = new Carrier(i);
+        }
+        for (Carrier carrier : carriers) {
+            carrier.thread.start();
+        }
+    }
+
+    /**
+     * @return the carrier for a session key; the same key always maps to the same carrier
+     */
+    public Carrier carrierFor(long key) {
+        int mixed = (int) (key ^ (key >>> 32)) * 0x9E3779B9;
+        return carriers[(mixed >>> 1) % carriers.length];
+    }
+
+    public int getCarrierCount() {
+        return carriers.length;
+    }
+
+    public long getTickNanos() {
+        return tickNanos;
+    }
+
+    /** Stops the carrier threads; pending timeouts are dropped. */
+    @Override
+    public void close() {
+        running = false;
+        for (Carrier carrier : carriers) {
+            LockSupport.unpark(carrier.thread);
+        }
+    }
+
+    private long tickAt(long nanos) {
+        return (nanos - originNanos) / tickNanos;
+    }
+
+    /**
+     * One carrier thread with its timing wheel.
+     */
+    public final class Carrier implements GameHost {
+
+        private final Thread thread;
+        private final TimingWheel wheel = new TimingWheel(0);
+        private final Queue<Runnable> inbox = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean wakeupPending = new AtomicBoolean();
+
+        private Carrier(int index) {
+            thread = new Thread(this::run, "carrier-" + index);
+            thread.setDaemon(true);
+        }
+
+        /**
+         * Runs a task on this carrier as soon as possible. Safe from any thread.
+         */
+        @Override
+        public void execute(Runnable task) {
+            inbox.add(task);
+            if (Thread.currentThread() != thread && wakeupPending.compareAndSet(false, true)) {
+                LockSupport.unpark(thread);
+            }
+        }
+
+        /**
+         * Creates a timeout that runs {@code task} on this carrier. A failing task
+         * is logged and does not disturb the other timeouts.
+         */
+        public TimingWheel.Timeout newTimeout(Runnable task) {
+            return new TimingWheel.Timeout(() -> {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    LOG.error("Timer task failed on " + thread.getName(), e);
+                }
+            });
+        }
+
+        /**
+         * A {@link GameHost.Timer} backed by a timeout on this carrier's wheel.
+         */
+        @Override
+        public GameHost.Timer newTimer(Runnable task) {
+            TimingWheel.Timeout timeout = newTimeout(task);
+            return new GameHost.Timer() {
+                @Override
+                public void schedule(long delayNanos) {
+                    Carrier.this.schedule(timeout, delayNanos);
+                }
+
+                @Override
+                public void cancel() {
+                    Carrier.this.cancel(timeout);
+                }
+
+                @Override
+                public boolean isPending() {
+                    return timeout.isPending();
+                }
+
+                @Override
+                public long deadlineNanos() {
+                    return Carrier.this.deadlineNanos(timeout);
+                }
+            };
+        }
+
+        /**
+         * (Re)schedules a timeout. Call on this carrier's thread only.
+         *
+         * @param delayNanos delay from now; rounded up to whole ticks
+         */
+        public void schedule(TimingWheel.Timeout timeout, long delayNanos) {
+            long deadline = tickAt(System.nanoTime() + delayNanos + tickNanos - 1);
+            wheel.schedule(timeout, deadline);
+        }
+
+        /**
+         * Cancels a timeout. Call on this carrier's thread only.
+         */
+        public void cancel(TimingWheel.Timeout timeout) {
+            wheel.cancel(timeout);
+        }
+
+        /**
+         * @return when the timeout is (or was last) due, in {@link System#nanoTime()} terms
+         */
+        public long deadlineNanos(TimingWheel.Timeout timeout) {
+            return originNanos + timeout.getDeadline() * tickNanos;
+        }
+
+        /** @return pending timeouts; read on this carrier's thread for an exact value */
+        public int getPendingCount() {
+            return wheel.size();
+        }
+
+        private void run() {
+            while (running) {
+                wakeupPending.set(false);
+                Runnable task;
+                while ((task = inbox.poll()) != null) {
+                    try {
+                        task.run();
+                    } catch (RuntimeException e) {
+                        LOG.error("Task failed on " + thread.getName(), e);
+                    }
+                }
+                wheel.advanceTo(tickAt(System.nanoTime()));
+
+                if (!inbox.isEmpty()) {
+                    continue;
+                }
+                if (wheel.size() == 0) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                } else {
+                    long nextTick = originNanos + (wheel.getCurrentTick() + 1) * tickNanos;
+                    long sleep = nextTick - System.nanoTime();
+                    if (sleep > 0) {
+                        LockSupport.parkNanos(this, sleep);
+                    }
+                }
+            }
+        }
+    }
+}
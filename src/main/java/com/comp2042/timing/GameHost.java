@@ -0,0 +1,48 @@
+package com.comp2042.timing;
+
+/**
+ * Where a {@link HostedGame} runs: a single thread at a time that executes its
+ * tasks and fires its timers, so the game itself needs no locking.
+ *
+ * <p>Two execution models implement it: a {@link CarrierScheduler.Carrier}
+ * shares one thread and timing wheel among many games, and a
+ * {@link VirtualThreadHost} gives each game a virtual thread of its own that
+ * blocks on its inbox until the next deadline.</p>
+ */
+public interface GameHost {
+
+    /**
+     * Runs a task on the host's thread as soon as possible. Safe from any thread.
+     */
+    void execute(Runnable task);
+
+    /**
+     * Creates a timer that runs {@code task} on the host's thread. Timers are
+     * scheduled, cancelled and queried on that thread only.
+     */
+    Timer newTimer(Runnable task);
+
+    /**
+     * A reusable one-shot timer.
+     */
+    interface Timer {
+
+        /**
+         * (Re)schedules the timer; a pending deadline is replaced.
+         *
+         * @param delayNanos delay from now
+         */
+        void schedule(long delayNanos);
+
+        /** Cancels the timer if it is pending. */
+        void cancel();
+
+        /** @return true while scheduled and not yet fired or cancelled */
+        boolean isPending();
+
+        /**
+         * @return when the timer is (or was last) due, in {@link System#nanoTime()} terms
+         */
+        long deadlineNanos();
+    }
+}
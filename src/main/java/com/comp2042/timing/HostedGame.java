@@ -0,0 +1,246 @@
+package com.comp2042.timing;
+
+import com.comp2042.DownData;
+import com.comp2042.EventSource;
+import com.comp2042.EventType;
+import com.comp2042.GameController;
+import com.comp2042.GameSession;
+import com.comp2042.GravityCurve;
+import com.comp2042.HeadlessGameView;
+import com.comp2042.MoveEvent;
+import com.comp2042.ViewData;
+import com.comp2042.metrics.GameMetrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * A headless game run by a {@link GameHost}: gravity, lock delay and auto-shift
+ * (DAS) are timers on the host's thread, such as a carrier of a
+ * {@link CarrierScheduler} or a {@link VirtualThreadHost}.
+ *
+ * <p>Gravity uses the same level curve as the game scene ({@link GravityCurve}).
+ * A piece that lands is locked {@value #LOCK_DELAY_MS} ms later unless it moves
+ * off the ground; moving or rotating it restarts the delay up to
+ * {@value #MAX_LOCK_RESETS} times. A held shift repeats after
+ * {@value #DAS_MS} ms, every {@value #ARR_MS} ms.</p>
+ *
+ * <p>Inputs may come from any thread; they are handed to the host, whose
+ * thread is the only one that touches the game.</p>
+ */
+public final class HostedGame {
+
+    static final long LOCK_DELAY_MS = 500;
+    static final int MAX_LOCK_RESETS = 15;
+    static final long DAS_MS = 170;
+    static final long ARR_MS = 50;
+
+    private static final MoveEvent GRAVITY = new MoveEvent(EventType.DOWN, EventSource.THREAD);
+    private static final MoveEvent SOFT_DROP = new MoveEvent(EventType.DOWN, EventSource.USER);
+    private static final MoveEvent LEFT = new MoveEvent(EventType.LEFT, EventSource.USER);
+    private static final MoveEvent RIGHT = new MoveEvent(EventType.RIGHT, EventSource.USER);
+    private static final MoveEvent ROTATE = new MoveEvent(EventType.ROTATE, EventSource.USER);
+
+    private final GameHost host;
+    private final GameSession session;
+    private final int baseIntervalMs;
+    private final Consumer<HostedGame> onGameOver;
+    private final GameHost.Timer gravity;
+    private final GameHost.Timer lockDelay;
+    private final GameHost.Timer autoShift;
+
+    private HeadlessGameView view;
+    private GameController game;
+    private boolean grounded;
+    private int lockResets;
+    private EventType held;
+
+    /**
+     * @param host           runs the game's tasks and timers
+     * @param baseIntervalMs gravity interval at level 1 (the difficulty's drop speed)
+     * @param onGameOver     called on the host's thread when a game ends
+     */
+    public HostedGame(GameHost host, int baseIntervalMs, Consumer<HostedGame> onGameOver) {
+        this(host, baseIntervalMs, GameSession.headless(), onGameOver);
+    }
+
+    /**
+     * @param host           runs the game's tasks and timers
+     * @param baseIntervalMs gravity interval at level 1 (the difficulty's drop speed)
+     * @param session        session the games are played in, e.g. a
+     *                       {@link GameSession#shared} one ranking them on a leaderboard
+     * @param onGameOver     called on the host's thread when a game ends
+     */
+    public HostedGame(GameHost host, int baseIntervalMs, GameSession session, Consumer<HostedGame> onGameOver) {
+        this.host = host;
+        this.session = session;
+        this.baseIntervalMs = baseIntervalMs;
+        this.onGameOver = onGameOver;
+        this.gravity = host.newTimer(this::onGravity);
+        this.lockDelay = host.newTimer(this::onLockDelay);
+        this.autoShift = host.newTimer(this::onAutoShift);
+    }
+
+    /**
+     * Starts a new game (ending the current one, if any).
+     *
+     * @param seed brick generator seed
+     */
+    public void start(long seed) {
+        host.execute(() -> newGame(seed));
+    }
+
+    /** Stops the game's timers. */
+    public void stop() {
+        host.execute(this::cancelTimers);
+    }
+
+    /**
+     * A key went down: LEFT and RIGHT shift and start auto-shift, ROTATE rotates,
+     * DOWN soft-drops one row.
+     */
+    public void press(EventType key) {
+        host.execute(() -> onPress(key));
+    }
+
+    /** A key went up; stops auto-shift if it was the held direction. */
+    public void release(EventType key) {
+        host.execute(() -> {
+            if (held == key) {
+                held = null;
+                autoShift.cancel();
+            }
+        });
+    }
+
+    /** Drops the piece to the bottom and locks it. */
+    public void hardDrop() {
+        host.execute(() -> {
+            if (isPlaying()) {
+                afterDrop(game.onHardDrop());
+            }
+        });
+    }
+
+    /** @return the session holding this game's high score; read on the host's thread */
+    public GameSession getSession() {
+        return session;
+    }
+
+    private boolean isPlaying() {
+        return game != null && !view.isGameOver();
+    }
+
+    private void newGame(long seed) {
+        cancelTimers();
+        view = new HeadlessGameView();
+        game = new GameController(view, session, seed);
+        grounded = false;
+        lockResets = 0;
+        scheduleGravity();
+    }
+
+    private void scheduleGravity() {
+        long interval = TimeUnit.MILLISECONDS.toNanos(
+                GravityCurve.intervalMillis(baseIntervalMs, view.getCurrentLevel()));
+        gravity.schedule(interval);
+    }
+
+    /**
+     * Schedules the next step one interval after the last deadline rather than
+     * after now, so a late step does not delay the ones after it and sessions
+     * keep their spread instead of bunching into the same ticks.
+     */
+    private void rescheduleGravity() {
+        long interval = TimeUnit.MILLISECONDS.toNanos(
+                GravityCurve.intervalMillis(baseIntervalMs, view.getCurrentLevel()));
+        long delay = gravity.deadlineNanos() + interval - System.nanoTime();
+        gravity.schedule(Math.max(0, delay));
+    }
+
+    private void onGravity() {
+        GameMetrics.GRAVITY_TICKS.increment();
+        GameMetrics.GRAVITY_LATENESS.record(System.nanoTime() - gravity.deadlineNanos());
+        if (!isPlaying()) {
+            return;
+        }
+        if (!grounded) {
+            afterDrop(game.onDownEvent(GRAVITY));
+        } else if (!lockDelay.isPending()) {
+            lockDelay.schedule(TimeUnit.MILLISECONDS.toNanos(LOCK_DELAY_MS));
+        }
+        if (isPlaying()) {
+            rescheduleGravity();
+        }
+    }
+
+    private void onLockDelay() {
+        if (isPlaying() && grounded) {
+            // Grounded, so this step cannot move: it locks the piece
+            afterDrop(game.onDownEvent(GRAVITY));
+        }
+    }
+
+    private void onAutoShift() {
+        if (held != null && isPlaying()) {
+            shift(held);
+            autoShift.schedule(TimeUnit.MILLISECONDS.toNanos(ARR_MS));
+        }
+    }
+
+    private void onPress(EventType key) {
+        if (!isPlaying()) {
+            return;
+        }
+        GameMetrics.INPUTS.increment();
+        switch (key) {
+            case LEFT, RIGHT -> {
+                shift(key);
+                held = key;
+                autoShift.schedule(TimeUnit.MILLISECONDS.toNanos(DAS_MS));
+            }
+            case ROTATE -> afterMove(game.onRotateEvent(ROTATE));
+            case DOWN -> afterDrop(game.onDownEvent(SOFT_DROP));
+        }
+    }
+
+    private void shift(EventType direction) {
+        afterMove(direction == EventType.LEFT ? game.onLeftEvent(LEFT) : game.onRightEvent(RIGHT));
+    }
+
+    /**
+     * After a shift or rotation: a grounded piece that moved gets its lock delay
+     * restarted (a limited number of times); one that is airborne again has none.
+     */
+    private void afterMove(ViewData data) {
+        grounded = data.getGhostYPosition() == data.getyPosition();
+        if (!grounded) {
+            lockDelay.cancel();
+        } else if (lockDelay.isPending() && lockResets < MAX_LOCK_RESETS) {
+            lockResets++;
+            lockDelay.schedule(TimeUnit.MILLISECONDS.toNanos(LOCK_DELAY_MS));
+        }
+    }
+
+    private void afterDrop(DownData data) {
+        if (data.getClearRow() != null) {
+            // The piece locked; the next one starts with a fresh lock delay
+            lockDelay.cancel();
+            lockResets = 0;
+        }
+        if (view.isGameOver()) {
+            cancelTimers();
+            onGameOver.accept(this);
+            return;
+        }
+        ViewData viewData = data.getViewData();
+        grounded = viewData.getGhostYPosition() == viewData.getyPosition();
+    }
+
+    private void cancelTimers() {
+        gravity.cancel();
+        lockDelay.cancel();
+        autoShift.cancel();
+        held = null;
+    }
+}
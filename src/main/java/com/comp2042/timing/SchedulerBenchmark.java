@@ -0,0 +1,126 @@
+package com.comp2042.timing;
+
+import com.comp2042.EventType;
+import com.comp2042.SettingsManager;
+import com.comp2042.metrics.GameMetrics;
+import com.comp2042.metrics.Histogram;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hosts many headless games on a {@link CarrierScheduler} and reports gravity
+ * tick jitter: how late each gravity step runs after its deadline.
+ *
+ * <p>Every session plays at the given base interval with the usual level curve
+ * and restarts when it tops out. An input thread sends random shifts, rotations
+ * and key releases at the given total rate, so lock-delay and auto-shift timers are
+ * exercised too. Sessions join over one base interval; lateness is measured
+ * after a further one-second warm-up.</p>
+ *
+ * <p>Usage: {@code SchedulerBenchmark [--sessions N] [--carriers N] [--seconds N]
+ * [--base MS] [--inputs PER_SECOND] [--tick-us N]}</p>
+ */
+public final class SchedulerBenchmark {
+
+    static final int HOLD_MS = 200;
+
+    private static final EventType[] KEYS = {EventType.LEFT, EventType.RIGHT, EventType.ROTATE};
+
+    private SchedulerBenchmark() { }
+
+    public static void main(String[] args) throws InterruptedException {
+        int sessions = 100_000;
+        int carriers = Math.max(1, Runtime.getRuntime().availableProcessors());
+        int seconds = 10;
+        int base = SettingsManager.Difficulty.MEDIUM.getDropSpeedMs();
+        int inputsPerSecond = 20_000;
+        long tickMicros = 1000;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--sessions" -> sessions = Integer.parseInt(args[++i]);
+                case "--carriers" -> carriers = Integer.parseInt(args[++i]);
+                case "--seconds" -> seconds = Integer.parseInt(args[++i]);
+                case "--base" -> base = Integer.parseInt(args[++i]);
+                case "--inputs" -> inputsPerSecond = Integer.parseInt(args[++i]);
+                case "--tick-us" -> tickMicros = Long.parseLong(args[++i]);
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        AtomicLong gamesOver = new AtomicLong();
+        HostedGame[] games = new HostedGame[sessions];
+        try (CarrierScheduler scheduler = new CarrierScheduler(carriers, TimeUnit.MICROSECONDS.toNanos(tickMicros))) {
+            // Sessions join over one base interval, as players would, rather than all in one tick
+            int perMilli = Math.max(1, sessions / base);
+            for (int i = 0; i < sessions; i++) {
+                games[i] = new HostedGame(scheduler.carrierFor(i), base, game -> {
+                    gamesOver.incrementAndGet();
+                    game.start(ThreadLocalRandom.current().nextLong());
+                });
+                games[i].start(i);
+                if (i % perMilli == perMilli - 1) {
+                    Thread.sleep(1);
+                }
+            }
+
+            int inputRate = inputsPerSecond;
+            Thread input = new Thread(() -> sendInputs(games, inputRate), "benchmark-input");
+            input.setDaemon(true);
+            input.start();
+
+            Thread.sleep(1000);
+            Histogram.Snapshot start = GameMetrics.GRAVITY_LATENESS.snapshot();
+            long ticksBefore = GameMetrics.GRAVITY_TICKS.get();
+            long startNanos = System.nanoTime();
+            Thread.sleep(TimeUnit.SECONDS.toMillis(seconds));
+            double elapsed = (System.nanoTime() - startNanos) / 1e9;
+            Histogram.Snapshot lateness = GameMetrics.GRAVITY_LATENESS.snapshot().since(start);
+            long ticks = GameMetrics.GRAVITY_TICKS.get() - ticksBefore;
+            input.interrupt();
+
+            System.out.printf("Sessions:            %d on %d carriers (tick %d us)%n", sessions, carriers, tickMicros);
+            System.out.printf("Base interval:       %d ms%n", base);
+            System.out.printf("Gravity ticks:       %.0f/s (%d in %.1f s)%n", ticks / elapsed, ticks, elapsed);
+            System.out.printf("Games over:          %d%n", gamesOver.get());
+            System.out.printf("Lateness p50:        %.2f ms%n", lateness.valueAtQuantile(0.50) / 1e6);
+            System.out.printf("Lateness p99:        %.2f ms%n", lateness.valueAtQuantile(0.99) / 1e6);
+            System.out.printf("Lateness p99.9:      %.2f ms%n", lateness.valueAtQuantile(0.999) / 1e6);
+            System.out.printf("Lateness max:        %.2f ms%n", lateness.valueAtQuantile(1.0) / 1e6);
+        }
+    }
+
+    /**
+     * Sends random key presses spread evenly over each second; every key is
+     * released {@value #HOLD_MS} ms later, long enough for one auto-shift repeat.
+     */
+    private static void sendInputs(HostedGame[] games, int perSecond) {
+        if (perSecond <= 0) {
+            return;
+        }
+        SplittableRandom random = new SplittableRandom(42);
+        int perMilli = Math.max(1, perSecond / 1000);
+        HostedGame[] heldGames = new HostedGame[HOLD_MS * perMilli];
+        EventType[] heldKeys = new EventType[heldGames.length];
+        int slot = 0;
+        while (!Thread.currentThread().isInterrupted()) {
+            int first = slot * perMilli;
+            for (int i = first; i < first + perMilli; i++) {
+                if (heldGames[i] != null) {
+                    heldGames[i].release(heldKeys[i]);
+                }
+                heldGames[i] = games[random.nextInt(games.length)];
+                heldKeys[i] = KEYS[random.nextInt(KEYS.length)];
+                heldGames[i].press(heldKeys[i]);
+            }
+            slot = (slot + 1) % HOLD_MS;
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+}
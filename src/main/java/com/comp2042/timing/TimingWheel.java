@@ -0,0 +1,198 @@
+package com.comp2042.timing;
+
+/**
+ * Hierarchical timing wheel: {@value #LEVELS} levels of {@value #SLOTS} slots,
+ * in the style of the classic kernel timer wheel.
+ *
+ * <p>Level 0 has one slot per tick; each higher level has one slot per
+ * {@value #SLOTS} slots of the level below. A timeout is filed in the lowest
+ * level whose range covers its deadline and moves ("cascades") one level down
+ * each time the lower level wraps, ending in level 0 on the tick it is due.
+ * Scheduling, cancelling and expiring are O(1); cascading touches each timeout
+ * at most once per level. With 1 ms ticks the wheel spans about 4.6 hours;
+ * later deadlines simply cascade around the top level again.</p>
+ *
+ * <p>Slots are intrusive doubly linked lists of {@link Timeout}s, and a timeout
+ * can be rescheduled any number of times, so a periodic timer allocates nothing
+ * after it is created. Not thread-safe: a wheel belongs to one thread (see
+ * {@link CarrierScheduler}).</p>
+ */
+public final class TimingWheel {
+
+    static final int SLOT_BITS = 6;
+    static final int SLOTS = 1 << SLOT_BITS;
+    static final int LEVELS = 4;
+    private static final int SLOT_MASK = SLOTS - 1;
+    /** Pseudo-level of timeouts taken from a slot that are about to run. */
+    private static final int EXPIRING = LEVELS;
+
+    private final Timeout[][] slots = new Timeout[LEVELS][SLOTS];
+    // Due on the current tick; a running task may still cancel or reschedule them
+    private Timeout expiring;
+    private long currentTick;
+    private int size;
+
+    /**
+     * @param startTick tick the wheel starts at; deadlines are absolute ticks
+     */
+    public TimingWheel(long startTick) {
+        this.currentTick = startTick;
+    }
+
+    /**
+     * Schedules (or reschedules) a timeout. A deadline that is not in the future
+     * fires on the next tick.
+     *
+     * @param timeout      the timeout; removed first if it is already pending
+     * @param deadlineTick absolute tick at which it fires
+     */
+    public void schedule(Timeout timeout, long deadlineTick) {
+        if (timeout.isPending()) {
+            unlink(timeout);
+            size--;
+        }
+        timeout.deadline = Math.max(deadlineTick, currentTick + 1);
+        file(timeout);
+        size++;
+    }
+
+    /**
+     * @return true if the timeout was pending and is now cancelled
+     */
+    public boolean cancel(Timeout timeout) {
+        if (!timeout.isPending()) {
+            return false;
+        }
+        unlink(timeout);
+        size--;
+        return true;
+    }
+
+    /**
+     * Advances the wheel tick by tick up to {@code tick}, running every timeout
+     * that falls due. Tasks may schedule and cancel timeouts while they run.
+     *
+     * @return number of timeouts that fired
+     */
+    public int advanceTo(long tick) {
+        int fired = 0;
+        if (size == 0) {
+            currentTick = Math.max(currentTick, tick);
+            return 0;
+        }
+        while (currentTick < tick) {
+            long now = ++currentTick;
+            cascade(now);
+            int index = (int) (now & SLOT_MASK);
+            expiring = slots[0][index];
+            slots[0][index] = null;
+            for (Timeout t = expiring; t != null; t = t.next) {
+                t.level = EXPIRING;
+            }
+            while (expiring != null) {
+                Timeout due = expiring;
+                unlink(due);
+                size--;
+                fired++;
+                due.task.run();
+            }
+            if (size == 0) {
+                currentTick = tick;
+            }
+        }
+        return fired;
+    }
+
+    /** @return the last tick processed */
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    /** @return number of pending timeouts */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Moves the timeouts of each higher level whose lower level just wrapped.
+     */
+    private void cascade(long tick) {
+        for (int level = 1; level < LEVELS; level++) {
+            int shift = level * SLOT_BITS;
+            if ((tick & ((1L << shift) - 1)) != 0) {
+                return;
+            }
+            int index = (int) ((tick >>> shift) & SLOT_MASK);
+            Timeout moving = slots[level][index];
+            slots[level][index] = null;
+            while (moving != null) {
+                Timeout next = moving.next;
+                moving.prev = null;
+                moving.next = null;
+                file(moving);
+                moving = next;
+            }
+        }
+    }
+
+    private void file(Timeout timeout) {
+        long delta = timeout.deadline - currentTick;
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= 1L << ((level + 1) * SLOT_BITS)) {
+            level++;
+        }
+        int index = (int) ((timeout.deadline >>> (level * SLOT_BITS)) & SLOT_MASK);
+        Timeout head = slots[level][index];
+        timeout.level = level;
+        timeout.slot = index;
+        timeout.prev = null;
+        timeout.next = head;
+        if (head != null) {
+            head.prev = timeout;
+        }
+        slots[level][index] = timeout;
+    }
+
+    private void unlink(Timeout timeout) {
+        if (timeout.prev != null) {
+            timeout.prev.next = timeout.next;
+        } else if (timeout.level == EXPIRING) {
+            expiring = timeout.next;
+        } else {
+            slots[timeout.level][timeout.slot] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.prev = timeout.prev;
+        }
+        timeout.prev = null;
+        timeout.next = null;
+        timeout.level = -1;
+    }
+
+    /**
+     * A reusable timer entry that runs its task when due.
+     */
+    public static final class Timeout {
+
+        private final Runnable task;
+        private long deadline;
+        private Timeout prev;
+        private Timeout next;
+        private int level = -1;
+        private int slot;
+
+        public Timeout(Runnable task) {
+            this.task = task;
+        }
+
+        /** @return true while scheduled and not yet fired or cancelled */
+        public boolean isPending() {
+            return level >= 0;
+        }
+
+        /** @return the tick it was last scheduled for */
+        public long getDeadline() {
+            return deadline;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.comp2042.timing;
+
+import com.comp2042.diagnostics.Log;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs one game on a virtual thread of its own.
+ *
+ * <p>The thread blocks on the game's inbox with a timeout of the earliest
+ * pending deadline, runs whatever arrives, and fires the timers that fell due.
+ * There is no shared wheel: the JDK parks and unparks the virtual thread, and
+ * its carrier threads are shared by all games. Timers are exact to the
+ * nanosecond rather than rounded to ticks.</p>
+ */
+public final class VirtualThreadHost implements GameHost {
+
+    private static final Log LOG = Log.forClass(VirtualThreadHost.class);
+
+    /** A game needs three timers: gravity, lock delay and auto-shift. */
+    private static final int MAX_TIMERS = 3;
+
+    private final BlockingQueue<Runnable> inbox = new LinkedBlockingQueue<>();
+    private final DeadlineTimer[] timers = new DeadlineTimer[MAX_TIMERS];
+    private final Thread thread;
+    private int timerCount;
+
+    /**
+     * Creates the host; its thread starts with {@link #start()}.
+     *
+     * @param name thread name
+     */
+    public VirtualThreadHost(String name) {
+        thread = Thread.ofVirtual().name(name).unstarted(this::run);
+    }
+
+    /** Starts the thread; create the game's timers before calling this. */
+    public void start() {
+        thread.start();
+    }
+
+    /** Stops the thread; pending tasks and timers are dropped. */
+    public void stop() {
+        thread.interrupt();
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        inbox.add(task);
+    }
+
+    @Override
+    public GameHost.Timer newTimer(Runnable task) {
+        if (thread.isAlive() || timerCount == MAX_TIMERS) {
+            throw new IllegalStateException("Timers must be created before start, at most " + MAX_TIMERS);
+        }
+        DeadlineTimer timer = new DeadlineTimer(task);
+        timers[timerCount++] = timer;
+        return timer;
+    }
+
+    private void run() {
+        try {
+            while (true) {
+                long now = System.nanoTime();
+                long next = Long.MAX_VALUE;
+                for (int i = 0; i < timerCount; i++) {
+                    DeadlineTimer timer = timers[i];
+                    if (timer.pending && timer.deadline - now <= 0) {
+                        timer.pending = false;
+                        runSafely(timer.task);
+                    }
+                }
+                for (int i = 0; i < timerCount; i++) {
+                    if (timers[i].pending) {
+                        next = Math.min(next, timers[i].deadline);
+                    }
+                }
+
+                Runnable task = next == Long.MAX_VALUE
+                        ? inbox.take()
+                        : inbox.poll(next - System.nanoTime(), TimeUnit.NANOSECONDS);
+                while (task != null) {
+                    runSafely(task);
+                    task = inbox.poll();
+                }
+            }
+        } catch (InterruptedException e) {
+            // Stopped
+        }
+    }
+
+    private void runSafely(Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            LOG.error("Task failed on " + thread.getName(), e);
+        }
+    }
+
+    /**
+     * A timer that is just a deadline; the host's loop checks it.
+     */
+    private static final class DeadlineTimer implements GameHost.Timer {
+
+        private final Runnable task;
+        private long deadline;
+        private boolean pending;
+
+        DeadlineTimer(Runnable task) {
+            this.task = task;
+        }
+
+        @Override
+        public void schedule(long delayNanos) {
+            deadline = System.nanoTime() + delayNanos;
+            pending = true;
+        }
+
+        @Override
+        public void cancel() {
+            pending = false;
+        }
+
+        @Override
+        public boolean isPending() {
+            return pending;
+        }
+
+        @Override
+        public long deadlineNanos() {
+            return deadline;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.comp2042;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MatrixOperationsTest {
+
+    private static final int COLS = 10;
+    private static final int ROWS = 22;
+
+    @Test
+    void removeFullRowsMatchesACopyingClear() {
+        SplittableRandom random = new SplittableRandom(9);
+        for (int i = 0; i < 2000; i++) {
+            int[][] matrix = new int[ROWS][COLS];
+            for (int r = random.nextInt(ROWS); r < ROWS; r++) {
+                boolean full = random.nextInt(3) == 0;
+                for (int c = 0; c < COLS; c++) {
+                    matrix[r][c] = full || random.nextInt(4) > 0 ? 1 + random.nextInt(7) : 0;
+                }
+            }
+            int[][] expected = MatrixOperations.copy(matrix);
+            List<Integer> expectedRows = clearByCopying(expected);
+
+            RowClearResult result = MatrixOperations.removeFullRows(matrix);
+            assertArrayEquals(expected, matrix);
+            assertEquals(expectedRows, result.getClearedRowIndices());
+            assertEquals(expectedRows.size(), result.getRowsCleared());
+            assertEquals(expectedRows.isEmpty() ? -1 : expectedRows.get(0), result.getFirstClearedRowIndex());
+        }
+    }
+
+    /**
+     * Straightforward clear that rebuilds the matrix row by row, used as the
+     * reference for the in-place one.
+     *
+     * @return indices of the cleared rows, top to bottom
+     */
+    private static List<Integer> clearByCopying(int[][] matrix) {
+        List<int[]> kept = new ArrayList<>();
+        List<Integer> cleared = new ArrayList<>();
+        for (int r = 0; r < matrix.length; r++) {
+            boolean full = true;
+            for (int cell : matrix[r]) {
+                full &= cell != 0;
+            }
+            if (full) {
+                cleared.add(r);
+            } else {
+                kept.add(matrix[r].clone());
+            }
+        }
+        int empty = matrix.length - kept.size();
+        for (int r = 0; r < matrix.length; r++) {
+            matrix[r] = r < empty ? new int[matrix[r].length] : kept.get(r - empty);
+        }
+        return cleared;
+    }
+}
@@ -0,0 +1,37 @@
+package com.comp2042;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RewindBufferTest {
+
+    @Test
+    void rewindRestoresTheComboAndBackToBackChain() {
+        SimpleBoard board = new SimpleBoard(10, 22);
+        board.newGame();
+        ScoringEngine scoring = new ScoringEngine(ScoringRules.guideline());
+        RewindBuffer buffer = new RewindBuffer(board, RewindBuffer.DEFAULT_CAPACITY);
+
+        buffer.capture(board, 0, scoring);
+        scoring.lock(4, TSpin.NONE, false, 1);
+        buffer.capture(board, 4, scoring);
+        scoring.lock(1, TSpin.NONE, false, 1);
+        buffer.capture(board, 5, scoring);
+        scoring.lock(2, TSpin.NONE, false, 1);
+        assertEquals(2, scoring.getCombo());
+
+        // Back to the spawn after the tetris: one clear in the combo, chain running
+        assertEquals(4, buffer.rewind(board, scoring));
+        assertEquals(0, scoring.getCombo());
+        assertTrue(scoring.isBackToBack());
+        // The single taken back again would score as the second clear of the combo
+        assertEquals(1, scoring.lock(1, TSpin.NONE, false, 1).getCombo());
+
+        assertEquals(0, buffer.rewind(board, scoring));
+        assertEquals(-1, scoring.getCombo());
+        assertFalse(scoring.isBackToBack());
+    }
+}
@@ -0,0 +1,86 @@
+package com.comp2042;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ScoringEngineTest {
+
+    @Test
+    void classicRulesKeepTheFixedTable() {
+        ScoringEngine engine = new ScoringEngine(ScoringRules.classic());
+        int[] expected = {0, 100, 300, 500, 800};
+        for (int lines = 0; lines <= 4; lines++) {
+            assertEquals(expected[lines], engine.lock(lines, TSpin.FULL, lines > 0, 7).getPoints());
+        }
+    }
+
+    @Test
+    void guidelineChainsBackToBackAndCombo() {
+        ScoringEngine engine = new ScoringEngine(ScoringRules.guideline());
+        LockScore tetris = engine.lock(4, TSpin.NONE, false, 1);
+        assertEquals(800, tetris.getPoints());
+        assertFalse(tetris.isBackToBack());
+
+        LockScore second = engine.lock(4, TSpin.NONE, false, 1);
+        // 800 * 150% + 50 for the first combo step
+        assertEquals(1250, second.getPoints());
+        assertTrue(second.isBackToBack());
+        assertEquals("B2B TETRIS COMBO 1", second.getLabel());
+
+        LockScore tSpinDouble = engine.lock(2, TSpin.FULL, false, 2);
+        // Back-to-back after the tetrises, second combo step, level 2
+        assertEquals((1200 * 150 / 100 + 2 * 50) * 2, tSpinDouble.getPoints());
+        assertEquals("B2B T-SPIN DOUBLE COMBO 2", tSpinDouble.getLabel());
+
+        // A plain single breaks the back-to-back chain but not the combo
+        LockScore single = engine.lock(1, TSpin.NONE, false, 1);
+        assertEquals(100 + 150, single.getPoints());
+        assertFalse(engine.isBackToBack());
+
+        assertEquals(0, engine.lock(0, TSpin.NONE, false, 1).getPoints());
+        assertEquals(-1, engine.getCombo());
+    }
+
+    @Test
+    void tSpinsWithoutLinesStillScore() {
+        ScoringEngine engine = new ScoringEngine(ScoringRules.guideline());
+        assertEquals(400, engine.lock(0, TSpin.FULL, false, 1).getPoints());
+        assertEquals(100 * 3, engine.lock(0, TSpin.MINI, false, 3).getPoints());
+        assertEquals("T-SPIN MINI SINGLE", engine.lock(1, TSpin.MINI, false, 1).getLabel());
+    }
+
+    @Test
+    void perfectClearAddsItsBonus() {
+        ScoringEngine engine = new ScoringEngine(ScoringRules.guideline());
+        LockScore clear = engine.lock(4, TSpin.NONE, true, 1);
+        assertEquals(800 + 2000, clear.getPoints());
+        assertTrue(clear.isPerfectClear());
+        assertEquals("TETRIS PERFECT CLEAR", clear.getLabel());
+
+        // Nothing cleared is never a perfect clear
+        LockScore nothing = engine.lock(0, TSpin.NONE, true, 1);
+        assertFalse(nothing.isPerfectClear());
+        assertEquals(0, nothing.getPoints());
+    }
+
+    @Test
+    void resetForgetsTheChain() {
+        ScoringEngine engine = new ScoringEngine(ScoringRules.guideline());
+        engine.lock(4, TSpin.NONE, false, 1);
+        engine.reset();
+        LockScore tetris = engine.lock(4, TSpin.NONE, false, 1);
+        assertEquals(800, tetris.getPoints());
+        assertEquals(0, tetris.getCombo());
+    }
+
+    @Test
+    void levelRisesEveryTenLines() {
+        assertEquals(1, ScoringEngine.levelFor(0));
+        assertEquals(1, ScoringEngine.levelFor(9));
+        assertEquals(2, ScoringEngine.levelFor(10));
+        assertEquals(16, ScoringEngine.levelFor(155));
+    }
+}
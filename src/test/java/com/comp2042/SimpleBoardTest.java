@@ -0,0 +1,185 @@
+package com.comp2042;
+
+import com.comp2042.logic.ai.PackedBoard;
+import com.comp2042.logic.ai.Zobrist;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SimpleBoardTest {
+
+    private static final int COLS = 10;
+    private static final int ROWS = 22;
+
+    // Rotation indices of the T brick
+    private static final int POINT_DOWN = 0;
+    private static final int POINT_LEFT = 3;
+
+    @Test
+    void tSpinDoubleNeedsTheRotationIntoTheSlot() {
+        SimpleBoard board = withT(tSlot(), 3, 19, POINT_LEFT);
+        assertTrue(board.rotateLeftBrick());
+        assertFalse(board.moveBrickDown());
+        board.mergeBrickToBackground();
+        assertEquals(TSpin.FULL, board.getLockedTSpin());
+        assertEquals(2, board.clearRows().getRowsCleared());
+        // The overhang over the slot is left
+        assertFalse(board.isEmpty());
+
+        SimpleBoard dropped = withT(tSlot(), 3, 19, POINT_DOWN);
+        dropped.mergeBrickToBackground();
+        assertEquals(TSpin.NONE, dropped.getLockedTSpin());
+    }
+
+    @Test
+    void threeCornersWithoutBothFrontOnesIsAMini() {
+        int[][] matrix = new int[ROWS][COLS];
+        matrix[19][3] = 1;
+        matrix[19][5] = 1;
+        matrix[21][3] = 1;
+        SimpleBoard board = withT(matrix, 3, 19, POINT_LEFT);
+        assertTrue(board.rotateLeftBrick());
+        assertFalse(board.moveBrickDown());
+        board.mergeBrickToBackground();
+        assertEquals(TSpin.MINI, board.getLockedTSpin());
+    }
+
+    @Test
+    void clearingEveryFilledRowIsAPerfectClear() {
+        int[][] matrix = tSlot();
+        matrix[19][3] = 0;
+        SimpleBoard board = withT(matrix, 3, 19, POINT_DOWN);
+        assertFalse(board.isEmpty());
+        board.mergeBrickToBackground();
+        assertEquals(2, board.clearRows().getRowsCleared());
+        assertTrue(board.isEmpty());
+    }
+
+    @Test
+    void incrementalHashMatchesAFullRehash() {
+        SplittableRandom random = new SplittableRandom(5);
+        PackedBoard packed = new PackedBoard(COLS, ROWS);
+        int clears = 0;
+        for (int game = 0; game < 20; game++) {
+            SimpleBoard board = new SimpleBoard(COLS, ROWS, new RandomBrickGenerator(game));
+            board.newGame();
+            for (int step = 0; step < 3000; step++) {
+                int op = random.nextInt(20);
+                if (op == 0) {
+                    board.addGarbageRows(1 + random.nextInt(2), random.nextInt(COLS));
+                } else if (op < 4) {
+                    board.moveBrickLeft();
+                } else if (op < 7) {
+                    board.moveBrickRight();
+                } else if (op < 10) {
+                    board.rotateLeftBrick();
+                } else if (!board.moveBrickDown()) {
+                    board.mergeBrickToBackground();
+                    clears += board.clearRows().getRowsCleared();
+                    if (board.createNewBrick()) {
+                        break;
+                    }
+                }
+                int[][] matrix = board.getBoardMatrix();
+                assertEquals(fullHash(matrix), board.getBoardHash());
+                packed.load(matrix);
+                assertEquals(packed.zobristHash(), board.getBoardHash());
+                assertEquals(isBlank(matrix), board.isEmpty());
+            }
+        }
+        assertTrue(clears > 0);
+    }
+
+    @Test
+    void restoringAStateRehashesTheBoard() {
+        int[][] matrix = new int[ROWS][COLS];
+        matrix[21][0] = 1;
+        matrix[20][7] = 4;
+        SimpleBoard board = withT(matrix, 3, 5, POINT_DOWN);
+        assertEquals(fullHash(matrix), board.getBoardHash());
+        board.newGame();
+        assertEquals(0L, board.getBoardHash());
+    }
+
+    @Test
+    void pieceHashFollowsThePose() {
+        SimpleBoard board = withT(new int[ROWS][COLS], 3, 5, POINT_DOWN);
+        long start = board.getPieceHash();
+        assertTrue(board.moveBrickLeft());
+        assertTrue(start != board.getPieceHash());
+        assertTrue(board.moveBrickRight());
+        assertEquals(start, board.getPieceHash());
+        assertEquals(board.getBoardHash() ^ start, board.getStateHash());
+    }
+
+    @Test
+    void garbageWithTheHoleOffTheBoardLeavesItUntouched() {
+        SimpleBoard board = withT(tSlot(), 3, 5, POINT_DOWN);
+        int[][] before = MatrixOperations.copy(board.getBoardMatrix());
+        long hash = board.getBoardHash();
+        assertThrows(IndexOutOfBoundsException.class, () -> board.addGarbageRows(2, COLS));
+        assertThrows(IndexOutOfBoundsException.class, () -> board.addGarbageRows(2, -1));
+        assertArrayEquals(before, board.getBoardMatrix());
+        assertEquals(hash, board.getBoardHash());
+
+        assertFalse(board.addGarbageRows(2, COLS - 1));
+        assertEquals(0, board.getBoardMatrix()[ROWS - 1][COLS - 1]);
+        assertEquals(fullHash(board.getBoardMatrix()), board.getBoardHash());
+    }
+
+    /** Bottom row full but column 4, the row above it full but columns 3-5, and an overhang at (19, 3). */
+    private static int[][] tSlot() {
+        int[][] matrix = new int[ROWS][COLS];
+        for (int c = 0; c < COLS; c++) {
+            if (c != 4) {
+                matrix[21][c] = 1;
+            }
+            if (c < 3 || c > 5) {
+                matrix[20][c] = 2;
+            }
+        }
+        matrix[19][3] = 3;
+        return matrix;
+    }
+
+    private static SimpleBoard withT(int[][] matrix, int x, int y, int rotation) {
+        SimpleBoard board = new SimpleBoard(COLS, ROWS);
+        board.newGame();
+        ArrayDeque<String> queue = new ArrayDeque<>(List.of("IBrick", "OBrick", "SBrick"));
+        board.restoreState(new GameState(matrix, new int[4][4], x, y, rotation, "TBrick", "IBrick", "OBrick",
+                queue, 0, 0, 1, true, true, "NORMAL"));
+        return board;
+    }
+
+    private static long fullHash(int[][] matrix) {
+        long hash = 0L;
+        for (int r = 0; r < matrix.length; r++) {
+            for (int c = 0; c < matrix[r].length; c++) {
+                if (matrix[r][c] != 0) {
+                    hash ^= Zobrist.cellKey(r, c);
+                }
+            }
+        }
+        return hash;
+    }
+
+    private static boolean isBlank(int[][] matrix) {
+        for (int[] row : matrix) {
+            for (int cell : row) {
+                if (cell != 0) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
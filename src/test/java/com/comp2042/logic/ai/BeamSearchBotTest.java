@@ -0,0 +1,64 @@
+package com.comp2042.logic.ai;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+class BeamSearchBotTest {
+
+    private static final int COLS = 10;
+    private static final int ROWS = 22;
+
+    @Test
+    void moveDoesNotDependOnTheWorkerCount() {
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool wide = new ForkJoinPool(8);
+        try {
+            BeamSearchBot serial = bot(single);
+            BeamSearchBot parallel = bot(wide);
+            SplittableRandom random = new SplittableRandom(11);
+            for (int position = 0; position < 40; position++) {
+                PackedBoard board = randomBoard(random);
+                int current = random.nextInt(PieceShapes.PIECE_COUNT);
+                int[] preview = new int[3];
+                for (int i = 0; i < preview.length; i++) {
+                    preview[i] = random.nextInt(PieceShapes.PIECE_COUNT);
+                }
+                BotMove expected = serial.findBestMove(board, current, preview);
+                assertNotNull(expected);
+                for (int run = 0; run < 3; run++) {
+                    BotMove move = parallel.findBestMove(board, current, preview);
+                    assertEquals(expected.toString(), move.toString());
+                    assertEquals(expected.getScore(), move.getScore());
+                    assertEquals(expected.getDepthSearched(), move.getDepthSearched());
+                }
+            }
+        } finally {
+            single.shutdown();
+            wide.shutdown();
+        }
+    }
+
+    private static BeamSearchBot bot(ForkJoinPool pool) {
+        BeamSearchBot bot = new BeamSearchBot(COLS, ROWS, EvaluationWeights.DEFAULT,
+                BeamSearchBot.DEFAULT_BEAM_WIDTH, pool);
+        // Deep enough that every ply completes, so only the search itself is compared
+        bot.setTimeBudgetMillis(60_000);
+        return bot;
+    }
+
+    /** A ragged stack of up to ten rows, each with at least one hole. */
+    private static PackedBoard randomBoard(SplittableRandom random) {
+        PackedBoard board = new PackedBoard(COLS, ROWS);
+        int stack = random.nextInt(11);
+        for (int r = ROWS - stack; r < ROWS; r++) {
+            int row = random.nextInt(board.fullRowMask() + 1) & ~(1 << random.nextInt(COLS));
+            board.setRow(r, row);
+        }
+        return board;
+    }
+}
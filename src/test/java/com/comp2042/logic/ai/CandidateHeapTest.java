@@ -0,0 +1,89 @@
+package com.comp2042.logic.ai;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CandidateHeapTest {
+
+    private static final int COLS = 10;
+    private static final int ROWS = 22;
+
+    @Test
+    void keepsTheBestPathToEachBoard() {
+        CandidateHeap heap = new CandidateHeap(4, ROWS);
+        PackedBoard board = board(5);
+        heap.offer(1.0, 1.0, 10, board.zobristHash(), board);
+        heap.offer(3.0, 3.0, 11, board.zobristHash(), board);
+        heap.offer(2.0, 2.0, 12, board.zobristHash(), board);
+        // An equal path keeps the lower first move
+        heap.offer(3.0, 3.0, 9, board.zobristHash(), board);
+        heap.offer(3.0, 3.0, 13, board.zobristHash(), board);
+        assertEquals(1, heap.size());
+        assertEquals(3.0, heap.score(0));
+        assertEquals(9, heap.firstMove(0));
+    }
+
+    @Test
+    void keptEntriesDoNotDependOnOfferOrder() {
+        Random random = new Random(7);
+        List<int[]> offers = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            // Few boards and scores, so duplicates and ties are common
+            offers.add(new int[] {1 + random.nextInt(40), random.nextInt(6), random.nextInt(1000)});
+        }
+        List<String> expected = contents(offers);
+        for (int round = 0; round < 20; round++) {
+            Collections.shuffle(offers, random);
+            assertEquals(expected, contents(offers));
+        }
+
+        // Merging per-worker heaps gives the same entries as one heap
+        CandidateHeap merged = new CandidateHeap(16, ROWS);
+        for (int worker = 0; worker < 4; worker++) {
+            CandidateHeap part = new CandidateHeap(16, ROWS);
+            for (int i = worker; i < offers.size(); i += 4) {
+                offer(part, offers.get(i));
+            }
+            for (int i = 0; i < part.size(); i++) {
+                merged.offer(part, i);
+            }
+        }
+        assertEquals(expected, describe(merged));
+    }
+
+    private static List<String> contents(List<int[]> offers) {
+        CandidateHeap heap = new CandidateHeap(16, ROWS);
+        for (int[] offer : offers) {
+            offer(heap, offer);
+        }
+        return describe(heap);
+    }
+
+    private static void offer(CandidateHeap heap, int[] offer) {
+        PackedBoard board = board(offer[0]);
+        heap.offer(offer[1], offer[1], offer[2], board.zobristHash(), board);
+    }
+
+    private static List<String> describe(CandidateHeap heap) {
+        PackedBoard board = new PackedBoard(COLS, ROWS);
+        List<String> entries = new ArrayList<>();
+        for (int i = 0; i < heap.size(); i++) {
+            heap.loadBoard(i, board);
+            entries.add(board.row(ROWS - 1) + ":" + heap.score(i) + ":" + heap.firstMove(i));
+        }
+        Collections.sort(entries);
+        return entries;
+    }
+
+    private static PackedBoard board(int id) {
+        PackedBoard board = new PackedBoard(COLS, ROWS);
+        board.setRow(ROWS - 1, id);
+        return board;
+    }
+}
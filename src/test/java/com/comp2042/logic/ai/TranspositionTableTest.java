@@ -0,0 +1,59 @@
+package com.comp2042.logic.ai;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TranspositionTableTest {
+
+    @Test
+    void keepsTheBestRewardPerBoard() {
+        TranspositionTable table = new TranspositionTable(64);
+        assertTrue(table.offer(42L, 1.0));
+        assertFalse(table.offer(42L, 0.5));
+        // Ties are left to the candidate heaps
+        assertTrue(table.offer(42L, 1.0));
+        assertTrue(table.offer(42L, 2.0));
+        assertFalse(table.offer(42L, 1.5));
+        assertTrue(table.offer(43L, 0.0));
+        assertTrue(table.offer(0L, -1.0));
+        assertFalse(table.offer(0L, -2.0));
+
+        table.clear();
+        assertTrue(table.offer(42L, 0.0));
+    }
+
+    @Test
+    void concurrentOffersKeepTheHighestReward() throws InterruptedException {
+        int boards = 200;
+        TranspositionTable table = new TranspositionTable(boards);
+        int[][] best = new int[4][boards + 1];
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            SplittableRandom random = new SplittableRandom(t);
+            int[] threadBest = best[t];
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 20_000; i++) {
+                    int hash = 1 + random.nextInt(boards);
+                    int reward = random.nextInt(1000);
+                    table.offer(hash, reward);
+                    threadBest[hash] = Math.max(threadBest[hash], reward);
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        for (int hash = 1; hash <= boards; hash++) {
+            int max = Math.max(Math.max(best[0][hash], best[1][hash]), Math.max(best[2][hash], best[3][hash]));
+            assertFalse(table.offer(hash, max - 0.5));
+            assertTrue(table.offer(hash, max));
+        }
+    }
+}
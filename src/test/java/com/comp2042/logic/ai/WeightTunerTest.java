@@ -0,0 +1,42 @@
+package com.comp2042.logic.ai;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class WeightTunerTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void finishedCheckpointIsReturnedWithoutEvolving() throws Exception {
+        Path checkpoint = directory.resolve("tuner.properties");
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            EvaluationWeights best = tuner(checkpoint, pool).run(2);
+            byte[] saved = Files.readAllBytes(checkpoint);
+
+            EvaluationWeights resumed = tuner(checkpoint, pool).run(2);
+            assertArrayEquals(best.toArray(), resumed.toArray());
+            // Nothing was evolved or played, so nothing was saved
+            assertArrayEquals(saved, Files.readAllBytes(checkpoint));
+
+            // A later target continues from the checkpoint
+            tuner(checkpoint, pool).run(3);
+            assertEquals(1, Files.readAllLines(checkpoint).stream().filter(line -> line.equals("generation=3")).count());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static WeightTuner tuner(Path checkpoint, ForkJoinPool pool) {
+        return new WeightTuner(6, 2, 50, 7L, checkpoint, pool);
+    }
+}
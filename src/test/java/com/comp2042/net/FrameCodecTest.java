@@ -0,0 +1,114 @@
+package com.comp2042.net;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FrameCodecTest {
+
+    private static final int COLS = 10;
+    private static final int ROWS = 22;
+
+    @Test
+    void deltasRebuildTheEncodedBoard() {
+        SplittableRandom random = new SplittableRandom(17);
+        FrameEncoder encoder = new FrameEncoder(42, COLS, ROWS, 30);
+        FrameDecoder decoder = new FrameDecoder();
+        int[][] board = new int[ROWS][COLS];
+        for (int frame = 0; frame < 500; frame++) {
+            // A few cells change per frame, as when a piece locks or rows clear
+            for (int i = random.nextInt(4); i > 0; i--) {
+                board[random.nextInt(ROWS)][random.nextInt(COLS)] = random.nextInt(16);
+            }
+            int pieceType = random.nextInt(8) == 0 ? FrameEncoder.NO_PIECE : random.nextInt(7);
+            int rotation = random.nextInt(4);
+            int x = random.nextInt(-2, COLS);
+            int y = random.nextInt(ROWS);
+
+            ByteBuffer encoded = encoder.encode(board, pieceType, rotation, x, y);
+            assertEquals(encoded.remaining() - 2, encoded.getShort(0));
+            assertTrue(decoder.apply(encoded));
+            assertEquals(0, encoded.remaining());
+
+            assertEquals(42, decoder.getGameId());
+            assertEquals(frame, decoder.getTick());
+            assertEquals(pieceType, decoder.getPieceType());
+            assertEquals(rotation, decoder.getRotation());
+            assertEquals(x, decoder.getPieceX());
+            assertEquals(y, decoder.getPieceY());
+            assertBoard(board, decoder);
+        }
+    }
+
+    @Test
+    void deltasCarryOnlyChangedRows() {
+        FrameEncoder encoder = new FrameEncoder(1, COLS, ROWS, 100);
+        int[][] board = new int[ROWS][COLS];
+        ByteBuffer keyframe = encoder.encode(board, 0, 0, 3, 0);
+        assertEquals(FrameEncoder.KEYFRAME, keyframe.get(2));
+        assertEquals(ROWS, keyframe.get(keyframe.limit() - ROWS * (1 + FrameEncoder.rowBytes(COLS)) - 1));
+
+        board[ROWS - 1][4] = 7;
+        board[ROWS - 3][0] = 2;
+        ByteBuffer delta = encoder.encode(board, 0, 0, 3, 1);
+        assertEquals(FrameEncoder.DELTA, delta.get(2));
+        int rowsField = delta.limit() - 2 * (1 + FrameEncoder.rowBytes(COLS)) - 1;
+        assertEquals(2, delta.get(rowsField));
+
+        ByteBuffer unchanged = encoder.encode(board, 0, 0, 3, 2);
+        assertEquals(0, unchanged.get(unchanged.limit() - 1));
+    }
+
+    @Test
+    void lateDecoderWaitsForAKeyframe() {
+        FrameEncoder encoder = new FrameEncoder(7, COLS, ROWS, 4);
+        FrameDecoder late = new FrameDecoder();
+        int[][] board = new int[ROWS][COLS];
+        encoder.encode(board, 0, 0, 0, 0);
+
+        for (int frame = 1; frame < 4; frame++) {
+            board[ROWS - 1][frame] = frame;
+            ByteBuffer delta = encoder.encode(board, 1, 0, 0, frame);
+            assertFalse(late.apply(delta));
+            assertEquals(0, delta.remaining());
+            assertFalse(late.isSynced());
+        }
+
+        board[0][9] = 15;
+        ByteBuffer keyframe = encoder.encode(board, 2, 1, 4, 5);
+        assertTrue(late.apply(keyframe));
+        assertTrue(late.isSynced());
+        assertEquals(COLS, late.getWidth());
+        assertEquals(ROWS, late.getHeight());
+        assertBoard(board, late);
+    }
+
+    @Test
+    void oddWidthsPackTheLastCellAlone() {
+        int cols = 7;
+        FrameEncoder encoder = new FrameEncoder(3, cols, 4, 10);
+        FrameDecoder decoder = new FrameDecoder();
+        int[][] board = {
+                {1, 2, 3, 4, 5, 6, 7},
+                {0, 0, 0, 0, 0, 0, 15},
+                {9, 0, 0, 0, 0, 0, 0},
+                {0, 0, 0, 0, 0, 0, 0}
+        };
+        ByteBuffer frame = encoder.encode(board, FrameEncoder.NO_PIECE, 0, 0, 0);
+        assertTrue(decoder.apply(frame));
+        assertBoard(board, decoder);
+    }
+
+    private static void assertBoard(int[][] expected, FrameDecoder decoder) {
+        for (int r = 0; r < expected.length; r++) {
+            for (int c = 0; c < expected[r].length; c++) {
+                assertEquals(expected[r][c], decoder.getCell(r, c), "cell " + r + "," + c);
+            }
+        }
+    }
+}
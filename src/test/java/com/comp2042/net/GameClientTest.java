@@ -0,0 +1,38 @@
+package com.comp2042.net;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameClientTest {
+
+    @Test
+    void outOfRangeGarbageFromTheServerClosesTheConnection() throws Exception {
+        try (ServerSocketChannel listener = ServerSocketChannel.open()) {
+            listener.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+            InetSocketAddress address = (InetSocketAddress) listener.getLocalAddress();
+            GameServerTest.Recorder recorder = new GameServerTest.Recorder();
+            try (GameClient client = GameClient.connect(address, recorder);
+                 SocketChannel server = listener.accept()) {
+                server.write(ByteBuffer.wrap(new byte[] {
+                        Protocol.GARBAGE, 2, 3,
+                        Protocol.GARBAGE, 2, (byte) Protocol.BOARD_COLS,
+                        Protocol.GARBAGE, 1, 0}));
+                assertEquals("garbage 2 3", recorder.next());
+                assertTrue(recorder.disconnected.await(2, TimeUnit.SECONDS));
+                assertNotNull(recorder.cause);
+                // Nothing after the bad message is delivered
+                assertEquals(0, recorder.events.size());
+            }
+        }
+    }
+}
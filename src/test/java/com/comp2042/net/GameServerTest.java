@@ -0,0 +1,105 @@
+package com.comp2042.net;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameServerTest {
+
+    @Test
+    void garbageIsRelayedToTheOpponent() throws Exception {
+        try (GameServer server = GameServer.startLoopback(0)) {
+            Recorder first = new Recorder();
+            Recorder second = new Recorder();
+            try (GameClient a = connect(server, first); GameClient b = connect(server, second)) {
+                startMatch(a, b, first, second);
+                a.sendGarbage(3, 7);
+                assertEquals("garbage 3 7", second.next());
+            }
+        }
+    }
+
+    @Test
+    void outOfRangeGarbageDropsTheSenderInsteadOfRelayingIt() throws Exception {
+        int[][] bad = {{0, 4}, {5, 4}, {-2, 4}, {2, -1}, {2, Protocol.BOARD_COLS}, {2, 127}};
+        try (GameServer server = GameServer.startLoopback(0)) {
+            for (int[] garbage : bad) {
+                Recorder opponent = new Recorder();
+                try (SocketChannel sender = SocketChannel.open(address(server));
+                     GameClient b = connect(server, opponent)) {
+                    sender.write(ByteBuffer.wrap(new byte[] {Protocol.JOIN}));
+                    b.join();
+                    assertTrue(opponent.next().startsWith("start"));
+                    ByteBuffer in = ByteBuffer.allocate(64);
+                    while (in.position() < Protocol.messageLength(Protocol.MATCH_START)) {
+                        sender.read(in);
+                    }
+                    sender.write(ByteBuffer.wrap(new byte[] {Protocol.GARBAGE, (byte) garbage[0], (byte) garbage[1]}));
+                    assertEquals("end " + Protocol.OPPONENT_LEFT, opponent.next());
+                    // The server closed the sender's connection
+                    in.clear();
+                    assertEquals(-1, sender.read(in));
+                }
+            }
+        }
+    }
+
+    private static GameClient connect(GameServer server, Recorder listener) throws IOException {
+        return GameClient.connect(address(server), listener);
+    }
+
+    private static InetSocketAddress address(GameServer server) {
+        return new InetSocketAddress(InetAddress.getLoopbackAddress(), server.getPort());
+    }
+
+    private static void startMatch(GameClient a, GameClient b, Recorder first, Recorder second) throws Exception {
+        a.join();
+        b.join();
+        assertTrue(first.next().startsWith("start"));
+        assertTrue(second.next().startsWith("start"));
+    }
+
+    /** Records server messages as short strings, in arrival order. */
+    static final class Recorder implements GameClient.Listener {
+        final BlockingQueue<String> events = new LinkedBlockingQueue<>();
+        final CountDownLatch disconnected = new CountDownLatch(1);
+        volatile IOException cause;
+
+        @Override
+        public void onMatchStart(long seed, int playerIndex) {
+            events.add("start " + playerIndex);
+        }
+
+        @Override
+        public void onGarbage(int rows, int holeColumn) {
+            events.add("garbage " + rows + " " + holeColumn);
+        }
+
+        @Override
+        public void onMatchEnd(int winner) {
+            events.add("end " + winner);
+        }
+
+        @Override
+        public void onDisconnected(IOException cause) {
+            this.cause = cause;
+            disconnected.countDown();
+        }
+
+        String next() throws InterruptedException {
+            String event = events.poll(2, TimeUnit.SECONDS);
+            return event == null ? "timeout" : event;
+        }
+    }
+}
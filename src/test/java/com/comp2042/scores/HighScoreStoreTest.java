@@ -0,0 +1,133 @@
+package com.comp2042.scores;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HighScoreStoreTest {
+
+    private static final String DIFFICULTY = "MEDIUM";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void recordedGamesSurviveARestart() throws Exception {
+        HighScoreStore store = loaded();
+        for (int i = 0; i < 5; i++) {
+            store.record(entry("p" + i, 100 * i));
+        }
+        awaitLogLines(5);
+
+        List<HighScoreEntry> top = loaded().getTopScores(DIFFICULTY);
+        assertEquals(5, top.size());
+        assertEquals(400, top.get(0).getScore());
+        assertEquals(store.getTopScores(DIFFICULTY), top);
+    }
+
+    @Test
+    void indexAndLogTailLoadTogether() throws Exception {
+        HighScoreStore store = loaded();
+        int games = HighScoreStore.COMPACT_EVERY + 8;
+        for (int i = 0; i < games; i++) {
+            store.record(entry("p" + i, 10 * i));
+        }
+        awaitLogLines(games);
+        assertTrue(Files.exists(directory.resolve("scores.idx")));
+
+        List<HighScoreEntry> top = loaded().getTopScores(DIFFICULTY);
+        assertEquals(HighScoreStore.TOP_N, top.size());
+        assertEquals(10 * (games - 1), top.get(0).getScore());
+        assertEquals(store.getTopScores(DIFFICULTY), top);
+    }
+
+    @Test
+    void tornLastLineIsSkippedAndNotJoinedToTheNext() throws Exception {
+        HighScoreStore store = loaded();
+        store.record(entry("alice", 500));
+        store.record(entry("bob", 300));
+        awaitLogLines(2);
+        // A crash halfway through appending a third game
+        String torn = logLines().get(0);
+        Files.writeString(log(), torn.substring(0, torn.length() / 2), StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND);
+
+        HighScoreStore restarted = loaded();
+        assertEquals(2, restarted.getTopScores(DIFFICULTY).size());
+        restarted.record(entry("carol", 400));
+        awaitLogLines(4);
+
+        List<HighScoreEntry> top = loaded().getTopScores(DIFFICULTY);
+        assertEquals(3, top.size());
+        assertEquals("carol", top.get(1).getPlayerName());
+    }
+
+    @Test
+    void linesFailingTheirChecksumAreSkipped() throws Exception {
+        HighScoreStore store = loaded();
+        store.record(entry("alice", 500));
+        store.record(entry("bob", 300));
+        store.record(entry("carol", 100));
+        awaitLogLines(3);
+
+        List<String> lines = logLines();
+        // Flip bob's score without fixing the checksum
+        lines.set(1, lines.get(1).replace("\t300\t", "\t900\t"));
+        Files.write(log(), lines, StandardCharsets.UTF_8);
+
+        List<HighScoreEntry> top = loaded().getTopScores(DIFFICULTY);
+        assertEquals(2, top.size());
+        assertEquals("alice", top.get(0).getPlayerName());
+        assertEquals("carol", top.get(1).getPlayerName());
+    }
+
+    @Test
+    void indexAheadOfTheLogReplaysTheWholeLog() throws Exception {
+        HighScoreStore store = loaded();
+        store.record(entry("alice", 500));
+        store.record(entry("bob", 300));
+        awaitLogLines(2);
+        // As if the log was rewritten but the index not yet: its offset is past the end
+        Files.writeString(directory.resolve("scores.idx"), "offset\t999999\n", StandardCharsets.UTF_8);
+
+        assertEquals(2, loaded().getTopScores(DIFFICULTY).size());
+    }
+
+    private HighScoreStore loaded() {
+        HighScoreStore store = new HighScoreStore(directory);
+        store.loadAsync().join();
+        return store;
+    }
+
+    private Path log() {
+        return directory.resolve("scores.log");
+    }
+
+    private List<String> logLines() throws IOException {
+        return Files.readAllLines(log(), StandardCharsets.UTF_8);
+    }
+
+    /** Waits for the writer thread, which appends one line per game. */
+    private void awaitLogLines(int count) throws Exception {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (!Files.exists(log()) || logLines().size() < count) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("log has fewer than " + count + " lines");
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    private static HighScoreEntry entry(String name, int score) {
+        return new HighScoreEntry(DIFFICULTY, name, score, score / 100, 1, 60_000, 1_700_000_000_000L + score);
+    }
+}
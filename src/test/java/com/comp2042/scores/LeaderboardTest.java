@@ -0,0 +1,109 @@
+package com.comp2042.scores;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LeaderboardTest {
+
+    @Test
+    void ranksMatchBruteForce() {
+        SplittableRandom random = new SplittableRandom(11);
+        Map<String, Integer> best = new HashMap<>();
+        try (Leaderboard board = Leaderboard.inMemory()) {
+            for (int i = 0; i < 5000; i++) {
+                String player = "p" + random.nextInt(800);
+                int score = randomScore(random);
+                boolean improved = board.submit(player, score);
+                Integer previous = best.get(player);
+                assertEquals(previous == null || score > previous, improved);
+                if (improved) {
+                    best.put(player, score);
+                }
+            }
+
+            assertEquals(best.size(), board.size());
+            for (Map.Entry<String, Integer> entry : best.entrySet()) {
+                assertEquals((int) entry.getValue(), board.getBestScore(entry.getKey()));
+                assertEquals(bruteForceRank(best, entry.getValue()), board.rankOf(entry.getKey()));
+            }
+            for (int i = 0; i < 2000; i++) {
+                int score = randomScore(random);
+                assertEquals(bruteForceRank(best, score), board.rankOfScore(score));
+            }
+            assertEquals(1, board.rankOfScore(Integer.MAX_VALUE));
+            assertEquals(bruteForceRank(best, 0), board.rankOfScore(0));
+        }
+    }
+
+    @Test
+    void equalScoresShareARank() {
+        try (Leaderboard board = Leaderboard.inMemory()) {
+            board.submit("a", 5_000_000);
+            board.submit("b", 700);
+            board.submit("c", 700);
+            board.submit("d", 10);
+            assertEquals(1, board.rankOf("a"));
+            assertEquals(2, board.rankOf("b"));
+            assertEquals(2, board.rankOf("c"));
+            assertEquals(4, board.rankOf("d"));
+            assertEquals(-1, board.rankOf("nobody"));
+        }
+    }
+
+    @Test
+    void worseScoresDoNotReplaceTheBest() {
+        try (Leaderboard board = Leaderboard.inMemory()) {
+            assertTrue(board.submit("a", 3_000_000));
+            assertFalse(board.submit("a", 20));
+            board.submit("b", 1_500_000);
+            assertEquals(3_000_000, board.getBestScore("a"));
+            assertEquals(3_000_000, board.getTopScore());
+            // The old score no longer counts once improved
+            assertTrue(board.submit("b", 4_000_000));
+            assertEquals(2, board.rankOf("a"));
+            assertEquals(3, board.rankOfScore(1_000_000));
+        }
+    }
+
+    @Test
+    void topListsBestFirst() {
+        try (Leaderboard board = Leaderboard.inMemory()) {
+            int[] scores = {40, 2_000_000, 900, 1 << 20, 0};
+            for (int i = 0; i < scores.length; i++) {
+                board.submit("p" + i, scores[i]);
+            }
+            List<Leaderboard.Standing> top = board.top(3);
+            assertEquals(3, top.size());
+            assertEquals(2_000_000, top.get(0).getScore());
+            assertEquals(1 << 20, top.get(1).getScore());
+            assertEquals(900, top.get(2).getScore());
+        }
+    }
+
+    /** Scores on both sides of 2^20, up to the largest int. */
+    private static int randomScore(SplittableRandom random) {
+        return switch (random.nextInt(3)) {
+            case 0 -> random.nextInt(1 << 20);
+            case 1 -> random.nextInt(1 << 20, 50_000_000);
+            default -> random.nextInt(Integer.MAX_VALUE) + 1;
+        };
+    }
+
+    private static int bruteForceRank(Map<String, Integer> best, int score) {
+        int above = 0;
+        for (int other : best.values()) {
+            if (other > score) {
+                above++;
+            }
+        }
+        return above + 1;
+    }
+}
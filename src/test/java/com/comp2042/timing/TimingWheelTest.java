@@ -0,0 +1,120 @@
+package com.comp2042.timing;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimingWheelTest {
+
+    @Test
+    void timeoutsFireOnTheirDeadlineAtEveryLevel() {
+        SplittableRandom random = new SplittableRandom(5);
+        long start = 1_000;
+        TimingWheel wheel = new TimingWheel(start);
+        int count = 2000;
+        long[] deadlines = new long[count];
+        long[] firedAt = new long[count];
+        long last = start;
+        for (int i = 0; i < count; i++) {
+            // Spread over every level, and past the span of the top one
+            long delay = 1 + random.nextLong(1L << random.nextInt(1, 26));
+            deadlines[i] = start + delay;
+            last = Math.max(last, deadlines[i]);
+            int id = i;
+            wheel.schedule(new TimingWheel.Timeout(() -> firedAt[id] = wheel.getCurrentTick()), deadlines[i]);
+        }
+        assertEquals(count, wheel.size());
+
+        int fired = 0;
+        long tick = start;
+        while (tick < last) {
+            tick = Math.min(last, tick + 1 + random.nextLong(100_000));
+            fired += wheel.advanceTo(tick);
+        }
+        assertEquals(count, fired);
+        assertEquals(0, wheel.size());
+        for (int i = 0; i < count; i++) {
+            assertEquals(deadlines[i], firedAt[i], "timeout " + i);
+        }
+    }
+
+    @Test
+    void cancelledTimeoutsNeverFire() {
+        TimingWheel wheel = new TimingWheel(0);
+        int[] runs = new int[2];
+        TimingWheel.Timeout kept = new TimingWheel.Timeout(() -> runs[0]++);
+        TimingWheel.Timeout cancelled = new TimingWheel.Timeout(() -> runs[1]++);
+        wheel.schedule(kept, 5_000);
+        wheel.schedule(cancelled, 5_000);
+        assertTrue(wheel.cancel(cancelled));
+        assertFalse(wheel.cancel(cancelled));
+        assertFalse(cancelled.isPending());
+
+        assertEquals(1, wheel.advanceTo(10_000));
+        assertEquals(1, runs[0]);
+        assertEquals(0, runs[1]);
+        assertFalse(kept.isPending());
+    }
+
+    @Test
+    void rescheduleMovesTheDeadline() {
+        TimingWheel wheel = new TimingWheel(0);
+        long[] firedAt = {-1};
+        TimingWheel.Timeout timeout = new TimingWheel.Timeout(() -> firedAt[0] = wheel.getCurrentTick());
+        wheel.schedule(timeout, 100_000);
+        wheel.schedule(timeout, 70);
+        assertEquals(1, wheel.size());
+        wheel.advanceTo(200_000);
+        assertEquals(70, firedAt[0]);
+    }
+
+    @Test
+    void pastDeadlinesFireOnTheNextTick() {
+        TimingWheel wheel = new TimingWheel(500);
+        long[] firedAt = {-1};
+        TimingWheel.Timeout timeout = new TimingWheel.Timeout(() -> firedAt[0] = wheel.getCurrentTick());
+        wheel.schedule(timeout, 10);
+        assertEquals(501, timeout.getDeadline());
+        wheel.advanceTo(600);
+        assertEquals(501, firedAt[0]);
+    }
+
+    @Test
+    void periodicTaskReschedulesItself() {
+        TimingWheel wheel = new TimingWheel(0);
+        int period = 300;
+        int[] runs = {0};
+        TimingWheel.Timeout[] timer = new TimingWheel.Timeout[1];
+        timer[0] = new TimingWheel.Timeout(() -> {
+            assertEquals((long) (runs[0] + 1) * period, wheel.getCurrentTick());
+            runs[0]++;
+            wheel.schedule(timer[0], wheel.getCurrentTick() + period);
+        });
+        wheel.schedule(timer[0], period);
+        wheel.advanceTo(100 * period);
+        assertEquals(100, runs[0]);
+        assertTrue(timer[0].isPending());
+    }
+
+    @Test
+    void taskMayCancelATimeoutDueOnTheSameTick() {
+        TimingWheel wheel = new TimingWheel(0);
+        int[] runs = new int[2];
+        TimingWheel.Timeout second = new TimingWheel.Timeout(() -> runs[1]++);
+        TimingWheel.Timeout first = new TimingWheel.Timeout(() -> {
+            runs[0]++;
+            wheel.cancel(second);
+        });
+        // Filed last, so it runs first
+        wheel.schedule(second, 40);
+        wheel.schedule(first, 40);
+        assertEquals(1, wheel.advanceTo(40));
+        assertEquals(1, runs[0]);
+        assertEquals(0, runs[1]);
+        assertEquals(0, wheel.size());
+    }
+}